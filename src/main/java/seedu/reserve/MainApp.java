@@ -12,6 +12,7 @@ import seedu.reserve.commons.core.LogsCenter;
 import seedu.reserve.commons.core.Version;
 import seedu.reserve.commons.exceptions.DataLoadingException;
 import seedu.reserve.commons.util.ConfigUtil;
+import seedu.reserve.commons.util.FileUtil;
 import seedu.reserve.commons.util.StringUtil;
 import seedu.reserve.logic.Logic;
 import seedu.reserve.logic.LogicManager;
@@ -22,8 +23,12 @@ import seedu.reserve.model.ReadOnlyUserPrefs;
 import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.util.SampleDataUtil;
+import seedu.reserve.storage.AsyncReserveMateSaver;
+import seedu.reserve.storage.BinaryReserveMateStorage;
+import seedu.reserve.storage.JournalReserveMateStorage;
 import seedu.reserve.storage.JsonReserveMateStorage;
 import seedu.reserve.storage.JsonUserPrefsStorage;
+import seedu.reserve.storage.ReserveMateFileConverter;
 import seedu.reserve.storage.ReserveMateStorage;
 import seedu.reserve.storage.Storage;
 import seedu.reserve.storage.StorageManager;
@@ -45,6 +50,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AsyncReserveMateSaver reserveMateSaver;
 
     @Override
     public void init() throws Exception {
@@ -57,12 +63,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ReserveMateStorage reserveMateStorage = new JsonReserveMateStorage(userPrefs.getReserveMateFilePath());
+        ReserveMateStorage reserveMateStorage = initReserveMateStorage(config, userPrefs.getReserveMateFilePath());
         storage = new StorageManager(reserveMateStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        reserveMateSaver = new AsyncReserveMateSaver(storage);
+        logic = new LogicManager(model, storage, reserveMateSaver);
 
         ui = new UiManager(logic, model);
     }
@@ -96,6 +103,34 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the {@code ReserveMateStorage} for the data file at {@code filePath} that matches the storage mode
+     * in {@code config}.
+     */
+    private ReserveMateStorage initReserveMateStorage(Config config, Path filePath) {
+        logger.info("Using storage mode : " + config.getStorageMode());
+        switch (config.getStorageMode()) {
+        case JOURNAL:
+            return new JournalReserveMateStorage(filePath, JournalReserveMateStorage.DEFAULT_COMPACTION_THRESHOLD,
+                    config.isCompactDataFile());
+        case BINARY:
+            Path binaryFilePath = ReserveMateFileConverter.toBinaryFilePath(filePath);
+            if (!FileUtil.isFileExists(binaryFilePath) && FileUtil.isFileExists(filePath)) {
+                try {
+                    ReserveMateFileConverter.convert(filePath, binaryFilePath);
+                    logger.info("Converted data file " + filePath + " to binary data file " + binaryFilePath);
+                } catch (DataLoadingException | IOException e) {
+                    logger.warning("Data file " + filePath + " could not be converted to binary: " + e);
+                }
+            }
+            return new BinaryReserveMateStorage(binaryFilePath);
+        case JSON:
+        default:
+            return new JsonReserveMateStorage(filePath, JsonReserveMateStorage.DEFAULT_BACKUP_COUNT,
+                    config.isCompactDataFile());
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -185,5 +220,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            reserveMateSaver.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save reservation data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -14,9 +14,23 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * Ways of storing the reservation data on disk.
+     */
+    public enum StorageMode {
+        /** The whole data file is rewritten on every save. */
+        JSON,
+        /** Changes are appended to a journal next to the data file, which is rewritten now and then. */
+        JOURNAL,
+        /** The whole data file is rewritten on every save, in a compact binary format. */
+        BINARY
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageMode storageMode = StorageMode.JSON;
+    private boolean compactDataFile = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +48,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    public void setStorageMode(StorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +77,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(storageMode, otherConfig.storageMode)
+                && compactDataFile == otherConfig.compactDataFile;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageMode, compactDataFile);
     }
 
     @Override
@@ -60,6 +92,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("storageMode", storageMode)
+                .add("compactDataFile", compactDataFile)
                 .toString();
     }
 
@@ -1,10 +1,18 @@
 package seedu.reserve.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +85,106 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is written to a temporary file and forced to disk first, which then replaces {@code file} in one
+     * step, so {@code file} never holds partially written content.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Writes whatever {@code contentWriter} produces to a file, with the same guarantees as
+     * {@link #writeToFile(Path, String)}. The content is streamed through a buffer instead of being held in memory.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFile(file, 0, contentWriter);
+    }
+
+    /**
+     * Writes whatever {@code contentWriter} produces to a file as {@link #writeToFile(Path, ContentWriter)} does,
+     * keeping the content it replaces as the newest of {@code backupCount} backups.
+     * The backups are only rotated once the new content is safely on disk, and {@code file} is replaced in one
+     * step, so {@code file} is never missing and is left as it was if {@code contentWriter} fails.
+     */
+    public static void writeToFile(Path file, int backupCount, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        boolean isWritten = false;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(outputStream);
+            outputStream.flush();
+            channel.force(true);
+            isWritten = true;
+        } finally {
+            if (!isWritten) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        rotateBackups(file, backupCount);
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so a file just moved into it survives a crash.
+     * Some platforms cannot open a directory for this, in which case the move is left to the file system.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on this platform
+        }
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} from {@code generation} saves ago.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Keeps the content of {@code file} as its first backup generation, shifting older backups down by one and
+     * keeping at most {@code backupCount} of them. {@code file} itself stays in place.
+     * Does nothing if {@code file} does not exist or {@code backupCount} is zero.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, generation + 1));
+            }
+        }
+        Path newestBackup = getBackupFilePath(file, 1);
+        try {
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 
 }
@@ -9,6 +9,7 @@ import seedu.reserve.logic.commands.CommandResult;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReservationAnalytics;
 import seedu.reserve.model.reservation.Reservation;
 
 /**
@@ -37,6 +38,9 @@ public interface Logic {
     /** Returns a Hash Map of reservation statistics from model */
     HashMap<String, Integer> getReservationStatistics();
 
+    /** Returns a snapshot of the analytics rollups from model */
+    ReservationAnalytics getReservationAnalytics();
+
     /**
      * Returns the user prefs' reservation book file path.
      */
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,7 +17,9 @@ import seedu.reserve.logic.parser.ReserveMateParser;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReservationAnalytics;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.storage.AsyncReserveMateSaver;
 import seedu.reserve.storage.Storage;
 
 /**
@@ -33,14 +36,29 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final ReserveMateParser reserveMateParser;
+    private final AsyncReserveMateSaver reserveMateSaver;
+
+    /** Modification count of the reservation book when it was last written to storage. */
+    private long savedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Data is saved synchronously after each command that changes it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands data to be saved over to {@code reserveMateSaver}.
+     * A {@code null} saver makes saving synchronous.
+     */
+    public LogicManager(Model model, Storage storage, AsyncReserveMateSaver reserveMateSaver) {
         this.model = model;
         this.storage = storage;
+        this.reserveMateSaver = reserveMateSaver;
         reserveMateParser = new ReserveMateParser();
+        savedModificationCount = model.getReserveMateModificationCount();
     }
 
     @Override
@@ -51,15 +69,43 @@ public class LogicManager implements Logic {
         Command command = reserveMateParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long modificationCount = model.getReserveMateModificationCount();
+        boolean isSaveNeeded = command.isMutating() && modificationCount != savedModificationCount;
+
+        if (reserveMateSaver == null) {
+            if (isSaveNeeded) {
+                saveReserveMate(modificationCount);
+            }
+            return commandResult;
+        }
+
+        // A failed background save is retried with the latest data and reported alongside the command's own result
+        Optional<IOException> saveFailure = reserveMateSaver.takeFailure();
+        if (isSaveNeeded || saveFailure.isPresent()) {
+            reserveMateSaver.submit(model.getReserveMate());
+            savedModificationCount = modificationCount;
+        }
+        if (saveFailure.isPresent()) {
+            return commandResult.withNotice(formatSaveFailure(saveFailure.get()));
+        }
+
+        return commandResult;
+    }
+
+    private void saveReserveMate(long modificationCount) throws CommandException {
         try {
             storage.saveReserveMate(model.getReserveMate());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            savedModificationCount = modificationCount;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(formatSaveFailure(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    private static String formatSaveFailure(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -77,6 +123,11 @@ public class LogicManager implements Logic {
         return model.getReservationStatistics();
     }
 
+    @Override
+    public ReservationAnalytics getReservationAnalytics() {
+        return model.getReservationAnalytics();
+    }
+
     @Override
     public Path getReserveMateFilePath() {
         return model.getReserveMateFilePath();
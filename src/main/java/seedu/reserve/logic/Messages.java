@@ -16,6 +16,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX =
             "The reservation index must be within the reservation list range";
+    public static final String MESSAGE_RESERVATION_ID_NOT_FOUND = "There is no reservation with the ID %1$s.";
     public static final String MESSAGE_RESERVATIONS_LISTED_OVERVIEW = "%1$d reservations listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
@@ -26,6 +27,10 @@ public class Messages {
             + "For example, use 'John' instead of just 'Jo'.";
     public static final String MESSAGE_DUPLICATE_RESERVATION =
             "A reservation already exists for this customer (same email or phone) at the chosen date-time.";
+    public static final String MESSAGE_NOT_ENOUGH_SEATS =
+            "Not enough seats at the chosen date-time: %1$d diner(s) requested, but only %2$d seat(s) left.";
+    public static final String MESSAGE_HOUR_FULLY_BOOKED =
+            "The chosen date-time already has the maximum of %1$d reservation(s).";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -54,12 +59,17 @@ public class Messages {
                 .append(reservation.getDiners().value).append("\n")
                 .append("Date/Time: ")
                 .append(reservation.getDateTime().toString()).append("\n")
+                .append("Duration: ")
+                .append(reservation.getDuration()).append(" minutes\n")
                 .append("Preference: ")
                 .append(reservation.getPreference()).append("\n")
                 .append("Occasion: ")
                 .append(reservation.getOccasions().stream()
                         .map(Occasion::toString)
                         .collect(Collectors.joining(", ")));
+        if (reservation.getTableAssignment().isAssigned()) {
+            builder.append("\n").append("Table: ").append(reservation.getTableAssignment());
+        }
         return builder.toString();
     }
 }
@@ -2,16 +2,20 @@ package seedu.reserve.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_OCCASION;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
 
+import java.util.List;
+
 import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Reservation;
 
 /**
@@ -28,6 +32,8 @@ public class AddCommand extends Command {
             + "- " + PREFIX_EMAIL + "EMAIL\n"
             + "- " + PREFIX_NUMBER_OF_DINERS + "NUMBER OF DINERS\n"
             + "- " + PREFIX_DATE_TIME + "DATETIME\n"
+            + "- [" + PREFIX_DURATION + "MINUTES] (from " + Duration.MIN_MINUTES + " to " + Duration.MAX_MINUTES
+            + ", defaults to 60 for up to 4 diners, 120 for up to 8 and 150 for more)\n"
             + "- " + "[" + PREFIX_OCCASION + "OCCASION]...\n\n"
             + "Example:\n" + COMMAND_WORD + " "
             + PREFIX_NAME + "John Doe "
@@ -37,6 +43,8 @@ public class AddCommand extends Command {
             + PREFIX_DATE_TIME + "2025-04-28 1800 "
             + PREFIX_OCCASION + "Birthday ";
     public static final String MESSAGE_SUCCESS = "New reservation added:\n%1$s";
+    public static final String MESSAGE_HOUR_BOOKED =
+            "\nNote: %1$d other reservation(s) already booked during this reservation.";
 
     private final Reservation toAdd;
 
@@ -56,8 +64,42 @@ public class AddCommand extends Command {
             throw new CommandException(Messages.MESSAGE_DUPLICATE_RESERVATION);
         }
 
+        checkCapacity(model, toAdd, null);
+        List<Reservation> overlapping = model.getOverlappingReservations(toAdd.getDateTime().value,
+                toAdd.getEndDateTime());
         model.addReservation(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+
+        String message = String.format(MESSAGE_SUCCESS, Messages.format(toAdd));
+        if (!overlapping.isEmpty()) {
+            message += String.format(MESSAGE_HOUR_BOOKED, overlapping.size());
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Checks that {@code party} can be booked in place of {@code replaced} in every hour it is held in.
+     * {@code replaced} is null if the party takes no reservation's place.
+     *
+     * @throws CommandException if one of the hours has no seats or reservations left for the party.
+     */
+    static void checkCapacity(Model model, Reservation party, Reservation replaced) throws CommandException {
+        if (model.canSeat(party, replaced)) {
+            return;
+        }
+
+        int partySize = party.getDiners().getCount();
+        int seatsLeft = model.getSeatsLeft(party, replaced);
+        if (seatsLeft < partySize) {
+            throw new CommandException(String.format(Messages.MESSAGE_NOT_ENOUGH_SEATS, partySize, seatsLeft));
+        }
+        // there are seats enough in every hour, so one of them has no reservations left
+        throw new CommandException(String.format(Messages.MESSAGE_HOUR_FULLY_BOOKED,
+                model.getSeatingCapacity().getMaxReservationsPerHour()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
     }
 
     @Override
@@ -68,8 +68,17 @@ public class ClearCommand extends Command {
         }
 
         assert (isConfirmed == true);
-        model.setReserveMate(new ReserveMate());
-        return new CommandResult(MESSAGE_SUCCESS);
+        // the waitlist is kept, and every waiting party that now fits is booked
+        ReserveMate cleared = new ReserveMate();
+        cleared.setWaitlist(model.getWaitlist());
+        model.setReserveMate(cleared);
+        List<Reservation> promoted = model.promoteWaitlisted();
+        return new CommandResult(MESSAGE_SUCCESS + WaitlistCommand.formatPromoted(promoted));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
     }
 
     @Override
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may modify the reservation book, so that the data file
+     * has to be saved afterwards. Read-only commands keep the default.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
 }
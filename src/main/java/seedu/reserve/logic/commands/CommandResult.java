@@ -19,6 +19,9 @@ public class CommandResult {
     /** Statistics information should be shown to the user. */
     private final boolean showStatistics;
 
+    /** The statistics to show, if statistics are to be shown. */
+    private final StatisticsCommand.Dimension statisticsDimension;
+
     /** The application should exit. */
     private final boolean exit;
 
@@ -26,9 +29,23 @@ public class CommandResult {
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showUserGuide, boolean showStatistics, boolean exit) {
+        this(feedbackToUser, showUserGuide, showStatistics, StatisticsCommand.Dimension.DINERS, exit);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that shows the statistics of {@code statisticsDimension},
+     * with other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, StatisticsCommand.Dimension statisticsDimension) {
+        this(feedbackToUser, false, true, statisticsDimension, false);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showUserGuide, boolean showStatistics,
+                          StatisticsCommand.Dimension statisticsDimension, boolean exit) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showUserGuide = showUserGuide;
         this.showStatistics = showStatistics;
+        this.statisticsDimension = requireNonNull(statisticsDimension);
         this.exit = exit;
     }
 
@@ -40,6 +57,15 @@ public class CommandResult {
         this(feedbackToUser, false, false, false);
     }
 
+    /**
+     * Returns a copy of this result with {@code notice} added to the end of its feedback to the user.
+     */
+    public CommandResult withNotice(String notice) {
+        requireNonNull(notice);
+        return new CommandResult(feedbackToUser + "\n\n" + notice, showUserGuide, showStatistics,
+                statisticsDimension, exit);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -52,6 +78,10 @@ public class CommandResult {
         return showStatistics;
     }
 
+    public StatisticsCommand.Dimension getStatisticsDimension() {
+        return statisticsDimension;
+    }
+
     public boolean isExit() {
         return exit;
     }
@@ -71,12 +101,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showUserGuide == otherCommandResult.showUserGuide
                 && showStatistics == otherCommandResult.showStatistics
+                && statisticsDimension == otherCommandResult.statisticsDimension
                 && exit == otherCommandResult.exit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showUserGuide, showStatistics, exit);
+        return Objects.hash(feedbackToUser, showUserGuide, showStatistics, statisticsDimension, exit);
     }
 
     @Override
@@ -85,6 +116,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showUserGuide", showUserGuide)
                 .add("showStatistics", showStatistics)
+                .add("statisticsDimension", statisticsDimension)
                 .add("exit", exit)
                 .toString();
     }
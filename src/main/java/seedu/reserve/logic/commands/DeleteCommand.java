@@ -6,7 +6,6 @@ import java.util.List;
 
 import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.commons.util.ToStringBuilder;
-import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.ParserUtil;
 import seedu.reserve.logic.parser.exceptions.ParseException;
@@ -14,15 +13,17 @@ import seedu.reserve.model.Model;
 import seedu.reserve.model.reservation.Reservation;
 
 /**
- * Deletes a reservation identified using it's displayed index from the reservation book.
+ * Deletes a reservation identified using it's displayed index or its ID from the reservation book.
+ * Parties on the waitlist that fit into the freed place are booked.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the reservation identified by the index number used in the reservation list.\n\n"
-            + "Parameters: INDEX (must be a positive integer)\n\n"
+            + ": Deletes the reservation identified by the index number used in the reservation list, "
+            + "or by its ID.\n\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n\n"
             + "Example: " + COMMAND_WORD + " 1 cfm";
 
     public static final String MESSAGE_DELETE_RESERVATION_SUCCESS = "Reservation %1$s deleted successfully";
@@ -30,7 +31,7 @@ public class DeleteCommand extends Command {
         + "Type 'delete %1$s cfm'";
     private static final int INDEX_POSITION = 0;
 
-    private final Index targetIndex;
+    private final ReservationTarget target;
     private final boolean isConfirmed;
 
 
@@ -41,46 +42,58 @@ public class DeleteCommand extends Command {
      * @param isConfirmed A boolean indicating whether the deletion is confirmed.
      */
     public DeleteCommand(Index targetIndex, boolean isConfirmed) {
-        this.targetIndex = targetIndex;
-        this.isConfirmed = isConfirmed;
+        this(ReservationTarget.ofIndex(targetIndex), isConfirmed);
+    }
 
+    /**
+     * Constructs a DeleteCommand with the specified target and confirmation status.
+     *
+     * @param target The index or ID of the reservation to be deleted.
+     * @param isConfirmed A boolean indicating whether the deletion is confirmed.
+     */
+    public DeleteCommand(ReservationTarget target, boolean isConfirmed) {
+        requireNonNull(target);
+        this.target = target;
+        this.isConfirmed = isConfirmed;
     }
 
     /**
      * Checks if the given delete command arguments are valid.
-     * A valid delete command should contain at least one argument, which is a valid index.
+     * A valid delete command should contain at least one argument, which is a valid index or ID.
      *
      * @param trimmedArgs The trimmed string containing the delete command arguments.
      * @return {@code true} if the delete command is valid, {@code false} otherwise.
-     * @throws ParseException If the index is not a valid non-zero unsigned integer.
+     * @throws ParseException If the index is not a valid non-zero unsigned integer, or the ID is not valid.
      */
     public static boolean isValidDelete(String trimmedArgs) throws ParseException {
         String[] trimmedArgArray = trimmedArgs.split("\\s+");
         if (trimmedArgArray[INDEX_POSITION].isEmpty() || trimmedArgArray.length > 2) {
             return false;
         }
-        // Check for valid Index
-        ParserUtil.parseIndex(trimmedArgArray[INDEX_POSITION]);
+        // Check for valid Index or ID
+        ParserUtil.parseReservationTarget(trimmedArgArray[INDEX_POSITION]);
         return true;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Reservation> lastShownList = model.getFilteredReservationList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX);
-        }
-
-        Reservation reservationToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Reservation reservationToDelete = target.resolve(model);
 
         if (!isConfirmed) {
-            throw new CommandException(String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased()));
+            throw new CommandException(String.format(MESSAGE_CONFIRM_DELETE, target));
         }
 
         model.deleteReservation(reservationToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_RESERVATION_SUCCESS, this.targetIndex.getOneBased()));
+        List<Reservation> promoted = model.promoteWaitlisted(reservationToDelete.getDateTime().value,
+                reservationToDelete.getEndDateTime());
+        return new CommandResult(String.format(MESSAGE_DELETE_RESERVATION_SUCCESS, target)
+                + WaitlistCommand.formatPromoted(promoted));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
     }
 
     @Override
@@ -95,13 +108,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return target.equals(otherDeleteCommand.target);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("target", target)
                 .toString();
     }
 }
@@ -2,6 +2,7 @@ package seedu.reserve.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
@@ -26,6 +27,7 @@ import seedu.reserve.model.Model;
 import seedu.reserve.model.occasion.Occasion;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
@@ -40,15 +42,16 @@ public class EditCommand extends Command {
     public static final String COMMAND_WORD = "edit";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the reservation identified "
-            + "by the index number used in the displayed reservation list. "
+            + "by the index number used in the displayed reservation list, or by its ID. "
             + "Existing values will be overwritten by the input values.\n\n"
             + "Parameters:\n"
-            + "- " + "INDEX (must be a positive integer)\n"
+            + "- " + "INDEX (must be a positive integer) or #ID\n"
             + "- " + "[" + PREFIX_NAME + "NAME]\n"
             + "- " + "[" + PREFIX_PHONE + "PHONE]\n"
             + "- " + "[" + PREFIX_EMAIL + "EMAIL]\n"
             + "- " + "[" + PREFIX_NUMBER_OF_DINERS + "NUMBER OF DINERS]\n"
             + "- " + "[" + PREFIX_DATE_TIME + "DATETIME]\n"
+            + "- " + "[" + PREFIX_DURATION + "MINUTES]\n"
             + "- " + "[" + PREFIX_OCCASION + "OCCASION]...\n\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
@@ -61,7 +64,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_FUTURE_RESERVATION_REQUIRED = "Past reservation cannot be edited.";
 
 
-    private final Index index;
+    private final ReservationTarget target;
     private final EditReservationDescriptor editReservationDescriptor;
 
     /**
@@ -69,10 +72,18 @@ public class EditCommand extends Command {
      * @param editReservationDescriptor details to edit the reservation with
      */
     public EditCommand(Index index, EditReservationDescriptor editReservationDescriptor) {
-        requireNonNull(index);
+        this(ReservationTarget.ofIndex(index), editReservationDescriptor);
+    }
+
+    /**
+     * @param target index or ID of the reservation to edit
+     * @param editReservationDescriptor details to edit the reservation with
+     */
+    public EditCommand(ReservationTarget target, EditReservationDescriptor editReservationDescriptor) {
+        requireNonNull(target);
         requireNonNull(editReservationDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editReservationDescriptor = new EditReservationDescriptor(editReservationDescriptor);
     }
 
@@ -90,27 +101,33 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Reservation> lastShownList = model.getFilteredReservationList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX);
-        }
-
-        Reservation reservationToEdit = lastShownList.get(index.getZeroBased());
+        Reservation reservationToEdit = target.resolve(model);
         Reservation editedReservation = createEditedReservation(reservationToEdit, editReservationDescriptor);
 
         if (isDateTimeBeforeCurrentTime(reservationToEdit.getDateTime())) {
             throw new CommandException(MESSAGE_FUTURE_RESERVATION_REQUIRED);
         }
 
-        if (!reservationToEdit.isSameReservation(editedReservation) && model.hasReservation(editedReservation)) {
+        if (model.hasReservationOtherThan(editedReservation, reservationToEdit)) {
             throw new CommandException(Messages.MESSAGE_DUPLICATE_RESERVATION);
 
         }
 
+        // the reservation being edited gives up its own place
+        AddCommand.checkCapacity(model, editedReservation, reservationToEdit);
+
         model.setReservation(reservationToEdit, editedReservation);
+        // the old time, or seats given up by a smaller party, may let waiting parties in
+        List<Reservation> promoted = model.promoteWaitlisted(reservationToEdit.getDateTime().value,
+                reservationToEdit.getEndDateTime());
         model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
-        return new CommandResult(String.format(MESSAGE_EDIT_RESERVATION_SUCCESS, Messages.format(editedReservation)));
+        return new CommandResult(String.format(MESSAGE_EDIT_RESERVATION_SUCCESS, Messages.format(editedReservation))
+                + WaitlistCommand.formatPromoted(promoted));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
     }
 
     /**
@@ -126,12 +143,19 @@ public class EditCommand extends Command {
         Email updatedEmail = editReservationDescriptor.getEmail().orElse(reservationToEdit.getEmail());
         Diners updateDiners = editReservationDescriptor.getDiners().orElse(reservationToEdit.getDiners());
         DateTime updateDateTime = editReservationDescriptor.getDateTime().orElse(reservationToEdit.getDateTime());
+        // a reservation that was left at the default duration for its party size keeps up with the party size
+        Duration updatedDuration = editReservationDescriptor.getDuration().orElse(
+                reservationToEdit.getDuration().equals(Duration.forParty(reservationToEdit.getDiners()))
+                        ? Duration.forParty(updateDiners)
+                        : reservationToEdit.getDuration());
         Set<Occasion> updatedOccasions = editReservationDescriptor
             .getOccasions().orElse(reservationToEdit.getOccasions());
         Preference updatedPreference = editReservationDescriptor
             .getPreference().orElse(reservationToEdit.getPreference());
-        return new Reservation(updatedName, updatedPhone, updatedEmail,
-                updateDiners, updateDateTime, updatedOccasions, updatedPreference);
+        // the tables are kept if they are still free and large enough, see FloorPlan#assign(List)
+        return new Reservation(reservationToEdit.getId(), updatedName, updatedPhone, updatedEmail,
+                updateDiners, updateDateTime, updatedDuration, updatedOccasions, updatedPreference,
+                reservationToEdit.getTableAssignment());
     }
 
     @Override
@@ -146,14 +170,14 @@ public class EditCommand extends Command {
         }
 
         EditCommand otherEditCommand = (EditCommand) other;
-        return index.equals(otherEditCommand.index)
+        return target.equals(otherEditCommand.target)
                 && editReservationDescriptor.equals(otherEditCommand.editReservationDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("target", target)
                 .add("editReservationDescriptor", editReservationDescriptor)
                 .toString();
     }
@@ -168,6 +192,7 @@ public class EditCommand extends Command {
         private Email email;
         private Diners diners;
         private DateTime dateTime;
+        private Duration duration;
         private Set<Occasion> occasions;
         private Preference preference;
 
@@ -183,6 +208,7 @@ public class EditCommand extends Command {
             setEmail(toCopy.email);
             setDiners(toCopy.diners);
             setDateTime(toCopy.dateTime);
+            setDuration(toCopy.duration);
             setOccasions(toCopy.occasions);
             setPreference(toCopy.preference);
         }
@@ -191,7 +217,7 @@ public class EditCommand extends Command {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, phone, email, diners, dateTime, occasions);
+            return CollectionUtil.isAnyNonNull(name, phone, email, diners, dateTime, duration, occasions);
         }
 
         public void setName(Name name) {
@@ -234,6 +260,14 @@ public class EditCommand extends Command {
             return Optional.ofNullable(dateTime);
         }
 
+        public void setDuration(Duration duration) {
+            this.duration = duration;
+        }
+
+        public Optional<Duration> getDuration() {
+            return Optional.ofNullable(duration);
+        }
+
         /**
          * Sets {@code occasions} to this object's {@code occasions}.
          * A defensive copy of {@code occasions} is used internally.
@@ -276,6 +310,7 @@ public class EditCommand extends Command {
                     && Objects.equals(email, otherEditReservationDescriptor.email)
                     && Objects.equals(diners, otherEditReservationDescriptor.diners)
                     && Objects.equals(dateTime, otherEditReservationDescriptor.dateTime)
+                    && Objects.equals(duration, otherEditReservationDescriptor.duration)
                     && Objects.equals(occasions, otherEditReservationDescriptor.occasions)
                     && Objects.equals(preference, otherEditReservationDescriptor.preference);
         }
@@ -288,6 +323,7 @@ public class EditCommand extends Command {
                     .add("email", email)
                     .add("diners", diners)
                     .add("dateTime", dateTime)
+                    .add("duration", duration)
                     .add("occasions", occasions)
                     .add("preferences", preference)
                     .toString();
@@ -8,7 +8,6 @@ import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.reservation.DateTime;
-import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
 
 /**
  * Filters all reservations which are between a {@code startDate} and {@code endDate} provided by the user.
@@ -27,21 +26,26 @@ public class FilterCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Here are the available reservations for the date range.";
     public static final String MESSAGE_NO_RESERVATIONS_FILTER = "No reservations found for the date range.";
 
-    private final ReservationBetweenDatePredicate predicate;
+    private final DateTime startDate;
+    private final DateTime endDate;
 
+    /**
+     * Creates a FilterCommand to list the reservations from {@code startDate} to {@code endDate} inclusive.
+     */
     public FilterCommand(DateTime startDate, DateTime endDate) {
-        this.predicate = new ReservationBetweenDatePredicate(startDate, endDate);
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
     }
 
-
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredReservationList(predicate);
+        model.updateFilteredReservationList(startDate, endDate);
         if (model.getFilteredReservationList().isEmpty()) {
             return new CommandResult(MESSAGE_NO_RESERVATIONS_FILTER);
         }
-        assert !model.getFilteredReservationList().isEmpty();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -56,13 +60,14 @@ public class FilterCommand extends Command {
         }
 
         FilterCommand otherFilterCommand = (FilterCommand) other;
-        return this.predicate.equals(otherFilterCommand.predicate);
+        return startDate.equals(otherFilterCommand.startDate) && endDate.equals(otherFilterCommand.endDate);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("predicate", predicate)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
                 .toString();
     }
 }
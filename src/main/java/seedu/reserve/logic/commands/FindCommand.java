@@ -3,41 +3,88 @@ package seedu.reserve.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.Messages.MESSAGE_NO_RESERVATIONS;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.ReservationId;
 
 /**
  * Finds and lists all reservations in reservation book whose name contains any of the argument keywords.
  * Keyword matching is case-insensitive.
+ * The matching reservations are looked up in the name index of the reservation book rather than by splitting the
+ * name of every reservation into words.
+ * In fuzzy mode, each keyword is replaced by the closest words of the reservation names, so partial and misspelt
+ * names are found as well.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String FUZZY_MARKER = "~";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all reservations whose names contain any of "
             + "the specified keywords (case-insensitive).\n\n"
-            + "Parameters: NAME [MORE_NAMES]...\n\n"
-            + "Example: " + COMMAND_WORD + " alice Bob Charlie";
+            + "Start with " + FUZZY_MARKER + " to also find names that begin with a keyword or are "
+            + "spelt a little differently.\n\n"
+            + "Parameters: [" + FUZZY_MARKER + "] NAME [MORE_NAMES]...\n\n"
+            + "Example: " + COMMAND_WORD + " alice Bob Charlie\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_MARKER + " jonh mohd";
+
+    public static final String MESSAGE_CLOSEST_NAMES = "\nMatched names: %1$s";
 
+    /** The number of closest words each keyword is replaced by in fuzzy mode. */
+    public static final int MAX_FUZZY_MATCHES = 5;
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that finds the reservations whose names contain any of the keywords of
+     * {@code predicate}, or in fuzzy mode any of the words closest to them.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredReservationList(predicate);
+        List<String> words = isFuzzy ? findClosestWords(model) : predicate.getKeywords();
+        // the sets follow later changes, so a listed reservation that is renamed is checked against its new name
+        List<Set<ReservationId>> matchingIds = words.stream()
+                .map(model::getReservationIdsWithNameToken)
+                .toList();
+        model.updateFilteredReservationList(reservation -> matchingIds.stream()
+                .anyMatch(ids -> ids.contains(reservation.getId())));
         if (model.getFilteredReservationList().isEmpty()) {
             return new CommandResult(MESSAGE_NO_RESERVATIONS);
         }
-        return new CommandResult(
-                String.format(Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW,
-                        model.getFilteredReservationList().size()));
+        String message = String.format(Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW,
+                model.getFilteredReservationList().size());
+        if (isFuzzy) {
+            message += String.format(MESSAGE_CLOSEST_NAMES, String.join(", ", words));
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Returns the closest words of the reservation names to each keyword, without repeats.
+     */
+    private List<String> findClosestWords(Model model) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String keyword : predicate.getKeywords()) {
+            words.addAll(model.findClosestNameTokens(keyword, MAX_FUZZY_MATCHES));
+        }
+        return List.copyOf(words);
     }
 
     @Override
@@ -52,13 +99,14 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate) && isFuzzy == otherFindCommand.isFuzzy;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
@@ -2,9 +2,8 @@ package seedu.reserve.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
-import static seedu.reserve.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
 
-import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -12,12 +11,16 @@ import java.util.List;
 
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
+import seedu.reserve.model.SeatingCapacity;
+import seedu.reserve.model.reservation.DailyOccupancy;
 import seedu.reserve.model.reservation.DateTime;
-import seedu.reserve.model.reservation.Reservation;
-import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
+import seedu.reserve.model.reservation.Diners;
 
 /**
  * Display all free time slots to the user.
+ * A slot is free while it can still take a reservation within the seating capacity, and shows the seats left.
+ * The slots are read off the hourly counters of the day kept by the model, so the reservation list shown is left
+ * as is.
  */
 public class FreeCommand extends Command {
 
@@ -30,9 +33,7 @@ public class FreeCommand extends Command {
     public static final String MESSAGE_ALL_FREE_SLOTS = "All timings are available on this date.";
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
 
-    private final ReservationBetweenDatePredicate predicate;
     private final LocalDateTime searchStart;
-    private final LocalDateTime searchEnd;
 
     /**
      * Constructs a FreeCommand for the specified date/time.
@@ -40,74 +41,55 @@ public class FreeCommand extends Command {
      * @param date The starting date/time to search for free slots
      */
     public FreeCommand(DateTime date) {
+        requireNonNull(date);
         this.searchStart = date.value;
-        this.searchEnd = date.value.plusDays(1);
-        this.predicate = new ReservationBetweenDatePredicate(date,
-                new DateTime(this.searchEnd.format(FORMATTER)));
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredReservationList(predicate);
-
-        List<Reservation> reservations = new ArrayList<>(model.getFilteredReservationList());
-        if (reservations.isEmpty()) {
-            model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        LocalDate date = searchStart.toLocalDate();
+        if (model.getOccupiedHours(date) == 0) {
             return new CommandResult(MESSAGE_ALL_FREE_SLOTS);
         }
-
-        List<TimeSlot> freeSlots = getAllFreeSlots(reservations);
-        if (freeSlots.isEmpty()) {
-            model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        int availableHours = model.getAvailableHours(date, Diners.MIN_DINERS);
+        if (availableHours == 0) {
             return new CommandResult(MESSAGE_NO_FREE_SLOTS);
         }
 
-        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
-
-        return new CommandResult(formatFreeSlots(freeSlots));
+        return new CommandResult(formatFreeSlots(getAllFreeSlots(availableHours, model.getCoversByHour(date),
+                model.getSeatingCapacity())));
     }
 
     /**
-     * Calculates all available free time slots between reservations.
+     * Groups the hours of the day that can still take a reservation into slots of consecutive hours with the same
+     * number of seats left.
      *
-     * @param reservations The list of reservations to check against
+     * @param availableHours The hours that can still take a reservation, with bit {@code h} set for {@code h} o'clock
+     * @param coversByHour The number of diners booked at each hour of the day
+     * @param capacity The seating capacity of the restaurant
      * @return List of available time slots (each at least 1 hour long)
      */
-    private List<TimeSlot> getAllFreeSlots(List<Reservation> reservations) {
+    private List<TimeSlot> getAllFreeSlots(int availableHours, int[] coversByHour, SeatingCapacity capacity) {
         List<TimeSlot> freeSlots = new ArrayList<>();
-
-        // Check slot before first reservation
-        LocalDateTime firstReservationStart = reservations.get(0).getDateTime().value;
-        addSlotIfValid(freeSlots, searchStart, firstReservationStart);
-
-        // Check slots between reservations
-        LocalDateTime previousEnd = firstReservationStart.plusHours(1);
-        for (int i = 1; i < reservations.size(); i++) {
-            LocalDateTime currentStart = reservations.get(i).getDateTime().value;
-            addSlotIfValid(freeSlots, previousEnd, currentStart);
-            previousEnd = currentStart.plusHours(1);
+        LocalDateTime dayStart = searchStart.toLocalDate().atStartOfDay();
+        int hour = 0;
+        while (hour < DailyOccupancy.HOURS_PER_DAY) {
+            if ((availableHours & (1 << hour)) == 0) {
+                hour++;
+                continue;
+            }
+            int start = hour;
+            int seatsLeft = capacity.getRemainingSeats(coversByHour[start]);
+            do {
+                hour++;
+            } while (hour < DailyOccupancy.HOURS_PER_DAY && (availableHours & (1 << hour)) != 0
+                    && capacity.getRemainingSeats(coversByHour[hour]) == seatsLeft);
+            freeSlots.add(new TimeSlot(dayStart.plusHours(start), dayStart.plusHours(hour), seatsLeft));
         }
-
-        // Check slot after last reservation
-        addSlotIfValid(freeSlots, previousEnd, searchEnd);
-
         return freeSlots;
     }
 
-    /**
-     * Adds a time slot to the list if it meets minimum duration requirements.
-     *
-     * @param slots The list to add valid slots to
-     * @param start The proposed start time
-     * @param end The proposed end time
-     */
-    private void addSlotIfValid(List<TimeSlot> slots, LocalDateTime start, LocalDateTime end) {
-        if (start.isBefore(end) && Duration.between(start, end).toHours() >= 1) {
-            slots.add(new TimeSlot(start, end));
-        }
-    }
-
     /**
      * Formats the list of free slots into a user-friendly message.
      *
@@ -125,14 +107,16 @@ public class FreeCommand extends Command {
      *
      * @param start The start time of the slot
      * @param end The end time of the slot
+     * @param seatsLeft The number of seats left in each hour of the slot
      */
-    private record TimeSlot(LocalDateTime start, LocalDateTime end) {
+    private record TimeSlot(LocalDateTime start, LocalDateTime end, int seatsLeft) {
 
         @Override
         public String toString() {
-            return String.format("\n- %s to %s",
+            return String.format("\n- %s to %s (%d seats left)",
                     start.format(FORMATTER),
-                    end.format(FORMATTER));
+                    end.format(FORMATTER),
+                    seatsLeft);
         }
     }
 
@@ -147,6 +131,6 @@ public class FreeCommand extends Command {
         }
 
         FreeCommand otherFreeCommand = (FreeCommand) other;
-        return this.predicate.equals(otherFreeCommand.predicate);
+        return searchStart.equals(otherFreeCommand.searchStart);
     }
 }
@@ -0,0 +1,93 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.logic.Messages;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.ReservationId;
+
+/**
+ * Lists all reservations of the customer with a given phone number or email.
+ * The reservations are looked up in the contact indexes of the reservation book, so the time taken depends only on
+ * the number of reservations the customer has.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all reservations of the customer with the "
+            + "given phone number or email (case-insensitive).\n\n"
+            + "Parameters: " + PREFIX_PHONE + "PHONE or " + PREFIX_EMAIL + "EMAIL\n\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "98765432\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_EMAIL + "johnd@example.com";
+
+    public static final String MESSAGE_NO_RESERVATIONS = "No reservations found for %1$s.";
+
+    private final Phone phone;
+    private final Email email;
+
+    private LookupCommand(Phone phone, Email email) {
+        this.phone = phone;
+        this.email = email;
+    }
+
+    /**
+     * Creates a LookupCommand to list the reservations with the phone number {@code phone}.
+     */
+    public LookupCommand(Phone phone) {
+        this(requireNonNull(phone), null);
+    }
+
+    /**
+     * Creates a LookupCommand to list the reservations with the email {@code email}.
+     */
+    public LookupCommand(Email email) {
+        this(null, requireNonNull(email));
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the set follows later changes, so the customer's bookings stay listed as they are edited
+        Set<ReservationId> ids = phone != null
+                ? model.getReservationIdsWithPhone(phone)
+                : model.getReservationIdsWithEmail(email);
+        model.updateFilteredReservationList(reservation -> ids.contains(reservation.getId()));
+        if (model.getFilteredReservationList().isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_RESERVATIONS, phone != null ? phone : email));
+        }
+        return new CommandResult(String.format(Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW,
+                model.getFilteredReservationList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LookupCommand)) {
+            return false;
+        }
+
+        LookupCommand otherLookupCommand = (LookupCommand) other;
+        return Objects.equals(phone, otherLookupCommand.phone) && Objects.equals(email, otherLookupCommand.email);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .add("email", email)
+                .toString();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
+
+/**
+ * Finds the earliest free time slots for a party, searching the whole booking window.
+ * A slot is free for the party if it has enough seats and reservations left within the seating capacity for the
+ * whole of the default duration for the party size.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+    public static final int DEFAULT_SLOT_COUNT = 3;
+    public static final int MAX_SLOT_COUNT = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the earliest free time slots for a party within the next "
+            + DateTime.MAX_BOOKING_DAYS + " days\n\n"
+            + "Parameters:\n"
+            + "- [COUNT] (from 1 to " + MAX_SLOT_COUNT + ", defaults to " + DEFAULT_SLOT_COUNT + ")\n"
+            + "- " + PREFIX_NUMBER_OF_DINERS + "NUMBER OF DINERS\n"
+            + "- [" + PREFIX_DATE_TIME + "DATETIME] (search from this time, defaults to now)\n\n"
+            + "Example: " + COMMAND_WORD + " 3 " + PREFIX_NUMBER_OF_DINERS + "6 "
+            + PREFIX_DATE_TIME + "2025-05-02 1800";
+    public static final String MESSAGE_INVALID_COUNT = "COUNT must be a whole number from 1 to " + MAX_SLOT_COUNT
+            + ".";
+    public static final String MESSAGE_SUCCESS = "Next free time slots for %1$d diner(s):";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free time slots for %1$d diner(s) found within the next "
+            + DateTime.MAX_BOOKING_DAYS + " days.";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    private final Diners diners;
+    private final LocalDateTime searchStart;
+    private final int slotCount;
+
+    /**
+     * Creates a NextCommand to find up to {@code slotCount} free time slots for a party of {@code diners},
+     * starting at {@code searchStart}.
+     */
+    public NextCommand(Diners diners, LocalDateTime searchStart, int slotCount) {
+        requireNonNull(diners);
+        requireNonNull(searchStart);
+        assert slotCount > 0 && slotCount <= MAX_SLOT_COUNT;
+        this.diners = diners;
+        this.searchStart = searchStart;
+        this.slotCount = slotCount;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LocalDateTime earliest = DateTime.getEarliestBookingDateTime();
+        LocalDateTime from = searchStart.isBefore(earliest) ? earliest : searchStart;
+        List<LocalDateTime> openHours = model.findAvailableHours(from, DateTime.getLatestBookingDateTime(),
+                diners.getCount(), Duration.forParty(diners), slotCount);
+
+        if (openHours.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, diners.getCount()));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, diners.getCount()));
+        for (LocalDateTime openHour : openHours) {
+            message.append("\n- ").append(openHour.format(FORMATTER));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NextCommand)) {
+            return false;
+        }
+
+        NextCommand otherNextCommand = (NextCommand) other;
+        return diners.equals(otherNextCommand.diners)
+                && searchStart.equals(otherNextCommand.searchStart)
+                && slotCount == otherNextCommand.slotCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("diners", diners)
+                .add("searchStart", searchStart)
+                .add("slotCount", slotCount)
+                .toString();
+    }
+}
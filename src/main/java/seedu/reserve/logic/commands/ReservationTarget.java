@@ -0,0 +1,93 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.reserve.commons.core.index.Index;
+import seedu.reserve.logic.Messages;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+
+/**
+ * The reservation a command acts on, given either by its index in the displayed reservation list or by its
+ * {@link ReservationId}.
+ * An ID picks out the same reservation however the list is filtered, and is looked up in the whole reservation
+ * book.
+ */
+public class ReservationTarget {
+
+    private final Index index;
+    private final ReservationId id;
+
+    private ReservationTarget(Index index, ReservationId id) {
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Returns the target at {@code index} in the displayed reservation list.
+     */
+    public static ReservationTarget ofIndex(Index index) {
+        requireNonNull(index);
+        return new ReservationTarget(index, null);
+    }
+
+    /**
+     * Returns the target with the ID {@code id}.
+     */
+    public static ReservationTarget ofId(ReservationId id) {
+        requireNonNull(id);
+        return new ReservationTarget(null, id);
+    }
+
+    /**
+     * Returns the reservation this target refers to in {@code model}.
+     *
+     * @throws CommandException if the index is outside the displayed list or no reservation has the ID.
+     */
+    public Reservation resolve(Model model) throws CommandException {
+        requireNonNull(model);
+        if (id != null) {
+            return model.getReservationById(id).orElseThrow(() ->
+                    new CommandException(String.format(Messages.MESSAGE_RESERVATION_ID_NOT_FOUND, id)));
+        }
+
+        List<Reservation> lastShownList = model.getFilteredReservationList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReservationTarget)) {
+            return false;
+        }
+
+        ReservationTarget otherTarget = (ReservationTarget) other;
+        return Objects.equals(index, otherTarget.index) && Objects.equals(id, otherTarget.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, id);
+    }
+
+    /**
+     * Returns the target as the user would type it, such as {@code 2} or {@code #12}.
+     */
+    @Override
+    public String toString() {
+        return id != null ? id.toString() : String.valueOf(index.getOneBased());
+    }
+}
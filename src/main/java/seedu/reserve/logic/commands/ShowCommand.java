@@ -1,48 +1,77 @@
 package seedu.reserve.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.reserve.logic.Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX;
 
-import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.CustomerProfile;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.reservation.Reservation;
 
 /**
- * Show a reservation details using it's displayed index from the reservation book
+ * Show a reservation details using it's displayed index or its ID from the reservation book, along with a summary
+ * of the other reservations of its customer.
  */
 public class ShowCommand extends Command {
     public static final String COMMAND_WORD = "show";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Shows the reservation details identified by the index number "
-            + "used in the displayed reservation list.\n\n"
-            + "Parameters: INDEX (must be a positive integer) and shown in the list\n\n"
+            + "used in the displayed reservation list, or by its ID.\n\n"
+            + "Parameters: INDEX (must be a positive integer) and shown in the list, or #ID\n\n"
             + "Example: " + COMMAND_WORD + " 1";
 
-    public static final String MESSAGE_SHOW_RESERVATION_SUCCESS = "Details of Reservation:\n%1$s";
+    public static final String MESSAGE_SHOW_RESERVATION_SUCCESS = "Details of Reservation %2$s:\n%1$s\n\n%3$s";
+    public static final String MESSAGE_FIRST_RESERVATION = "Customer history: first reservation";
+    public static final String MESSAGE_CUSTOMER_HISTORY = "Customer history: %1$d reservations, usually %2$d diner(s)";
+    public static final String MESSAGE_LAST_OCCASION = "\nLast occasion: %1$s on %2$s";
+    public static final String MESSAGE_PREFERENCES = "\nPreferences: %1$s";
 
-    private final Index targetIndex;
+    private final ReservationTarget target;
 
     public ShowCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(ReservationTarget.ofIndex(targetIndex));
+    }
+
+    /**
+     * Creates a ShowCommand to show the reservation given by {@code target}.
+     */
+    public ShowCommand(ReservationTarget target) {
+        requireNonNull(target);
+        this.target = target;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Reservation> lastShownList = model.getFilteredReservationList();
+        Reservation reservationToShow = target.resolve(model);
+        return new CommandResult(String.format(MESSAGE_SHOW_RESERVATION_SUCCESS, Messages.format(reservationToShow),
+                reservationToShow.getId(), formatProfile(model.getCustomerProfile(reservationToShow))));
+    }
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX);
+    /**
+     * Returns the customer history shown below the details of a reservation.
+     */
+    public static String formatProfile(CustomerProfile profile) {
+        if (profile.getReservationCount() == 1) {
+            return MESSAGE_FIRST_RESERVATION;
         }
-
-        Reservation reservationToShow = lastShownList.get(targetIndex.getZeroBased());
-        return new CommandResult(String.format(MESSAGE_SHOW_RESERVATION_SUCCESS, Messages.format(reservationToShow)));
+        StringBuilder history = new StringBuilder(String.format(MESSAGE_CUSTOMER_HISTORY,
+                profile.getReservationCount(), profile.getUsualPartySize()));
+        profile.getLastOccasionDateTime().ifPresent(dateTime -> {
+            String occasions = profile.getLastOccasions().stream()
+                    .map(occasion -> occasion.occasionName)
+                    .collect(Collectors.joining(", "));
+            history.append(String.format(MESSAGE_LAST_OCCASION, occasions, dateTime));
+        });
+        if (!profile.getPreferences().isEmpty()) {
+            history.append(String.format(MESSAGE_PREFERENCES, String.join("; ", profile.getPreferences())));
+        }
+        return history.toString();
     }
 
     @Override
@@ -57,13 +86,13 @@ public class ShowCommand extends Command {
         }
 
         ShowCommand otherShowCommand = (ShowCommand) other;
-        return targetIndex.equals(otherShowCommand.targetIndex);
+        return target.equals(otherShowCommand.target);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("target", target)
                 .toString();
     }
 }
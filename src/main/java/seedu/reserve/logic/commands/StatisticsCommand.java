@@ -2,6 +2,10 @@ package seedu.reserve.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
 
@@ -16,11 +20,71 @@ public class StatisticsCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Displays statistics of all reservations in the reservation book.\n\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [DIMENSION]\n"
+            + "DIMENSION is one of: " + Dimension.listKeywords() + " (default: "
+            + Dimension.DINERS.getKeyword() + ")\n\n"
+            + "Example: " + COMMAND_WORD + " " + "hour";
 
     public static final String NO_RESERVATIONS_MESSAGE = "There are no reservations to generate statistics from. "
             + "Use the 'add' command to create a reservation\n";
 
+    /**
+     * The breakdowns of reservations that can be shown.
+     */
+    public enum Dimension {
+        /** Number of reservations by party size. */
+        DINERS("diners"),
+        /** Covers by weekday and hour of day. */
+        HOUR("hour"),
+        /** Covers by weekday. */
+        WEEKDAY("weekday"),
+        /** Number of reservations by occasion. */
+        OCCASION("occasion"),
+        /** Covers on each day of the booking window. */
+        DAILY("daily"),
+        /** Rolling 7- and 30-day average covers over the booking window. */
+        TREND("trend");
+
+        private final String keyword;
+
+        Dimension(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the dimension with the given keyword, ignoring case.
+         */
+        public static Optional<Dimension> fromKeyword(String keyword) {
+            return Arrays.stream(values())
+                    .filter(dimension -> dimension.keyword.equalsIgnoreCase(keyword))
+                    .findFirst();
+        }
+
+        private static String listKeywords() {
+            return Arrays.stream(values()).map(Dimension::getKeyword).collect(Collectors.joining(", "));
+        }
+    }
+
+    private final Dimension dimension;
+
+    /**
+     * Creates a {@code StatisticsCommand} that shows reservations by party size.
+     */
+    public StatisticsCommand() {
+        this(Dimension.DINERS);
+    }
+
+    /**
+     * Creates a {@code StatisticsCommand} that shows the statistics of {@code dimension}.
+     */
+    public StatisticsCommand(Dimension dimension) {
+        requireNonNull(dimension);
+        this.dimension = dimension;
+    }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
@@ -30,11 +94,21 @@ public class StatisticsCommand extends Command {
             throw new CommandException(NO_RESERVATIONS_MESSAGE);
         }
 
-        return new CommandResult(SHOWING_STATISTICS_MESSAGE, false, true, false);
+        return new CommandResult(SHOWING_STATISTICS_MESSAGE, dimension);
     }
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof StatisticsCommand;
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatisticsCommand)) {
+            return false;
+        }
+
+        StatisticsCommand otherStatisticsCommand = (StatisticsCommand) other;
+        return dimension == otherStatisticsCommand.dimension;
     }
 }
@@ -0,0 +1,80 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.reserve.commons.core.index.Index;
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+/**
+ * Takes a party off the waitlist, identified by its position in the list shown by {@code waitlist}.
+ */
+public class UnwaitCommand extends Command {
+
+    public static final String COMMAND_WORD = "unwait";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Takes the party at the given position of the waitlist off the waitlist.\n\n"
+            + "Parameters: INDEX (must be a positive integer, as shown by '" + WaitlistCommand.COMMAND_WORD
+            + "')\n\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "%1$s has been taken off the waitlist for %2$s.";
+    public static final String MESSAGE_INVALID_WAITLIST_INDEX = "The waitlist index must be within the waitlist range";
+
+    private final Index targetIndex;
+
+    /**
+     * Creates an UnwaitCommand to take the party at {@code targetIndex} of the waitlist off it.
+     */
+    public UnwaitCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<WaitlistEntry> waitlist = model.getWaitlist();
+
+        if (targetIndex.getZeroBased() >= waitlist.size()) {
+            throw new CommandException(MESSAGE_INVALID_WAITLIST_INDEX);
+        }
+
+        WaitlistEntry entry = waitlist.get(targetIndex.getZeroBased());
+        model.removeFromWaitlist(entry);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entry.getParty().getName().fullName,
+                entry.getDateTime()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnwaitCommand)) {
+            return false;
+        }
+
+        UnwaitCommand otherUnwaitCommand = (UnwaitCommand) other;
+        return targetIndex.equals(otherUnwaitCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
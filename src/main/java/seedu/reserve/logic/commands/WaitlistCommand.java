@@ -0,0 +1,158 @@
+package seedu.reserve.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_OCCASION;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.logic.Messages;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+/**
+ * Puts a party on the waitlist for a time slot that is full, or lists the waitlist.
+ * Waiting parties are booked automatically once a reservation is deleted, edited or cleared and there is room for
+ * them.
+ */
+public class WaitlistCommand extends Command {
+
+    public static final String COMMAND_WORD = "waitlist";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Puts a party on the waitlist for a fully booked date-time. "
+            + "Without parameters, lists the waitlist.\n\n"
+            + "Parameters:\n"
+            + "- " + PREFIX_NAME + "NAME\n"
+            + "- " + PREFIX_PHONE + "PHONE\n"
+            + "- " + PREFIX_EMAIL + "EMAIL\n"
+            + "- " + PREFIX_NUMBER_OF_DINERS + "NUMBER OF DINERS\n"
+            + "- " + PREFIX_DATE_TIME + "DATETIME\n"
+            + "- [" + PREFIX_DURATION + "MINUTES]\n"
+            + "- " + "[" + PREFIX_OCCASION + "OCCASION]...\n\n"
+            + "Example:\n" + COMMAND_WORD + " "
+            + PREFIX_NAME + "John Doe "
+            + PREFIX_PHONE + "98765432 "
+            + PREFIX_EMAIL + "johnd@example.com "
+            + PREFIX_NUMBER_OF_DINERS + "5 "
+            + PREFIX_DATE_TIME + "2025-04-28 1800";
+    public static final String MESSAGE_SUCCESS = "Added to the waitlist, at position %2$d for this date-time:\n%1$s";
+    public static final String MESSAGE_ALREADY_WAITLISTED =
+            "This customer (same email or phone) is already on the waitlist for the chosen date-time.";
+    public static final String MESSAGE_HAS_ROOM =
+            "There is still room for this party at the chosen date-time. Use the 'add' command to book it.";
+    public static final String MESSAGE_LIST = "Waitlist:";
+    public static final String MESSAGE_EMPTY_WAITLIST = "The waitlist is empty.";
+    public static final String MESSAGE_PROMOTED =
+            "\n%1$s (%2$d diner(s)) has been booked from the waitlist for %3$s.";
+
+    private final Reservation party;
+
+    /**
+     * Creates a WaitlistCommand that lists the waitlist.
+     */
+    public WaitlistCommand() {
+        party = null;
+    }
+
+    /**
+     * Creates a WaitlistCommand to put {@code party} on the waitlist.
+     */
+    public WaitlistCommand(Reservation party) {
+        requireNonNull(party);
+        this.party = party;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (party == null) {
+            return new CommandResult(formatWaitlist(model.getWaitlist()));
+        }
+
+        if (model.hasReservation(party)) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_RESERVATION);
+        }
+        if (model.isWaitlisted(party)) {
+            throw new CommandException(MESSAGE_ALREADY_WAITLISTED);
+        }
+        if (model.canSeat(party)) {
+            throw new CommandException(MESSAGE_HAS_ROOM);
+        }
+
+        WaitlistEntry entry = new WaitlistEntry(party, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        model.addToWaitlist(entry);
+        long position = model.getWaitlist().stream()
+                .filter(waiting -> waiting.getDateTime().equals(party.getDateTime()))
+                .takeWhile(waiting -> !waiting.equals(entry))
+                .count() + 1;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(party), position));
+    }
+
+    /**
+     * Returns the waitlist as numbered lines, in the order used by {@code unwait}.
+     */
+    private static String formatWaitlist(List<WaitlistEntry> waitlist) {
+        if (waitlist.isEmpty()) {
+            return MESSAGE_EMPTY_WAITLIST;
+        }
+        StringBuilder message = new StringBuilder(MESSAGE_LIST);
+        for (int i = 0; i < waitlist.size(); i++) {
+            Reservation waiting = waitlist.get(i).getParty();
+            message.append(String.format("\n%d. %s (%d diner(s)) for %s", i + 1, waiting.getName().fullName,
+                    waiting.getDiners().getCount(), waiting.getDateTime()));
+        }
+        return message.toString();
+    }
+
+    /**
+     * Returns a line for each of the {@code promoted} reservations, to be added to the result of a command that
+     * freed their places.
+     */
+    public static String formatPromoted(List<Reservation> promoted) {
+        StringBuilder message = new StringBuilder();
+        for (Reservation reservation : promoted) {
+            message.append(String.format(MESSAGE_PROMOTED, reservation.getName().fullName,
+                    reservation.getDiners().getCount(), reservation.getDateTime()));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean isMutating() {
+        return party != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WaitlistCommand)) {
+            return false;
+        }
+
+        WaitlistCommand otherWaitlistCommand = (WaitlistCommand) other;
+        return Objects.equals(party, otherWaitlistCommand.party);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("party", party)
+                .toString();
+    }
+}
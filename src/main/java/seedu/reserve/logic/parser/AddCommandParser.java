@@ -2,6 +2,7 @@ package seedu.reserve.logic.parser;
 
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
@@ -16,10 +17,13 @@ import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.occasion.Occasion;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.Preference;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.table.TableAssignment;
 
 /**
  * Parses input arguments and creates a new AddCommand object.
@@ -34,7 +38,7 @@ public class AddCommandParser implements Parser<AddCommand> {
     public AddCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
             ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME, PREFIX_OCCASION);
+                PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME, PREFIX_DURATION, PREFIX_OCCASION);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
             PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME)
@@ -42,20 +46,29 @@ public class AddCommandParser implements Parser<AddCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
         }
 
+        return new AddCommand(parseReservation(argMultimap));
+    }
+
+    /**
+     * Parses the reservation given by {@code argMultimap}, in which every mandatory prefix of the AddCommand is
+     * present.
+     * @throws ParseException if any of the values are invalid
+     */
+    static Reservation parseReservation(ArgumentMultimap argMultimap) throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-            PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME);
+            PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME, PREFIX_DURATION);
         Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
         Diners diners = ParserUtil.parseDiners(argMultimap.getValue(PREFIX_NUMBER_OF_DINERS).get());
         DateTime dateTime = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATE_TIME).get());
+        Duration duration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+            ? ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get())
+            : Duration.forParty(diners);
         Set<Occasion> occasionList = ParserUtil.parseOccasions(argMultimap.getAllValues(PREFIX_OCCASION));
 
-        Reservation reservation = new Reservation(name, phone, email, diners, dateTime, occasionList);
-
-        return new AddCommand(reservation);
+        return new Reservation(name, phone, email, diners, dateTime, duration, occasionList,
+            new Preference("None"), TableAssignment.NONE);
     }
 
-
-
 }
@@ -3,8 +3,8 @@ package seedu.reserve.logic.parser;
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import javafx.util.Pair;
-import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.logic.commands.DeleteCommand;
+import seedu.reserve.logic.commands.ReservationTarget;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 
 /**
@@ -20,7 +20,7 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
     public DeleteCommand parse(String args) throws ParseException {
         try {
 
-            Pair<Index, Boolean> parsedArgs = ParserUtil.parseDeleteArgs(args);
+            Pair<ReservationTarget, Boolean> parsedArgs = ParserUtil.parseDeleteArgs(args);
 
             return new DeleteCommand(parsedArgs.getKey(), parsedArgs.getValue());
 
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
@@ -15,11 +16,12 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.commons.util.StringUtil;
 import seedu.reserve.logic.commands.EditCommand;
+import seedu.reserve.logic.commands.ReservationTarget;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.ReservationId;
 
 /**
  * Parses input arguments and creates a new EditCommand object
@@ -35,25 +37,30 @@ public class EditCommandParser implements Parser<EditCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_DATE_TIME,
-                        PREFIX_NUMBER_OF_DINERS, PREFIX_OCCASION);
+                        PREFIX_NUMBER_OF_DINERS, PREFIX_DURATION, PREFIX_OCCASION);
 
-        Index index;
+        ReservationTarget target;
+        String parse = argMultimap.getPreamble();
 
         try {
-            String parse = argMultimap.getPreamble();
-
-            if (!StringUtil.isInteger(parse)) {
+            if (parse.startsWith(ReservationId.PREFIX)) {
+                target = ReservationTarget.ofId(ParserUtil.parseReservationId(parse));
+            } else if (!StringUtil.isInteger(parse)) {
                 throw new NumberFormatException();
+            } else {
+                target = ReservationTarget.ofIndex(ParserUtil.parseIndex(parse));
             }
-            index = ParserUtil.parseIndex(parse);
         } catch (NumberFormatException e) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE));
         } catch (ParseException pe) {
+            if (parse.startsWith(ReservationId.PREFIX)) {
+                throw pe;
+            }
             throw new ParseException(MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX, pe);
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                PREFIX_DATE_TIME, PREFIX_NUMBER_OF_DINERS);
+                PREFIX_DATE_TIME, PREFIX_NUMBER_OF_DINERS, PREFIX_DURATION);
 
         EditCommand.EditReservationDescriptor editReservationDescriptor = new EditCommand.EditReservationDescriptor();
 
@@ -75,6 +82,10 @@ public class EditCommandParser implements Parser<EditCommand> {
             editReservationDescriptor
                     .setDateTime(ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATE_TIME).get()));
         }
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            editReservationDescriptor
+                    .setDuration(ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get()));
+        }
         parseOccasionsForEdit(argMultimap.getAllValues(PREFIX_OCCASION))
             .ifPresent(editReservationDescriptor::setOccasions);
 
@@ -82,7 +93,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditCommand(index, editReservationDescriptor);
+        return new EditCommand(target, editReservationDescriptor);
     }
 
     /**
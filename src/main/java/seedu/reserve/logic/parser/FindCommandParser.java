@@ -31,6 +31,15 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        boolean isFuzzy = trimmedArgs.startsWith(FindCommand.FUZZY_MARKER);
+        if (isFuzzy) {
+            trimmedArgs = trimmedArgs.substring(FindCommand.FUZZY_MARKER.length()).trim();
+            if (trimmedArgs.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
         List<String> validKeywords = new ArrayList<>();
 
@@ -48,7 +57,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             validKeywords.add(trimmedKeyword.toLowerCase());
         }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(validKeywords));
+        return new FindCommand(new NameContainsKeywordsPredicate(validKeywords), isFuzzy);
     }
 
 }
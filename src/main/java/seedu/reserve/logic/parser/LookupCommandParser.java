@@ -0,0 +1,37 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import seedu.reserve.logic.commands.LookupCommand;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public LookupCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL);
+
+        boolean hasPhone = argMultimap.getValue(PREFIX_PHONE).isPresent();
+        boolean hasEmail = argMultimap.getValue(PREFIX_EMAIL).isPresent();
+        if (hasPhone == hasEmail || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE, PREFIX_EMAIL);
+        if (hasPhone) {
+            return new LookupCommand(ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get()));
+        }
+        return new LookupCommand(ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get()));
+    }
+}
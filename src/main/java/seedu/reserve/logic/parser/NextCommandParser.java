@@ -0,0 +1,56 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
+import static seedu.reserve.logic.parser.ParserUtil.arePrefixesPresent;
+
+import java.time.LocalDateTime;
+
+import seedu.reserve.commons.util.StringUtil;
+import seedu.reserve.logic.commands.NextCommand;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Diners;
+
+/**
+ * Parses input arguments and creates a new NextCommand object
+ */
+public class NextCommandParser implements Parser<NextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextCommand
+     * and returns a NextCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public NextCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_NUMBER_OF_DINERS)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME);
+        int slotCount = parseSlotCount(argMultimap.getPreamble());
+        Diners diners = ParserUtil.parseDiners(argMultimap.getValue(PREFIX_NUMBER_OF_DINERS).get());
+        LocalDateTime searchStart = argMultimap.getValue(PREFIX_DATE_TIME).isPresent()
+                ? ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_DATE_TIME).get()).value
+                : DateTime.getEarliestBookingDateTime();
+
+        return new NextCommand(diners, searchStart, slotCount);
+    }
+
+    private static int parseSlotCount(String preamble) throws ParseException {
+        if (preamble.isEmpty()) {
+            return NextCommand.DEFAULT_SLOT_COUNT;
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(preamble)
+                || Integer.parseInt(preamble) > NextCommand.MAX_SLOT_COUNT) {
+            throw new ParseException(NextCommand.MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(preamble);
+    }
+}
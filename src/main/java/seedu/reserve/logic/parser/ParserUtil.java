@@ -13,13 +13,16 @@ import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.commons.util.StringUtil;
 import seedu.reserve.logic.commands.ClearCommand;
 import seedu.reserve.logic.commands.DeleteCommand;
+import seedu.reserve.logic.commands.ReservationTarget;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.occasion.Occasion;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.ReservationId;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -46,15 +49,45 @@ public class ParserUtil {
     }
 
     /**
-     * Parses the given {@code args} string for a delete command and extracts the index
+     * Parses {@code id} into a {@code ReservationId}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code id} is invalid.
+     */
+    public static ReservationId parseReservationId(String id) throws ParseException {
+        requireNonNull(id);
+        String trimmedId = id.trim();
+        if (!ReservationId.isValidId(trimmedId)) {
+            throw new ParseException(ReservationId.MESSAGE_CONSTRAINTS);
+        }
+        return new ReservationId(trimmedId);
+    }
+
+    /**
+     * Parses {@code target} into a {@code ReservationTarget}: a reservation ID if it starts with
+     * {@code ReservationId.PREFIX}, and a one-based index otherwise.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code target} is not a valid index or ID.
+     */
+    public static ReservationTarget parseReservationTarget(String target) throws ParseException {
+        requireNonNull(target);
+        String trimmedTarget = target.trim();
+        if (trimmedTarget.startsWith(ReservationId.PREFIX)) {
+            return ReservationTarget.ofId(parseReservationId(trimmedTarget));
+        }
+        return ReservationTarget.ofIndex(parseIndex(trimmedTarget));
+    }
+
+    /**
+     * Parses the given {@code args} string for a delete command and extracts the index or ID
      * and confirmation flag.
      *
-     * @param args The input string containing the index and optional confirmation keyword.
-     * @return A {@code Pair} containing the parsed {@code Index} and a {@code Boolean}
+     * @param args The input string containing the index or ID and optional confirmation keyword.
+     * @return A {@code Pair} containing the parsed {@code ReservationTarget} and a {@code Boolean}
      *         indicating whether the delete action is confirmed.
-     * @throws ParseException If the input format is invalid or the index is not a valid number.
+     * @throws ParseException If the input format is invalid or the index or ID is not valid.
      */
-    public static Pair<Index, Boolean> parseDeleteArgs(String args) throws ParseException {
+    public static Pair<ReservationTarget, Boolean> parseDeleteArgs(String args) throws ParseException {
         requireNonNull(args);
 
         String trimmedArgs = args.trim();
@@ -65,10 +98,10 @@ public class ParserUtil {
         String[] splitArgs = trimmedArgs.split("\\s+");
         assert splitArgs.length > 0 : "splitArgs should have at least one element";
 
-        Index index = parseIndex(splitArgs[INDEX_POSITION]);
+        ReservationTarget target = parseReservationTarget(splitArgs[INDEX_POSITION]);
         boolean isConfirmed = splitArgs.length == 2 && splitArgs[CONFIRMATION_POSITION].equals(CONFIRMATION_KEYWORD);
 
-        return new Pair<>(index, isConfirmed);
+        return new Pair<>(target, isConfirmed);
     }
 
     /**
@@ -178,6 +211,21 @@ public class ParserUtil {
         return new DateTime(trimmedDateTime);
     }
 
+    /**
+     * Parses a {@code String duration} into a {@code Duration}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is invalid.
+     */
+    public static Duration parseDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!Duration.isValidDuration(trimmedDuration)) {
+            throw new ParseException(Duration.MESSAGE_CONSTRAINTS);
+        }
+        return new Duration(trimmedDuration);
+    }
+
     /**
      * Parses a {@code String dateTime} into a {@code DateTime}.
      * Leading and trailing whitespaces will be trimmed.
@@ -3,10 +3,12 @@ package seedu.reserve.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.reserve.logic.parser.ParserUtil.parsePrefIndex;
+import static seedu.reserve.logic.parser.ParserUtil.parseReservationId;
 
-import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.logic.commands.PreferenceCommand;
+import seedu.reserve.logic.commands.ReservationTarget;
 import seedu.reserve.logic.parser.exceptions.ParseException;
+import seedu.reserve.model.reservation.ReservationId;
 
 /**
  * Parses input arguments and creates a new PreferenceCommand object
@@ -32,9 +34,11 @@ public class PreferenceParser implements Parser<PreferenceCommand> {
         validateArgsLength(parts);
 
         String subCommand = validateAndExtractSubCommand(parts[0]);
-        Index index = parsePrefIndex(parts[1]);
+        ReservationTarget target = parts[1].startsWith(ReservationId.PREFIX)
+                ? ReservationTarget.ofId(parseReservationId(parts[1]))
+                : ReservationTarget.ofIndex(parsePrefIndex(parts[1]));
 
-        return createCommand(subCommand, index, parts);
+        return createCommand(subCommand, target, parts);
     }
 
     /**
@@ -63,10 +67,11 @@ public class PreferenceParser implements Parser<PreferenceCommand> {
      * Creates the appropriate PreferenceCommand based on the subcommand.
      * @throws ParseException if the subcommand is invalid or required arguments are missing
      */
-    private PreferenceCommand createCommand(String subCommand, Index index, String[] parts) throws ParseException {
+    private PreferenceCommand createCommand(String subCommand, ReservationTarget target, String[] parts)
+            throws ParseException {
         switch (subCommand) {
         case "save":
-            return createSaveCommand(index, parts);
+            return createSaveCommand(target, parts);
         default:
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, PreferenceCommand.MESSAGE_USAGE));
@@ -77,7 +82,7 @@ public class PreferenceParser implements Parser<PreferenceCommand> {
      * Creates a save preference command.
      * @throws ParseException if the preference text is missing or too long
      */
-    private PreferenceCommand createSaveCommand(Index index, String[] parts) throws ParseException {
+    private PreferenceCommand createSaveCommand(ReservationTarget target, String[] parts) throws ParseException {
         if (parts.length < 3) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, PreferenceCommand.MESSAGE_USAGE));
@@ -87,7 +92,7 @@ public class PreferenceParser implements Parser<PreferenceCommand> {
         validatePreferenceLength(preference);
         validatePreferenceContent(preference);
 
-        return new PreferenceCommand(index, preference);
+        return new PreferenceCommand(target, preference);
     }
 
     /**
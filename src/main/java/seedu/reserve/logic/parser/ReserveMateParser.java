@@ -18,9 +18,13 @@ import seedu.reserve.logic.commands.FindCommand;
 import seedu.reserve.logic.commands.FreeCommand;
 import seedu.reserve.logic.commands.HelpCommand;
 import seedu.reserve.logic.commands.ListCommand;
+import seedu.reserve.logic.commands.LookupCommand;
+import seedu.reserve.logic.commands.NextCommand;
 import seedu.reserve.logic.commands.PreferenceCommand;
 import seedu.reserve.logic.commands.ShowCommand;
 import seedu.reserve.logic.commands.StatisticsCommand;
+import seedu.reserve.logic.commands.UnwaitCommand;
+import seedu.reserve.logic.commands.WaitlistCommand;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 
 /**
@@ -87,6 +91,12 @@ public class ReserveMateParser {
         case FreeCommand.COMMAND_WORD:
             return new FreeCommandParser().parse(arguments);
 
+        case NextCommand.COMMAND_WORD:
+            return new NextCommandParser().parse(arguments);
+
+        case LookupCommand.COMMAND_WORD:
+            return new LookupCommandParser().parse(arguments);
+
         case FilterCommand.COMMAND_WORD:
             return new FilterCommandParser().parse(arguments);
 
@@ -96,6 +106,12 @@ public class ReserveMateParser {
         case PreferenceCommand.COMMAND_WORD:
             return new PreferenceParser().parse(arguments);
 
+        case WaitlistCommand.COMMAND_WORD:
+            return new WaitlistCommandParser().parse(arguments);
+
+        case UnwaitCommand.COMMAND_WORD:
+            return new UnwaitCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -2,9 +2,9 @@ package seedu.reserve.logic.parser;
 
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX;
 
-import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.logic.commands.ShowCommand;
 import seedu.reserve.logic.parser.exceptions.ParseException;
+import seedu.reserve.model.reservation.ReservationId;
 
 /**
  * Parses input arguments and creates a new ShowCommand object
@@ -18,9 +18,11 @@ public class ShowCommandParser implements Parser<ShowCommand> {
      */
     public ShowCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new ShowCommand(index);
+            return new ShowCommand(ParserUtil.parseReservationTarget(args));
         } catch (ParseException pe) {
+            if (args.trim().startsWith(ReservationId.PREFIX)) {
+                throw pe;
+            }
             throw new ParseException(
                     MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX, pe);
         }
@@ -17,10 +17,15 @@ public class StatsCommandParser implements Parser<StatisticsCommand> {
      * @throws ParseException If the user input does not conform to the expected format.
      */
     public StatisticsCommand parse(String args) throws ParseException {
-        if (!args.trim().isEmpty()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatisticsCommand.MESSAGE_USAGE));
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatisticsCommand();
         }
-        return new StatisticsCommand();
+
+        return StatisticsCommand.Dimension.fromKeyword(trimmedArgs)
+                .map(StatisticsCommand::new)
+                .orElseThrow(() -> new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatisticsCommand.MESSAGE_USAGE)));
     }
 
 }
@@ -0,0 +1,27 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.reserve.commons.core.index.Index;
+import seedu.reserve.logic.commands.UnwaitCommand;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnwaitCommand object
+ */
+public class UnwaitCommandParser implements Parser<UnwaitCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnwaitCommand
+     * and returns an UnwaitCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnwaitCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new UnwaitCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnwaitCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_OCCASION;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.reserve.logic.parser.ParserUtil.arePrefixesPresent;
+
+import seedu.reserve.logic.commands.WaitlistCommand;
+import seedu.reserve.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new WaitlistCommand object.
+ */
+public class WaitlistCommandParser implements Parser<WaitlistCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WaitlistCommand
+     * and returns a WaitlistCommand object for execution.
+     * The party is given with the same prefixes as for the AddCommand. Without any arguments, the waitlist is listed.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WaitlistCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new WaitlistCommand();
+        }
+
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME, PREFIX_DURATION, PREFIX_OCCASION);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_NUMBER_OF_DINERS, PREFIX_DATE_TIME)
+            || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WaitlistCommand.MESSAGE_USAGE));
+        }
+
+        return new WaitlistCommand(AddCommandParser.parseReservation(argMultimap));
+    }
+
+}
@@ -0,0 +1,112 @@
+package seedu.reserve.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.DateTime;
+
+/**
+ * A summary of the reservations of one customer, as seen from one of their reservations: how many reservations
+ * they have, their usual party size, the occasions of their last reservation with any before that one, and the
+ * preferences they have asked for.
+ * Guarantees: immutable.
+ */
+public class CustomerProfile {
+
+    private final int reservationCount;
+    private final int usualPartySize;
+    private final DateTime lastOccasionDateTime;
+    private final List<Occasion> lastOccasions;
+    private final List<String> preferences;
+
+    /**
+     * Creates a profile. {@code lastOccasionDateTime} is null if no earlier reservation has an occasion, in which
+     * case {@code lastOccasions} must be empty.
+     */
+    public CustomerProfile(int reservationCount, int usualPartySize, DateTime lastOccasionDateTime,
+            List<Occasion> lastOccasions, List<String> preferences) {
+        requireNonNull(lastOccasions);
+        requireNonNull(preferences);
+        assert (lastOccasionDateTime == null) == lastOccasions.isEmpty();
+        this.reservationCount = reservationCount;
+        this.usualPartySize = usualPartySize;
+        this.lastOccasionDateTime = lastOccasionDateTime;
+        this.lastOccasions = List.copyOf(lastOccasions);
+        this.preferences = List.copyOf(preferences);
+    }
+
+    /**
+     * Returns the number of reservations of the customer, including the one the profile is seen from.
+     */
+    public int getReservationCount() {
+        return reservationCount;
+    }
+
+    /**
+     * Returns the party size the customer books most often, the larger one on a tie.
+     */
+    public int getUsualPartySize() {
+        return usualPartySize;
+    }
+
+    /**
+     * Returns the date-time of the last reservation with an occasion before the one the profile is seen from.
+     */
+    public Optional<DateTime> getLastOccasionDateTime() {
+        return Optional.ofNullable(lastOccasionDateTime);
+    }
+
+    /**
+     * Returns the occasions of the reservation at {@link #getLastOccasionDateTime()}, in alphabetical order.
+     */
+    public List<Occasion> getLastOccasions() {
+        return lastOccasions;
+    }
+
+    /**
+     * Returns the preferences the customer has given, most often given first.
+     */
+    public List<String> getPreferences() {
+        return preferences;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CustomerProfile)) {
+            return false;
+        }
+
+        CustomerProfile otherProfile = (CustomerProfile) other;
+        return reservationCount == otherProfile.reservationCount
+                && usualPartySize == otherProfile.usualPartySize
+                && Objects.equals(lastOccasionDateTime, otherProfile.lastOccasionDateTime)
+                && lastOccasions.equals(otherProfile.lastOccasions)
+                && preferences.equals(otherProfile.preferences);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservationCount, usualPartySize, lastOccasionDateTime, lastOccasions, preferences);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("reservationCount", reservationCount)
+                .add("usualPartySize", usualPartySize)
+                .add("lastOccasionDateTime", lastOccasionDateTime)
+                .add("lastOccasions", lastOccasions)
+                .add("preferences", preferences)
+                .toString();
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.reserve.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * The history of the customers of the reservation book, for recognising repeat guests.
+ * A customer is known by their phone number or email, as in {@link Reservation#isSameReservation(Reservation)},
+ * so the reservations of the customer of a reservation are those with its phone number or its email.
+ * Tallies of those reservations are kept for every phone number, every email and every pair of the two, and the
+ * tallies of a customer are added up from the first two less the third, so reading a {@link CustomerProfile} never
+ * needs a pass over the reservations. Like the {@link ReservationAnalytics}, the tallies are updated by
+ * {@code ReserveMate} on every change, and they are rebuilt from the reservations when the data file is loaded.
+ */
+public class CustomerRegistry {
+
+    private static final String NO_PREFERENCE = "None";
+    private static final Tally EMPTY_TALLY = new Tally();
+
+    private final Map<Phone, Tally> talliesByPhone = new HashMap<>();
+    private final Map<Email, Tally> talliesByEmail = new HashMap<>();
+    private final Map<Contact, Tally> talliesByContact = new HashMap<>();
+
+    //// tally updates, used by ReserveMate
+
+    void add(Reservation reservation) {
+        update(reservation, 1);
+    }
+
+    void addAll(List<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            update(reservation, 1);
+        }
+    }
+
+    void remove(Reservation reservation) {
+        update(reservation, -1);
+    }
+
+    void replace(Reservation target, Reservation editedReservation) {
+        update(target, -1);
+        update(editedReservation, 1);
+    }
+
+    void reset(List<Reservation> reservations) {
+        talliesByPhone.clear();
+        talliesByEmail.clear();
+        talliesByContact.clear();
+        addAll(reservations);
+    }
+
+    private void update(Reservation reservation, int sign) {
+        update(talliesByPhone, reservation.getPhone(), reservation, sign);
+        update(talliesByEmail, reservation.getEmail(), reservation, sign);
+        update(talliesByContact, new Contact(reservation.getPhone(), reservation.getEmail()), reservation, sign);
+    }
+
+    private static <K> void update(Map<K, Tally> tallies, K key, Reservation reservation, int sign) {
+        Tally tally = tallies.computeIfAbsent(key, unused -> new Tally());
+        tally.update(reservation, sign);
+        if (tally.reservationCount == 0) {
+            tallies.remove(key);
+        }
+    }
+
+    //// profile reads
+
+    /**
+     * Returns the profile of the customer of {@code reservation}, which must be in the reservation book, with the
+     * last occasion taken from the reservations before it.
+     */
+    public CustomerProfile getProfile(Reservation reservation) {
+        requireNonNull(reservation);
+        Tally byPhone = talliesByPhone.getOrDefault(reservation.getPhone(), EMPTY_TALLY);
+        Tally byEmail = talliesByEmail.getOrDefault(reservation.getEmail(), EMPTY_TALLY);
+        Tally byBoth = talliesByContact.getOrDefault(
+                new Contact(reservation.getPhone(), reservation.getEmail()), EMPTY_TALLY);
+        assert byBoth.reservationCount > 0 : "The reservation is not in the reservation book";
+
+        int reservationCount = byPhone.reservationCount + byEmail.reservationCount - byBoth.reservationCount;
+        Map<Integer, Integer> reservationsByPartySize =
+                combine(byPhone.reservationsByPartySize, byEmail.reservationsByPartySize,
+                        byBoth.reservationsByPartySize);
+        int usualPartySize = reservationsByPartySize.entrySet().stream()
+                .max(Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .orElseThrow()
+                .getKey();
+        List<String> preferences = combine(byPhone.reservationsByPreference, byEmail.reservationsByPreference,
+                byBoth.reservationsByPreference).entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        // there is at most one reservation at a time for a phone number or email, so only the latest of the two
+        // counts, and both if they are at the same time
+        DateTime before = reservation.getDateTime();
+        DateTime byPhoneLast = byPhone.occasionsByDateTime.lowerKey(before);
+        DateTime byEmailLast = byEmail.occasionsByDateTime.lowerKey(before);
+        DateTime lastOccasionDateTime = later(byPhoneLast, byEmailLast);
+        Set<Occasion> lastOccasions = new TreeSet<>(Comparator.comparing(occasion -> occasion.occasionName));
+        if (lastOccasionDateTime != null) {
+            lastOccasions.addAll(byPhone.occasionsByDateTime.getOrDefault(lastOccasionDateTime, Set.of()));
+            lastOccasions.addAll(byEmail.occasionsByDateTime.getOrDefault(lastOccasionDateTime, Set.of()));
+        }
+
+        return new CustomerProfile(reservationCount, usualPartySize, lastOccasionDateTime,
+                new ArrayList<>(lastOccasions), preferences);
+    }
+
+    /**
+     * Returns the later of two date-times, either of which may be null.
+     */
+    private static DateTime later(DateTime first, DateTime second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    /**
+     * Returns the counts of {@code byPhone} and {@code byEmail} added up, less those of {@code byBoth}, leaving out
+     * the keys that end up with none.
+     */
+    private static <K> Map<K, Integer> combine(Map<K, Integer> byPhone, Map<K, Integer> byEmail,
+            Map<K, Integer> byBoth) {
+        Map<K, Integer> combined = new HashMap<>(byPhone);
+        byEmail.forEach((key, count) -> combined.merge(key, count, Integer::sum));
+        byBoth.forEach((key, count) -> combined.merge(key, -count, Integer::sum));
+        combined.values().removeIf(count -> count == 0);
+        return combined;
+    }
+
+    private record Contact(Phone phone, Email email) {}
+
+    /**
+     * Counts of the reservations with one phone number, email, or pair of the two.
+     */
+    private static class Tally {
+        private int reservationCount;
+        private final Map<Integer, Integer> reservationsByPartySize = new HashMap<>();
+        private final Map<String, Integer> reservationsByPreference = new HashMap<>();
+
+        /** Occasions of the reservations with any, by their date-time, which no two of the reservations share. */
+        private final NavigableMap<DateTime, Set<Occasion>> occasionsByDateTime = new TreeMap<>();
+
+        void update(Reservation reservation, int sign) {
+            reservationCount += sign;
+            addTo(reservationsByPartySize, reservation.getDiners().getCount(), sign);
+            String preference = reservation.getPreference().toString();
+            if (!preference.isEmpty() && !preference.equals(NO_PREFERENCE)) {
+                addTo(reservationsByPreference, preference, sign);
+            }
+            if (!reservation.getOccasions().isEmpty()) {
+                if (sign > 0) {
+                    occasionsByDateTime.put(reservation.getDateTime(), reservation.getOccasions());
+                } else {
+                    occasionsByDateTime.remove(reservation.getDateTime());
+                }
+            }
+        }
+
+        private static <K> void addTo(Map<K, Integer> counts, K key, int sign) {
+            counts.merge(key, sign, (count, change) -> count + change == 0 ? null : count + change);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.reserve.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Counts the reservations in the reservation book by party size.
+ * The counters are kept up to date by {@code ReserveMate} as reservations are added, removed and edited, so
+ * reading them never needs a pass over the reservation list. Instances handed out of the model are snapshots,
+ * which may be taken from any thread.
+ */
+public class DinerStatistics {
+
+    /** Number of reservations for each party size, indexed by the number of diners. */
+    private final int[] reservationsByPartySize;
+    private int reservationCount;
+    private long dinerCount;
+
+    /**
+     * Creates statistics with all counters at zero.
+     */
+    public DinerStatistics() {
+        reservationsByPartySize = new int[Diners.MAX_DINERS + 1];
+    }
+
+    /**
+     * Creates a snapshot of {@code toBeCopied}.
+     */
+    public DinerStatistics(DinerStatistics toBeCopied) {
+        requireNonNull(toBeCopied);
+        synchronized (toBeCopied) {
+            reservationsByPartySize = toBeCopied.reservationsByPartySize.clone();
+            reservationCount = toBeCopied.reservationCount;
+            dinerCount = toBeCopied.dinerCount;
+        }
+    }
+
+    //// counter updates, used by ReserveMate
+
+    synchronized void add(Reservation reservation) {
+        int partySize = reservation.getDiners().getCount();
+        reservationsByPartySize[partySize]++;
+        reservationCount++;
+        dinerCount += partySize;
+    }
+
+    synchronized void addAll(List<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            add(reservation);
+        }
+    }
+
+    synchronized void remove(Reservation reservation) {
+        int partySize = reservation.getDiners().getCount();
+        reservationsByPartySize[partySize]--;
+        reservationCount--;
+        dinerCount -= partySize;
+    }
+
+    synchronized void replace(Reservation target, Reservation editedReservation) {
+        remove(target);
+        add(editedReservation);
+    }
+
+    synchronized void reset(DinerStatistics newData) {
+        DinerStatistics snapshot = new DinerStatistics(newData);
+        System.arraycopy(snapshot.reservationsByPartySize, 0, reservationsByPartySize, 0,
+                reservationsByPartySize.length);
+        reservationCount = snapshot.reservationCount;
+        dinerCount = snapshot.dinerCount;
+    }
+
+    synchronized void reset(List<Reservation> reservations) {
+        Arrays.fill(reservationsByPartySize, 0);
+        reservationCount = 0;
+        dinerCount = 0;
+        addAll(reservations);
+    }
+
+    //// counter reads
+
+    /**
+     * Returns the number of reservations for a party of {@code partySize}.
+     */
+    public int getReservationCount(int partySize) {
+        if (partySize < Diners.MIN_DINERS || partySize > Diners.MAX_DINERS) {
+            return 0;
+        }
+        return reservationsByPartySize[partySize];
+    }
+
+    /**
+     * Returns the number of reservations counted.
+     */
+    public int getReservationCount() {
+        return reservationCount;
+    }
+
+    /**
+     * Returns the number of diners over all reservations counted.
+     */
+    public long getDinerCount() {
+        return dinerCount;
+    }
+
+    /**
+     * Returns the number of reservations for every valid party size, keyed by the party size as a string.
+     */
+    public HashMap<String, Integer> toHashMap() {
+        HashMap<String, Integer> reservationsPerDiner = new HashMap<>();
+        for (int partySize = Diners.MIN_DINERS; partySize <= Diners.MAX_DINERS; partySize++) {
+            reservationsPerDiner.put(String.valueOf(partySize), reservationsByPartySize[partySize]);
+        }
+        return reservationsPerDiner;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DinerStatistics)) {
+            return false;
+        }
+
+        DinerStatistics otherStatistics = (DinerStatistics) other;
+        return Arrays.equals(reservationsByPartySize, otherStatistics.reservationsByPartySize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(reservationsByPartySize);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("reservationsByPartySize", Arrays.toString(reservationsByPartySize))
+                .toString();
+    }
+}
@@ -1,12 +1,24 @@
 package seedu.reserve.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.reserve.commons.core.GuiSettings;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Duration;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.model.table.FloorPlan;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 
 /**
  * The API of the Model component.
@@ -53,19 +65,61 @@ public interface Model {
     /** Returns the ReserveMate */
     ReadOnlyReserveMate getReserveMate();
 
+    /**
+     * Returns the number of changes made to the reservation book so far.
+     */
+    long getReserveMateModificationCount();
+
     /**
      * Returns true if a reservation with the same identity as {@code reservation} exists in the reservation book.
      */
     boolean hasReservation(Reservation reservation);
 
+    /**
+     * Returns true if a reservation other than {@code excluded} with the same identity as {@code reservation}
+     * exists in the reservation book.
+     */
+    boolean hasReservationOtherThan(Reservation reservation, Reservation excluded);
+
+    /**
+     * Returns the reservation with the ID {@code id}, if there is one in the reservation book.
+     */
+    Optional<Reservation> getReservationById(ReservationId id);
+
+    /**
+     * Returns the IDs of the reservations whose names contain the word {@code token}, ignoring case, as an
+     * unmodifiable view that follows later changes to the reservation book, or an empty set if no reservation has
+     * had the word in its name.
+     */
+    Set<ReservationId> getReservationIdsWithNameToken(String token);
+
+    /**
+     * Returns at most {@code limit} of the words in reservation names that start with {@code query} or are within a
+     * mistake or two of it, ignoring case, closest first.
+     */
+    List<String> findClosestNameTokens(String query, int limit);
+
+    /**
+     * Returns the IDs of the reservations with the phone number {@code phone}, as an unmodifiable view that follows
+     * later changes to the reservation book, or an empty set if no reservation has had the phone number.
+     */
+    Set<ReservationId> getReservationIdsWithPhone(Phone phone);
+
+    /**
+     * Returns the IDs of the reservations with the email {@code email}, ignoring case, as an unmodifiable view that
+     * follows later changes to the reservation book, or an empty set if no reservation has had the email.
+     */
+    Set<ReservationId> getReservationIdsWithEmail(Email email);
+
     /**
      * Deletes the given reservation.
      * The reservation must exist in the reservation book.
+     * The other reservations in its hour may be moved to free tables.
      */
     void deleteReservation(Reservation target);
 
     /**
-     * Adds the given reservation.
+     * Adds the given reservation, seated at a table of the floor plan if one is free.
      * {@code reservation} must not already exist in the reservation book.
      */
     void addReservation(Reservation reservation);
@@ -75,15 +129,125 @@ public interface Model {
      * {@code target} must exist in the reservation book.
      * The reservation identity of {@code editedReservation} must not be the same as
      * another existing reservation in the reservation book.
+     * The edited reservation is seated at a table of the floor plan if one is free.
      */
     void setReservation(Reservation target, Reservation editedReservation);
 
+    /**
+     * Returns true if {@code party} can still be booked within the seating capacity in every hour it would be
+     * held in.
+     */
+    boolean canSeat(Reservation party);
+
+    /**
+     * Returns true if {@code party} can be booked in place of {@code replaced} within the seating capacity in every
+     * hour it would be held in. {@code replaced} is null if the party takes no reservation's place.
+     */
+    boolean canSeat(Reservation party, Reservation replaced);
+
+    /**
+     * Returns the fewest seats left in any hour {@code party} would be held in, once {@code replaced} has given up
+     * its place. {@code replaced} is null if the party takes no reservation's place.
+     */
+    int getSeatsLeft(Reservation party, Reservation replaced);
+
+    /**
+     * Returns true if a party with the same identity as {@code party} is waiting for its time slot.
+     */
+    boolean isWaitlisted(Reservation party);
+
+    /**
+     * Puts a party on the waitlist for its time slot.
+     * A party with the same identity must not already be waiting for that time slot.
+     */
+    void addToWaitlist(WaitlistEntry entry);
+
+    /**
+     * Removes {@code entry}, which must be on the waitlist.
+     */
+    void removeFromWaitlist(WaitlistEntry entry);
+
+    /**
+     * Returns the parties on the waitlist, with the earliest time slot first and each slot in priority order.
+     */
+    List<WaitlistEntry> getWaitlist();
+
+    /**
+     * Books the waiting parties that now fit within the seating capacity, out of those waiting for a time slot held
+     * at some time from {@code from} up to but not including {@code until}, and seats them at tables.
+     * Waiting parties that have since been booked some other way, or whose time slot has passed, are taken off the
+     * waitlist.
+     *
+     * @return the reservations booked, in the order they were booked.
+     */
+    List<Reservation> promoteWaitlisted(LocalDateTime from, LocalDateTime until);
+
+    /**
+     * Books every waiting party that now fits within the seating capacity, and seats them at tables.
+     *
+     * @return the reservations booked, in the order they were booked.
+     */
+    List<Reservation> promoteWaitlisted();
+
+    /**
+     * Returns the reservations held at some time from {@code from} up to but not including {@code until}, ordered
+     * by their start time.
+     */
+    List<Reservation> getOverlappingReservations(LocalDateTime from, LocalDateTime until);
+
+    /**
+     * Returns the booked hours of {@code date} as a mask, with bit {@code h} set if there is a reservation held
+     * during the hour from {@code h} o'clock.
+     */
+    int getOccupiedHours(LocalDate date);
+
+    /**
+     * Returns the number of diners booked at each hour of {@code date}.
+     */
+    int[] getCoversByHour(LocalDate date);
+
+    /**
+     * Returns the user prefs' seating capacity.
+     */
+    SeatingCapacity getSeatingCapacity();
+
+    /**
+     * Returns the user prefs' floor plan.
+     */
+    FloorPlan getFloorPlan();
+
+    /**
+     * Returns the hours of {@code date} that can still seat a party of {@code partySize} within the seating
+     * capacity as a mask, with bit {@code h} set if {@code h} o'clock can.
+     */
+    int getAvailableHours(LocalDate date, int partySize);
+
+    /**
+     * Returns up to {@code limit} hours at which a party of {@code partySize} can start a reservation lasting
+     * {@code duration} within the seating capacity, earliest first, from {@code from} up to and including
+     * {@code until}.
+     */
+    List<LocalDateTime> findAvailableHours(LocalDateTime from, LocalDateTime until, int partySize,
+                                           Duration duration, int limit);
+
     /** Returns an unmodifiable view of the filtered reservation list */
     ObservableList<Reservation> getFilteredReservationList();
 
-    /** Returns a HashMap of the reservation statistics */
+    /** Returns a HashMap of the number of reservations per party size */
     HashMap<String, Integer> getReservationStatistics();
 
+    /** Returns a snapshot of the number of reservations per party size */
+    DinerStatistics getDinerStatistics();
+
+    /** Returns a snapshot of the analytics rollups of the reservation book */
+    ReservationAnalytics getReservationAnalytics();
+
+    /**
+     * Returns the profile of the customer of {@code reservation}, who is known by its phone number or email.
+     * The reservation must exist in the reservation book.
+     */
+    CustomerProfile getCustomerProfile(Reservation reservation);
+
     /**
      * Updates the filter of the filtered reservation list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -91,7 +255,9 @@ public interface Model {
     void updateFilteredReservationList(Predicate<Reservation> predicate);
 
     /**
-     * Updates the reservation statistics in ReserveMate.
+     * Updates the filter of the filtered reservation list to show the reservations from {@code start} to
+     * {@code end} inclusive. The range is found by binary search, without testing every reservation.
+     * @throws NullPointerException if {@code start} or {@code end} is null.
      */
-    void updateReservationStatistics();
+    void updateFilteredReservationList(DateTime start, DateTime end);
 }
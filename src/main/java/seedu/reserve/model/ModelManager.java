@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,7 +17,15 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Duration;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.model.reservation.ReservationRangeList;
+import seedu.reserve.model.table.FloorPlan;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 
 /**
  * Represents the in-memory model of the reservation book data.
@@ -22,8 +35,8 @@ public class ModelManager implements Model {
 
     private final ReserveMate reserveMate;
     private final UserPrefs userPrefs;
+    private final ReservationRangeList rangedReservations;
     private final FilteredList<Reservation> filteredReservations;
-    private final HashMap<String, Integer> reservationStatistics;
 
     /**
      * Initializes a ModelManager with the given ReserveMate and userPrefs.
@@ -35,8 +48,8 @@ public class ModelManager implements Model {
 
         this.reserveMate = new ReserveMate(reserveMate);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredReservations = new FilteredList<>(this.reserveMate.getReservationList());
-        reservationStatistics = this.reserveMate.getSumOfReservationsPerDiner();
+        rangedReservations = new ReservationRangeList(this.reserveMate.getReservationList());
+        filteredReservations = new FilteredList<>(rangedReservations);
     }
 
     public ModelManager() {
@@ -83,7 +96,6 @@ public class ModelManager implements Model {
     @Override
     public void setReserveMate(ReadOnlyReserveMate reserveMate) {
         this.reserveMate.resetData(reserveMate);
-        updateReservationStatistics();
     }
 
     @Override
@@ -91,23 +103,64 @@ public class ModelManager implements Model {
         return reserveMate;
     }
 
+    @Override
+    public long getReserveMateModificationCount() {
+        return reserveMate.getModificationCount();
+    }
+
     @Override
     public boolean hasReservation(Reservation reservation) {
         requireNonNull(reservation);
         return reserveMate.hasReservation(reservation);
     }
 
+    @Override
+    public boolean hasReservationOtherThan(Reservation reservation, Reservation excluded) {
+        requireAllNonNull(reservation, excluded);
+        return reserveMate.hasReservationOtherThan(reservation, excluded);
+    }
+
+    @Override
+    public Optional<Reservation> getReservationById(ReservationId id) {
+        requireNonNull(id);
+        return reserveMate.getReservationById(id);
+    }
+
+    @Override
+    public Set<ReservationId> getReservationIdsWithNameToken(String token) {
+        requireNonNull(token);
+        return reserveMate.getReservationIdsWithNameToken(token);
+    }
+
+    @Override
+    public List<String> findClosestNameTokens(String query, int limit) {
+        requireNonNull(query);
+        return reserveMate.findClosestNameTokens(query, limit);
+    }
+
+    @Override
+    public Set<ReservationId> getReservationIdsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return reserveMate.getReservationIdsWithPhone(phone);
+    }
+
+    @Override
+    public Set<ReservationId> getReservationIdsWithEmail(Email email) {
+        requireNonNull(email);
+        return reserveMate.getReservationIdsWithEmail(email);
+    }
+
     @Override
     public void deleteReservation(Reservation target) {
         reserveMate.removeReservation(target);
-        updateReservationStatistics();
+        assignTablesAround(target);
     }
 
     @Override
     public void addReservation(Reservation reservation) {
         reserveMate.addReservation(reservation);
+        assignTablesAround(reservation);
         updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
-        updateReservationStatistics();
     }
 
     @Override
@@ -115,6 +168,113 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedReservation);
 
         reserveMate.setReservation(target, editedReservation);
+        assignTablesAround(target);
+        assignTablesAround(editedReservation);
+    }
+
+    /**
+     * Seats the reservations held at the same time as {@code reservation} again, as their tables may have been
+     * taken or freed by it.
+     */
+    private void assignTablesAround(Reservation reservation) {
+        reserveMate.assignTables(reservation.getDateTime().value, reservation.getEndDateTime(), getFloorPlan());
+    }
+
+    @Override
+    public boolean canSeat(Reservation party) {
+        requireNonNull(party);
+        return reserveMate.canSeat(party, getSeatingCapacity());
+    }
+
+    @Override
+    public boolean canSeat(Reservation party, Reservation replaced) {
+        requireNonNull(party);
+        return reserveMate.canSeat(party, replaced, getSeatingCapacity());
+    }
+
+    @Override
+    public int getSeatsLeft(Reservation party, Reservation replaced) {
+        requireNonNull(party);
+        return reserveMate.getSeatsLeft(party, replaced, getSeatingCapacity());
+    }
+
+    @Override
+    public boolean isWaitlisted(Reservation party) {
+        requireNonNull(party);
+        return reserveMate.isWaitlisted(party);
+    }
+
+    @Override
+    public void addToWaitlist(WaitlistEntry entry) {
+        requireNonNull(entry);
+        reserveMate.addToWaitlist(entry);
+    }
+
+    @Override
+    public void removeFromWaitlist(WaitlistEntry entry) {
+        requireNonNull(entry);
+        reserveMate.removeFromWaitlist(entry);
+    }
+
+    @Override
+    public List<WaitlistEntry> getWaitlist() {
+        return reserveMate.getWaitlist();
+    }
+
+    @Override
+    public List<Reservation> promoteWaitlisted(LocalDateTime from, LocalDateTime until) {
+        requireAllNonNull(from, until);
+        List<Reservation> promoted = reserveMate.promoteWaitlisted(from, until, getSeatingCapacity());
+        promoted.forEach(this::assignTablesAround);
+        return promoted;
+    }
+
+    @Override
+    public List<Reservation> promoteWaitlisted() {
+        List<Reservation> promoted = reserveMate.promoteWaitlisted(getSeatingCapacity());
+        promoted.forEach(this::assignTablesAround);
+        return promoted;
+    }
+
+    @Override
+    public List<Reservation> getOverlappingReservations(LocalDateTime from, LocalDateTime until) {
+        requireAllNonNull(from, until);
+        return reserveMate.getOverlappingReservations(from, until);
+    }
+
+    @Override
+    public int getOccupiedHours(LocalDate date) {
+        requireNonNull(date);
+        return reserveMate.getOccupiedHours(date);
+    }
+
+    @Override
+    public int[] getCoversByHour(LocalDate date) {
+        requireNonNull(date);
+        return reserveMate.getCoversByHour(date);
+    }
+
+    @Override
+    public SeatingCapacity getSeatingCapacity() {
+        return userPrefs.getSeatingCapacity();
+    }
+
+    @Override
+    public FloorPlan getFloorPlan() {
+        return userPrefs.getFloorPlan();
+    }
+
+    @Override
+    public int getAvailableHours(LocalDate date, int partySize) {
+        requireNonNull(date);
+        return reserveMate.getAvailableHours(date, getSeatingCapacity(), partySize);
+    }
+
+    @Override
+    public List<LocalDateTime> findAvailableHours(LocalDateTime from, LocalDateTime until, int partySize,
+                                                  Duration duration, int limit) {
+        requireAllNonNull(from, until, duration);
+        return reserveMate.findAvailableHours(from, until, getSeatingCapacity(), partySize, duration, limit);
     }
 
     //=========== Filtered Reservation List Accessors =============================================================
@@ -131,32 +291,40 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredReservationList(Predicate<Reservation> predicate) {
         requireNonNull(predicate);
+        // testing the current range before widening it means each reservation is only tested once
         filteredReservations.setPredicate(predicate);
+        rangedReservations.clearRange();
+    }
+
+    @Override
+    public void updateFilteredReservationList(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        // narrowing the range first means only the reservations in it are tested against the predicate
+        rangedReservations.setRange(start, end);
+        filteredReservations.setPredicate(PREDICATE_SHOW_ALL_RESERVATIONS);
     }
 
     //=========== Reservation Statistics Accessors =============================================================
 
-    /**
-     * Returns a HashMap of reservation statistics.
-     */
     @Override
     public HashMap<String, Integer> getReservationStatistics() {
-        updateReservationStatistics();
-        return reservationStatistics;
+        return reserveMate.getSumOfReservationsPerDiner();
     }
 
     @Override
-    public void updateReservationStatistics() {
-        HashMap<String, Integer> newReservationStatistics = reserveMate.getSumOfReservationsPerDiner();
-        clearReservationStatistics();
-        reservationStatistics.putAll(newReservationStatistics);
+    public DinerStatistics getDinerStatistics() {
+        return reserveMate.getDinerStatistics();
     }
 
-    /**
-     * Clears all data in reservationStatistics.
-    */
-    public void clearReservationStatistics() {
-        reservationStatistics.clear();
+    @Override
+    public ReservationAnalytics getReservationAnalytics() {
+        return reserveMate.getReservationAnalytics();
+    }
+
+    @Override
+    public CustomerProfile getCustomerProfile(Reservation reservation) {
+        requireNonNull(reservation);
+        return reserveMate.getCustomerProfile(reservation);
     }
 
     @Override
@@ -177,7 +345,6 @@ public class ModelManager implements Model {
             && userPrefs.equals(otherModelManager.userPrefs)
             // Compare the content of filtered lists instead of the list objects themselves
             && getFilteredReservationList().size() == otherModelManager.getFilteredReservationList().size()
-            && getFilteredReservationList().containsAll(otherModelManager.getFilteredReservationList())
-            && reservationStatistics.equals(otherModelManager.reservationStatistics);
+            && getFilteredReservationList().containsAll(otherModelManager.getFilteredReservationList());
     }
 }
@@ -1,7 +1,10 @@
 package seedu.reserve.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 
 /**
  * Unmodifiable view of an reservation book
@@ -14,4 +17,9 @@ public interface ReadOnlyReserveMate {
      */
     ObservableList<Reservation> getReservationList();
 
+    /**
+     * Returns the parties on the waitlist, with the earliest time slot first and each slot in priority order.
+     */
+    List<WaitlistEntry> getWaitlist();
+
 }
@@ -3,6 +3,7 @@ package seedu.reserve.model;
 import java.nio.file.Path;
 
 import seedu.reserve.commons.core.GuiSettings;
+import seedu.reserve.model.table.FloorPlan;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getReserveMateFilePath();
 
+    SeatingCapacity getSeatingCapacity();
+
+    FloorPlan getFloorPlan();
+
 }
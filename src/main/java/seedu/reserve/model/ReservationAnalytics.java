@@ -0,0 +1,299 @@
+package seedu.reserve.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Rollups of the reservations in the reservation book, for staffing and trend reports.
+ * Keeps the number of covers (diners) by weekday and hour of day, the number of covers on each day, the number of
+ * reservations per occasion, and the {@link DinerStatistics}. Like {@code DinerStatistics}, the rollups are
+ * updated by {@code ReserveMate} on every change, and instances handed out of the model are snapshots.
+ */
+public class ReservationAnalytics {
+
+    public static final int HOURS_PER_DAY = 24;
+    public static final int DAYS_PER_WEEK = 7;
+
+    private static final int INITIAL_DAY_CAPACITY = 64;
+
+    private final DinerStatistics dinerStatistics;
+
+    /** Covers indexed by weekday, Monday first, then by hour of day. */
+    private final int[][] coversByWeekdayAndHour;
+
+    /** Covers per day, starting from the epoch day {@code firstEpochDay}. */
+    private int[] coversByDay;
+    private long firstEpochDay;
+
+    /** Reservations per occasion name. Occasions without reservations are left out. */
+    private final Map<String, Integer> reservationsByOccasion;
+
+    /**
+     * Creates analytics of an empty reservation book.
+     */
+    public ReservationAnalytics() {
+        dinerStatistics = new DinerStatistics();
+        coversByWeekdayAndHour = new int[DAYS_PER_WEEK][HOURS_PER_DAY];
+        coversByDay = new int[0];
+        reservationsByOccasion = new HashMap<>();
+    }
+
+    /**
+     * Creates a snapshot of {@code toBeCopied}.
+     */
+    public ReservationAnalytics(ReservationAnalytics toBeCopied) {
+        requireNonNull(toBeCopied);
+        synchronized (toBeCopied) {
+            dinerStatistics = new DinerStatistics(toBeCopied.dinerStatistics);
+            coversByWeekdayAndHour = new int[DAYS_PER_WEEK][];
+            for (int weekday = 0; weekday < DAYS_PER_WEEK; weekday++) {
+                coversByWeekdayAndHour[weekday] = toBeCopied.coversByWeekdayAndHour[weekday].clone();
+            }
+            coversByDay = toBeCopied.coversByDay.clone();
+            firstEpochDay = toBeCopied.firstEpochDay;
+            reservationsByOccasion = new HashMap<>(toBeCopied.reservationsByOccasion);
+        }
+    }
+
+    //// rollup updates, used by ReserveMate
+
+    synchronized void add(Reservation reservation) {
+        update(reservation, 1);
+    }
+
+    synchronized void addAll(List<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            update(reservation, 1);
+        }
+    }
+
+    synchronized void remove(Reservation reservation) {
+        update(reservation, -1);
+    }
+
+    synchronized void replace(Reservation target, Reservation editedReservation) {
+        update(target, -1);
+        update(editedReservation, 1);
+    }
+
+    synchronized void reset(ReservationAnalytics newData) {
+        ReservationAnalytics snapshot = new ReservationAnalytics(newData);
+        dinerStatistics.reset(snapshot.dinerStatistics);
+        for (int weekday = 0; weekday < DAYS_PER_WEEK; weekday++) {
+            coversByWeekdayAndHour[weekday] = snapshot.coversByWeekdayAndHour[weekday];
+        }
+        coversByDay = snapshot.coversByDay;
+        firstEpochDay = snapshot.firstEpochDay;
+        reservationsByOccasion.clear();
+        reservationsByOccasion.putAll(snapshot.reservationsByOccasion);
+    }
+
+    synchronized void reset(List<Reservation> reservations) {
+        dinerStatistics.reset(Collections.emptyList());
+        for (int[] coversByHour : coversByWeekdayAndHour) {
+            Arrays.fill(coversByHour, 0);
+        }
+        coversByDay = new int[0];
+        reservationsByOccasion.clear();
+        addAll(reservations);
+    }
+
+    /**
+     * Adds {@code sign} times the contribution of {@code reservation} to every rollup.
+     */
+    private void update(Reservation reservation, int sign) {
+        if (sign > 0) {
+            dinerStatistics.add(reservation);
+        } else {
+            dinerStatistics.remove(reservation);
+        }
+
+        int covers = sign * reservation.getDiners().getCount();
+        LocalDateTime dateTime = reservation.getDateTime().value;
+        coversByWeekdayAndHour[dateTime.getDayOfWeek().getValue() - 1][dateTime.getHour()] += covers;
+
+        int dayIndex = ensureDayIndex(dateTime.toLocalDate().toEpochDay());
+        coversByDay[dayIndex] += covers;
+
+        for (Occasion occasion : reservation.getOccasions()) {
+            reservationsByOccasion.merge(occasion.occasionName, sign, (count, change) ->
+                    count + change == 0 ? null : count + change);
+        }
+    }
+
+    /**
+     * Returns the index of {@code epochDay} in {@code coversByDay}, growing the array to hold it if needed.
+     */
+    private int ensureDayIndex(long epochDay) {
+        if (coversByDay.length == 0) {
+            coversByDay = new int[INITIAL_DAY_CAPACITY];
+            firstEpochDay = epochDay - INITIAL_DAY_CAPACITY / 2;
+        }
+
+        long lastEpochDay = firstEpochDay + coversByDay.length - 1;
+        if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+            long newFirstEpochDay = Math.min(firstEpochDay, epochDay);
+            long newLastEpochDay = Math.max(lastEpochDay, epochDay);
+            int newLength = Math.max(coversByDay.length * 2, Math.toIntExact(newLastEpochDay - newFirstEpochDay + 1));
+            if (epochDay < firstEpochDay) {
+                // leave the extra room in the direction the range grew
+                newFirstEpochDay = newLastEpochDay - newLength + 1;
+            }
+            int[] newCoversByDay = new int[newLength];
+            System.arraycopy(coversByDay, 0, newCoversByDay, Math.toIntExact(firstEpochDay - newFirstEpochDay),
+                    coversByDay.length);
+            coversByDay = newCoversByDay;
+            firstEpochDay = newFirstEpochDay;
+        }
+        return Math.toIntExact(epochDay - firstEpochDay);
+    }
+
+    //// rollup reads
+
+    /**
+     * Returns the number of reservations per party size.
+     */
+    public DinerStatistics getDinerStatistics() {
+        return new DinerStatistics(dinerStatistics);
+    }
+
+    /**
+     * Returns the number of covers booked on {@code weekday} at {@code hour} o'clock, over all weeks.
+     */
+    public int getCovers(DayOfWeek weekday, int hour) {
+        requireNonNull(weekday);
+        return coversByWeekdayAndHour[weekday.getValue() - 1][hour];
+    }
+
+    /**
+     * Returns the number of covers booked at each hour of the day, over all days.
+     */
+    public int[] getCoversByHour() {
+        int[] coversByHour = new int[HOURS_PER_DAY];
+        for (int[] weekdayCovers : coversByWeekdayAndHour) {
+            for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                coversByHour[hour] += weekdayCovers[hour];
+            }
+        }
+        return coversByHour;
+    }
+
+    /**
+     * Returns the number of covers booked on each weekday, Monday first, over all weeks.
+     */
+    public int[] getCoversByWeekday() {
+        int[] coversByWeekday = new int[DAYS_PER_WEEK];
+        for (int weekday = 0; weekday < DAYS_PER_WEEK; weekday++) {
+            coversByWeekday[weekday] = Arrays.stream(coversByWeekdayAndHour[weekday]).sum();
+        }
+        return coversByWeekday;
+    }
+
+    /**
+     * Returns the number of reservations for each occasion, sorted by occasion name.
+     */
+    public Map<String, Integer> getReservationsByOccasion() {
+        return Collections.unmodifiableMap(new TreeMap<>(reservationsByOccasion));
+    }
+
+    /**
+     * Returns the number of covers booked on {@code date}.
+     */
+    public int getCoversOn(LocalDate date) {
+        requireNonNull(date);
+        long dayIndex = date.toEpochDay() - firstEpochDay;
+        return dayIndex < 0 || dayIndex >= coversByDay.length ? 0 : coversByDay[(int) dayIndex];
+    }
+
+    /**
+     * Returns the number of covers booked on each of the {@code dayCount} days from {@code startDate}.
+     */
+    public int[] getCoversPerDay(LocalDate startDate, int dayCount) {
+        requireNonNull(startDate);
+        int[] coversPerDay = new int[dayCount];
+        for (int day = 0; day < dayCount; day++) {
+            coversPerDay[day] = getCoversOn(startDate.plusDays(day));
+        }
+        return coversPerDay;
+    }
+
+    /**
+     * Returns, for each of the {@code dayCount} days from {@code startDate}, the average number of covers per day
+     * over the {@code windowDays} days up to and including that day.
+     */
+    public double[] getRollingAverageCovers(LocalDate startDate, int dayCount, int windowDays) {
+        requireNonNull(startDate);
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("The rolling window must be at least one day long.");
+        }
+
+        double[] averages = new double[dayCount];
+        long windowSum = 0;
+        for (int day = 1 - windowDays; day < 0; day++) {
+            windowSum += getCoversOn(startDate.plusDays(day));
+        }
+        for (int day = 0; day < dayCount; day++) {
+            windowSum += getCoversOn(startDate.plusDays(day));
+            averages[day] = (double) windowSum / windowDays;
+            windowSum -= getCoversOn(startDate.plusDays(day + 1 - windowDays));
+        }
+        return averages;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReservationAnalytics)) {
+            return false;
+        }
+
+        ReservationAnalytics otherAnalytics = (ReservationAnalytics) other;
+        if (!dinerStatistics.equals(otherAnalytics.dinerStatistics)
+                || !Arrays.deepEquals(coversByWeekdayAndHour, otherAnalytics.coversByWeekdayAndHour)
+                || !reservationsByOccasion.equals(otherAnalytics.reservationsByOccasion)) {
+            return false;
+        }
+        // the day arrays may cover different ranges, so compare day by day over both
+        long first = Math.min(firstEpochDay, otherAnalytics.firstEpochDay);
+        long last = Math.max(firstEpochDay + coversByDay.length, otherAnalytics.firstEpochDay
+                + otherAnalytics.coversByDay.length);
+        for (long epochDay = first; epochDay < last; epochDay++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            if (getCoversOn(date) != otherAnalytics.getCoversOn(date)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return dinerStatistics.hashCode() * 31 + Arrays.deepHashCode(coversByWeekdayAndHour);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("dinerStatistics", dinerStatistics)
+                .add("coversByWeekday", Arrays.toString(getCoversByWeekday()))
+                .add("reservationsByOccasion", getReservationsByOccasion())
+                .toString();
+    }
+}
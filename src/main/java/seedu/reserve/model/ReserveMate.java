@@ -2,13 +2,30 @@ package seedu.reserve.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javafx.collections.ObservableList;
 import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Duration;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
 import seedu.reserve.model.reservation.UniqueReservationList;
+import seedu.reserve.model.table.FloorPlan;
+import seedu.reserve.model.table.TableAssignment;
+import seedu.reserve.model.waitlist.Waitlist;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 
 /**
  * Wraps all data at the reservation-book level
@@ -17,6 +34,12 @@ import seedu.reserve.model.reservation.UniqueReservationList;
 public class ReserveMate implements ReadOnlyReserveMate {
 
     private final UniqueReservationList reservations;
+    private final ReservationAnalytics analytics = new ReservationAnalytics();
+    private final CustomerRegistry customers = new CustomerRegistry();
+    private final Waitlist waitlist = new Waitlist();
+
+    /** Number of changes made to the reservation list, used to tell whether it needs to be saved again. */
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +70,18 @@ public class ReserveMate implements ReadOnlyReserveMate {
      */
     public void setReservations(List<Reservation> reservations) {
         this.reservations.setReservations(reservations);
+        analytics.reset(reservations);
+        customers.reset(reservations);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the waitlist with {@code entries}.
+     * No two of {@code entries} may be for the same party and time slot.
+     */
+    public void setWaitlist(List<WaitlistEntry> entries) {
+        waitlist.setEntries(entries);
+        modificationCount++;
     }
 
     /**
@@ -55,7 +90,15 @@ public class ReserveMate implements ReadOnlyReserveMate {
     public void resetData(ReadOnlyReserveMate newData) {
         requireNonNull(newData);
 
-        setReservations(newData.getReservationList());
+        if (newData instanceof ReserveMate) {
+            // already unique and sorted, so the indexes can be copied without re-validation
+            reservations.setReservations(((ReserveMate) newData).reservations);
+            analytics.reset(((ReserveMate) newData).analytics);
+            customers.reset(newData.getReservationList());
+        } else {
+            setReservations(newData.getReservationList());
+        }
+        setWaitlist(newData.getWaitlist());
     }
 
     //// reservation-level operations
@@ -68,12 +111,81 @@ public class ReserveMate implements ReadOnlyReserveMate {
         return reservations.contains(reservation);
     }
 
+    /**
+     * Returns the reservation with the ID {@code id}, if there is one in the reservation book.
+     */
+    public Optional<Reservation> getReservationById(ReservationId id) {
+        requireNonNull(id);
+        return reservations.get(id);
+    }
+
+    /**
+     * Returns the IDs of the reservations whose names contain the word {@code token}, ignoring case, as an
+     * unmodifiable view that follows later changes to the reservation book, or an empty set if no reservation has
+     * had the word in its name.
+     */
+    public Set<ReservationId> getReservationIdsWithNameToken(String token) {
+        requireNonNull(token);
+        return reservations.getIdsWithNameToken(token);
+    }
+
+    /**
+     * Returns at most {@code limit} of the words in reservation names closest to the partial or misspelt
+     * {@code query}, closest first.
+     */
+    public List<String> findClosestNameTokens(String query, int limit) {
+        requireNonNull(query);
+        return reservations.findClosestNameTokens(query, limit);
+    }
+
+    /**
+     * Returns the IDs of the reservations with the phone number {@code phone}, as an unmodifiable view that follows
+     * later changes to the reservation book, or an empty set if no reservation has had the phone number.
+     */
+    public Set<ReservationId> getReservationIdsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return reservations.getIdsWithPhone(phone);
+    }
+
+    /**
+     * Returns the IDs of the reservations with the email {@code email}, ignoring case, as an unmodifiable view that
+     * follows later changes to the reservation book, or an empty set if no reservation has had the email.
+     */
+    public Set<ReservationId> getReservationIdsWithEmail(Email email) {
+        requireNonNull(email);
+        return reservations.getIdsWithEmail(email);
+    }
+
+    /**
+     * Returns true if a reservation other than {@code excluded} with the same identity as {@code reservation}
+     * exists in the reservation book.
+     */
+    public boolean hasReservationOtherThan(Reservation reservation, Reservation excluded) {
+        requireNonNull(reservation);
+        requireNonNull(excluded);
+        return reservations.containsOtherThan(reservation, excluded);
+    }
+
     /**
      * Adds a reservation to the reservation book.
      * The reservation must not already exist in the reservation book.
      */
     public void addReservation(Reservation p) {
         reservations.add(p);
+        analytics.add(p);
+        customers.add(p);
+        modificationCount++;
+    }
+
+    /**
+     * Adds a batch of reservations to the reservation book in one pass.
+     * None of the reservations may already exist in the reservation book or share an identity with each other.
+     */
+    public void addReservations(List<Reservation> batch) {
+        reservations.addAll(batch);
+        analytics.addAll(batch);
+        customers.addAll(batch);
+        modificationCount++;
     }
 
     /**
@@ -86,6 +198,9 @@ public class ReserveMate implements ReadOnlyReserveMate {
         requireNonNull(editedReservation);
 
         reservations.setReservation(target, editedReservation);
+        analytics.replace(target, editedReservation);
+        customers.replace(target, editedReservation);
+        modificationCount++;
     }
 
     /**
@@ -94,6 +209,237 @@ public class ReserveMate implements ReadOnlyReserveMate {
      */
     public void removeReservation(Reservation key) {
         reservations.remove(key);
+        analytics.remove(key);
+        customers.remove(key);
+        modificationCount++;
+    }
+
+    //// waitlist operations
+
+    /**
+     * Returns true if a party with the same identity as {@code party} is waiting for its time slot.
+     */
+    public boolean isWaitlisted(Reservation party) {
+        requireNonNull(party);
+        return waitlist.contains(party);
+    }
+
+    /**
+     * Puts a party on the waitlist for its time slot.
+     * A party with the same identity must not already be waiting for that time slot.
+     */
+    public void addToWaitlist(WaitlistEntry entry) {
+        waitlist.add(entry);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code entry}, which must be on the waitlist.
+     */
+    public void removeFromWaitlist(WaitlistEntry entry) {
+        waitlist.remove(entry);
+        modificationCount++;
+    }
+
+    /**
+     * Books the waiting parties that now fit within {@code capacity}, out of those waiting for a time slot held at
+     * some time from {@code from} up to but not including {@code until}.
+     * Time slots are offered the freed places earliest first, and each to its parties in priority order. A party
+     * that does not fit is passed over for the next one in the queue. A party that has since been booked some other
+     * way, or whose time slot can no longer be booked, is taken off the waitlist without being booked.
+     *
+     * @return the reservations booked, in the order they were booked.
+     */
+    public List<Reservation> promoteWaitlisted(LocalDateTime from, LocalDateTime until, SeatingCapacity capacity) {
+        requireNonNull(from);
+        requireNonNull(until);
+        requireNonNull(capacity);
+        return promote(waitlist.getOverlapping(from, until), capacity);
+    }
+
+    /**
+     * Books every waiting party that now fits within {@code capacity}, as
+     * {@link #promoteWaitlisted(LocalDateTime, LocalDateTime, SeatingCapacity)} does for a period.
+     *
+     * @return the reservations booked, in the order they were booked.
+     */
+    public List<Reservation> promoteWaitlisted(SeatingCapacity capacity) {
+        requireNonNull(capacity);
+        return promote(waitlist.asList(), capacity);
+    }
+
+    private List<Reservation> promote(List<WaitlistEntry> candidates, SeatingCapacity capacity) {
+        List<Reservation> promoted = new ArrayList<>();
+        LocalDateTime earliestBookingDateTime = DateTime.getEarliestBookingDateTime();
+        for (WaitlistEntry entry : candidates) {
+            Reservation party = entry.getParty();
+            if (party.getDateTime().value.isBefore(earliestBookingDateTime) || reservations.contains(party)) {
+                removeFromWaitlist(entry);
+            } else if (reservations.canSeat(party, capacity)) {
+                removeFromWaitlist(entry);
+                addReservation(party);
+                promoted.add(party);
+            }
+        }
+        return promoted;
+    }
+
+    /**
+     * Returns true if {@code party} can still be booked within {@code capacity} in every hour it would be held in.
+     */
+    public boolean canSeat(Reservation party, SeatingCapacity capacity) {
+        requireNonNull(party);
+        requireNonNull(capacity);
+        return reservations.canSeat(party, capacity);
+    }
+
+    /**
+     * Returns true if {@code party} can be booked in place of {@code replaced} within {@code capacity} in every hour
+     * it would be held in. {@code replaced} is null if the party takes no reservation's place.
+     */
+    public boolean canSeat(Reservation party, Reservation replaced, SeatingCapacity capacity) {
+        requireNonNull(party);
+        requireNonNull(capacity);
+        return reservations.canSeat(party, replaced, capacity);
+    }
+
+    /**
+     * Returns the fewest seats left within {@code capacity} in any hour {@code party} would be held in, once
+     * {@code replaced} has given up its place. {@code replaced} is null if the party takes no reservation's place.
+     */
+    public int getSeatsLeft(Reservation party, Reservation replaced, SeatingCapacity capacity) {
+        requireNonNull(party);
+        requireNonNull(capacity);
+        return reservations.getSeatsLeft(party, replaced, capacity);
+    }
+
+    /**
+     * Seats the reservations held at some time from {@code from} up to but not including {@code until} at the
+     * tables of {@code floorPlan}.
+     * The reservations are seated one start time at a time, earliest first, around the tables taken by the
+     * reservations of other start times that overlap them. Only the reservations whose tables change are replaced.
+     *
+     * @see FloorPlan#assign(List, List)
+     */
+    public void assignTables(LocalDateTime from, LocalDateTime until, FloorPlan floorPlan) {
+        requireNonNull(from);
+        requireNonNull(until);
+        requireNonNull(floorPlan);
+        TreeSet<DateTime> startTimes = new TreeSet<>();
+        for (Reservation reservation : reservations.getOverlapping(from, until)) {
+            startTimes.add(reservation.getDateTime());
+        }
+        boolean isChanged = false;
+        for (DateTime startTime : startTimes) {
+            isChanged |= assignTablesAt(startTime, floorPlan);
+        }
+        if (isChanged) {
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Seats the reservations starting at {@code dateTime} at the tables of {@code floorPlan}.
+     *
+     * @return true if the tables of any of them changed.
+     */
+    private boolean assignTablesAt(DateTime dateTime, FloorPlan floorPlan) {
+        List<Reservation> slot = reservations.getReservationsAt(dateTime);
+        LocalDateTime slotEnd = slot.stream().map(Reservation::getEndDateTime).max(Comparator.naturalOrder())
+                .orElseThrow();
+        List<Reservation> others = reservations.getOverlapping(dateTime.value, slotEnd).stream()
+                .filter(reservation -> !reservation.getDateTime().equals(dateTime))
+                .toList();
+        List<TableAssignment> assignments = floorPlan.assign(slot, others);
+        boolean isChanged = false;
+        for (int i = 0; i < slot.size(); i++) {
+            Reservation reservation = slot.get(i);
+            TableAssignment assignment = assignments.get(i);
+            if (!assignment.equals(reservation.getTableAssignment())) {
+                // the tables are not part of the analytics, so those are left alone
+                reservations.setReservation(reservation, new Reservation(reservation.getId(),
+                        reservation.getName(), reservation.getPhone(), reservation.getEmail(), reservation.getDiners(),
+                        reservation.getDateTime(), reservation.getDuration(), reservation.getOccasions(),
+                        reservation.getPreference(), assignment));
+                isChanged = true;
+            }
+        }
+        return isChanged;
+    }
+
+    /**
+     * Returns the reservations held at some time from {@code from} up to but not including {@code until}, ordered
+     * by their start time.
+     */
+    public List<Reservation> getOverlappingReservations(LocalDateTime from, LocalDateTime until) {
+        requireNonNull(from);
+        requireNonNull(until);
+        return reservations.getOverlapping(from, until);
+    }
+
+    /**
+     * Returns the booked hours of {@code date} as a mask, with bit {@code h} set if there is a reservation held
+     * during the hour from {@code h} o'clock.
+     */
+    public int getOccupiedHours(LocalDate date) {
+        requireNonNull(date);
+        return reservations.getOccupiedHours(date);
+    }
+
+    /**
+     * Returns the number of reservations held during the hour from {@code dateTime}.
+     */
+    public int getReservationCount(DateTime dateTime) {
+        requireNonNull(dateTime);
+        return reservations.getReservationCount(dateTime);
+    }
+
+    /**
+     * Returns the number of diners booked during the hour from {@code dateTime}.
+     */
+    public int getCovers(DateTime dateTime) {
+        requireNonNull(dateTime);
+        return reservations.getCovers(dateTime);
+    }
+
+    /**
+     * Returns the number of diners booked at each hour of {@code date}.
+     */
+    public int[] getCoversByHour(LocalDate date) {
+        requireNonNull(date);
+        return reservations.getCoversByHour(date);
+    }
+
+    /**
+     * Returns the hours of {@code date} that can still seat a party of {@code partySize} within {@code capacity}
+     * as a mask, with bit {@code h} set if {@code h} o'clock can.
+     */
+    public int getAvailableHours(LocalDate date, SeatingCapacity capacity, int partySize) {
+        requireNonNull(date);
+        requireNonNull(capacity);
+        return reservations.getAvailableHours(date, capacity, partySize);
+    }
+
+    /**
+     * Returns up to {@code limit} hours at which a party of {@code partySize} can start a reservation lasting
+     * {@code duration} within {@code capacity}, earliest first, from {@code from} up to and including
+     * {@code until}.
+     */
+    public List<LocalDateTime> findAvailableHours(LocalDateTime from, LocalDateTime until, SeatingCapacity capacity,
+                                                  int partySize, Duration duration, int limit) {
+        requireNonNull(from);
+        requireNonNull(until);
+        requireNonNull(capacity);
+        requireNonNull(duration);
+        return reservations.findAvailableHours(from, until, capacity, partySize, duration, limit);
+    }
+
+    /**
+     * Returns the number of changes made to this {@code ReserveMate} so far.
+     * The count only ever increases, so two equal readings mean nothing was changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     //// util methods
@@ -102,6 +448,7 @@ public class ReserveMate implements ReadOnlyReserveMate {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("reservations", reservations)
+                .add("waitlist", waitlist)
                 .toString();
     }
 
@@ -110,22 +457,38 @@ public class ReserveMate implements ReadOnlyReserveMate {
         return reservations.asUnmodifiableObservableList();
     }
 
-    public HashMap<String, Integer> getSumOfReservationsPerDiner() {
-        HashMap<String, Integer> sumOfReservationsPerDiner = new HashMap<>();
+    @Override
+    public List<WaitlistEntry> getWaitlist() {
+        return waitlist.asList();
+    }
 
-        for (int i = 1; i <= 10; i++) {
-            sumOfReservationsPerDiner.put(String.valueOf(i), 0);
-        }
+    /**
+     * Returns a snapshot of the number of reservations per party size.
+     */
+    public DinerStatistics getDinerStatistics() {
+        return analytics.getDinerStatistics();
+    }
 
-        ObservableList<Reservation> reservationList = getReservationList();
-        for (Reservation r : reservationList) {
-            int numOfDiners = Integer.parseInt(r.getDiners().value);
+    /**
+     * Returns the profile of the customer of {@code reservation}, which must be in the reservation book.
+     */
+    public CustomerProfile getCustomerProfile(Reservation reservation) {
+        requireNonNull(reservation);
+        return customers.getProfile(reservation);
+    }
 
-            String key = String.valueOf(numOfDiners);
-            sumOfReservationsPerDiner.put(key, sumOfReservationsPerDiner.get(key) + 1);
-        }
+    /**
+     * Returns a snapshot of the analytics rollups of the reservation book.
+     */
+    public ReservationAnalytics getReservationAnalytics() {
+        return new ReservationAnalytics(analytics);
+    }
 
-        return sumOfReservationsPerDiner;
+    /**
+     * Returns the number of reservations for every party size, keyed by the party size as a string.
+     */
+    public HashMap<String, Integer> getSumOfReservationsPerDiner() {
+        return getDinerStatistics().toHashMap();
     }
 
     @Override
@@ -140,11 +503,11 @@ public class ReserveMate implements ReadOnlyReserveMate {
         }
 
         ReserveMate otherReserveMate = (ReserveMate) other;
-        return reservations.equals(otherReserveMate.reservations);
+        return reservations.equals(otherReserveMate.reservations) && waitlist.equals(otherReserveMate.waitlist);
     }
 
     @Override
     public int hashCode() {
-        return reservations.hashCode();
+        return Objects.hash(reservations, waitlist);
     }
 }
@@ -0,0 +1,98 @@
+package seedu.reserve.model;
+
+import static seedu.reserve.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+
+/**
+ * The seating capacity of the restaurant: the number of seats, and the number of reservations that can be
+ * taken for the same hour.
+ * Guarantees: immutable.
+ */
+public class SeatingCapacity {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The number of seats and the number of reservations per hour must both be positive.";
+
+    private static final int DEFAULT_TOTAL_SEATS = 50;
+    private static final int DEFAULT_MAX_RESERVATIONS_PER_HOUR = 10;
+
+    private final int totalSeats;
+    private final int maxReservationsPerHour;
+
+    /**
+     * Constructs a {@code SeatingCapacity} with the default number of seats and reservations per hour.
+     */
+    public SeatingCapacity() {
+        this(DEFAULT_TOTAL_SEATS, DEFAULT_MAX_RESERVATIONS_PER_HOUR);
+    }
+
+    /**
+     * Constructs a {@code SeatingCapacity} with {@code totalSeats} seats, taking up to
+     * {@code maxReservationsPerHour} reservations for the same hour.
+     */
+    @JsonCreator
+    public SeatingCapacity(@JsonProperty("totalSeats") int totalSeats,
+                           @JsonProperty("maxReservationsPerHour") int maxReservationsPerHour) {
+        checkArgument(totalSeats > 0 && maxReservationsPerHour > 0, MESSAGE_CONSTRAINTS);
+        this.totalSeats = totalSeats;
+        this.maxReservationsPerHour = maxReservationsPerHour;
+    }
+
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    public int getMaxReservationsPerHour() {
+        return maxReservationsPerHour;
+    }
+
+    /**
+     * Returns the number of seats left in an hour with {@code covers} diners booked.
+     */
+    public int getRemainingSeats(int covers) {
+        return Math.max(0, totalSeats - covers);
+    }
+
+    /**
+     * Returns true if a party of {@code partySize} can still be booked in an hour that already has
+     * {@code reservationCount} reservations for {@code covers} diners.
+     */
+    public boolean canSeat(int reservationCount, int covers, int partySize) {
+        return reservationCount < maxReservationsPerHour && covers + partySize <= totalSeats;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SeatingCapacity)) {
+            return false;
+        }
+
+        SeatingCapacity otherCapacity = (SeatingCapacity) other;
+        return totalSeats == otherCapacity.totalSeats
+                && maxReservationsPerHour == otherCapacity.maxReservationsPerHour;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalSeats, maxReservationsPerHour);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("totalSeats", totalSeats)
+                .add("maxReservationsPerHour", maxReservationsPerHour)
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.reserve.commons.core.GuiSettings;
+import seedu.reserve.model.table.FloorPlan;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path reserveMateFilePath = Paths.get("data" , "reservemate.json");
+    private SeatingCapacity seatingCapacity = new SeatingCapacity();
+    private FloorPlan floorPlan = new FloorPlan();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setReserveMateFilePath(newUserPrefs.getReserveMateFilePath());
+        setSeatingCapacity(newUserPrefs.getSeatingCapacity());
+        setFloorPlan(newUserPrefs.getFloorPlan());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.reserveMateFilePath = reserveMateFilePath;
     }
 
+    public SeatingCapacity getSeatingCapacity() {
+        return seatingCapacity;
+    }
+
+    public void setSeatingCapacity(SeatingCapacity seatingCapacity) {
+        requireNonNull(seatingCapacity);
+        this.seatingCapacity = seatingCapacity;
+    }
+
+    public FloorPlan getFloorPlan() {
+        return floorPlan;
+    }
+
+    public void setFloorPlan(FloorPlan floorPlan) {
+        requireNonNull(floorPlan);
+        this.floorPlan = floorPlan;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +92,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && reserveMateFilePath.equals(otherUserPrefs.reserveMateFilePath);
+                && reserveMateFilePath.equals(otherUserPrefs.reserveMateFilePath)
+                && seatingCapacity.equals(otherUserPrefs.seatingCapacity)
+                && floorPlan.equals(otherUserPrefs.floorPlan);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, reserveMateFilePath);
+        return Objects.hash(guiSettings, reserveMateFilePath, seatingCapacity, floorPlan);
     }
 
     @Override
@@ -82,6 +107,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + reserveMateFilePath);
+        sb.append("\nSeating capacity : " + seatingCapacity);
+        sb.append("\nFloor plan : " + floorPlan);
         return sb.toString();
     }
 
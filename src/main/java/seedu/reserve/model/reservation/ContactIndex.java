@@ -0,0 +1,60 @@
+package seedu.reserve.model.reservation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from a contact detail of the customers, such as their phone number, to the IDs of all their reservations.
+ * As in {@link NameTokenIndex}, the set of IDs of a contact is kept for as long as the index is, so a view of it
+ * handed out by {@link #getIds(String)} stays up to date as reservations are added, edited and removed, and looking
+ * up a contact that no reservation has had adds nothing.
+ */
+class ContactIndex {
+
+    private final Function<Reservation, String> contactOf;
+    private final Map<String, Set<ReservationId>> reservations = new HashMap<>();
+
+    /**
+     * Creates an index keyed on the contact detail given by {@code contactOf}, which must already be normalised.
+     */
+    ContactIndex(Function<Reservation, String> contactOf) {
+        this.contactOf = contactOf;
+    }
+
+    /**
+     * Adds {@code reservation} to the set of its contact.
+     */
+    void add(Reservation reservation) {
+        reservations.computeIfAbsent(contactOf.apply(reservation), unused -> new HashSet<>())
+                .add(reservation.getId());
+    }
+
+    /**
+     * Removes {@code reservation} from the set of its contact.
+     */
+    void remove(Reservation reservation) {
+        Set<ReservationId> ids = reservations.get(contactOf.apply(reservation));
+        assert ids != null : "Removed a reservation that was never added to the contact index";
+        ids.remove(reservation.getId());
+    }
+
+    /**
+     * Removes every reservation, leaving the sets already handed out empty.
+     */
+    void clear() {
+        reservations.values().forEach(Set::clear);
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the IDs of the reservations with the normalised {@code contact}, or an
+     * empty set if no reservation has had the contact.
+     */
+    Set<ReservationId> getIds(String contact) {
+        Set<ReservationId> ids = reservations.get(contact);
+        return ids == null ? Set.of() : Collections.unmodifiableSet(ids);
+    }
+}
@@ -0,0 +1,324 @@
+package seedu.reserve.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.reserve.model.SeatingCapacity;
+
+/**
+ * Tracks which hours of each day have reservations, and how many diners are booked in them.
+ * Every day with at least one reservation has a 24-bit mask, with bit {@code h} set if a reservation is held during
+ * the hour from {@code h} o'clock, and counts of the reservations and covers (diners) in each hour. A reservation
+ * counts towards every hour it is held in, even if only for part of the hour. Reservations always start on the
+ * hour, so these answer whether an hour is open, or can still seat a party, without looking at the reservations
+ * themselves.
+ * The occupancy is kept up to date by {@code UniqueReservationList} as reservations are added and removed.
+ */
+public class DailyOccupancy {
+
+    public static final int HOURS_PER_DAY = 24;
+
+    /** Mask with every hour of a day occupied. */
+    public static final int FULL_DAY = (1 << HOURS_PER_DAY) - 1;
+
+    private final Map<LocalDate, Day> days = new HashMap<>();
+
+    /**
+     * Creates an occupancy with no reservations.
+     */
+    public DailyOccupancy() {}
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public DailyOccupancy(DailyOccupancy toBeCopied) {
+        requireNonNull(toBeCopied);
+        setAll(toBeCopied);
+    }
+
+    //// occupancy updates, used by UniqueReservationList
+
+    void add(Reservation reservation) {
+        LocalDateTime hour = reservation.getDateTime().value;
+        for (int i = 0; i < reservation.getDuration().getHourSlots(); i++, hour = hour.plusHours(1)) {
+            days.computeIfAbsent(hour.toLocalDate(), unused -> new Day())
+                    .add(hour.getHour(), reservation.getDiners().getCount());
+        }
+    }
+
+    void remove(Reservation reservation) {
+        LocalDateTime hour = reservation.getDateTime().value;
+        for (int i = 0; i < reservation.getDuration().getHourSlots(); i++, hour = hour.plusHours(1)) {
+            LocalDate date = hour.toLocalDate();
+            Day day = days.get(date);
+            assert day != null : "Removed a reservation that was never added";
+            day.remove(hour.getHour(), reservation.getDiners().getCount());
+            if (day.occupiedHours == 0) {
+                days.remove(date);
+            }
+        }
+    }
+
+    void setAll(DailyOccupancy replacement) {
+        days.clear();
+        for (Map.Entry<LocalDate, Day> entry : replacement.days.entrySet()) {
+            days.put(entry.getKey(), new Day(entry.getValue()));
+        }
+    }
+
+    void clear() {
+        days.clear();
+    }
+
+    //// occupancy reads
+
+    /**
+     * Returns the occupied hours of {@code date} as a mask, with bit {@code h} set if there is a reservation at
+     * {@code h} o'clock.
+     */
+    public int getOccupiedHours(LocalDate date) {
+        requireNonNull(date);
+        Day day = days.get(date);
+        return day == null ? 0 : day.occupiedHours;
+    }
+
+    /**
+     * Returns the number of reservations held during the hour from {@code dateTime}.
+     */
+    public int getReservationCount(DateTime dateTime) {
+        requireNonNull(dateTime);
+        Day day = days.get(dateTime.value.toLocalDate());
+        return day == null ? 0 : day.reservationsByHour[dateTime.value.getHour()];
+    }
+
+    /**
+     * Returns the number of diners booked during the hour from {@code dateTime}.
+     */
+    public int getCovers(DateTime dateTime) {
+        requireNonNull(dateTime);
+        Day day = days.get(dateTime.value.toLocalDate());
+        return day == null ? 0 : day.coversByHour[dateTime.value.getHour()];
+    }
+
+    /**
+     * Returns the number of diners booked at each hour of {@code date}.
+     */
+    public int[] getCoversByHour(LocalDate date) {
+        requireNonNull(date);
+        Day day = days.get(date);
+        return day == null ? new int[HOURS_PER_DAY] : day.coversByHour.clone();
+    }
+
+    /**
+     * Returns the hours of {@code date} that can still seat a party of {@code partySize} within {@code capacity}
+     * as a mask, with bit {@code h} set if {@code h} o'clock can.
+     */
+    public int getAvailableHours(LocalDate date, SeatingCapacity capacity, int partySize) {
+        requireNonNull(date);
+        requireNonNull(capacity);
+        Day day = days.get(date);
+        if (day == null) {
+            return capacity.canSeat(0, 0, partySize) ? FULL_DAY : 0;
+        }
+
+        int availableHours = 0;
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            if (capacity.canSeat(day.reservationsByHour[hour], day.coversByHour[hour], partySize)) {
+                availableHours |= 1 << hour;
+            }
+        }
+        return availableHours;
+    }
+
+    /**
+     * Returns true if {@code party} can still be booked within {@code capacity} in every hour it would be held in.
+     */
+    public boolean canSeat(Reservation party, SeatingCapacity capacity) {
+        return canSeat(party, null, capacity);
+    }
+
+    /**
+     * Returns true if {@code party} can be booked in place of {@code replaced} within {@code capacity} in every hour
+     * it would be held in. The place {@code replaced} holds in each hour is given up first, so a reservation being
+     * edited is not counted against itself. {@code replaced} is null if the party takes no reservation's place.
+     */
+    public boolean canSeat(Reservation party, Reservation replaced, SeatingCapacity capacity) {
+        requireNonNull(party);
+        requireNonNull(capacity);
+        int partySize = party.getDiners().getCount();
+        LocalDateTime hour = party.getDateTime().value;
+        for (int i = 0; i < party.getDuration().getHourSlots(); i++, hour = hour.plusHours(1)) {
+            if (!capacity.canSeat(countReservations(hour, replaced), countCovers(hour, replaced), partySize)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the fewest seats left within {@code capacity} in any hour {@code party} would be held in, once
+     * {@code replaced} has given up its place. {@code replaced} is null if the party takes no reservation's place.
+     */
+    public int getSeatsLeft(Reservation party, Reservation replaced, SeatingCapacity capacity) {
+        requireNonNull(party);
+        requireNonNull(capacity);
+        int seatsLeft = Integer.MAX_VALUE;
+        LocalDateTime hour = party.getDateTime().value;
+        for (int i = 0; i < party.getDuration().getHourSlots(); i++, hour = hour.plusHours(1)) {
+            seatsLeft = Math.min(seatsLeft, capacity.getRemainingSeats(countCovers(hour, replaced)));
+        }
+        return seatsLeft;
+    }
+
+    private int countReservations(LocalDateTime hour, Reservation replaced) {
+        Day day = days.get(hour.toLocalDate());
+        int reservationCount = day == null ? 0 : day.reservationsByHour[hour.getHour()];
+        return isHeldDuring(replaced, hour) ? reservationCount - 1 : reservationCount;
+    }
+
+    private int countCovers(LocalDateTime hour, Reservation replaced) {
+        Day day = days.get(hour.toLocalDate());
+        int covers = day == null ? 0 : day.coversByHour[hour.getHour()];
+        return isHeldDuring(replaced, hour) ? covers - replaced.getDiners().getCount() : covers;
+    }
+
+    private static boolean isHeldDuring(Reservation reservation, LocalDateTime hour) {
+        return reservation != null && reservation.getDateTime().value.isBefore(hour.plusHours(1))
+                && reservation.getEndDateTime().isAfter(hour);
+    }
+
+    /**
+     * Returns up to {@code limit} hours at which a party of {@code partySize} can start a reservation lasting
+     * {@code duration} within {@code capacity}, earliest first, from {@code from} up to and including {@code until}.
+     * Each day takes one pass over its 24 hourly counters (and those of the next day, for a reservation that may
+     * run past midnight), and each hour found a few bit operations, so the work done grows with the number of hours
+     * returned and fully booked days passed over, not with the number of reservations.
+     */
+    public List<LocalDateTime> findAvailableHours(LocalDateTime from, LocalDateTime until, SeatingCapacity capacity,
+                                                  int partySize, Duration duration, int limit) {
+        requireNonNull(from);
+        requireNonNull(until);
+        requireNonNull(capacity);
+        requireNonNull(duration);
+        List<LocalDateTime> availableHours = new ArrayList<>();
+        // reservations start on the hour, so an hour part-way gone is no longer available
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        if (start.isBefore(from)) {
+            start = start.plusHours(1);
+        }
+
+        LocalDate lastDate = until.toLocalDate();
+        int firstHour = start.getHour();
+        for (LocalDate date = start.toLocalDate(); !date.isAfter(lastDate) && availableHours.size() < limit;
+                date = date.plusDays(1)) {
+            int available = getAvailableStartHours(date, capacity, partySize, duration.getHourSlots())
+                    & (-1 << firstHour);
+            if (date.equals(lastDate)) {
+                available &= (1 << (until.getHour() + 1)) - 1;
+            }
+            while (available != 0 && availableHours.size() < limit) {
+                int hour = Integer.numberOfTrailingZeros(available);
+                availableHours.add(date.atTime(hour, 0));
+                available &= available - 1;
+            }
+            firstHour = 0;
+        }
+        return availableHours;
+    }
+
+    /**
+     * Returns the hours of {@code date} from which all of the next {@code hourSlots} hours can still seat a party of
+     * {@code partySize}, as a mask.
+     */
+    private int getAvailableStartHours(LocalDate date, SeatingCapacity capacity, int partySize, int hourSlots) {
+        long available = getAvailableHours(date, capacity, partySize);
+        if (hourSlots > 1) {
+            available |= (long) getAvailableHours(date.plusDays(1), capacity, partySize) << HOURS_PER_DAY;
+        }
+        long startHours = available;
+        for (int i = 1; i < hourSlots; i++) {
+            startHours &= available >>> i;
+        }
+        return (int) (startHours & FULL_DAY);
+    }
+
+    /**
+     * Returns true if there is no reservation at {@code hour} o'clock in the day given by {@code occupiedHours}.
+     */
+    public static boolean isOpen(int occupiedHours, int hour) {
+        return (occupiedHours & (1 << hour)) == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DailyOccupancy)) {
+            return false;
+        }
+
+        DailyOccupancy otherOccupancy = (DailyOccupancy) other;
+        return days.equals(otherOccupancy.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return days.hashCode();
+    }
+
+    /**
+     * Occupancy of a single day.
+     */
+    private static class Day {
+        private final int[] reservationsByHour;
+        private final int[] coversByHour;
+        private int occupiedHours;
+
+        Day() {
+            reservationsByHour = new int[HOURS_PER_DAY];
+            coversByHour = new int[HOURS_PER_DAY];
+        }
+
+        Day(Day toBeCopied) {
+            reservationsByHour = toBeCopied.reservationsByHour.clone();
+            coversByHour = toBeCopied.coversByHour.clone();
+            occupiedHours = toBeCopied.occupiedHours;
+        }
+
+        void add(int hour, int covers) {
+            reservationsByHour[hour]++;
+            coversByHour[hour] += covers;
+            occupiedHours |= 1 << hour;
+        }
+
+        void remove(int hour, int covers) {
+            coversByHour[hour] -= covers;
+            if (--reservationsByHour[hour] == 0) {
+                occupiedHours &= ~(1 << hour);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Day
+                    && Arrays.equals(reservationsByHour, ((Day) other).reservationsByHour)
+                    && Arrays.equals(coversByHour, ((Day) other).coversByHour);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(reservationsByHour) * 31 + Arrays.hashCode(coversByHour);
+        }
+    }
+}
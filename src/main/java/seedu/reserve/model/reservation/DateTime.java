@@ -28,6 +28,7 @@ public class DateTime implements Comparable<DateTime> {
             + "2. The date must be after the current date but within 60 days from now.";
     public static final String MESSAGE_CONSTRAINTS_FILTER = "DateTime must be in the format YYYY-MM-DD HHmm, "
             + "must be a valid calendar date and the time must be in hourly increments. \n";
+    public static final int MAX_BOOKING_DAYS = 60;
     public static final String VALIDATION_REGEX = "^\\d{4}-\\d{2}-\\d{2} \\d{4}$";
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HHmm")
             .withResolverStyle(ResolverStyle.STRICT);
@@ -107,12 +108,26 @@ public class DateTime implements Comparable<DateTime> {
         return dateTime.isAfter(currentDateTime);
     }
 
+    /**
+     * Returns the earliest date-time that can be booked, which is the hour after the current one.
+     */
+    public static LocalDateTime getEarliestBookingDateTime() {
+        return currentDateTime.plusHours(1);
+    }
+
+    /**
+     * Returns the latest date-time that can be booked, 60 days from the current time.
+     */
+    public static LocalDateTime getLatestBookingDateTime() {
+        return currentDateTime.plusDays(MAX_BOOKING_DAYS);
+    }
+
     /**
      * Returns true if the given DateTime is before 60 days from the current time.
      */
     public static boolean isBeforeMaxBookingTime(LocalDateTime dateTime) throws ParseException {
-        LocalDateTime maxBookingDateTime = currentDateTime.plusDays(60);
-        assert(maxBookingDateTime.isBefore(currentDateTime.plusDays(61)));
+        LocalDateTime maxBookingDateTime = getLatestBookingDateTime();
+        assert(maxBookingDateTime.isBefore(currentDateTime.plusDays(MAX_BOOKING_DAYS + 1)));
         return dateTime.isBefore(maxBookingDateTime) || dateTime.isEqual(maxBookingDateTime);
     }
 
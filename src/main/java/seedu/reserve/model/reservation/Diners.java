@@ -14,6 +14,7 @@ public class Diners {
     public static final int MAX_DINERS = 10;
 
     public final String value;
+    private final int count;
 
     /**
      * Constructs a {@code Diners}.
@@ -23,15 +24,15 @@ public class Diners {
     public Diners(String numberOfDiners) {
         requireNonNull(numberOfDiners);
         checkArgument(isValidDiners(numberOfDiners), MESSAGE_CONSTRAINTS);
-        value = formatDiners(numberOfDiners);
+        count = Integer.parseInt(numberOfDiners);
+        value = String.valueOf(count);
     }
 
-
     /**
-     * Format the diners string by removing leading zeros.
+     * Returns the number of diners as an {@code int}.
      */
-    private static String formatDiners(String diners) {
-        return String.valueOf(Integer.parseInt(diners));
+    public int getCount() {
+        return count;
     }
 
     /**
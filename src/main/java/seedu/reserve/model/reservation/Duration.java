@@ -0,0 +1,95 @@
+package seedu.reserve.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents how long a reservation holds its seats, in minutes.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDuration(String)}
+ */
+public class Duration {
+
+    public static final int MIN_MINUTES = 30;
+    public static final int MAX_MINUTES = 300;
+    public static final String MESSAGE_CONSTRAINTS = "Duration must be a whole number of minutes between "
+            + MIN_MINUTES + " and " + MAX_MINUTES + ".";
+
+    private static final int MINUTES_PER_HOUR = 60;
+
+    public final String value;
+    private final int minutes;
+
+    /**
+     * Constructs a {@code Duration}.
+     *
+     * @param minutes A valid number of minutes.
+     */
+    public Duration(String minutes) {
+        requireNonNull(minutes);
+        checkArgument(isValidDuration(minutes), MESSAGE_CONSTRAINTS);
+        this.minutes = Integer.parseInt(minutes);
+        value = String.valueOf(this.minutes);
+    }
+
+    /**
+     * Returns the default duration of a reservation for {@code diners}: an hour for up to 4 diners, two hours for
+     * up to 8, and two and a half hours for larger parties.
+     */
+    public static Duration forParty(Diners diners) {
+        requireNonNull(diners);
+        if (diners.getCount() <= 4) {
+            return new Duration("60");
+        }
+        return new Duration(diners.getCount() <= 8 ? "120" : "150");
+    }
+
+    /**
+     * Returns the number of minutes as an {@code int}.
+     */
+    public int getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * Returns the number of hourly slots the reservation takes up, counting a part of an hour as a whole one.
+     */
+    public int getHourSlots() {
+        return (minutes + MINUTES_PER_HOUR - 1) / MINUTES_PER_HOUR;
+    }
+
+    /**
+     * Returns true if a given string is a valid duration.
+     */
+    public static boolean isValidDuration(String test) {
+        try {
+            int number = Integer.parseInt(test);
+            return number >= MIN_MINUTES && number <= MAX_MINUTES;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Duration)) {
+            return false;
+        }
+
+        Duration otherDuration = (Duration) other;
+        return minutes == otherDuration.minutes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(minutes);
+    }
+}
@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Reservation> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Reservation reservation) {
         return keywords.stream()
@@ -0,0 +1,79 @@
+package seedu.reserve.model.reservation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower-cased words of reservation names to the IDs of the reservations whose names
+ * contain them, with the same word matching as {@link NameContainsKeywordsPredicate}.
+ * The set of IDs of a word is kept for as long as the index is, even when it becomes empty, so a view of it handed
+ * out by {@link #getIdsWithToken(String)} stays up to date as reservations are added, edited and removed.
+ * Looking up a word that no reservation has had adds nothing, so searches for misspelt words do not grow the index.
+ * The words held by at least one reservation are also kept in a {@link WordTrie}, to find the words closest to a
+ * partial or misspelt one.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<ReservationId>> postings = new HashMap<>();
+    private final WordTrie words = new WordTrie();
+
+    /**
+     * Adds {@code reservation} to the sets of the words in its name.
+     */
+    void add(Reservation reservation) {
+        for (String token : tokenize(reservation.getName())) {
+            Set<ReservationId> ids = postings.computeIfAbsent(token, unused -> new HashSet<>());
+            if (ids.isEmpty()) {
+                words.add(token);
+            }
+            ids.add(reservation.getId());
+        }
+    }
+
+    /**
+     * Removes {@code reservation} from the sets of the words in its name.
+     */
+    void remove(Reservation reservation) {
+        for (String token : tokenize(reservation.getName())) {
+            Set<ReservationId> ids = postings.get(token);
+            assert ids != null : "Removed a reservation that was never added to the name index";
+            ids.remove(reservation.getId());
+            if (ids.isEmpty()) {
+                words.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every reservation, leaving the sets already handed out empty.
+     */
+    void clear() {
+        postings.values().forEach(Set::clear);
+        words.clear();
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the IDs of the reservations whose names contain {@code token},
+     * ignoring case, or an empty set if no reservation has had the word in its name.
+     */
+    Set<ReservationId> getIdsWithToken(String token) {
+        Set<ReservationId> ids = postings.get(token.toLowerCase());
+        return ids == null ? Set.of() : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Returns at most {@code limit} of the words in reservation names closest to {@code query}, ignoring case, as
+     * ranked by {@link WordTrie#findClosest(String, int)}.
+     */
+    List<String> findClosestTokens(String query, int limit) {
+        return words.findClosest(query.toLowerCase(), limit);
+    }
+
+    private static String[] tokenize(Name name) {
+        return name.fullName.toLowerCase().split("\\s+");
+    }
+}
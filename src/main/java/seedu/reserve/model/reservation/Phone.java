@@ -12,7 +12,6 @@ public class Phone {
         "Phone numbers should only contain numbers,"
                 + " it should begins with either 8 or 9 and it must be exactly 8 digits long";
     public static final String VALIDATION_REGEX = "[89]\\d{7}";
-    private static String concatPhoneNumber;
     public final String value;
 
 
@@ -24,15 +23,21 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = concatPhoneNumber;
+        value = concatPhoneNumber(phone);
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        concatPhoneNumber = test.replaceAll("[^0-9]", "");
-        return concatPhoneNumber.matches(VALIDATION_REGEX);
+        return concatPhoneNumber(test).matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the digits of {@code phone}, leaving out spaces and any other separators.
+     */
+    private static String concatPhoneNumber(String phone) {
+        return phone.replaceAll("[^0-9]", "");
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.reserve.model.reservation;
 
 import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -9,13 +10,18 @@ import java.util.Set;
 
 import seedu.reserve.commons.util.ToStringBuilder;
 import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.table.TableAssignment;
 
 /**
  * Represents a reservation in the reservation book.
+ * The {@link ReservationId} is handed out by the reservation book and only refers to the reservation, so it is not
+ * compared by {@link #equals(Object)} or {@link #isSameReservation(Reservation)}.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Reservation {
 
+    private final ReservationId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,8 +30,10 @@ public class Reservation {
     // Data fields
     private final Diners diners;
     private final DateTime dateTime;
+    private final Duration duration;
     private final Set<Occasion> occasions = new HashSet<>();
     private final Preference preference; // New field for customer preferences
+    private final TableAssignment tableAssignment;
 
     /**
      * Every field must be present and not null.
@@ -38,8 +46,11 @@ public class Reservation {
         this.email = email;
         this.diners = diners;
         this.dateTime = dateTime;
+        this.duration = Duration.forParty(diners);
         this.occasions.addAll(occasions);
         this.preference = new Preference("None"); // Initialize with empty preference
+        this.tableAssignment = TableAssignment.NONE;
+        this.id = ReservationId.UNASSIGNED;
     }
 
     /**
@@ -54,8 +65,53 @@ public class Reservation {
         this.email = email;
         this.diners = diners;
         this.dateTime = dateTime;
+        this.duration = Duration.forParty(diners);
+        this.occasions.addAll(occasions);
+        this.preference = preference;
+        this.tableAssignment = TableAssignment.NONE;
+        this.id = ReservationId.UNASSIGNED;
+    }
+
+    /**
+     * Every field must be present and not null.
+     * This constructor includes the duration, preference and the tables the reservation is seated at.
+     */
+    public Reservation(Name name, Phone phone, Email email, Diners diners, DateTime dateTime, Duration duration,
+                       Set<Occasion> occasions, Preference preference, TableAssignment tableAssignment) {
+        this(ReservationId.UNASSIGNED, name, phone, email, diners, dateTime, duration, occasions, preference,
+                tableAssignment);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * This constructor also includes the ID of a reservation in the reservation book.
+     */
+    public Reservation(ReservationId id, Name name, Phone phone, Email email, Diners diners, DateTime dateTime,
+                       Duration duration, Set<Occasion> occasions, Preference preference,
+                       TableAssignment tableAssignment) {
+        requireAllNonNull(id, name, phone, email, diners, duration, occasions, tableAssignment);
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.diners = diners;
+        this.dateTime = dateTime;
+        this.duration = duration;
         this.occasions.addAll(occasions);
         this.preference = preference;
+        this.tableAssignment = tableAssignment;
+    }
+
+    public ReservationId getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this reservation with the ID {@code id}.
+     */
+    public Reservation withId(ReservationId id) {
+        return new Reservation(id, name, phone, email, diners, dateTime, duration, occasions, preference,
+                tableAssignment);
     }
 
     public Name getName() {
@@ -79,6 +135,17 @@ public class Reservation {
         return dateTime;
     }
 
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the time the reservation ends, which is not part of it.
+     */
+    public LocalDateTime getEndDateTime() {
+        return dateTime.value.plusMinutes(duration.getMinutes());
+    }
+
     /**
      * Returns an immutable occasion set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -91,6 +158,10 @@ public class Reservation {
         return preference;
     }
 
+    public TableAssignment getTableAssignment() {
+        return tableAssignment;
+    }
+
     /**
      * Returns true if both reservations have the phone number and reservation date and time.
      * This defines a weaker notion of equality between two reservations.
@@ -127,14 +198,17 @@ public class Reservation {
                 && email.equals(otherReservation.email)
                 && diners.equals(otherReservation.diners)
                 && dateTime.equals(otherReservation.dateTime)
+                && duration.equals(otherReservation.duration)
                 && occasions.equals(otherReservation.occasions)
-                && preference.equals(otherReservation.preference);
+                && preference.equals(otherReservation.preference)
+                && tableAssignment.equals(otherReservation.tableAssignment);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, diners, dateTime, occasions, preference);
+        return Objects.hash(name, phone, email, diners, dateTime, duration, occasions, preference,
+                tableAssignment);
     }
 
     @Override
@@ -145,8 +219,11 @@ public class Reservation {
                 .add("email", email)
                 .add("diners", diners)
                 .add("dateTime", dateTime)
+                .add("duration", duration)
                 .add("occasion", occasions)
                 .add("preference", preference)
+                .add("tableAssignment", tableAssignment)
+                .add("id", id)
                 .toString();
     }
 
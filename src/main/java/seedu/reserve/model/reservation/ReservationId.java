@@ -0,0 +1,86 @@
+package seedu.reserve.model.reservation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the ID a reservation keeps for as long as it is in the reservation book, such as {@code #12}.
+ * IDs are handed out by the reservation book when a reservation is added, so a reservation that has not been
+ * added yet has the {@link #UNASSIGNED} ID.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
+ */
+public class ReservationId {
+
+    public static final String PREFIX = "#";
+    public static final String MESSAGE_CONSTRAINTS = "Reservation IDs should be written as '" + PREFIX
+            + "' followed by a positive whole number, such as " + PREFIX + "12.";
+    public static final String VALIDATION_REGEX = PREFIX + "[1-9]\\d{0,17}";
+
+    /** The ID of a reservation that is not in the reservation book. */
+    public static final ReservationId UNASSIGNED = new ReservationId(0);
+
+    public final long value;
+
+    private ReservationId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Constructs a {@code ReservationId}.
+     *
+     * @param id A valid reservation ID, such as {@code "#12"}.
+     */
+    public ReservationId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = Long.parseLong(id.substring(PREFIX.length()));
+    }
+
+    /**
+     * Returns the {@code ReservationId} with the number {@code value}, which must be positive.
+     */
+    public static ReservationId of(long value) {
+        checkArgument(value > 0, MESSAGE_CONSTRAINTS);
+        return new ReservationId(value);
+    }
+
+    /**
+     * Returns true if a given string is a valid reservation ID.
+     */
+    public static boolean isValidId(String test) {
+        return test != null && test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns true if this is the ID of a reservation in the reservation book.
+     */
+    public boolean isAssigned() {
+        return value != 0;
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReservationId)) {
+            return false;
+        }
+
+        ReservationId otherId = (ReservationId) other;
+        return value == otherId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
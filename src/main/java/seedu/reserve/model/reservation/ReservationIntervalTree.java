@@ -0,0 +1,194 @@
+package seedu.reserve.model.reservation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An interval tree of reservations, keyed on the time each reservation is held, from its start up to but not
+ * including its end.
+ * The tree is a treap ordered by start time, in which every node also records the latest end time in its subtree.
+ * Subtrees that end before a queried period are skipped, so finding the {@code k} reservations overlapping a period
+ * takes O(log n + k) expected time. Adding and removing a reservation take O(log n) expected time.
+ */
+class ReservationIntervalTree {
+
+    private final Map<Reservation, Node> nodes = new HashMap<>();
+    private Node root;
+    private long nextSequence;
+
+    /**
+     * Adds {@code reservation}, which must not be in the tree already.
+     */
+    void add(Reservation reservation) {
+        assert !nodes.containsKey(reservation) : "Reservation added to the interval tree twice";
+        Node node = new Node(reservation, nextSequence++);
+        nodes.put(reservation, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes {@code reservation}, which must be in the tree.
+     */
+    void remove(Reservation reservation) {
+        Node node = nodes.remove(reservation);
+        assert node != null : "Removed a reservation that was never added to the interval tree";
+        root = delete(root, node);
+    }
+
+    void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the reservations held at some time from {@code from} up to but not including {@code until}, ordered
+     * by their start time.
+     */
+    List<Reservation> findOverlapping(LocalDateTime from, LocalDateTime until) {
+        List<Reservation> overlapping = new ArrayList<>();
+        collectOverlapping(root, toEpochMinute(from), toEpochMinute(until), overlapping);
+        return overlapping;
+    }
+
+    private static void collectOverlapping(Node node, long from, long until, List<Reservation> overlapping) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collectOverlapping(node.left, from, until, overlapping);
+        if (node.start >= until) {
+            // everything to the right starts even later
+            return;
+        }
+        if (node.end > from) {
+            overlapping.add(node.reservation);
+        }
+        collectOverlapping(node.right, from, until, overlapping);
+    }
+
+    private static Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.compareTo(subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private static Node delete(Node subtree, Node node) {
+        assert subtree != null;
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+        if (node.compareTo(subtree) < 0) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    /**
+     * Joins two treaps, where every node of {@code left} comes before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        return pivot;
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * A reservation in the tree. Nodes are ordered by start time, then by the order they were added in.
+     */
+    private static class Node implements Comparable<Node> {
+        private final Reservation reservation;
+        private final long start;
+        private final long end;
+        private final long sequence;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Reservation reservation, long sequence) {
+            this.reservation = reservation;
+            this.start = toEpochMinute(reservation.getDateTime().value);
+            this.end = toEpochMinute(reservation.getEndDateTime());
+            this.sequence = sequence;
+            this.priority = scramble(sequence);
+            this.maxEnd = end;
+        }
+
+        /**
+         * Returns a pseudo-random priority for the node added {@code sequence}th, so the treap stays balanced
+         * whatever order reservations are added in, while staying the same from run to run.
+         */
+        private static int scramble(long sequence) {
+            long z = sequence * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return (int) (z ^ (z >>> 31));
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int byStart = Long.compare(start, other.start);
+            return byStart != 0 ? byStart : Long.compare(sequence, other.sequence);
+        }
+    }
+}
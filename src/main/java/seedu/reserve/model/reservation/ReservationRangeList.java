@@ -0,0 +1,177 @@
+package seedu.reserve.model.reservation;
+
+import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a list of reservations sorted by date-time that shows only the reservations from a start to an end
+ * date-time inclusive, or the whole list when no range is set.
+ * The reservations in the range are a contiguous run of the sorted list, so the view only keeps the bounds of that
+ * run. Setting a range finds the bounds by binary search, and later changes to the list move the bounds by the
+ * number of reservations added or removed before them, without looking at the rest of the list.
+ */
+public class ReservationRangeList extends TransformationList<Reservation, Reservation> {
+
+    // Both null when the whole list is shown
+    private DateTime start;
+    private DateTime end;
+    private int from;
+    private int to;
+
+    /**
+     * Creates a view of the whole of {@code source}, which must be kept sorted by date-time.
+     */
+    public ReservationRangeList(ObservableList<? extends Reservation> source) {
+        super(source);
+        to = source.size();
+    }
+
+    /**
+     * Shows only the reservations from {@code start} to {@code end} inclusive.
+     */
+    public void setRange(DateTime start, DateTime end) {
+        requireAllNonNull(start, end);
+        updateRange(start, end);
+    }
+
+    /**
+     * Shows the whole list again.
+     */
+    public void clearRange() {
+        updateRange(null, null);
+    }
+
+    private void updateRange(DateTime start, DateTime end) {
+        int oldFrom = from;
+        int oldTo = to;
+        this.start = start;
+        this.end = end;
+        from = start == null ? 0 : UniqueReservationList.findSlotStart(getSource(), start);
+        to = end == null ? getSource().size() : Math.max(from, UniqueReservationList.findSlotEnd(getSource(), end));
+        if (from == oldFrom && to == oldTo) {
+            return;
+        }
+
+        beginChange();
+        if (oldFrom < oldTo) {
+            nextRemove(0, getSource().subList(oldFrom, oldTo));
+        }
+        if (from < to) {
+            nextAdd(0, to - from);
+        }
+        endChange();
+    }
+
+    private boolean isBeforeRange(Reservation reservation) {
+        return start != null && reservation.getDateTime().compareTo(start) < 0;
+    }
+
+    private boolean isAfterRange(Reservation reservation) {
+        return end != null && reservation.getDateTime().compareTo(end) > 0;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Reservation> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on a reordering of the list. The list stays sorted, so only reservations at the same date-time can
+     * trade places, and none of them moves into or out of the range.
+     */
+    private void permute(ListChangeListener.Change<? extends Reservation> c) {
+        int permutedFrom = Math.max(c.getFrom(), from);
+        int permutedTo = Math.min(c.getTo(), to);
+        if (permutedFrom >= permutedTo) {
+            return;
+        }
+        int[] permutation = new int[permutedTo - permutedFrom];
+        for (int i = permutedFrom; i < permutedTo; i++) {
+            permutation[i - permutedFrom] = c.getPermutation(i) - from;
+        }
+        nextPermutation(permutedFrom - from, permutedTo - from, permutation);
+    }
+
+    private void update(ListChangeListener.Change<? extends Reservation> c) {
+        for (int i = Math.max(c.getFrom(), from); i < Math.min(c.getTo(), to); i++) {
+            nextUpdate(i - from);
+        }
+    }
+
+    /**
+     * Passes on the reservations removed from and added to the range, and moves the bounds past the ones removed
+     * or added before it.
+     */
+    private void addRemove(ListChangeListener.Change<? extends Reservation> c) {
+        int changeFrom = c.getFrom();
+        if (c.wasRemoved()) {
+            int removedTo = changeFrom + c.getRemovedSize();
+            int removedBefore = Math.max(0, Math.min(removedTo, from) - changeFrom);
+            int overlapFrom = Math.max(changeFrom, from);
+            int overlapTo = Math.min(removedTo, to);
+            if (overlapFrom < overlapTo) {
+                nextRemove(overlapFrom - from,
+                        c.getRemoved().subList(overlapFrom - changeFrom, overlapTo - changeFrom));
+            }
+            from -= removedBefore;
+            to -= removedBefore + Math.max(0, overlapTo - overlapFrom);
+        }
+
+        if (c.wasAdded()) {
+            // the list is sorted, so the added reservations before the range come first, then those in it
+            int addedBefore = 0;
+            int addedInRange = 0;
+            for (int i = changeFrom; i < c.getTo(); i++) {
+                Reservation added = getSource().get(i);
+                if (isBeforeRange(added)) {
+                    addedBefore++;
+                } else if (!isAfterRange(added)) {
+                    addedInRange++;
+                }
+            }
+            from += addedBefore;
+            to += addedBefore + addedInRange;
+            if (addedInRange > 0) {
+                int addedFrom = changeFrom + addedBefore - from;
+                nextAdd(addedFrom, addedFrom + addedInRange);
+            }
+        }
+    }
+
+    @Override
+    public Reservation get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return from + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index >= from && index < to ? index - from : -1;
+    }
+
+}
@@ -3,13 +3,22 @@ package seedu.reserve.model.reservation;
 import static java.util.Objects.requireNonNull;
 import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.reserve.model.SeatingCapacity;
 import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
 import seedu.reserve.model.reservation.exceptions.ReservationNotFoundException;
 
@@ -21,19 +30,43 @@ import seedu.reserve.model.reservation.exceptions.ReservationNotFoundException;
  * UniqueReservationList. However, the removal of a reservation uses Reservation#equals(Object) so
  * as to ensure that the reservation with exactly the same fields will be removed.
  *
+ * The list is kept sorted by {@code DateTime}. Reservations are additionally indexed by their {@code DateTime}
+ * in a {@code NavigableMap} of time slots, so that the position of a reservation in the list can be found by
+ * binary search instead of a linear scan. Identity checks are answered by hash indexes on
+ * (phone, date-time) and (email, date-time), which are exactly the fields compared by
+ * {@code Reservation#isSameReservation(Reservation)}. The hours booked on each day are tracked in a
+ * {@link DailyOccupancy}, the time each reservation is held, from its start to its end, in a
+ * {@link ReservationIntervalTree}, and the words of the reservation names in a {@link NameTokenIndex}. The
+ * reservations of each customer are found through {@link ContactIndex}es on their phone number and email.
+ *
+ * Every reservation in the list has a {@link ReservationId}, handed out in increasing order as reservations are
+ * added and kept when a reservation is edited. The IDs are indexed in a hash map, so a reservation is looked up by
+ * its ID, and found for an edit or removal, without comparing it with any other reservation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Reservation#isSameReservation(Reservation)
  */
 public class UniqueReservationList implements Iterable<Reservation> {
 
-    private final Set<Reservation> internalSet = new TreeSet<>((r1, r2) -> {
-        int compareResult = r1.getDateTime().compareTo(r2.getDateTime());
-        if (compareResult == 0) {
-            return 0; // Consider duplicate if same date and time
-        }
-        return compareResult;
-    });
+    private static final Comparator<Reservation> DATE_TIME_COMPARATOR =
+            Comparator.comparing(Reservation::getDateTime);
+
+    /**
+     * Reservations grouped by their date-time. Each slot holds its reservations in the same relative order
+     * as they appear in {@code internalList}.
+     */
+    private final NavigableMap<DateTime, List<Reservation>> slots = new TreeMap<>();
+    private final Map<IdentityKey, Reservation> phoneIndex = new HashMap<>();
+    private final Map<IdentityKey, Reservation> emailIndex = new HashMap<>();
+    private final Map<ReservationId, Reservation> idIndex = new HashMap<>();
+    private long nextId = 1;
+    private final DailyOccupancy occupancy = new DailyOccupancy();
+    private final ReservationIntervalTree intervals = new ReservationIntervalTree();
+    private final NameTokenIndex nameTokens = new NameTokenIndex();
+    private final ContactIndex reservationsByPhone = new ContactIndex(reservation -> reservation.getPhone().value);
+    private final ContactIndex reservationsByEmail =
+            new ContactIndex(reservation -> normaliseEmail(reservation.getEmail()));
 
     private final ObservableList<Reservation> internalList = FXCollections.observableArrayList();
     private final ObservableList<Reservation> internalUnmodifiableList =
@@ -44,49 +77,165 @@ public class UniqueReservationList implements Iterable<Reservation> {
      */
     public boolean contains(Reservation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameReservation);
+        return phoneIndex.containsKey(phoneKey(toCheck)) || emailIndex.containsKey(emailKey(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a reservation other than {@code excluded} with the same identity as
+     * {@code toCheck}.
+     */
+    public boolean containsOtherThan(Reservation toCheck, Reservation excluded) {
+        requireAllNonNull(toCheck, excluded);
+        Reservation samePhone = phoneIndex.get(phoneKey(toCheck));
+        Reservation sameEmail = emailIndex.get(emailKey(toCheck));
+        return (samePhone != null && !samePhone.equals(excluded))
+                || (sameEmail != null && !sameEmail.equals(excluded));
+    }
+
+    private static IdentityKey phoneKey(Reservation reservation) {
+        return new IdentityKey(reservation.getPhone(), reservation.getDateTime());
+    }
+
+    private static IdentityKey emailKey(Reservation reservation) {
+        return new IdentityKey(reservation.getEmail(), reservation.getDateTime());
+    }
+
+    private void addToIdentityIndexes(Reservation reservation) {
+        phoneIndex.put(phoneKey(reservation), reservation);
+        emailIndex.put(emailKey(reservation), reservation);
+    }
+
+    private void removeFromIdentityIndexes(Reservation reservation) {
+        phoneIndex.remove(phoneKey(reservation));
+        emailIndex.remove(emailKey(reservation));
     }
 
     /**
      * Adds a reservation to the list.
-     * The reservation must not already exist in the list.
+     * The reservation must not already exist in the list. It is given the next free ID, unless it already has an
+     * ID that no reservation in the list has.
      */
     public void add(Reservation toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateReservationException();
         }
-        int idx = findInsertIndex(toAdd);
-        internalList.add(idx, toAdd);
+        Reservation identified = toAdd;
+        if (!toAdd.getId().isAssigned() || idIndex.containsKey(toAdd.getId())) {
+            identified = toAdd.withId(ReservationId.of(nextId));
+        }
+        nextId = Math.max(nextId, identified.getId().value + 1);
+        insert(identified);
     }
 
     /**
-     * Find index of the list for the reservation to insert into based on the DateTime.
-     * Ensure list is remains sorted in ascending order.
-     *
-     * @param toInsert The reservation to be inserted into the list.
-     * @return The index of the location the reservation will be inserted.
-     * */
-    private int findInsertIndex(Reservation toInsert) {
-        int idx = 0;
-        while (idx < internalList.size() && compareDateTime(internalList.get(idx), toInsert)) {
-            idx++;
+     * Returns the reservation with the ID {@code id}, if there is one in the list.
+     */
+    public Optional<Reservation> get(ReservationId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Inserts {@code toInsert} in front of any reservations with the same {@code DateTime},
+     * keeping the list sorted in ascending order.
+     */
+    private void insert(Reservation toInsert) {
+        int idx = findSlotStart(toInsert.getDateTime());
+        slots.computeIfAbsent(toInsert.getDateTime(), unused -> new ArrayList<>()).add(0, toInsert);
+        addToIdentityIndexes(toInsert);
+        idIndex.put(toInsert.getId(), toInsert);
+        occupancy.add(toInsert);
+        intervals.add(toInsert);
+        nameTokens.add(toInsert);
+        reservationsByPhone.add(toInsert);
+        reservationsByEmail.add(toInsert);
+        internalList.add(idx, toInsert);
+    }
+
+    private int findSlotStart(DateTime dateTime) {
+        return findSlotStart(internalList, dateTime);
+    }
+
+    /**
+     * Returns the index of the first reservation in {@code reservations}, which is sorted by date-time, whose
+     * {@code DateTime} is not earlier than {@code dateTime}, or the size of the list if there is none.
+     */
+    static int findSlotStart(List<? extends Reservation> reservations, DateTime dateTime) {
+        int low = 0;
+        int high = reservations.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (reservations.get(mid).getDateTime().compareTo(dateTime) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
-        return idx;
+        return low;
     }
 
     /**
-     * Compare DateTime of two reservation.
-     * @param reservation The current reservation in the list.
-     * @param toInsert The new reservation to be inserted.
-     * @retun {@code true} if {@code reservation} has earlier DateTime than {@code toInsert}, otherwise {@code false}.
-     * */
-    private boolean compareDateTime(Reservation reservation, Reservation toInsert) {
-        return reservation.getDateTime().compareTo(toInsert.getDateTime()) < 0;
+     * Returns the index of the first reservation in {@code reservations}, which is sorted by date-time, whose
+     * {@code DateTime} is later than {@code dateTime}, or the size of the list if there is none.
+     */
+    static int findSlotEnd(List<? extends Reservation> reservations, DateTime dateTime) {
+        int low = 0;
+        int high = reservations.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (reservations.get(mid).getDateTime().compareTo(dateTime) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
-     * Replaces the reservation {@code target} in the list with {@code editedReservation}.
+     * Returns the index of {@code target} in the list, or -1 if the list does not contain it.
+     * The reservation is looked up by its ID, or by its phone number and date-time if it has no ID in this list,
+     * and only compared with the one reservation found.
+     */
+    private int indexOf(Reservation target) {
+        Reservation stored = idIndex.get(target.getId());
+        if (stored == null || !stored.equals(target)) {
+            stored = phoneIndex.get(phoneKey(target));
+            if (stored == null || !stored.equals(target)) {
+                return -1;
+            }
+        }
+        List<Reservation> slot = slots.get(stored.getDateTime());
+        int offset = 0;
+        while (slot.get(offset) != stored) {
+            offset++;
+        }
+        return findSlotStart(stored.getDateTime()) + offset;
+    }
+
+    /**
+     * Removes the reservation at {@code index} of the list from both the list and its time slot.
+     */
+    private void removeAt(int index) {
+        Reservation removed = internalList.remove(index);
+        removeFromIdentityIndexes(removed);
+        idIndex.remove(removed.getId());
+        occupancy.remove(removed);
+        intervals.remove(removed);
+        nameTokens.remove(removed);
+        reservationsByPhone.remove(removed);
+        reservationsByEmail.remove(removed);
+        List<Reservation> slot = slots.get(removed.getDateTime());
+        slot.remove(index - findSlotStart(removed.getDateTime()));
+        if (slot.isEmpty()) {
+            slots.remove(removed.getDateTime());
+        }
+    }
+
+    /**
+     * Replaces the reservation {@code target} in the list with {@code editedReservation}, which keeps the ID of
+     * {@code target}.
      * {@code target} must exist in the list.
      * The reservation identity of {@code editedReservation} must not be the same as another existing reservation
      * in the list.
@@ -94,17 +243,41 @@ public class UniqueReservationList implements Iterable<Reservation> {
     public void setReservation(Reservation target, Reservation editedReservation) {
         requireAllNonNull(target, editedReservation);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ReservationNotFoundException();
         }
 
-        if (!target.isSameReservation(editedReservation) && contains(editedReservation)) {
+        Reservation stored = internalList.get(index);
+        if (containsOtherThan(editedReservation, stored)) {
             throw new DuplicateReservationException();
         }
-        internalList.remove(index);
-        int idx = findInsertIndex(editedReservation);
-        internalList.add(idx, editedReservation);
+        if (!editedReservation.getId().equals(stored.getId())) {
+            editedReservation = editedReservation.withId(stored.getId());
+        }
+
+        if (target.getDateTime().equals(editedReservation.getDateTime())) {
+            List<Reservation> slot = slots.get(target.getDateTime());
+            slot.set(index - findSlotStart(target.getDateTime()), editedReservation);
+            removeFromIdentityIndexes(stored);
+            addToIdentityIndexes(editedReservation);
+            idIndex.put(editedReservation.getId(), editedReservation);
+            occupancy.remove(stored);
+            occupancy.add(editedReservation);
+            intervals.remove(stored);
+            intervals.add(editedReservation);
+            nameTokens.remove(stored);
+            nameTokens.add(editedReservation);
+            reservationsByPhone.remove(stored);
+            reservationsByPhone.add(editedReservation);
+            reservationsByEmail.remove(stored);
+            reservationsByEmail.add(editedReservation);
+            internalList.set(index, editedReservation);
+            return;
+        }
+
+        removeAt(index);
+        insert(editedReservation);
     }
 
     /**
@@ -113,27 +286,244 @@ public class UniqueReservationList implements Iterable<Reservation> {
      */
     public void remove(Reservation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ReservationNotFoundException();
         }
+        removeAt(index);
     }
 
     public void setReservations(UniqueReservationList replacement) {
         requireNonNull(replacement);
+        slots.clear();
+        for (Map.Entry<DateTime, List<Reservation>> entry : replacement.slots.entrySet()) {
+            slots.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        nextId = replacement.nextId;
+        occupancy.setAll(replacement.occupancy);
+        intervals.clear();
+        replacement.internalList.forEach(intervals::add);
+        nameTokens.clear();
+        replacement.internalList.forEach(nameTokens::add);
+        reservationsByPhone.clear();
+        replacement.internalList.forEach(reservationsByPhone::add);
+        reservationsByEmail.clear();
+        replacement.internalList.forEach(reservationsByEmail::add);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code reservations}.
-     * {@code reservations} must not contain duplicate reservations.
+     * {@code reservations} must not contain duplicate reservations. The reservations keep their IDs, except for
+     * those without one or with the same ID as an earlier reservation, which are given new IDs in list order.
      */
     public void setReservations(List<Reservation> reservations) {
         requireAllNonNull(reservations);
-        if (!reservationsAreUnique(reservations)) {
-            throw new DuplicateReservationException();
+        replaceContents(reservations, 1);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code reservations} as {@link #setReservations(List)} does, handing
+     * out new IDs from {@code firstFreeId} or above.
+     */
+    private void replaceContents(List<Reservation> reservations, long firstFreeId) {
+        long newNextId = firstFreeId;
+        for (Reservation reservation : reservations) {
+            newNextId = Math.max(newNextId, reservation.getId().value + 1);
+        }
+        Map<ReservationId, Reservation> newIdIndex = new HashMap<>();
+        List<Reservation> identifiedReservations = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            Reservation identified = reservation;
+            if (!reservation.getId().isAssigned() || newIdIndex.containsKey(reservation.getId())) {
+                identified = reservation.withId(ReservationId.of(newNextId++));
+            }
+            newIdIndex.put(identified.getId(), identified);
+            identifiedReservations.add(identified);
         }
 
-        internalList.setAll(reservations);
+        Map<IdentityKey, Reservation> newPhoneIndex = new HashMap<>();
+        Map<IdentityKey, Reservation> newEmailIndex = new HashMap<>();
+        for (Reservation reservation : identifiedReservations) {
+            if (newPhoneIndex.putIfAbsent(phoneKey(reservation), reservation) != null
+                    || newEmailIndex.putIfAbsent(emailKey(reservation), reservation) != null) {
+                throw new DuplicateReservationException();
+            }
+        }
+
+        List<Reservation> sortedReservations = identifiedReservations;
+        sortedReservations.sort(DATE_TIME_COMPARATOR);
+
+        slots.clear();
+        occupancy.clear();
+        intervals.clear();
+        nameTokens.clear();
+        reservationsByPhone.clear();
+        reservationsByEmail.clear();
+        for (Reservation reservation : sortedReservations) {
+            slots.computeIfAbsent(reservation.getDateTime(), unused -> new ArrayList<>()).add(reservation);
+            occupancy.add(reservation);
+            intervals.add(reservation);
+            nameTokens.add(reservation);
+            reservationsByPhone.add(reservation);
+            reservationsByEmail.add(reservation);
+        }
+        phoneIndex.clear();
+        phoneIndex.putAll(newPhoneIndex);
+        emailIndex.clear();
+        emailIndex.putAll(newEmailIndex);
+        idIndex.clear();
+        idIndex.putAll(newIdIndex);
+        nextId = newNextId;
+        internalList.setAll(sortedReservations);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list in a single batch.
+     * The batch is sorted once and published to observers with a single change, instead of one change per
+     * reservation. None of the reservations may share an identity with each other or with one already in the list.
+     */
+    public void addAll(List<Reservation> toAdd) {
+        requireNonNull(toAdd);
+        List<Reservation> merged = new ArrayList<>(internalList.size() + toAdd.size());
+        merged.addAll(internalList);
+        merged.addAll(toAdd);
+        replaceContents(merged, nextId);
+    }
+
+    /**
+     * Returns the reservations at {@code dateTime} in list order, as an unmodifiable list.
+     */
+    public List<Reservation> getReservationsAt(DateTime dateTime) {
+        requireNonNull(dateTime);
+        List<Reservation> slot = slots.get(dateTime);
+        return slot == null ? List.of() : List.copyOf(slot);
+    }
+
+    /**
+     * Returns the IDs of the reservations whose names contain the word {@code token}, ignoring case, as an
+     * unmodifiable view that follows later changes to the list, or an empty set if no reservation has had the word
+     * in its name.
+     */
+    public Set<ReservationId> getIdsWithNameToken(String token) {
+        requireNonNull(token);
+        return nameTokens.getIdsWithToken(token);
+    }
+
+    /**
+     * Returns at most {@code limit} of the words in reservation names that start with {@code query} or are within a
+     * mistake or two of it, ignoring case, closest first.
+     */
+    public List<String> findClosestNameTokens(String query, int limit) {
+        requireNonNull(query);
+        return nameTokens.findClosestTokens(query, limit);
+    }
+
+    /**
+     * Returns the IDs of the reservations with the phone number {@code phone}, as an unmodifiable view that follows
+     * later changes to the list, or an empty set if no reservation has had the phone number.
+     */
+    public Set<ReservationId> getIdsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return reservationsByPhone.getIds(phone.value);
+    }
+
+    /**
+     * Returns the IDs of the reservations with the email {@code email}, ignoring case, as an unmodifiable view that
+     * follows later changes to the list, or an empty set if no reservation has had the email.
+     */
+    public Set<ReservationId> getIdsWithEmail(Email email) {
+        requireNonNull(email);
+        return reservationsByEmail.getIds(normaliseEmail(email));
+    }
+
+    private static String normaliseEmail(Email email) {
+        return email.value.toLowerCase();
+    }
+
+    /**
+     * Returns the reservations held at some time from {@code from} up to but not including {@code until}, ordered
+     * by their start time.
+     */
+    public List<Reservation> getOverlapping(LocalDateTime from, LocalDateTime until) {
+        requireAllNonNull(from, until);
+        return intervals.findOverlapping(from, until);
+    }
+
+    /**
+     * Returns the booked hours of {@code date} as a mask, with bit {@code h} set if there is a reservation held
+     * during the hour from {@code h} o'clock.
+     */
+    public int getOccupiedHours(LocalDate date) {
+        return occupancy.getOccupiedHours(date);
+    }
+
+    /**
+     * Returns the number of reservations held during the hour from {@code dateTime}.
+     */
+    public int getReservationCount(DateTime dateTime) {
+        return occupancy.getReservationCount(dateTime);
+    }
+
+    /**
+     * Returns the number of diners booked during the hour from {@code dateTime}.
+     */
+    public int getCovers(DateTime dateTime) {
+        return occupancy.getCovers(dateTime);
+    }
+
+    /**
+     * Returns the number of diners booked at each hour of {@code date}.
+     */
+    public int[] getCoversByHour(LocalDate date) {
+        return occupancy.getCoversByHour(date);
+    }
+
+    /**
+     * Returns the hours of {@code date} that can still seat a party of {@code partySize} within {@code capacity}
+     * as a mask, with bit {@code h} set if {@code h} o'clock can.
+     */
+    public int getAvailableHours(LocalDate date, SeatingCapacity capacity, int partySize) {
+        return occupancy.getAvailableHours(date, capacity, partySize);
+    }
+
+    /**
+     * Returns true if {@code party} can still be booked within {@code capacity} in every hour it would be held in.
+     */
+    public boolean canSeat(Reservation party, SeatingCapacity capacity) {
+        return occupancy.canSeat(party, capacity);
+    }
+
+    /**
+     * Returns true if {@code party} can be booked in place of {@code replaced} within {@code capacity} in every hour
+     * it would be held in. {@code replaced} is null if the party takes no reservation's place.
+     */
+    public boolean canSeat(Reservation party, Reservation replaced, SeatingCapacity capacity) {
+        return occupancy.canSeat(party, replaced, capacity);
+    }
+
+    /**
+     * Returns the fewest seats left within {@code capacity} in any hour {@code party} would be held in, once
+     * {@code replaced} has given up its place. {@code replaced} is null if the party takes no reservation's place.
+     */
+    public int getSeatsLeft(Reservation party, Reservation replaced, SeatingCapacity capacity) {
+        return occupancy.getSeatsLeft(party, replaced, capacity);
+    }
+
+    /**
+     * Returns up to {@code limit} hours at which a party of {@code partySize} can start a reservation lasting
+     * {@code duration} within {@code capacity}, earliest first, from {@code from} up to and including
+     * {@code until}.
+     */
+    public List<LocalDateTime> findAvailableHours(LocalDateTime from, LocalDateTime until, SeatingCapacity capacity,
+                                                  int partySize, Duration duration, int limit) {
+        return occupancy.findAvailableHours(from, until, capacity, partySize, duration, limit);
     }
 
     /**
@@ -174,16 +564,7 @@ public class UniqueReservationList implements Iterable<Reservation> {
     }
 
     /**
-     * Returns true if {@code reservations} contains only unique reservations.
+     * Hash key of a contact detail (phone or email) booked at a particular date-time.
      */
-    private boolean reservationsAreUnique(List<Reservation> reservations) {
-        for (int i = 0; i < reservations.size() - 1; i++) {
-            for (int j = i + 1; j < reservations.size(); j++) {
-                if (reservations.get(i).isSameReservation(reservations.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
+    private record IdentityKey(Object contact, DateTime dateTime) {}
 }
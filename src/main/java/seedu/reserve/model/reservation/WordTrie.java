@@ -0,0 +1,222 @@
+package seedu.reserve.model.reservation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * A trie of distinct words that finds the words closest to a possibly partial or misspelt query.
+ * A word is close to a query if it starts with the query, or if it can be turned into the query with at most
+ * {@link #maxEditsFor(String)} insertions, deletions, substitutions or swaps of adjacent letters.
+ * The search only walks the branches of the trie that can still lead to a close word, so it visits a small part of
+ * the trie however many words it holds.
+ */
+class WordTrie {
+
+    /** The cost of a word that starts with the query, between an exact match and a word one mistake away. */
+    private static final int PREFIX_COST = 1;
+
+    private final Node root = new Node('\0');
+
+    /**
+     * Adds {@code word} to the trie, if it is not there already.
+     */
+    void add(String word) {
+        Node node = root;
+        for (char letter : word.toCharArray()) {
+            node = node.children.computeIfAbsent(letter, Node::new);
+        }
+        node.word = word;
+    }
+
+    /**
+     * Removes {@code word} from the trie, if it is there, along with the nodes no other word needs.
+     */
+    void remove(String word) {
+        remove(root, word, 0);
+    }
+
+    /**
+     * Returns true if the subtree at {@code node} no longer holds any word after removing {@code word} from it.
+     */
+    private static boolean remove(Node node, String word, int depth) {
+        if (depth == word.length()) {
+            node.word = null;
+        } else {
+            Node child = node.children.get(word.charAt(depth));
+            if (child != null && remove(child, word, depth + 1)) {
+                node.children.remove(word.charAt(depth));
+            }
+        }
+        return node.word == null && node.children.isEmpty();
+    }
+
+    /**
+     * Removes every word.
+     */
+    void clear() {
+        root.children.clear();
+        root.word = null;
+    }
+
+    /**
+     * Returns the number of mistakes a query may have and still match a word: one for queries of up to four
+     * letters, and two for longer ones.
+     */
+    static int maxEditsFor(String query) {
+        return query.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * Returns at most {@code limit} of the words closest to {@code query}, closest first.
+     * A word equal to the query comes first, followed by the words that start with the query, then those one mistake
+     * away and then those two mistakes away.
+     */
+    List<String> findClosest(String query, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Search search = new Search(query, limit);
+        for (Node child : root.children.values()) {
+            search.visit(child, 1);
+        }
+        return search.getWords();
+    }
+
+    private static class Node {
+        private final char letter;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String word;
+
+        Node(char letter) {
+            this.letter = letter;
+        }
+    }
+
+    /**
+     * A word found by a search, with a cost of 0 if it is the query, {@link #PREFIX_COST} if it starts with the query
+     * and one more than its number of mistakes otherwise.
+     */
+    private record Match(String word, int cost) {}
+
+    /**
+     * A search of the trie for the words closest to one query, keeping the best matches found so far.
+     * Each visited node gets a row of edit distances between the prefixes of the query and the letters leading to
+     * the node, so a branch is left as soon as every entry of its row is more than the number of mistakes allowed, or
+     * once enough matches are kept and no word below could be cheaper than all of them.
+     * The rows are reused by the nodes at the same depth, so a search allocates one row per letter of its longest
+     * word.
+     */
+    private static class Search {
+        private final String query;
+        private final int maxEdits;
+        private final int limit;
+        private final Comparator<Match> closestFirst;
+        private final PriorityQueue<Match> best;
+        private final List<int[]> rows = new ArrayList<>();
+        private final StringBuilder path = new StringBuilder();
+
+        /**
+         * Creates a search for at most {@code limit} words, ranked cheapest first, then by how much their length
+         * differs from that of the query, then in alphabetical order.
+         */
+        Search(String query, int limit) {
+            this.query = query;
+            this.maxEdits = maxEditsFor(query);
+            this.limit = limit;
+            this.closestFirst = Comparator.comparingInt(Match::cost)
+                    .thenComparingInt(match -> Math.abs(match.word().length() - query.length()))
+                    .thenComparing(Match::word);
+            this.best = new PriorityQueue<>(closestFirst.reversed());
+            int[] firstRow = new int[query.length() + 1];
+            for (int i = 0; i <= query.length(); i++) {
+                firstRow[i] = i;
+            }
+            rows.add(firstRow);
+        }
+
+        /**
+         * Visits {@code node}, which is {@code depth} letters deep, after its ancestors.
+         */
+        void visit(Node node, int depth) {
+            if (rows.size() == depth) {
+                rows.add(new int[query.length() + 1]);
+            }
+            int[] row = rows.get(depth);
+            int[] parentRow = rows.get(depth - 1);
+            int[] grandparentRow = depth > 1 ? rows.get(depth - 2) : null;
+            char letter = node.letter;
+            char previousLetter = depth > 1 ? path.charAt(depth - 2) : '\0';
+            row[0] = depth;
+            int smallest = row[0];
+            for (int i = 1; i <= query.length(); i++) {
+                char queryLetter = query.charAt(i - 1);
+                int substitution = parentRow[i - 1] + (queryLetter == letter ? 0 : 1);
+                row[i] = Math.min(Math.min(row[i - 1] + 1, parentRow[i] + 1), substitution);
+                if (grandparentRow != null && i > 1 && queryLetter == previousLetter
+                        && query.charAt(i - 2) == letter) {
+                    row[i] = Math.min(row[i], grandparentRow[i - 2] + 1);
+                }
+                smallest = Math.min(smallest, row[i]);
+            }
+
+            int distance = row[query.length()];
+            if (distance == 0) {
+                // the letters so far spell the query, so every longer word below starts with it
+                if (node.word != null) {
+                    offer(node.word, 0);
+                }
+                node.children.values().forEach(child -> collectPrefixed(child, query.length() + 1));
+                return;
+            }
+            if (node.word != null && distance <= maxEdits) {
+                offer(node.word, distance + 1);
+            }
+            if (smallest > maxEdits || best.size() == limit && smallest + 1 > best.peek().cost()) {
+                return;
+            }
+            path.setLength(depth - 1);
+            path.append(letter);
+            for (Node child : node.children.values()) {
+                visit(child, depth + 1);
+            }
+        }
+
+        /**
+         * Offers every word in the subtree at {@code node}, which is {@code depth} letters deep and below the query.
+         */
+        private void collectPrefixed(Node node, int depth) {
+            if (best.size() == limit && isCloser(best.peek(), depth)) {
+                // every word below has the prefix cost and at least as many letters as the depth
+                return;
+            }
+            if (node.word != null) {
+                offer(node.word, PREFIX_COST);
+            }
+            node.children.values().forEach(child -> collectPrefixed(child, depth + 1));
+        }
+
+        private static boolean isCloser(Match match, int depth) {
+            return match.cost() < PREFIX_COST || match.cost() == PREFIX_COST && match.word().length() < depth;
+        }
+
+        private void offer(String word, int cost) {
+            Match match = new Match(word, cost);
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (closestFirst.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        List<String> getWords() {
+            List<Match> matches = new ArrayList<>(best);
+            matches.sort(closestFirst);
+            return matches.stream().map(Match::word).toList();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.reserve.model.table;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * The tables of the restaurant, and which of them can be pushed together to seat a larger party.
+ * A party is seated at a single table or at one of the combinations, and a table can only be used by one party
+ * at a time.
+ * Guarantees: immutable.
+ */
+public class FloorPlan {
+
+    /** Largest number of tables in a floor plan, so that a set of tables fits in the bits of a {@code long}. */
+    public static final int MAX_TABLES = Long.SIZE;
+
+    public static final String MESSAGE_TOO_MANY_TABLES = "A floor plan can have at most " + MAX_TABLES + " tables.";
+    public static final String MESSAGE_DUPLICATE_TABLE = "Table IDs of a floor plan must be unique.";
+    public static final String MESSAGE_INVALID_COMBINATION =
+            "A combination must join at least two different tables of the floor plan.";
+
+    private static final List<Table> DEFAULT_TABLES = List.of(
+            new Table("T1", 2), new Table("T2", 2), new Table("T3", 2), new Table("T4", 2), new Table("T5", 2),
+            new Table("T6", 4), new Table("T7", 4), new Table("T8", 4), new Table("T9", 4), new Table("T10", 4),
+            new Table("T11", 4), new Table("T12", 4), new Table("T13", 6), new Table("T14", 6));
+    private static final List<TableAssignment> DEFAULT_COMBINATIONS = List.of(
+            TableAssignment.fromString("T1+T2"), TableAssignment.fromString("T3+T4"),
+            TableAssignment.fromString("T6+T7"), TableAssignment.fromString("T8+T9"),
+            TableAssignment.fromString("T10+T11"), TableAssignment.fromString("T12+T13"),
+            TableAssignment.fromString("T13+T14"));
+
+    private static final Comparator<SeatingOption> SMALLEST_FIRST = Comparator
+            .comparingInt(SeatingOption::seats)
+            .thenComparingInt(option -> Long.bitCount(option.tables()));
+
+    private final List<Table> tables;
+    private final List<TableAssignment> combinations;
+
+    /** Every table and combination, with the fewest seats first. Derived from the fields above. */
+    private final transient List<SeatingOption> options = new ArrayList<>();
+    private final transient Map<TableAssignment, SeatingOption> optionsByAssignment = new HashMap<>();
+
+    /**
+     * Constructs the default {@code FloorPlan} of 50 seats.
+     */
+    public FloorPlan() {
+        this(DEFAULT_TABLES, DEFAULT_COMBINATIONS);
+    }
+
+    /**
+     * Constructs a {@code FloorPlan} of {@code tables}, in which each of {@code combinations} can seat a party
+     * at the tables it joins.
+     */
+    @JsonCreator
+    public FloorPlan(@JsonProperty("tables") List<Table> tables,
+                     @JsonProperty("combinations") List<TableAssignment> combinations) {
+        requireNonNull(tables);
+        checkArgument(tables.size() <= MAX_TABLES, MESSAGE_TOO_MANY_TABLES);
+        this.tables = List.copyOf(tables);
+        this.combinations = combinations == null ? List.of() : List.copyOf(combinations);
+
+        Map<String, Integer> tableIndexes = new HashMap<>();
+        for (Table table : this.tables) {
+            checkArgument(tableIndexes.putIfAbsent(table.getId(), tableIndexes.size()) == null,
+                    MESSAGE_DUPLICATE_TABLE);
+            addOption(new TableAssignment(List.of(table.getId())), 1L << tableIndexes.get(table.getId()),
+                    table.getSeats());
+        }
+        for (TableAssignment combination : this.combinations) {
+            long combinedTables = 0;
+            int seats = 0;
+            for (String tableId : combination.getTableIds()) {
+                Integer index = tableIndexes.get(tableId);
+                checkArgument(index != null && (combinedTables & (1L << index)) == 0, MESSAGE_INVALID_COMBINATION);
+                combinedTables |= 1L << index;
+                seats += this.tables.get(index).getSeats();
+            }
+            checkArgument(Long.bitCount(combinedTables) > 1, MESSAGE_INVALID_COMBINATION);
+            addOption(combination, combinedTables, seats);
+        }
+        options.sort(SMALLEST_FIRST);
+    }
+
+    private void addOption(TableAssignment assignment, long optionTables, int seats) {
+        SeatingOption option = new SeatingOption(assignment, optionTables, seats);
+        options.add(option);
+        optionsByAssignment.put(assignment, option);
+    }
+
+    public List<Table> getTables() {
+        return tables;
+    }
+
+    public List<TableAssignment> getCombinations() {
+        return combinations;
+    }
+
+    /**
+     * Returns the tables to seat each of {@code reservations}, which all start at the same time, in the same order.
+     *
+     * @see #assign(List, List)
+     */
+    public List<TableAssignment> assign(List<Reservation> reservations) {
+        return assign(reservations, List.of());
+    }
+
+    /**
+     * Returns the tables to seat each of {@code reservations}, which all start at the same time, in the same order,
+     * around the tables of {@code others}, reservations starting at other times that stay where they are.
+     * A party cannot use the tables of any of {@code others} held at the same time as it.
+     * Parties keep their current tables while those are still free, on this floor plan and large enough. The rest
+     * are seated largest party first, each at the free table or combination with the fewest seats that fits it.
+     * If a party is left without a table, they are all packed again from scratch, and the packing that seats more
+     * diners is used; ties keep the current tables, so that parties are not moved around needlessly.
+     * Sets of tables are bit masks, so packing takes one pass over the seating options per party.
+     */
+    public List<TableAssignment> assign(List<Reservation> reservations, List<Reservation> others) {
+        requireNonNull(reservations);
+        requireNonNull(others);
+        int[] partySizes = reservations.stream().mapToInt(reservation -> reservation.getDiners().getCount())
+                .toArray();
+        long[] blockedTables = new long[partySizes.length];
+        for (int i = 0; i < partySizes.length; i++) {
+            blockedTables[i] = getTablesHeldDuring(reservations.get(i), others);
+        }
+
+        SeatingOption[] kept = new SeatingOption[partySizes.length];
+        long usedTables = 0;
+        for (int i = 0; i < partySizes.length; i++) {
+            SeatingOption current = optionsByAssignment.get(reservations.get(i).getTableAssignment());
+            if (current != null && current.seats() >= partySizes[i]
+                    && (current.tables() & (usedTables | blockedTables[i])) == 0) {
+                kept[i] = current;
+                usedTables |= current.tables();
+            }
+        }
+
+        if (seatLargestFirst(partySizes, blockedTables, kept, usedTables)) {
+            return toAssignments(kept);
+        }
+        SeatingOption[] repacked = new SeatingOption[partySizes.length];
+        seatLargestFirst(partySizes, blockedTables, repacked, 0);
+        return toAssignments(countSeatedDiners(partySizes, repacked) > countSeatedDiners(partySizes, kept)
+                ? repacked : kept);
+    }
+
+    /**
+     * Returns the tables of this floor plan that any of {@code others} holds while {@code reservation} is held.
+     */
+    private long getTablesHeldDuring(Reservation reservation, List<Reservation> others) {
+        long heldTables = 0;
+        for (Reservation other : others) {
+            SeatingOption option = optionsByAssignment.get(other.getTableAssignment());
+            if (option != null && other.getDateTime().value.isBefore(reservation.getEndDateTime())
+                    && reservation.getDateTime().value.isBefore(other.getEndDateTime())) {
+                heldTables |= option.tables();
+            }
+        }
+        return heldTables;
+    }
+
+    /**
+     * Seats the parties without an option in {@code seating}, largest first, at the smallest free option that fits
+     * and avoids the party's {@code blockedTables}.
+     *
+     * @return true if every party has an option afterwards.
+     */
+    private boolean seatLargestFirst(int[] partySizes, long[] blockedTables, SeatingOption[] seating,
+                                     long usedTables) {
+        Integer[] unseated = new Integer[partySizes.length];
+        int unseatedCount = 0;
+        for (int i = 0; i < partySizes.length; i++) {
+            if (seating[i] == null) {
+                unseated[unseatedCount++] = i;
+            }
+        }
+        // stable, so that parties of the same size are seated in list order
+        Arrays.sort(unseated, 0, unseatedCount, Comparator.comparingInt((Integer i) -> partySizes[i]).reversed());
+
+        boolean isEverySeated = true;
+        for (int k = 0; k < unseatedCount; k++) {
+            int party = unseated[k];
+            for (SeatingOption option : options) {
+                if (option.seats() >= partySizes[party]
+                        && (option.tables() & (usedTables | blockedTables[party])) == 0) {
+                    seating[party] = option;
+                    usedTables |= option.tables();
+                    break;
+                }
+            }
+            isEverySeated &= seating[party] != null;
+        }
+        return isEverySeated;
+    }
+
+    private static int countSeatedDiners(int[] partySizes, SeatingOption[] seating) {
+        int seatedDiners = 0;
+        for (int i = 0; i < partySizes.length; i++) {
+            if (seating[i] != null) {
+                seatedDiners += partySizes[i];
+            }
+        }
+        return seatedDiners;
+    }
+
+    private static List<TableAssignment> toAssignments(SeatingOption[] seating) {
+        List<TableAssignment> assignments = new ArrayList<>(seating.length);
+        for (SeatingOption option : seating) {
+            assignments.add(option == null ? TableAssignment.NONE : option.assignment());
+        }
+        return assignments;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FloorPlan)) {
+            return false;
+        }
+
+        FloorPlan otherFloorPlan = (FloorPlan) other;
+        return tables.equals(otherFloorPlan.tables) && combinations.equals(otherFloorPlan.combinations);
+    }
+
+    @Override
+    public int hashCode() {
+        return tables.hashCode() * 31 + combinations.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tables", tables)
+                .add("combinations", combinations)
+                .toString();
+    }
+
+    /**
+     * A table or combination of tables that can seat one party, with its tables as a bit mask.
+     */
+    private record SeatingOption(TableAssignment assignment, long tables, int seats) {}
+}
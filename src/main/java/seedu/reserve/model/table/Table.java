@@ -0,0 +1,91 @@
+package seedu.reserve.model.table;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+
+/**
+ * Represents a table on the restaurant's floor plan.
+ * Guarantees: immutable; id and seats are valid as declared in {@link #isValidTableId(String)} and
+ * {@link #isValidSeats(int)}
+ */
+public class Table {
+
+    public static final String MESSAGE_CONSTRAINTS = "Table IDs should be alphanumeric and not blank, "
+            + "and a table should have from 1 to " + Table.MAX_SEATS + " seats.";
+    public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    public static final int MAX_SEATS = 20;
+
+    private final String id;
+    private final int seats;
+
+    /**
+     * Constructs a {@code Table} with {@code seats} seats.
+     *
+     * @param id A valid table ID.
+     * @param seats A valid number of seats.
+     */
+    @JsonCreator
+    public Table(@JsonProperty("id") String id, @JsonProperty("seats") int seats) {
+        requireNonNull(id);
+        checkArgument(isValidTableId(id) && isValidSeats(seats), MESSAGE_CONSTRAINTS);
+        this.id = id;
+        this.seats = seats;
+    }
+
+    /**
+     * Returns true if a given string is a valid table ID.
+     */
+    public static boolean isValidTableId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns true if a given number of seats is valid for a table.
+     */
+    public static boolean isValidSeats(int test) {
+        return test > 0 && test <= MAX_SEATS;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Table)) {
+            return false;
+        }
+
+        Table otherTable = (Table) other;
+        return id.equals(otherTable.id) && seats == otherTable.seats;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, seats);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("id", id)
+                .add("seats", seats)
+                .toString();
+    }
+}
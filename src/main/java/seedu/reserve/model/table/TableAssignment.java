@@ -0,0 +1,95 @@
+package seedu.reserve.model.table;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Represents the tables a reservation is seated at: a single table, several tables pushed together, or none.
+ * Guarantees: immutable; is valid as declared in {@link #isValidTableAssignment(String)}
+ */
+public class TableAssignment {
+
+    public static final String SEPARATOR = "+";
+    public static final String MESSAGE_CONSTRAINTS = "Tables should be alphanumeric table IDs joined by '"
+            + SEPARATOR + "', or empty if no table is assigned.";
+    public static final String VALIDATION_REGEX = "(\\p{Alnum}+(\\+\\p{Alnum}+)*)?";
+
+    /** The assignment of a reservation that has no table. */
+    public static final TableAssignment NONE = new TableAssignment(List.of());
+
+    private final List<String> tableIds;
+
+    /**
+     * Constructs a {@code TableAssignment} of the tables with {@code tableIds}.
+     */
+    public TableAssignment(List<String> tableIds) {
+        requireNonNull(tableIds);
+        tableIds.forEach(tableId -> checkArgument(Table.isValidTableId(tableId), MESSAGE_CONSTRAINTS));
+        this.tableIds = List.copyOf(tableIds);
+    }
+
+    /**
+     * Returns the {@code TableAssignment} written as {@code value}, such as {@code "T1+T2"}.
+     *
+     * @param value A valid table assignment.
+     */
+    @JsonCreator
+    public static TableAssignment fromString(String value) {
+        requireNonNull(value);
+        checkArgument(isValidTableAssignment(value), MESSAGE_CONSTRAINTS);
+        return value.isEmpty() ? NONE : new TableAssignment(Arrays.asList(value.split("\\" + SEPARATOR)));
+    }
+
+    /**
+     * Returns true if a given string is a valid table assignment.
+     */
+    public static boolean isValidTableAssignment(String test) {
+        return test != null && test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns true if at least one table is assigned.
+     */
+    public boolean isAssigned() {
+        return !tableIds.isEmpty();
+    }
+
+    /**
+     * Returns the IDs of the assigned tables as an unmodifiable list.
+     */
+    public List<String> getTableIds() {
+        return tableIds;
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        return String.join(SEPARATOR, tableIds);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TableAssignment)) {
+            return false;
+        }
+
+        TableAssignment otherAssignment = (TableAssignment) other;
+        return tableIds.equals(otherAssignment.tableIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return tableIds.hashCode();
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.reserve.model.waitlist;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import seedu.reserve.model.reservation.Duration;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+import seedu.reserve.model.reservation.exceptions.ReservationNotFoundException;
+
+/**
+ * The parties waiting for time slots that were full when they asked for them.
+ * Each time slot keeps its parties in a priority queue: earliest request first and, of requests made at the same
+ * time, the largest party first. The slots are kept in a {@code NavigableMap} by their date-time, so the parties
+ * that could use a freed period are found without looking at the rest of the waitlist, and adding or removing a
+ * party takes O(log n) time.
+ * A party can only wait once for a time slot, by the same identity as {@link Reservation#isSameReservation}.
+ */
+public class Waitlist implements Iterable<WaitlistEntry> {
+
+    /** Order in which the parties waiting for the same time slot are offered a freed place. */
+    public static final Comparator<WaitlistEntry> PRIORITY_ORDER = Comparator
+            .comparing(WaitlistEntry::getRequestedAt)
+            .thenComparing((WaitlistEntry entry) -> entry.getParty().getDiners().getCount(), Comparator.reverseOrder())
+            .thenComparing(entry -> entry.getParty().getPhone().value)
+            .thenComparing(entry -> entry.getParty().getEmail().value);
+
+    private final NavigableMap<LocalDateTime, TreeSet<WaitlistEntry>> slots = new TreeMap<>();
+    private int size;
+
+    /**
+     * Returns true if a party with the same identity as {@code party} is waiting for its time slot.
+     */
+    public boolean contains(Reservation party) {
+        requireNonNull(party);
+        TreeSet<WaitlistEntry> slot = slots.get(party.getDateTime().value);
+        return slot != null && slot.stream().anyMatch(entry -> entry.getParty().isSameReservation(party));
+    }
+
+    /**
+     * Adds {@code toAdd} to the queue of its time slot.
+     * A party with the same identity must not already be waiting for that time slot.
+     */
+    public void add(WaitlistEntry toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd.getParty())) {
+            throw new DuplicateReservationException();
+        }
+        slots.computeIfAbsent(toAdd.getDateTime().value, unused -> new TreeSet<>(PRIORITY_ORDER)).add(toAdd);
+        size++;
+    }
+
+    /**
+     * Removes {@code toRemove}, which must be on the waitlist.
+     */
+    public void remove(WaitlistEntry toRemove) {
+        requireNonNull(toRemove);
+        TreeSet<WaitlistEntry> slot = slots.get(toRemove.getDateTime().value);
+        // the comparator only looks at some of the fields, so check that it is the very same entry
+        WaitlistEntry stored = slot == null ? null : slot.ceiling(toRemove);
+        if (!toRemove.equals(stored)) {
+            throw new ReservationNotFoundException();
+        }
+        slot.remove(stored);
+        if (slot.isEmpty()) {
+            slots.remove(toRemove.getDateTime().value);
+        }
+        size--;
+    }
+
+    /**
+     * Replaces the contents of the waitlist with {@code entries}.
+     * No two of {@code entries} may be for the same party and time slot.
+     */
+    public void setEntries(List<WaitlistEntry> entries) {
+        requireAllNonNull(entries);
+        Waitlist replacement = new Waitlist();
+        entries.forEach(replacement::add);
+        slots.clear();
+        slots.putAll(replacement.slots);
+        size = replacement.size;
+    }
+
+    /**
+     * Returns the parties waiting for a time slot that would be held at some time from {@code from} up to but not
+     * including {@code until}, with the earliest time slot first and each slot in priority order.
+     */
+    public List<WaitlistEntry> getOverlapping(LocalDateTime from, LocalDateTime until) {
+        requireAllNonNull(from, until);
+        List<WaitlistEntry> overlapping = new ArrayList<>();
+        // no party is held for longer than the longest duration, so earlier slots end before the period
+        LocalDateTime earliestStart = from.minusMinutes(Duration.MAX_MINUTES);
+        for (TreeSet<WaitlistEntry> slot : slots.tailMap(earliestStart, false).values()) {
+            if (!slot.first().getDateTime().value.isBefore(until)) {
+                break;
+            }
+            for (WaitlistEntry entry : slot) {
+                if (entry.getParty().getEndDateTime().isAfter(from)) {
+                    overlapping.add(entry);
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns every entry, with the earliest time slot first and each slot in priority order.
+     */
+    public List<WaitlistEntry> asList() {
+        List<WaitlistEntry> entries = new ArrayList<>(size);
+        slots.values().forEach(entries::addAll);
+        return entries;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<WaitlistEntry> iterator() {
+        return asList().iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Waitlist)) {
+            return false;
+        }
+
+        Waitlist otherWaitlist = (Waitlist) other;
+        return asList().equals(otherWaitlist.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.reserve.model.waitlist;
+
+import static seedu.reserve.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.reserve.commons.util.ToStringBuilder;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Represents a party waiting for a time slot that was full when they asked for it.
+ * The party is kept as the reservation it would be booked as once there is room for it.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class WaitlistEntry {
+
+    private final Reservation party;
+    private final LocalDateTime requestedAt;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public WaitlistEntry(Reservation party, LocalDateTime requestedAt) {
+        requireAllNonNull(party, requestedAt);
+        this.party = party;
+        this.requestedAt = requestedAt;
+    }
+
+    public Reservation getParty() {
+        return party;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    /**
+     * Returns the time slot the party is waiting for.
+     */
+    public DateTime getDateTime() {
+        return party.getDateTime();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WaitlistEntry)) {
+            return false;
+        }
+
+        WaitlistEntry otherEntry = (WaitlistEntry) other;
+        return party.equals(otherEntry.party) && requestedAt.equals(otherEntry.requestedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(party, requestedAt);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("party", party)
+                .add("requestedAt", requestedAt)
+                .toString();
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.util.StringUtil;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+/**
+ * Saves ReserveMate data on a dedicated background thread.
+ * Callers hand over a snapshot of the data and return immediately. If several snapshots are submitted while
+ * a write is in progress, only the latest one is written once the writer becomes free.
+ * A failed write is kept until it is retrieved through {@link #takeFailure()} or reported by {@link #shutdown()}.
+ */
+public class AsyncReserveMateSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncReserveMateSaver.class);
+
+    private final ReserveMateStorage reserveMateStorage;
+    private final Object lock = new Object();
+
+    // All fields below are guarded by lock
+    private ReadOnlyReserveMate pendingSnapshot;
+    private boolean isWriting;
+    private boolean isShutdown;
+    private IOException failure;
+
+    /**
+     * Creates an {@code AsyncReserveMateSaver} that writes to {@code reserveMateStorage} and starts its writer
+     * thread.
+     */
+    public AsyncReserveMateSaver(ReserveMateStorage reserveMateStorage) {
+        requireNonNull(reserveMateStorage);
+        this.reserveMateStorage = reserveMateStorage;
+        Thread writerThread = new Thread(this::runWriter, "ReserveMate-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues an immutable snapshot of {@code reserveMate} to be saved, replacing any snapshot that has not been
+     * written yet. Must be called from the thread that modifies {@code reserveMate}.
+     */
+    public void submit(ReadOnlyReserveMate reserveMate) {
+        requireNonNull(reserveMate);
+        ReadOnlyReserveMate snapshot = createSnapshot(reserveMate);
+        synchronized (lock) {
+            if (isShutdown) {
+                throw new IllegalStateException("Saver has already been shut down.");
+            }
+            pendingSnapshot = snapshot;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns the error of the last write if it failed, and clears it.
+     */
+    public Optional<IOException> takeFailure() {
+        synchronized (lock) {
+            Optional<IOException> lastFailure = Optional.ofNullable(failure);
+            failure = null;
+            return lastFailure;
+        }
+    }
+
+    /**
+     * Blocks until every submitted snapshot has been written or has failed to be written.
+     *
+     * @throws IOException if the wait was interrupted.
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            while (pendingSnapshot != null || isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for data to be saved.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes any outstanding snapshot and stops the writer thread.
+     *
+     * @throws IOException if the last write failed.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            synchronized (lock) {
+                isShutdown = true;
+                lock.notifyAll();
+            }
+        }
+        Optional<IOException> lastFailure = takeFailure();
+        if (lastFailure.isPresent()) {
+            throw lastFailure.get();
+        }
+    }
+
+    private static ReadOnlyReserveMate createSnapshot(ReadOnlyReserveMate reserveMate) {
+        // Reservations and waitlist entries are immutable, so copying the references is enough to freeze the lists
+        ObservableList<Reservation> reservations = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(reserveMate.getReservationList())));
+        List<WaitlistEntry> waitlist = List.copyOf(reserveMate.getWaitlist());
+        return new ReadOnlyReserveMate() {
+            @Override
+            public ObservableList<Reservation> getReservationList() {
+                return reservations;
+            }
+
+            @Override
+            public List<WaitlistEntry> getWaitlist() {
+                return waitlist;
+            }
+        };
+    }
+
+    private void runWriter() {
+        while (true) {
+            ReadOnlyReserveMate snapshot;
+            synchronized (lock) {
+                while (pendingSnapshot == null && !isShutdown) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pendingSnapshot == null) {
+                    return;
+                }
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                isWriting = true;
+            }
+
+            IOException writeFailure = null;
+            try {
+                reserveMateStorage.saveReserveMate(snapshot);
+            } catch (IOException e) {
+                logger.warning("Failed to save data in the background: " + StringUtil.getDetails(e));
+                writeFailure = e;
+            } catch (RuntimeException e) {
+                logger.warning("Failed to save data in the background: " + StringUtil.getDetails(e));
+                writeFailure = new IOException(e.getMessage(), e);
+            }
+
+            synchronized (lock) {
+                isWriting = false;
+                failure = writeFailure;
+                lock.notifyAll();
+            }
+        }
+    }
+}
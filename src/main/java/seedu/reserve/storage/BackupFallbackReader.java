@@ -0,0 +1,75 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.util.FileUtil;
+
+/**
+ * Reads a data file, falling back to the newest of its backups that can be loaded when the file itself is missing
+ * or cannot be loaded. The backups are those kept by {@link FileUtil#writeToFile(Path, int, FileUtil.ContentWriter)}.
+ */
+class BackupFallbackReader {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupFallbackReader.class);
+
+    private BackupFallbackReader() {}
+
+    /**
+     * Returns the data read by {@code fileReader} from {@code filePath}, or else from the newest of its
+     * {@code backupCount} backups that can be loaded. Missing backups are passed over.
+     *
+     * @throws DataLoadingException if neither the file nor any backup could be loaded, and the file exists.
+     */
+    static <T> Optional<T> read(Path filePath, int backupCount, DataFileReader<T> fileReader)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(fileReader);
+
+        DataLoadingException loadingFailure = null;
+        try {
+            Optional<T> data = fileReader.read(filePath);
+            if (data.isPresent()) {
+                return data;
+            }
+        } catch (DataLoadingException e) {
+            loadingFailure = e;
+        }
+
+        for (int generation = 1; generation <= backupCount; generation++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, generation);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                continue;
+            }
+            try {
+                Optional<T> data = fileReader.read(backupFilePath);
+                if (data.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be loaded. Recovered data from backup "
+                            + backupFilePath);
+                    return data;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup file " + backupFilePath + " could not be loaded either.");
+            }
+        }
+
+        if (loadingFailure != null) {
+            throw loadingFailure;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads a single data file, returning an empty result if it does not exist.
+     */
+    @FunctionalInterface
+    interface DataFileReader<T> {
+        Optional<T> read(Path filePath) throws DataLoadingException;
+    }
+
+}
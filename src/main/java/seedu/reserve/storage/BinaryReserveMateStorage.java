@@ -0,0 +1,455 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Name;
+import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.Preference;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+import seedu.reserve.model.table.TableAssignment;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+/**
+ * A class to access ReserveMate data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a fixed {@value #HEADER_SIZE}-byte header: magic number, format version, record size,
+ * reservation count, occasion reference count, string table length, a CRC32 checksum of everything after the
+ * header and the waitlist count. Then come one fixed {@value #RECORD_SIZE}-byte record per reservation (hours since
+ * the epoch, diners, number of occasions, duration in minutes, string table offsets and ID), one record per waiting
+ * party (a reservation record with an ID of 0, followed by the seconds since the epoch at which the party asked to
+ * wait), the string table offsets of every reservation's and waiting party's occasions, and finally the string
+ * table itself, in which every distinct string is stored once as a length-prefixed UTF-8 entry.
+ * All numbers are big-endian. Files are read through a memory-mapped buffer, except on platforms that cannot
+ * replace or move a file while a mapped view of it is open, where they are read into memory instead.
+ */
+public class BinaryReserveMateStorage implements ReserveMateStorage {
+
+    public static final int MAGIC_NUMBER = 0x52534D42; // "RSMB"
+    public static final short FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = 40;
+    public static final int WAITLIST_RECORD_SIZE = RECORD_SIZE + Long.BYTES;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "%s is not a ReserveMate binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary data file %s is corrupted.";
+    public static final String MESSAGE_TOO_MANY_OCCASIONS =
+            "Reservation of %s has %d occasions, but the binary data file holds at most %d per reservation.";
+    /** Occasions a reservation can have in a binary data file, as the count is stored in one unsigned byte. */
+    public static final int MAX_OCCASIONS = 255;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryReserveMateStorage.class);
+
+    private static final DateTimeFormatter FILE_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HHmm");
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    // A mapping is only released once its buffer is garbage collected, and until then Windows refuses to replace
+    // or move the mapped file, which every save does to the data file and its backups
+    private static final boolean CAN_REPLACE_MAPPED_FILE = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private final Path filePath;
+    private final int backupCount;
+
+    public BinaryReserveMateStorage(Path filePath) {
+        this(filePath, JsonReserveMateStorage.DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code BinaryReserveMateStorage} that keeps {@code backupCount} previous versions of the data file.
+     */
+    public BinaryReserveMateStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    @Override
+    public Path getReserveMateFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyReserveMate> readReserveMate() throws DataLoadingException {
+        return readReserveMate(filePath);
+    }
+
+    /**
+     * Similar to {@link #readReserveMate()}, falling back to the newest backup that can be loaded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyReserveMate> readReserveMate(Path filePath) throws DataLoadingException {
+        return BackupFallbackReader.read(filePath, backupCount, BinaryReserveMateStorage::readReserveMateFile);
+    }
+
+    private static Optional<ReadOnlyReserveMate> readReserveMateFile(Path filePath) throws DataLoadingException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+        saveReserveMate(reserveMate, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveReserveMate(ReadOnlyReserveMate)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException {
+        requireNonNull(reserveMate);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        ByteBuffer content = encode(reserveMate);
+        FileUtil.writeToFile(filePath, backupCount, outputStream ->
+                outputStream.write(content.array(), content.arrayOffset(), content.limit()));
+    }
+
+    /**
+     * Reads the binary data file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a valid binary data file or holds invalid reservations.
+     */
+    public static ReserveMate read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, CAN_REPLACE_MAPPED_FILE);
+    }
+
+    /**
+     * Reads the binary data file at {@code filePath}, which must exist, through a memory-mapped buffer if
+     * {@code isMapped}, or else by reading the whole file into memory.
+     */
+    static ReserveMate read(Path filePath, boolean isMapped) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+            }
+            ByteBuffer buffer = isMapped
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    : readFully(channel);
+            return decode(buffer, filePath);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Binary data file ended before its expected size.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static ReserveMate decode(ByteBuffer buffer, Path filePath) throws IllegalValueException {
+        if (buffer.getInt(0) != MAGIC_NUMBER) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+        }
+        short version = buffer.getShort(4);
+        int recordSize = buffer.getShort(6);
+        if (version != FORMAT_VERSION || recordSize != RECORD_SIZE) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int reservationCount = buffer.getInt(8);
+        int occasionRefCount = buffer.getInt(12);
+        int stringTableLength = buffer.getInt(16);
+        int checksum = buffer.getInt(20);
+        int waitlistCount = buffer.getInt(24);
+        long expectedSize = HEADER_SIZE + (long) reservationCount * RECORD_SIZE
+                + (long) waitlistCount * WAITLIST_RECORD_SIZE
+                + (long) occasionRefCount * Integer.BYTES + stringTableLength;
+        if (reservationCount < 0 || waitlistCount < 0 || occasionRefCount < 0 || stringTableLength < 0
+                || expectedSize != buffer.limit() || checksum != computeChecksum(buffer)) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, filePath));
+        }
+
+        int waitlistStart = HEADER_SIZE + reservationCount * RECORD_SIZE;
+        int occasionRefsStart = waitlistStart + waitlistCount * WAITLIST_RECORD_SIZE;
+        int stringTableStart = occasionRefsStart + occasionRefCount * Integer.BYTES;
+        Decoder decoder = new Decoder(buffer, stringTableStart, stringTableLength);
+        List<Reservation> reservations = new ArrayList<>(reservationCount);
+        List<WaitlistEntry> waitlist = new ArrayList<>(waitlistCount);
+        try {
+            for (int i = 0; i < reservationCount; i++) {
+                reservations.add(decoder.readReservation(HEADER_SIZE + i * RECORD_SIZE, occasionRefsStart,
+                        occasionRefCount));
+            }
+            for (int i = 0; i < waitlistCount; i++) {
+                int recordStart = waitlistStart + i * WAITLIST_RECORD_SIZE;
+                Reservation party = decoder.readReservation(recordStart, occasionRefsStart, occasionRefCount);
+                LocalDateTime requestedAt = LocalDateTime.ofEpochSecond(buffer.getLong(recordStart + RECORD_SIZE),
+                        0, ZoneOffset.UTC);
+                waitlist.add(new WaitlistEntry(party, requestedAt));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, filePath) + " " + e.getMessage());
+        }
+
+        ReserveMate reserveMate = new ReserveMate();
+        try {
+            reserveMate.addReservations(reservations);
+        } catch (DuplicateReservationException e) {
+            throw new IllegalValueException(JsonSerializableReserveMate.MESSAGE_DUPLICATE_RESERVATION);
+        }
+        JsonSerializableReserveMate.setWaitlist(reserveMate, waitlist);
+        return reserveMate;
+    }
+
+    /**
+     * Returns {@code reserveMate} in the binary format, in a buffer backed by an array.
+     *
+     * @throws IOException if a reservation has more occasions than the format can hold.
+     */
+    static ByteBuffer encode(ReadOnlyReserveMate reserveMate) throws IOException {
+        List<Reservation> reservations = reserveMate.getReservationList();
+        List<WaitlistEntry> waitlist = reserveMate.getWaitlist();
+        List<Reservation> records = new ArrayList<>(reservations.size() + waitlist.size());
+        records.addAll(reservations);
+        waitlist.forEach(entry -> records.add(entry.getParty()));
+
+        StringTable stringTable = new StringTable();
+        int occasionRefCount = 0;
+        for (Reservation reservation : records) {
+            if (reservation.getOccasions().size() > MAX_OCCASIONS) {
+                throw new IOException(String.format(MESSAGE_TOO_MANY_OCCASIONS, reservation.getName(),
+                        reservation.getOccasions().size(), MAX_OCCASIONS));
+            }
+            stringTable.add(reservation.getName().fullName);
+            stringTable.add(reservation.getPhone().value);
+            stringTable.add(reservation.getEmail().value);
+            stringTable.add(reservation.getPreference().toString());
+            stringTable.add(reservation.getTableAssignment().toString());
+            for (Occasion occasion : reservation.getOccasions()) {
+                stringTable.add(occasion.occasionName);
+            }
+            occasionRefCount += reservation.getOccasions().size();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + reservations.size() * RECORD_SIZE
+                + waitlist.size() * WAITLIST_RECORD_SIZE + occasionRefCount * Integer.BYTES + stringTable.length());
+        buffer.putInt(MAGIC_NUMBER)
+                .putShort(FORMAT_VERSION)
+                .putShort((short) RECORD_SIZE)
+                .putInt(reservations.size())
+                .putInt(occasionRefCount)
+                .putInt(stringTable.length())
+                .putInt(0) // checksum, filled in below
+                .putInt(waitlist.size())
+                .putInt(0); // reserved
+        int occasionIndex = 0;
+        for (Reservation reservation : reservations) {
+            putRecord(buffer, reservation, stringTable, occasionIndex);
+            occasionIndex += reservation.getOccasions().size();
+        }
+        for (WaitlistEntry entry : waitlist) {
+            putRecord(buffer, entry.getParty(), stringTable, occasionIndex);
+            buffer.putLong(entry.getRequestedAt().toEpochSecond(ZoneOffset.UTC));
+            occasionIndex += entry.getParty().getOccasions().size();
+        }
+        for (Reservation reservation : records) {
+            for (Occasion occasion : reservation.getOccasions()) {
+                buffer.putInt(stringTable.offsetOf(occasion.occasionName));
+            }
+        }
+        stringTable.writeTo(buffer);
+
+        buffer.flip();
+        buffer.putInt(20, computeChecksum(buffer));
+        return buffer;
+    }
+
+    private static void putRecord(ByteBuffer buffer, Reservation reservation, StringTable stringTable,
+                                  int occasionIndex) {
+        buffer.putInt(toEpochHour(reservation.getDateTime().value))
+                .put((byte) reservation.getDiners().getCount())
+                .put((byte) reservation.getOccasions().size())
+                .putShort((short) reservation.getDuration().getMinutes())
+                .putInt(stringTable.offsetOf(reservation.getName().fullName))
+                .putInt(stringTable.offsetOf(reservation.getPhone().value))
+                .putInt(stringTable.offsetOf(reservation.getEmail().value))
+                .putInt(stringTable.offsetOf(reservation.getPreference().toString()))
+                .putInt(occasionIndex)
+                .putInt(stringTable.offsetOf(reservation.getTableAssignment().toString()))
+                .putLong(reservation.getId().value);
+    }
+
+    private static int computeChecksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_SIZE).limit(buffer.limit()));
+        return (int) crc.getValue();
+    }
+
+    private static int toEpochHour(LocalDateTime dateTime) {
+        return (int) (dateTime.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_HOUR);
+    }
+
+    /**
+     * Distinct strings of a data file in the order they are first added, with their byte offsets.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final List<byte[]> entries = new ArrayList<>();
+        private int length;
+
+        void add(String value) {
+            if (offsets.containsKey(value)) {
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            offsets.put(value, length);
+            entries.add(bytes);
+            length += Integer.BYTES + bytes.length;
+        }
+
+        int offsetOf(String value) {
+            return offsets.get(value);
+        }
+
+        int length() {
+            return length;
+        }
+
+        void writeTo(ByteBuffer buffer) {
+            for (byte[] entry : entries) {
+                buffer.putInt(entry.length).put(entry);
+            }
+        }
+    }
+
+    /**
+     * Turns records of a mapped data file back into reservations.
+     * Field values read from the same string table entry or the same hour are shared between reservations.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private final int stringTableStart;
+        private final int stringTableLength;
+        private final Map<Integer, String> strings = new HashMap<>();
+        private final Map<Integer, Name> names = new HashMap<>();
+        private final Map<Integer, Phone> phones = new HashMap<>();
+        private final Map<Integer, Email> emails = new HashMap<>();
+        private final Map<Integer, Preference> preferences = new HashMap<>();
+        private final Map<Integer, TableAssignment> tableAssignments = new HashMap<>();
+        private final Map<Integer, Occasion> occasions = new HashMap<>();
+        private final Map<Integer, DateTime> dateTimes = new HashMap<>();
+        private final Map<Byte, Diners> diners = new HashMap<>();
+
+        Decoder(ByteBuffer buffer, int stringTableStart, int stringTableLength) {
+            this.buffer = buffer;
+            this.stringTableStart = stringTableStart;
+            this.stringTableLength = stringTableLength;
+        }
+
+        Reservation readReservation(int recordStart, int occasionRefsStart, int occasionRefCount) {
+            int epochHour = buffer.getInt(recordStart);
+            byte dinerCount = buffer.get(recordStart + 4);
+            int occasionCount = Byte.toUnsignedInt(buffer.get(recordStart + 5));
+            short minutes = buffer.getShort(recordStart + 6);
+            int nameOffset = buffer.getInt(recordStart + 8);
+            int phoneOffset = buffer.getInt(recordStart + 12);
+            int emailOffset = buffer.getInt(recordStart + 16);
+            int preferenceOffset = buffer.getInt(recordStart + 20);
+            int occasionIndex = buffer.getInt(recordStart + 24);
+            if (occasionIndex < 0 || occasionIndex + occasionCount > occasionRefCount) {
+                throw new IndexOutOfBoundsException("Occasions of record out of range.");
+            }
+            int tableAssignmentOffset = buffer.getInt(recordStart + 28);
+            long id = buffer.getLong(recordStart + 32);
+
+            Set<Occasion> reservationOccasions = new HashSet<>();
+            for (int i = 0; i < occasionCount; i++) {
+                int occasionOffset = buffer.getInt(occasionRefsStart + (occasionIndex + i) * Integer.BYTES);
+                reservationOccasions.add(occasions.computeIfAbsent(occasionOffset,
+                        offset -> new Occasion(readString(offset))));
+            }
+
+            Diners reservationDiners = diners.computeIfAbsent(dinerCount,
+                    count -> new Diners(String.valueOf(count)));
+            return new Reservation(
+                    id == 0 ? ReservationId.UNASSIGNED : ReservationId.of(id),
+                    names.computeIfAbsent(nameOffset, offset -> new Name(readString(offset))),
+                    phones.computeIfAbsent(phoneOffset, offset -> new Phone(readString(offset))),
+                    emails.computeIfAbsent(emailOffset, offset -> new Email(readString(offset))),
+                    reservationDiners,
+                    dateTimes.computeIfAbsent(epochHour, Decoder::toDateTime),
+                    new Duration(String.valueOf(minutes)),
+                    reservationOccasions,
+                    preferences.computeIfAbsent(preferenceOffset, offset -> new Preference(readString(offset))),
+                    tableAssignments.computeIfAbsent(tableAssignmentOffset,
+                            offset -> TableAssignment.fromString(readString(offset))));
+        }
+
+        private String readString(int offset) {
+            return strings.computeIfAbsent(offset, unused -> {
+                if (offset < 0 || offset > stringTableLength - Integer.BYTES) {
+                    throw new IndexOutOfBoundsException("String table offset out of range.");
+                }
+                int length = buffer.getInt(stringTableStart + offset);
+                if (length < 0 || offset + Integer.BYTES + length > stringTableLength) {
+                    throw new IndexOutOfBoundsException("String table entry out of range.");
+                }
+                byte[] bytes = new byte[length];
+                buffer.get(stringTableStart + offset + Integer.BYTES, bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            });
+        }
+
+        private static DateTime toDateTime(int epochHour) {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond((long) epochHour * SECONDS_PER_HOUR, 0,
+                    ZoneOffset.UTC);
+            return DateTime.fromFileString(dateTime.format(FILE_DATE_TIME_FORMATTER));
+        }
+    }
+
+}
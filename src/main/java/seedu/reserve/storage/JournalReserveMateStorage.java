@@ -0,0 +1,340 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.commons.util.JsonUtil;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+/**
+ * A class to access ReserveMate data stored as a json snapshot plus an append-only journal on the hard disk.
+ * Each save appends one compact json line per changed reservation to the journal, instead of rewriting the
+ * whole snapshot. Once the journal holds more than a set number of records, the next save writes a fresh
+ * snapshot and empties the journal. Reading replays the journal on top of the snapshot.
+ * Journal records are numbered, and each snapshot takes the next number, so reading only replays the records that
+ * were written after the snapshot it loaded.
+ * The waitlist changes far less often than the reservations, so it is only kept in the snapshot: a save that
+ * changes the waitlist writes a fresh snapshot.
+ */
+public class JournalReserveMateStorage implements ReserveMateStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalReserveMateStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonReserveMateStorage snapshotStorage;
+
+    // Reservations as last written to the files at filePath, or null if the next save must write a snapshot
+    private List<Reservation> savedReservations;
+    private List<WaitlistEntry> savedWaitlist;
+    private int journalRecordCount;
+    // Highest sequence number written to the files at filePath, or null if it is not known yet
+    private Long lastSequence;
+
+    public JournalReserveMateStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalReserveMateStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a {@code JournalReserveMateStorage} that compacts the journal of {@code filePath} once it holds more
+     * than {@code compactionThreshold} records.
+     *
+     * @param isCompact whether to write snapshots without line breaks and indentation.
+     */
+    public JournalReserveMateStorage(Path filePath, int compactionThreshold, boolean isCompact) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        snapshotStorage = new JsonReserveMateStorage(filePath, JsonReserveMateStorage.DEFAULT_BACKUP_COUNT, isCompact);
+    }
+
+    @Override
+    public Path getReserveMateFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyReserveMate> readReserveMate() throws DataLoadingException {
+        return readReserveMate(filePath);
+    }
+
+    /**
+     * Similar to {@link #readReserveMate()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyReserveMate> readReserveMate(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonReserveMateCodec.Snapshot> snapshot = snapshotStorage.readSnapshot(filePath);
+        List<JsonAdaptedJournalRecord> records = readJournal(getJournalFilePath(filePath));
+        if (!snapshot.isPresent() && records.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Reservation> reservations = new LinkedHashSet<>();
+        snapshot.ifPresent(data -> reservations.addAll(data.reserveMate().getReservationList()));
+        long snapshotSequence = snapshot.map(JsonReserveMateCodec.Snapshot::journalSequence).orElse(0L);
+        long appliedSequence = snapshotSequence;
+        long highestSequence = snapshotSequence;
+        boolean isJournalSkipped = false;
+        ReserveMate reserveMate = new ReserveMate();
+        try {
+            for (JsonAdaptedJournalRecord record : records) {
+                long sequence = record.getSequence();
+                highestSequence = Math.max(highestSequence, sequence);
+                // records up to the snapshot are left over from a compaction that stopped before removing them
+                if (sequence <= snapshotSequence || isJournalSkipped) {
+                    continue;
+                }
+                if (sequence != appliedSequence + 1) {
+                    logger.warning("Journal file " + getJournalFilePath(filePath) + " does not follow on from the "
+                            + "snapshot that was loaded. Skipping its records from " + sequence + " on.");
+                    isJournalSkipped = true;
+                    continue;
+                }
+                record.applyTo(reservations);
+                appliedSequence = sequence;
+            }
+            reserveMate.addReservations(new ArrayList<>(reservations));
+            if (snapshot.isPresent()) {
+                reserveMate.setWaitlist(snapshot.get().reserveMate().getWaitlist());
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getJournalFilePath(filePath) + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicateReservationException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableReserveMate.MESSAGE_DUPLICATE_RESERVATION));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // appending after skipped records would leave the new ones unreadable, so the next save is a snapshot
+            savedReservations = isJournalSkipped ? null : List.copyOf(reserveMate.getReservationList());
+            savedWaitlist = reserveMate.getWaitlist();
+            journalRecordCount = records.size();
+            lastSequence = highestSequence;
+        }
+        return Optional.of(reserveMate);
+    }
+
+    /**
+     * Reads every record in the journal at {@code journalFilePath}.
+     * A malformed last line is taken to be an append that was cut short, and is skipped.
+     */
+    private static List<JsonAdaptedJournalRecord> readJournal(Path journalFilePath) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return Collections.emptyList();
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                records.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading record " + (i + 1) + " of journal file " + journalFilePath);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Skipping incomplete last record of journal file " + journalFilePath);
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+        saveReserveMate(reserveMate, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveReserveMate(ReadOnlyReserveMate)}.
+     * Only saves to {@code filePath} given at construction are journalled; other locations get a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException {
+        requireNonNull(reserveMate);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) || savedReservations == null
+                || !savedWaitlist.equals(reserveMate.getWaitlist())) {
+            saveSnapshot(reserveMate, filePath);
+            return;
+        }
+
+        List<Reservation> reservations = reserveMate.getReservationList();
+        List<JsonAdaptedJournalRecord> records = createRecords(savedReservations, reservations, lastSequence);
+        if (records.isEmpty()) {
+            return;
+        }
+        if (journalRecordCount + records.size() > compactionThreshold) {
+            logger.fine("Compacting journal of data file: " + filePath);
+            saveSnapshot(reserveMate, filePath);
+            return;
+        }
+
+        appendToJournal(getJournalFilePath(filePath), records);
+        journalRecordCount += records.size();
+        lastSequence += records.size();
+        savedReservations = List.copyOf(reservations);
+    }
+
+    /**
+     * Writes all of {@code reserveMate} to the snapshot at {@code filePath} and removes its journal.
+     * The snapshot takes a sequence number above every record in the journal, and the journal is only removed after
+     * the snapshot is written. Should the app stop in between, reading skips the records of the old journal.
+     */
+    private void saveSnapshot(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        long sequence = (isOwnFile && lastSequence != null ? lastSequence : findLastSequence(filePath)) + 1;
+        snapshotStorage.saveReserveMate(reserveMate, filePath, sequence);
+        Files.deleteIfExists(journalFilePath);
+        if (isOwnFile) {
+            savedReservations = List.copyOf(reserveMate.getReservationList());
+            savedWaitlist = reserveMate.getWaitlist();
+            journalRecordCount = 0;
+            lastSequence = sequence;
+        }
+    }
+
+    /**
+     * Returns the highest sequence number in the snapshot at {@code filePath} and its journal, or 0 if there is none.
+     * Files that cannot be read are left out, as none of their records could be replayed.
+     */
+    private static long findLastSequence(Path filePath) {
+        long sequence = 0;
+        try {
+            if (Files.exists(filePath)) {
+                sequence = JsonReserveMateCodec.readJournalSequence(filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Could not read the sequence number of data file " + filePath + ": " + e);
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            for (JsonAdaptedJournalRecord record : readJournal(journalFilePath)) {
+                sequence = Math.max(sequence, record.getSequence());
+            }
+        } catch (DataLoadingException | IllegalValueException e) {
+            logger.warning("Could not read the sequence numbers in journal file " + journalFilePath + ": " + e);
+        }
+        return sequence;
+    }
+
+    /**
+     * Returns the journal records that turn {@code previous} into {@code current}, numbered on from
+     * {@code lastSequence}.
+     */
+    static List<JsonAdaptedJournalRecord> createRecords(List<Reservation> previous, List<Reservation> current,
+                                                        long lastSequence) {
+        if (current.isEmpty()) {
+            return previous.isEmpty()
+                    ? Collections.emptyList()
+                    : List.of(JsonAdaptedJournalRecord.clear(lastSequence + 1));
+        }
+
+        Set<Reservation> previousSet = new HashSet<>(previous);
+        Set<Reservation> currentSet = new HashSet<>(current);
+        List<Reservation> removed = new ArrayList<>();
+        for (Reservation reservation : previous) {
+            if (!currentSet.contains(reservation)) {
+                removed.add(reservation);
+            }
+        }
+        List<Reservation> added = new ArrayList<>();
+        for (Reservation reservation : current) {
+            if (!previousSet.contains(reservation)) {
+                added.add(reservation);
+            }
+        }
+
+        if (removed.size() == 1 && added.size() == 1) {
+            return List.of(JsonAdaptedJournalRecord.edit(lastSequence + 1, removed.get(0), added.get(0)));
+        }
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(removed.size() + added.size());
+        long sequence = lastSequence;
+        for (Reservation reservation : removed) {
+            records.add(JsonAdaptedJournalRecord.delete(++sequence, reservation));
+        }
+        for (Reservation reservation : added) {
+            records.add(JsonAdaptedJournalRecord.add(++sequence, reservation));
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal at {@code journalFilePath} and forces them to disk.
+     */
+    private static void appendToJournal(Path journalFilePath, List<JsonAdaptedJournalRecord> records)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+}
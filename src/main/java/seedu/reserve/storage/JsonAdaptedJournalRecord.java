@@ -0,0 +1,126 @@
+package seedu.reserve.storage;
+
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Jackson-friendly version of a single change recorded in the ReserveMate journal.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_EDIT = "edit";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_CLEAR = "clear";
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has an unknown operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal %s record is missing its %s!";
+
+    private final Long sequence;
+    private final String operation;
+    private final JsonAdaptedReservation target;
+    private final JsonAdaptedReservation reservation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") Long sequence,
+                                    @JsonProperty("operation") String operation,
+                                    @JsonProperty("target") JsonAdaptedReservation target,
+                                    @JsonProperty("reservation") JsonAdaptedReservation reservation) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.target = target;
+        this.reservation = reservation;
+    }
+
+    /**
+     * Returns record number {@code sequence}, of {@code reservation} being added.
+     */
+    public static JsonAdaptedJournalRecord add(long sequence, Reservation reservation) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_ADD, null, new JsonAdaptedReservation(reservation));
+    }
+
+    /**
+     * Returns record number {@code sequence}, of {@code target} being replaced by {@code editedReservation}.
+     * Saving a preference is recorded as an edit as well.
+     */
+    public static JsonAdaptedJournalRecord edit(long sequence, Reservation target, Reservation editedReservation) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_EDIT, new JsonAdaptedReservation(target),
+                new JsonAdaptedReservation(editedReservation));
+    }
+
+    /**
+     * Returns record number {@code sequence}, of {@code reservation} being deleted.
+     */
+    public static JsonAdaptedJournalRecord delete(long sequence, Reservation reservation) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_DELETE, new JsonAdaptedReservation(reservation),
+                null);
+    }
+
+    /**
+     * Returns record number {@code sequence}, of every reservation being cleared.
+     */
+    public static JsonAdaptedJournalRecord clear(long sequence) {
+        return new JsonAdaptedJournalRecord(sequence, OPERATION_CLEAR, null, null);
+    }
+
+    /**
+     * Returns the sequence number of this record.
+     * Records are numbered one after another, and continue from the number of the snapshot they follow.
+     *
+     * @throws IllegalValueException if the record has no sequence number.
+     */
+    public long getSequence() throws IllegalValueException {
+        if (sequence == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, operation, "sequence"));
+        }
+        return sequence;
+    }
+
+    /**
+     * Replays this record on {@code reservations}.
+     * Replaying is not idempotent, so it must only be applied to the data that the record was made against.
+     *
+     * @throws IllegalValueException if the record is malformed or holds an invalid reservation.
+     */
+    public void applyTo(Set<Reservation> reservations) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+
+        switch (operation) {
+        case OPERATION_ADD:
+            reservations.add(toModelType(reservation, "reservation"));
+            break;
+        case OPERATION_EDIT:
+            Reservation editedReservation = toModelType(reservation, "reservation");
+            reservations.remove(toModelType(target, "target"));
+            reservations.add(editedReservation);
+            break;
+        case OPERATION_DELETE:
+            reservations.remove(toModelType(target, "target"));
+            break;
+        case OPERATION_CLEAR:
+            reservations.clear();
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+    }
+
+    private Reservation toModelType(JsonAdaptedReservation adaptedReservation, String fieldName)
+            throws IllegalValueException {
+        if (adaptedReservation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, operation, fieldName));
+        }
+        return adaptedReservation.toModelType();
+    }
+
+}
@@ -7,17 +7,21 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.reserve.commons.exceptions.IllegalValueException;
 import seedu.reserve.model.occasion.Occasion;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Preference;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.model.table.TableAssignment;
 
 /**
  * Jackson-friendly version of {@link Reservation}.
@@ -31,8 +35,13 @@ class JsonAdaptedReservation {
     private final String email;
     private final String diners;
     private final String dateTime;
+    private final String duration;
     private final List<JsonAdaptedOccasion> occasions = new ArrayList<>();
     private final String preference;
+    private final String table;
+    // reservations on the waitlist have no ID, so it is left out for them
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
 
     /**
      * Constructs a {@code JsonAdaptedReservation} with the given reservation details.
@@ -41,17 +50,23 @@ class JsonAdaptedReservation {
     public JsonAdaptedReservation(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
                                   @JsonProperty("email") String email, @JsonProperty("diners") String diners,
                                   @JsonProperty("dateTime") String dateTime,
+                                  @JsonProperty("duration") String duration,
                                   @JsonProperty("occasions") List<JsonAdaptedOccasion> occasions,
-                                  @JsonProperty("preference") String preference) {
+                                  @JsonProperty("preference") String preference,
+                                  @JsonProperty("table") String table,
+                                  @JsonProperty("id") Long id) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.diners = diners;
         this.dateTime = dateTime;
+        this.duration = duration;
         if (occasions != null) {
             this.occasions.addAll(occasions);
         }
         this.preference = preference;
+        this.table = table;
+        this.id = id;
     }
 
     /**
@@ -63,10 +78,13 @@ class JsonAdaptedReservation {
         email = source.getEmail().value;
         diners = source.getDiners().toString();
         dateTime = source.getDateTime().toString();
+        duration = source.getDuration().toString();
         occasions.addAll(source.getOccasions().stream()
                 .map(JsonAdaptedOccasion::new)
                 .collect(Collectors.toList()));
         preference = source.getPreference().toString();
+        table = source.getTableAssignment().toString();
+        id = source.getId().isAssigned() ? source.getId().value : null;
     }
 
     /**
@@ -123,14 +141,34 @@ class JsonAdaptedReservation {
         }
         final DateTime modelDateTime = DateTime.fromFileString(dateTime);
 
+        // data files saved before reservations had a duration have no duration field
+        if (duration != null && !Duration.isValidDuration(duration)) {
+            throw new IllegalValueException(Duration.MESSAGE_CONSTRAINTS);
+        }
+        final Duration modelDuration = duration == null ? Duration.forParty(modelDiners) : new Duration(duration);
+
         final Set<Occasion> modelOccasions = new HashSet<>(reservationOccasions);
 
         if (!Preference.isValidPreference(preference)) {
             throw new IllegalValueException(Preference.MESSAGE_CONSTRAINTS);
         }
         final Preference modelPreference = new Preference(preference);
-        return new Reservation(modelName, modelPhone, modelEmail, modelDiners,
-            modelDateTime, modelOccasions, modelPreference);
+
+        // data files saved before tables were assigned have no table field
+        if (table != null && !TableAssignment.isValidTableAssignment(table)) {
+            throw new IllegalValueException(TableAssignment.MESSAGE_CONSTRAINTS);
+        }
+        final TableAssignment modelTableAssignment = table == null
+                ? TableAssignment.NONE
+                : TableAssignment.fromString(table);
+
+        // data files saved before reservations had IDs have no id field, and new IDs are handed out on loading
+        if (id != null && id <= 0) {
+            throw new IllegalValueException(ReservationId.MESSAGE_CONSTRAINTS);
+        }
+        final ReservationId modelId = id == null ? ReservationId.UNASSIGNED : ReservationId.of(id);
+        return new Reservation(modelId, modelName, modelPhone, modelEmail, modelDiners,
+            modelDateTime, modelDuration, modelOccasions, modelPreference, modelTableAssignment);
     }
 
 }
@@ -0,0 +1,167 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.model.reservation.Reservation;
+
+/**
+ * Converts loaded {@code JsonAdaptedReservation}s into model reservations on all available cores.
+ * The records are split into chunks that are checked in parallel on the common fork/join pool. Every invalid
+ * record is reported together with its position in the file, rather than only the first one.
+ * Records that are still being read can be converted chunk by chunk with a {@link StreamingConversion}.
+ */
+class JsonAdaptedReservationConverter {
+
+    public static final String MESSAGE_INVALID_RESERVATIONS = "%d invalid reservation(s) found:\n%s";
+    public static final String MESSAGE_INVALID_RESERVATION = "Reservation %d: %s";
+
+    /** Records in a chunk that is small enough to be converted by one thread. */
+    static final int CHUNK_SIZE = 512;
+
+    private JsonAdaptedReservationConverter() {}
+
+    /**
+     * Returns the model reservations of {@code adaptedReservations}, in the same order.
+     *
+     * @throws IllegalValueException if any of the records violate data constraints. The message lists each invalid
+     *     record by its position, counting from 1.
+     */
+    public static List<Reservation> toModelType(List<JsonAdaptedReservation> adaptedReservations)
+            throws IllegalValueException {
+        requireNonNull(adaptedReservations);
+
+        Reservation[] reservations = new Reservation[adaptedReservations.size()];
+        List<String> errors = new ConversionTask(adaptedReservations, reservations, 0, reservations.length).invoke();
+        checkNoErrors(errors);
+        return Arrays.asList(reservations);
+    }
+
+    private static void checkNoErrors(List<String> errors) throws IllegalValueException {
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RESERVATIONS, errors.size(),
+                    String.join("\n", errors)));
+        }
+    }
+
+    /**
+     * Converts the records of {@code source} in {@code [start, end)} into the same places of {@code results}, and
+     * returns the errors found, in order. The record at index {@code i} is at position {@code firstPosition + i}
+     * of the file.
+     */
+    private static List<String> convert(List<JsonAdaptedReservation> source, Reservation[] results, int start,
+                                        int end, int firstPosition) {
+        List<String> errors = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            try {
+                results[i] = source.get(i).toModelType();
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                errors.add(String.format(MESSAGE_INVALID_RESERVATION, firstPosition + i, e.getMessage()));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Converts records into model reservations while the rest of the file is still being read.
+     * Every {@link #CHUNK_SIZE} records added are handed to the common fork/join pool as one chunk, and a chunk's
+     * records are let go of once it is converted, so the records read are never all held at once.
+     */
+    static class StreamingConversion {
+        private final List<ForkJoinTask<List<String>>> chunkTasks = new ArrayList<>();
+        private final List<Reservation[]> chunkResults = new ArrayList<>();
+        private List<JsonAdaptedReservation> chunk = new ArrayList<>(CHUNK_SIZE);
+        private int recordCount;
+
+        /**
+         * Adds the next record of the file.
+         */
+        void add(JsonAdaptedReservation adaptedReservation) {
+            requireNonNull(adaptedReservation);
+            chunk.add(adaptedReservation);
+            if (chunk.size() == CHUNK_SIZE) {
+                submitChunk();
+            }
+        }
+
+        private void submitChunk() {
+            List<JsonAdaptedReservation> records = chunk;
+            Reservation[] results = new Reservation[records.size()];
+            int firstPosition = recordCount + 1;
+            chunkTasks.add(ForkJoinPool.commonPool().submit(() -> {
+                List<String> errors = convert(records, results, 0, records.size(), firstPosition);
+                records.clear();
+                return errors;
+            }));
+            chunkResults.add(results);
+            recordCount += records.size();
+            chunk = new ArrayList<>(CHUNK_SIZE);
+        }
+
+        /**
+         * Returns the model reservations of all the records added, in the order they were added.
+         *
+         * @throws IllegalValueException if any of the records violate data constraints, as
+         *     {@link JsonAdaptedReservationConverter#toModelType(List)} does.
+         */
+        List<Reservation> finish() throws IllegalValueException {
+            if (!chunk.isEmpty()) {
+                submitChunk();
+            }
+
+            List<Reservation> reservations = new ArrayList<>(recordCount);
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < chunkTasks.size(); i++) {
+                errors.addAll(chunkTasks.get(i).join());
+                reservations.addAll(Arrays.asList(chunkResults.get(i)));
+            }
+            checkNoErrors(errors);
+            return reservations;
+        }
+    }
+
+    /**
+     * Converts the records in {@code [start, end)} into {@code results}, and returns the errors found, in order.
+     */
+    private static class ConversionTask extends RecursiveTask<List<String>> {
+        private final List<JsonAdaptedReservation> source;
+        private final Reservation[] results;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<JsonAdaptedReservation> source, Reservation[] results, int start, int end) {
+            this.source = source;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected List<String> compute() {
+            if (end - start <= CHUNK_SIZE) {
+                return convert(source, results, start, end, 1);
+            }
+
+            int middle = (start + end) >>> 1;
+            ConversionTask left = new ConversionTask(source, results, start, middle);
+            left.fork();
+            List<String> errors = new ConversionTask(source, results, middle, end).compute();
+            List<String> leftErrors = left.join();
+            if (errors.isEmpty()) {
+                return leftErrors;
+            }
+            List<String> allErrors = new ArrayList<>(leftErrors.size() + errors.size());
+            allErrors.addAll(leftErrors);
+            allErrors.addAll(errors);
+            return allErrors;
+        }
+    }
+
+}
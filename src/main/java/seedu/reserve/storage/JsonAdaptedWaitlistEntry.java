@@ -0,0 +1,64 @@
+package seedu.reserve.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+/**
+ * Jackson-friendly version of {@link WaitlistEntry}.
+ */
+class JsonAdaptedWaitlistEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Waitlist entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_REQUESTED_AT =
+            "Waitlist entry's requestedAt field must be an ISO-8601 date-time, such as 2025-04-28T18:30:00.";
+
+    private final String requestedAt;
+    private final JsonAdaptedReservation party;
+
+    /**
+     * Constructs a {@code JsonAdaptedWaitlistEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedWaitlistEntry(@JsonProperty("requestedAt") String requestedAt,
+                                    @JsonProperty("party") JsonAdaptedReservation party) {
+        this.requestedAt = requestedAt;
+        this.party = party;
+    }
+
+    /**
+     * Converts a given {@code WaitlistEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedWaitlistEntry(WaitlistEntry source) {
+        requestedAt = source.getRequestedAt().toString();
+        party = new JsonAdaptedReservation(source.getParty());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry object into the model's {@code WaitlistEntry} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public WaitlistEntry toModelType() throws IllegalValueException {
+        if (requestedAt == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "requestedAt"));
+        }
+        final LocalDateTime modelRequestedAt;
+        try {
+            modelRequestedAt = LocalDateTime.parse(requestedAt);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_REQUESTED_AT);
+        }
+
+        if (party == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "party"));
+        }
+        return new WaitlistEntry(party.toModelType(), modelRequestedAt);
+    }
+
+}
@@ -0,0 +1,358 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+/**
+ * Reads and writes ReserveMate json data files one reservation at a time with Jackson's streaming API.
+ * The file layout is the same as that of {@link JsonSerializableReserveMate}, but no tree of the whole file is
+ * built. Reservations are converted into the model in chunks while the rest of the file is still being read, so
+ * besides the model only the records of chunks not yet converted are held.
+ */
+class JsonReserveMateCodec {
+
+    public static final String MESSAGE_NOT_A_VALUE = "The %s field should hold a single value!";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String FIELD_JOURNAL_SEQUENCE = "journalSequence";
+    private static final String FIELD_RESERVATIONS = "reservations";
+    private static final String FIELD_WAITLIST = "waitlist";
+    private static final String FIELD_REQUESTED_AT = "requestedAt";
+    private static final String FIELD_PARTY = "party";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_PHONE = "phone";
+    private static final String FIELD_EMAIL = "email";
+    private static final String FIELD_DINERS = "diners";
+    private static final String FIELD_DATE_TIME = "dateTime";
+    private static final String FIELD_DURATION = "duration";
+    private static final String FIELD_OCCASIONS = "occasions";
+    private static final String FIELD_PREFERENCE = "preference";
+    private static final String FIELD_TABLE = "table";
+    private static final String FIELD_ID = "id";
+
+    private JsonReserveMateCodec() {}
+
+    /**
+     * A data file as read by {@link #readSnapshot(Path)}.
+     *
+     * @param journalSequence the journal sequence number the file was written at, or 0 if it has none.
+     */
+    record Snapshot(ReserveMate reserveMate, long journalSequence) {}
+
+    /**
+     * Reads the ReserveMate data file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ReserveMate read(Path filePath) throws IOException, IllegalValueException {
+        return readSnapshot(filePath).reserveMate();
+    }
+
+    /**
+     * Reads the ReserveMate data file at {@code filePath}, which must exist, together with the journal sequence
+     * number it was written at.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Snapshot readSnapshot(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        long journalSequence = 0;
+        JsonAdaptedReservationConverter.StreamingConversion conversion =
+                new JsonAdaptedReservationConverter.StreamingConversion();
+        List<JsonAdaptedWaitlistEntry> adaptedWaitlist = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             InputStream inputStream = new BufferedInputStream(Channels.newInputStream(channel));
+             JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (FIELD_JOURNAL_SEQUENCE.equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                    journalSequence = parser.getLongValue();
+                } else if (FIELD_RESERVATIONS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        conversion.add(readReservation(parser));
+                    }
+                    expectToken(parser, parser.getCurrentToken(), JsonToken.END_ARRAY);
+                } else if (FIELD_WAITLIST.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        adaptedWaitlist.add(readWaitlistEntry(parser));
+                    }
+                    expectToken(parser, parser.getCurrentToken(), JsonToken.END_ARRAY);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+
+        List<Reservation> reservations = conversion.finish();
+        ReserveMate reserveMate = new ReserveMate();
+        try {
+            reserveMate.addReservations(reservations);
+        } catch (DuplicateReservationException e) {
+            throw new IllegalValueException(JsonSerializableReserveMate.MESSAGE_DUPLICATE_RESERVATION);
+        }
+
+        List<WaitlistEntry> waitlist = new ArrayList<>(adaptedWaitlist.size());
+        for (JsonAdaptedWaitlistEntry entry : adaptedWaitlist) {
+            waitlist.add(entry.toModelType());
+        }
+        JsonSerializableReserveMate.setWaitlist(reserveMate, waitlist);
+        return new Snapshot(reserveMate, journalSequence);
+    }
+
+    /**
+     * Returns the journal sequence number that the data file at {@code filePath} was written at, or 0 if it has none.
+     * Only the start of the file is read, as the number is written before the reservations.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     */
+    public static long readJournalSequence(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             InputStream inputStream = Channels.newInputStream(channel);
+             JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            if (parser.nextToken() == JsonToken.FIELD_NAME && FIELD_JOURNAL_SEQUENCE.equals(parser.getCurrentName())
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getLongValue();
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Reads the waitlist entry object that {@code parser} has just entered.
+     */
+    private static JsonAdaptedWaitlistEntry readWaitlistEntry(JsonParser parser)
+            throws IOException, IllegalValueException {
+        String requestedAt = null;
+        JsonAdaptedReservation party = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (FIELD_REQUESTED_AT.equals(fieldName)) {
+                requestedAt = readValue(parser, fieldName);
+            } else if (FIELD_PARTY.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                party = readReservation(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        return new JsonAdaptedWaitlistEntry(requestedAt, party);
+    }
+
+    /**
+     * Reads the reservation object that {@code parser} has just entered.
+     * Its fields are checked later, together with those of the other reservations in the file.
+     */
+    private static JsonAdaptedReservation readReservation(JsonParser parser)
+            throws IOException, IllegalValueException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String diners = null;
+        String dateTime = null;
+        String duration = null;
+        String preference = null;
+        String table = null;
+        Long id = null;
+        List<JsonAdaptedOccasion> occasions = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case FIELD_NAME:
+                name = readValue(parser, fieldName);
+                break;
+            case FIELD_PHONE:
+                phone = readValue(parser, fieldName);
+                break;
+            case FIELD_EMAIL:
+                email = readValue(parser, fieldName);
+                break;
+            case FIELD_DINERS:
+                diners = readValue(parser, fieldName);
+                break;
+            case FIELD_DATE_TIME:
+                dateTime = readValue(parser, fieldName);
+                break;
+            case FIELD_DURATION:
+                duration = readValue(parser, fieldName);
+                break;
+            case FIELD_PREFERENCE:
+                preference = readValue(parser, fieldName);
+                break;
+            case FIELD_TABLE:
+                table = readValue(parser, fieldName);
+                break;
+            case FIELD_ID:
+                id = readValue(parser, fieldName) == null ? null : parser.getValueAsLong();
+                break;
+            case FIELD_OCCASIONS:
+                if (valueToken == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        occasions.add(new JsonAdaptedOccasion(readValue(parser, fieldName)));
+                    }
+                } else if (valueToken == JsonToken.START_OBJECT) {
+                    throw new IllegalValueException(String.format(MESSAGE_NOT_A_VALUE, fieldName));
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        return new JsonAdaptedReservation(name, phone, email, diners, dateTime, duration, occasions, preference,
+                table, id);
+    }
+
+    /**
+     * Returns the value of the field {@code fieldName} that {@code parser} is at as a string, or null if it is null.
+     *
+     * @throws IllegalValueException if the value is an object or an array.
+     */
+    private static String readValue(JsonParser parser, String fieldName) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken().isStructStart()) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_A_VALUE, fieldName));
+        }
+        return parser.getValueAsString();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Writes {@code reserveMate} to the data file at {@code filePath}.
+     *
+     * @param isCompact whether to leave out line breaks and indentation.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyReserveMate reserveMate, Path filePath, boolean isCompact) throws IOException {
+        write(reserveMate, filePath, isCompact, 0);
+    }
+
+    /**
+     * Writes {@code reserveMate} to the data file at {@code filePath}, keeping the file it replaces as the newest of
+     * {@code backupCount} backups.
+     *
+     * @param isCompact whether to leave out line breaks and indentation.
+     * @throws IOException if there was any problem writing to the file, in which case the file is left as it was.
+     */
+    public static void write(ReadOnlyReserveMate reserveMate, Path filePath, boolean isCompact, int backupCount)
+            throws IOException {
+        write(reserveMate, filePath, isCompact, backupCount, 0);
+    }
+
+    /**
+     * Writes {@code reserveMate} to the data file at {@code filePath} as {@link #write(ReadOnlyReserveMate, Path,
+     * boolean, int)} does, recording that it was written at {@code journalSequence} unless that is 0.
+     *
+     * @param isCompact whether to leave out line breaks and indentation.
+     * @throws IOException if there was any problem writing to the file, in which case the file is left as it was.
+     */
+    public static void write(ReadOnlyReserveMate reserveMate, Path filePath, boolean isCompact, int backupCount,
+                             long journalSequence) throws IOException {
+        requireNonNull(reserveMate);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFile(filePath, backupCount, outputStream ->
+                write(reserveMate, outputStream, isCompact, journalSequence));
+    }
+
+    private static void write(ReadOnlyReserveMate reserveMate, OutputStream outputStream, boolean isCompact,
+                              long journalSequence) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+        if (!isCompact) {
+            generator.useDefaultPrettyPrinter();
+        }
+
+        generator.writeStartObject();
+        if (journalSequence != 0) {
+            generator.writeNumberField(FIELD_JOURNAL_SEQUENCE, journalSequence);
+        }
+        generator.writeArrayFieldStart(FIELD_RESERVATIONS);
+        for (Reservation reservation : reserveMate.getReservationList()) {
+            writeReservation(generator, reservation);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(FIELD_WAITLIST);
+        for (WaitlistEntry entry : reserveMate.getWaitlist()) {
+            generator.writeStartObject();
+            generator.writeStringField(FIELD_REQUESTED_AT, entry.getRequestedAt().toString());
+            generator.writeFieldName(FIELD_PARTY);
+            writeReservation(generator, entry.getParty());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * Writes the fields of {@code reservation} in the same form as {@link JsonAdaptedReservation}.
+     */
+    private static void writeReservation(JsonGenerator generator, Reservation reservation) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(FIELD_NAME, reservation.getName().fullName);
+        generator.writeStringField(FIELD_PHONE, reservation.getPhone().value);
+        generator.writeStringField(FIELD_EMAIL, reservation.getEmail().value);
+        generator.writeStringField(FIELD_DINERS, reservation.getDiners().toString());
+        generator.writeStringField(FIELD_DATE_TIME, reservation.getDateTime().toString());
+        generator.writeStringField(FIELD_DURATION, reservation.getDuration().toString());
+        generator.writeArrayFieldStart(FIELD_OCCASIONS);
+        for (Occasion occasion : reservation.getOccasions()) {
+            generator.writeString(occasion.occasionName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField(FIELD_PREFERENCE, reservation.getPreference().toString());
+        generator.writeStringField(FIELD_TABLE, reservation.getTableAssignment().toString());
+        if (reservation.getId().isAssigned()) {
+            generator.writeNumberField(FIELD_ID, reservation.getId().value);
+        }
+        generator.writeEndObject();
+    }
+
+}
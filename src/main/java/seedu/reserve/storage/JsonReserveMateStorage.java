@@ -11,20 +11,36 @@ import seedu.reserve.commons.core.LogsCenter;
 import seedu.reserve.commons.exceptions.DataLoadingException;
 import seedu.reserve.commons.exceptions.IllegalValueException;
 import seedu.reserve.commons.util.FileUtil;
-import seedu.reserve.commons.util.JsonUtil;
 import seedu.reserve.model.ReadOnlyReserveMate;
 
 /**
  * A class to access ReserveMate data stored as a json file on the hard disk.
+ * Every save keeps the previous versions of the file as numbered backups, and reading falls back to the newest
+ * backup that can be loaded when the file itself is missing or unreadable.
  */
 public class JsonReserveMateStorage implements ReserveMateStorage {
 
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonReserveMateStorage.class);
 
     private Path filePath;
+    private final int backupCount;
+    private final boolean isCompact;
 
     public JsonReserveMateStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT, false);
+    }
+
+    /**
+     * Creates a {@code JsonReserveMateStorage} that keeps {@code backupCount} previous versions of the data file.
+     *
+     * @param isCompact whether to write the data file without line breaks and indentation.
+     */
+    public JsonReserveMateStorage(Path filePath, int backupCount, boolean isCompact) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
+        this.isCompact = isCompact;
     }
 
     public Path getReserveMateFilePath() {
@@ -43,16 +59,27 @@ public class JsonReserveMateStorage implements ReserveMateStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyReserveMate> readReserveMate(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
+        return readSnapshot(filePath).map(JsonReserveMateCodec.Snapshot::reserveMate);
+    }
 
-        Optional<JsonSerializableReserveMate> jsonReserveMate = JsonUtil.readJsonFile(
-                filePath, JsonSerializableReserveMate.class);
-        if (!jsonReserveMate.isPresent()) {
+    /**
+     * Similar to {@link #readReserveMate(Path)}, but also returns the journal sequence number of the file that was
+     * loaded, which is older than that of {@code filePath} when the data was recovered from a backup.
+     */
+    Optional<JsonReserveMateCodec.Snapshot> readSnapshot(Path filePath) throws DataLoadingException {
+        return BackupFallbackReader.read(filePath, backupCount, this::readReserveMateFile);
+    }
+
+    private Optional<JsonReserveMateCodec.Snapshot> readReserveMateFile(Path filePath) throws DataLoadingException {
+        if (!FileUtil.isFileExists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonReserveMate.get().toModelType());
+            return Optional.of(JsonReserveMateCodec.readSnapshot(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -70,11 +97,19 @@ public class JsonReserveMateStorage implements ReserveMateStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath) throws IOException {
+        saveReserveMate(reserveMate, filePath, 0);
+    }
+
+    /**
+     * Similar to {@link #saveReserveMate(ReadOnlyReserveMate, Path)}, recording in the file that it was written at
+     * {@code journalSequence}.
+     */
+    void saveReserveMate(ReadOnlyReserveMate reserveMate, Path filePath, long journalSequence) throws IOException {
         requireNonNull(reserveMate);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableReserveMate(reserveMate), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonReserveMateCodec.write(reserveMate, filePath, isCompact, backupCount, journalSequence);
     }
 
 }
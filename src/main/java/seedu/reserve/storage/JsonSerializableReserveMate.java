@@ -12,6 +12,8 @@ import seedu.reserve.commons.exceptions.IllegalValueException;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReserveMate;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 
 /**
  * An Immutable ReserveMate that is serializable to JSON format.
@@ -20,15 +22,23 @@ import seedu.reserve.model.reservation.Reservation;
 class JsonSerializableReserveMate {
 
     public static final String MESSAGE_DUPLICATE_RESERVATION = "Reservation list contains duplicate reservations(s).";
+    public static final String MESSAGE_DUPLICATE_WAITLIST_ENTRY =
+            "Waitlist contains the same party more than once for a date-time.";
 
     private final List<JsonAdaptedReservation> reservations = new ArrayList<>();
+    private final List<JsonAdaptedWaitlistEntry> waitlist = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableReserveMate} with the given reservations.
+     * Constructs a {@code JsonSerializableReserveMate} with the given reservations and waitlist.
      */
     @JsonCreator
-    public JsonSerializableReserveMate(@JsonProperty("reservations") List<JsonAdaptedReservation> reservations) {
+    public JsonSerializableReserveMate(@JsonProperty("reservations") List<JsonAdaptedReservation> reservations,
+                                       @JsonProperty("waitlist") List<JsonAdaptedWaitlistEntry> waitlist) {
         this.reservations.addAll(reservations);
+        // data files saved before there was a waitlist have no waitlist field
+        if (waitlist != null) {
+            this.waitlist.addAll(waitlist);
+        }
     }
 
     /**
@@ -39,6 +49,8 @@ class JsonSerializableReserveMate {
     public JsonSerializableReserveMate(ReadOnlyReserveMate source) {
         reservations.addAll(source.getReservationList().stream().map(JsonAdaptedReservation::new)
                 .collect(Collectors.toList()));
+        waitlist.addAll(source.getWaitlist().stream().map(JsonAdaptedWaitlistEntry::new)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -47,15 +59,34 @@ class JsonSerializableReserveMate {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ReserveMate toModelType() throws IllegalValueException {
+        List<Reservation> modelReservations = JsonAdaptedReservationConverter.toModelType(reservations);
+
         ReserveMate reserveMate = new ReserveMate();
-        for (JsonAdaptedReservation jsonAdaptedReservation : reservations) {
-            Reservation reservation = jsonAdaptedReservation.toModelType();
-            if (reserveMate.hasReservation(reservation)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RESERVATION);
-            }
-            reserveMate.addReservation(reservation);
+        try {
+            reserveMate.addReservations(modelReservations);
+        } catch (DuplicateReservationException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_RESERVATION);
         }
+
+        List<WaitlistEntry> modelWaitlist = new ArrayList<>();
+        for (JsonAdaptedWaitlistEntry entry : waitlist) {
+            modelWaitlist.add(entry.toModelType());
+        }
+        setWaitlist(reserveMate, modelWaitlist);
         return reserveMate;
     }
 
+    /**
+     * Puts the loaded {@code entries} on the waitlist of {@code reserveMate}.
+     *
+     * @throws IllegalValueException if the same party waits more than once for a date-time.
+     */
+    static void setWaitlist(ReserveMate reserveMate, List<WaitlistEntry> entries) throws IllegalValueException {
+        try {
+            reserveMate.setWaitlist(entries);
+        } catch (DuplicateReservationException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_WAITLIST_ENTRY);
+        }
+    }
+
 }
@@ -0,0 +1,95 @@
+package seedu.reserve.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.ReadOnlyReserveMate;
+
+/**
+ * Converts ReserveMate data files between the json and binary formats.
+ * The format of each file is told by its extension: files ending in {@value #BINARY_FILE_EXTENSION} are binary,
+ * all others are json.
+ * <p>
+ * Usage: {@code java seedu.reserve.storage.ReserveMateFileConverter <input file> <output file>}
+ */
+public class ReserveMateFileConverter {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_USAGE = "Usage: ReserveMateFileConverter <input file> <output file>\n"
+            + "Files ending in " + BINARY_FILE_EXTENSION + " are read and written in the binary format, "
+            + "all others in json.";
+    public static final String MESSAGE_MISSING_INPUT = "Input file %s does not exist.";
+    public static final String MESSAGE_SUCCESS = "Converted %d reservations from %s to %s.";
+
+    private ReserveMateFileConverter() {}
+
+    /**
+     * Converts the file given as the first argument into the file given as the second.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path inputFilePath = Paths.get(args[0]);
+        Path outputFilePath = Paths.get(args[1]);
+        try {
+            int reservationCount = convert(inputFilePath, outputFilePath);
+            System.out.println(String.format(MESSAGE_SUCCESS, reservationCount, inputFilePath, outputFilePath));
+        } catch (DataLoadingException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code inputFilePath} and writes its reservations to {@code outputFilePath}.
+     *
+     * @return the number of reservations converted.
+     * @throws DataLoadingException if the input file is missing or cannot be loaded.
+     * @throws IOException if there was any problem writing to the output file.
+     */
+    public static int convert(Path inputFilePath, Path outputFilePath) throws DataLoadingException, IOException {
+        requireNonNull(inputFilePath);
+        requireNonNull(outputFilePath);
+
+        ReadOnlyReserveMate reserveMate = createStorage(inputFilePath).readReserveMate()
+                .orElseThrow(() -> new DataLoadingException(
+                        new IOException(String.format(MESSAGE_MISSING_INPUT, inputFilePath))));
+        createStorage(outputFilePath).saveReserveMate(reserveMate);
+        return reserveMate.getReservationList().size();
+    }
+
+    /**
+     * Returns whether the file at {@code filePath} is taken to be in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns {@code filePath} with its extension replaced by {@value #BINARY_FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path filePath) {
+        if (isBinaryFile(filePath)) {
+            return filePath;
+        }
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    private static ReserveMateStorage createStorage(Path filePath) {
+        return isBinaryFile(filePath)
+                ? new BinaryReserveMateStorage(filePath, 0)
+                : new JsonReserveMateStorage(filePath, 0, false);
+    }
+
+}
@@ -1,9 +1,7 @@
 package seedu.reserve.ui;
 
-import java.util.HashMap;
 import java.util.logging.Logger;
 
-import javafx.application.Platform;
 import javafx.collections.ListChangeListener;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -20,6 +18,7 @@ import seedu.reserve.logic.commands.CommandResult;
 import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.Model;
+import seedu.reserve.model.ReservationAnalytics;
 import seedu.reserve.model.reservation.Reservation;
 
 /**
@@ -41,6 +40,7 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private StatisticsWindow statisticsWindow;
+    private StatisticsRefreshScheduler<ReservationAnalytics> statisticsRefreshScheduler;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -76,12 +76,10 @@ public class MainWindow extends UiPart<Stage> {
         helpWindow = new HelpWindow();
         statisticsWindow = new StatisticsWindow();
 
-        model.getFilteredReservationList().addListener((ListChangeListener<Reservation>) change -> {
-            HashMap<String, Integer> updatedStats = model.getReservationStatistics();
-            Platform.runLater(() -> {
-                statisticsWindow.setBarChart(updatedStats);
-            });
-        });
+        statisticsRefreshScheduler = new StatisticsRefreshScheduler<>(model::getReservationAnalytics,
+                statisticsWindow::setStatistics, statisticsWindow::isShowing);
+        model.getReserveMate().getReservationList().addListener((ListChangeListener<Reservation>) change ->
+                statisticsRefreshScheduler.requestRefresh());
     }
 
     public Stage getPrimaryStage() {
@@ -170,8 +168,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     public void handleStatistics() {
         if (!statisticsWindow.isShowing()) {
-            statisticsWindow.show(logic.getReservationStatistics());
+            statisticsWindow.show(logic.getReservationAnalytics());
         } else {
+            statisticsWindow.setStatistics(logic.getReservationAnalytics());
             statisticsWindow.focus();
         }
     }
@@ -191,6 +190,7 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
         helpWindow.hide();
         statisticsWindow.hide();
+        statisticsRefreshScheduler.shutdown();
     }
 
     public ReservationListPanel getReservationListPanel() {
@@ -207,15 +207,13 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            Platform.runLater(() -> {
-                statisticsWindow.setBarChart(logic.getReservationStatistics());
-            });
 
             if (commandResult.isShowUserGuide()) {
                 handleHelp();
             }
 
             if (commandResult.isShowStatistics()) {
+                statisticsWindow.setDimension(commandResult.getStatisticsDimension());
                 handleStatistics();
             }
 
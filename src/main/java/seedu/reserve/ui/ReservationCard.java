@@ -1,5 +1,7 @@
 package seedu.reserve.ui;
 
+import java.time.format.DateTimeFormatter;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -12,6 +14,7 @@ import seedu.reserve.model.reservation.Reservation;
 public class ReservationCard extends UiPart<Region> {
 
     private static final String FXML = "ReservationListCard.fxml";
+    private static final DateTimeFormatter END_TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -30,9 +33,13 @@ public class ReservationCard extends UiPart<Region> {
     @FXML
     private Label id;
     @FXML
+    private Label reservationId;
+    @FXML
     private Label diners;
     @FXML
     private Label dateTime;
+    @FXML
+    private Label table;
 
     /**
      * Creates a {@code ReservationCode} with the given {@code Reservation} and index to display.
@@ -42,7 +49,12 @@ public class ReservationCard extends UiPart<Region> {
         this.reservation = reservation;
         id.setText(displayedIndex + ". ");
         name.setText(reservation.getName().fullName);
+        reservationId.setText(reservation.getId().toString());
         diners.setText(reservation.getDiners().value + " Diners");
-        dateTime.setText(reservation.getDateTime().toString());
+        dateTime.setText(reservation.getDateTime() + " to "
+                + reservation.getEndDateTime().format(END_TIME_FORMATTER));
+        table.setText(reservation.getTableAssignment().isAssigned()
+                ? "Table " + reservation.getTableAssignment()
+                : "No table assigned");
     }
 }
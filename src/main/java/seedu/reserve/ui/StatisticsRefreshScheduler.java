@@ -0,0 +1,115 @@
+package seedu.reserve.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.reserve.commons.core.LogsCenter;
+
+/**
+ * Recomputes statistics in the background after the reservations change, and hands the result to the UI.
+ * <p>
+ * Requests made while the statistics are not on screen are dropped, since the window computes fresh statistics
+ * when it is opened. A request starts a short delay, and every request made during that delay is served by the
+ * same recomputation. The result is then applied on the JavaFX Application Thread in a single call.
+ *
+ * @param <T> type of the computed statistics.
+ */
+public class StatisticsRefreshScheduler<T> {
+
+    public static final long DEFAULT_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(StatisticsRefreshScheduler.class);
+
+    private final Supplier<T> statisticsSupplier;
+    private final Consumer<T> statisticsConsumer;
+    private final BooleanSupplier isShowing;
+    private final ScheduledExecutorService executor;
+    private final Executor uiExecutor;
+    private final long delayMillis;
+
+    /** Whether a recomputation is waiting to start. */
+    private final AtomicBoolean isScheduled = new AtomicBoolean(false);
+
+    /**
+     * Creates a {@code StatisticsRefreshScheduler} that recomputes on its own daemon thread and applies the result
+     * with {@link Platform#runLater(Runnable)}.
+     *
+     * @param statisticsSupplier computes the statistics. Called on the background thread.
+     * @param statisticsConsumer applies the statistics to the UI. Called on the JavaFX Application Thread.
+     * @param isShowing tells whether the statistics are on screen.
+     */
+    public StatisticsRefreshScheduler(Supplier<T> statisticsSupplier, Consumer<T> statisticsConsumer,
+                                      BooleanSupplier isShowing) {
+        this(statisticsSupplier, statisticsConsumer, isShowing, createExecutor(), Platform::runLater,
+                DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code StatisticsRefreshScheduler} that recomputes on {@code executor} {@code delayMillis} after
+     * the first of a burst of requests, and applies the result through {@code uiExecutor}.
+     */
+    StatisticsRefreshScheduler(Supplier<T> statisticsSupplier, Consumer<T> statisticsConsumer,
+                               BooleanSupplier isShowing, ScheduledExecutorService executor, Executor uiExecutor,
+                               long delayMillis) {
+        requireNonNull(statisticsSupplier);
+        requireNonNull(statisticsConsumer);
+        requireNonNull(isShowing);
+        requireNonNull(executor);
+        requireNonNull(uiExecutor);
+        this.statisticsSupplier = statisticsSupplier;
+        this.statisticsConsumer = statisticsConsumer;
+        this.isShowing = isShowing;
+        this.executor = executor;
+        this.uiExecutor = uiExecutor;
+        this.delayMillis = delayMillis;
+    }
+
+    private static ScheduledExecutorService createExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ReserveMate-statistics");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Asks for the statistics to be recomputed, if they are on screen.
+     * Requests made before an earlier one has started recomputing are merged into it.
+     */
+    public void requestRefresh() {
+        if (!isShowing.getAsBoolean() || executor.isShutdown()) {
+            return;
+        }
+        if (isScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::refresh, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refresh() {
+        // cleared first, so that a change made while computing schedules another refresh
+        isScheduled.set(false);
+        try {
+            T statistics = statisticsSupplier.get();
+            uiExecutor.execute(() -> statisticsConsumer.accept(statistics));
+        } catch (RuntimeException e) {
+            logger.warning("Statistics could not be refreshed: " + e);
+        }
+    }
+
+    /**
+     * Stops the background thread. Later requests are ignored.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,18 +1,36 @@
 package seedu.reserve.ui;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.reserve.commons.core.LogsCenter;
+import seedu.reserve.logic.commands.StatisticsCommand.Dimension;
+import seedu.reserve.model.ReservationAnalytics;
+import seedu.reserve.model.reservation.DateTime;
 
 /**
  * The Statistics Window. Provides the basic application layout containing
@@ -27,15 +45,29 @@ public class StatisticsWindow extends UiPart<Stage> {
     private static final Logger logger = LogsCenter.getLogger(StatisticsWindow.class);
     private static final String FXML = "StatisticsWindow.fxml";
 
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final int HEATMAP_CELL_SIZE = 20;
+
     @FXML
     private Label statisticsMessage;
 
     @FXML
     private BarChart<String, Number> barChart;
 
+    @FXML
+    private CategoryAxis barXAxis;
+
+    @FXML
+    private LineChart<String, Number> lineChart;
+
+    @FXML
+    private GridPane heatmap;
+
     @FXML
     private VBox messageContainer;
 
+    private Dimension dimension = Dimension.DINERS;
+
 
     /**
      * Creates a new Statistics Window.
@@ -45,7 +77,7 @@ public class StatisticsWindow extends UiPart<Stage> {
     public StatisticsWindow(Stage root) {
         super(FXML, root);
         statisticsMessage.setText(STATISTICS_MESSAGE);
-        configureBarChart();
+        configureCharts();
     }
 
     /**
@@ -73,67 +105,209 @@ public class StatisticsWindow extends UiPart<Stage> {
      *         </li>
      *     </ul>
      */
-    public void show(HashMap<String, Integer> reservationStatistics) {
+    public void show(ReservationAnalytics analytics) {
         logger.fine("Showing statistics page of reservations.");
         Stage root = getRoot();
-        setBarChart(reservationStatistics);
+        setStatistics(analytics);
         root.show();
     }
 
     /**
-     * Configures pie chart settings.
+     * Configures chart settings.
      */
-    private void configureBarChart() {
+    private void configureCharts() {
         barChart.setLegendVisible(false);
         barChart.setAnimated(false);
         barChart.setTitle("Reservations by number of diners");
+        lineChart.setAnimated(false);
     }
 
     /**
-     * Sets pie chart data from reservation statistics.
-     *
-     * @param reservationStatistics HashMap of categories to numerical values.
+     * Sets the breakdown of reservations shown from the next call to {@link #setStatistics(ReservationAnalytics)}.
      */
-    public void setBarChart(HashMap<String, Integer> reservationStatistics) {
-        barChart.getData().clear();
+    public void setDimension(Dimension dimension) {
+        this.dimension = dimension;
+    }
 
-        if (reservationStatistics == null || reservationStatistics.isEmpty()) {
+    /**
+     * Draws the statistics of the current dimension from {@code analytics}.
+     */
+    public void setStatistics(ReservationAnalytics analytics) {
+        if (analytics == null || analytics.getDinerStatistics().getReservationCount() == 0) {
             logger.info("No reservations found to display in chart.");
+            showOnly(null);
             statisticsMessage.setText("No reservations to summarize.");
             return;
         }
 
         statisticsMessage.setText("Summary of reservations");
+        switch (dimension) {
+        case HOUR:
+            setHeatmap(analytics);
+            break;
+        case WEEKDAY:
+            setBarChart("Covers by weekday", "Weekday", "Number of Covers", toWeekdayCounts(analytics));
+            break;
+        case OCCASION:
+            setBarChart("Reservations by occasion", "Occasion", "Number of Reservations",
+                    new LinkedHashMap<>(analytics.getReservationsByOccasion()));
+            break;
+        case DAILY:
+            setDailyChart(analytics);
+            break;
+        case TREND:
+            setTrendChart(analytics);
+            break;
+        case DINERS:
+        default:
+            setBarChart(analytics.getDinerStatistics().toHashMap());
+            break;
+        }
+    }
 
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-        series.setName("Reservations");
-
-        int maxCount = 1;
+    /**
+     * Sets bar chart data from reservation statistics.
+     *
+     * @param reservationStatistics HashMap of categories to numerical values.
+     */
+    public void setBarChart(HashMap<String, Integer> reservationStatistics) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
         for (int i = 1; i <= 10; i++) {
             String key = String.valueOf(i);
-            int value = reservationStatistics.getOrDefault(key, 0);
-            maxCount = Math.max(maxCount, value);
-            series.getData().add(new XYChart.Data<>(key, value));
+            counts.put(key, reservationStatistics.getOrDefault(key, 0));
         }
+        setBarChart("Reservations by number of diners", "Number of Diners", "Number of Reservations", counts);
+    }
 
-        barChart.getData().add(series);
+    private void setBarChart(String title, String categoryLabel, String valueLabel, Map<String, Integer> counts) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName("Reservations");
 
-        if (series.getData().isEmpty()) {
-            logger.warning("No data was added to the BarChart.");
-        } else {
-            barChart.getData().add(series);
-            logger.fine("BarChart data set successfully.");
+        int maxCount = 1;
+        for (Map.Entry<String, Integer> count : counts.entrySet()) {
+            maxCount = Math.max(maxCount, count.getValue());
+            series.getData().add(new XYChart.Data<>(count.getKey(), count.getValue()));
         }
 
+        barChart.setTitle(title);
+        barXAxis.setLabel(categoryLabel);
+        barChart.getYAxis().setLabel(valueLabel);
+        // replaces the old series in one change, so the chart is only laid out once
+        barChart.getData().setAll(List.of(series));
+        logger.fine("BarChart data set successfully.");
+
         NumberAxis yAxis = (NumberAxis) barChart.getYAxis();
         yAxis.setAutoRanging(false);
         yAxis.setLowerBound(0);
-        yAxis.setTickUnit(1);
 
         // Round up maxCount to the next nice value (e.g., +1 buffer or multiple of 5)
         int paddedUpperBound = (maxCount <= 10) ? 10 : ((maxCount + 4) / 5) * 5;
         yAxis.setUpperBound(paddedUpperBound);
+        yAxis.setTickUnit(Math.max(1, paddedUpperBound / 10));
+        showOnly(barChart);
+    }
 
+    private static Map<String, Integer> toWeekdayCounts(ReservationAnalytics analytics) {
+        int[] coversByWeekday = analytics.getCoversByWeekday();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (DayOfWeek weekday : DayOfWeek.values()) {
+            counts.put(weekday.getDisplayName(TextStyle.SHORT, Locale.ENGLISH),
+                    coversByWeekday[weekday.getValue() - 1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Draws the covers by weekday and hour of day as a grid of shaded cells, darker for more covers.
+     */
+    private void setHeatmap(ReservationAnalytics analytics) {
+        int maxCovers = 1;
+        for (DayOfWeek weekday : DayOfWeek.values()) {
+            for (int hour = 0; hour < ReservationAnalytics.HOURS_PER_DAY; hour++) {
+                maxCovers = Math.max(maxCovers, analytics.getCovers(weekday, hour));
+            }
+        }
+
+        List<Node> cells = new ArrayList<>();
+        for (int hour = 0; hour < ReservationAnalytics.HOURS_PER_DAY; hour++) {
+            cells.add(createHeatmapLabel(String.valueOf(hour), hour + 1, 0));
+        }
+        for (DayOfWeek weekday : DayOfWeek.values()) {
+            int row = weekday.getValue();
+            cells.add(createHeatmapLabel(weekday.getDisplayName(TextStyle.SHORT, Locale.ENGLISH), 0, row));
+            for (int hour = 0; hour < ReservationAnalytics.HOURS_PER_DAY; hour++) {
+                int covers = analytics.getCovers(weekday, hour);
+                Label cell = createHeatmapLabel("", hour + 1, row);
+                cell.setMinSize(HEATMAP_CELL_SIZE, HEATMAP_CELL_SIZE);
+                cell.setStyle(String.format("-fx-background-color: rgba(255, 140, 0, %.2f);",
+                        0.1 + 0.9 * covers / maxCovers));
+                Tooltip.install(cell, new Tooltip(String.format("%s %02d00: %d covers",
+                        weekday.getDisplayName(TextStyle.SHORT, Locale.ENGLISH), hour, covers)));
+                cells.add(cell);
+            }
+        }
+
+        heatmap.getChildren().setAll(cells);
+        statisticsMessage.setText("Covers by weekday and hour of day");
+        showOnly(heatmap);
+    }
+
+    private static Label createHeatmapLabel(String text, int column, int row) {
+        Label label = new Label(text);
+        label.setAlignment(Pos.CENTER);
+        GridPane.setConstraints(label, column, row);
+        return label;
+    }
+
+    /**
+     * Draws the covers on each day of the booking window.
+     */
+    private void setDailyChart(ReservationAnalytics analytics) {
+        LocalDate today = LocalDate.now();
+        int[] coversPerDay = analytics.getCoversPerDay(today, DateTime.MAX_BOOKING_DAYS + 1);
+
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.setName("Covers");
+        for (int day = 0; day < coversPerDay.length; day++) {
+            series.getData().add(new XYChart.Data<>(today.plusDays(day).format(DAY_FORMATTER), coversPerDay[day]));
+        }
+        setLineChart("Covers per day", List.of(series));
+    }
+
+    /**
+     * Draws the rolling 7- and 30-day average covers per day over the booking window.
+     */
+    private void setTrendChart(ReservationAnalytics analytics) {
+        LocalDate today = LocalDate.now();
+        int dayCount = DateTime.MAX_BOOKING_DAYS + 1;
+        List<XYChart.Series<String, Number>> series = new ArrayList<>();
+        for (int windowDays : new int[] {7, 30}) {
+            double[] averages = analytics.getRollingAverageCovers(today, dayCount, windowDays);
+            XYChart.Series<String, Number> windowSeries = new XYChart.Series<>();
+            windowSeries.setName(windowDays + "-day average");
+            for (int day = 0; day < dayCount; day++) {
+                windowSeries.getData().add(new XYChart.Data<>(today.plusDays(day).format(DAY_FORMATTER),
+                        averages[day]));
+            }
+            series.add(windowSeries);
+        }
+        setLineChart("Rolling average covers per day", series);
+    }
+
+    private void setLineChart(String title, List<XYChart.Series<String, Number>> series) {
+        lineChart.setTitle(title);
+        lineChart.getData().setAll(series);
+        showOnly(lineChart);
+    }
+
+    /**
+     * Shows {@code chart} and hides the other charts. Hides all charts if {@code chart} is null.
+     */
+    private void showOnly(Node chart) {
+        for (Node node : List.of(barChart, lineChart, heatmap)) {
+            node.setVisible(node == chart);
+            node.setManaged(node == chart);
+        }
     }
 
     /**
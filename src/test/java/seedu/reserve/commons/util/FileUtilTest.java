@@ -1,13 +1,23 @@
 package seedu.reserve.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,65 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFileLeft() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void rotateBackups_moreSavesThanBackups_keepsNewestGenerations() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (int version = 1; version <= 4; version++) {
+            byte[] content = ("version " + version).getBytes();
+            FileUtil.writeToFile(file, 2, outputStream -> outputStream.write(content));
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+    }
+
+    @Test
+    public void writeToFile_writerFails_fileAndBackupsUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, 2, outputStream -> {
+            outputStream.write("partial".getBytes());
+            throw new IOException("Disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void rotateBackups_fileKeptInPlace() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "content");
+        FileUtil.rotateBackups(file, 2);
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals("content", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+    }
+
+    @Test
+    public void rotateBackups_zeroBackups_fileLeftInPlace() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "content");
+        FileUtil.rotateBackups(file, 0);
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+    }
+
 }
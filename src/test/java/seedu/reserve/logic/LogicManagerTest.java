@@ -31,6 +31,7 @@ import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.storage.AsyncReserveMateSaver;
 import seedu.reserve.storage.JsonReserveMateStorage;
 import seedu.reserve.storage.JsonUserPrefsStorage;
 import seedu.reserve.storage.StorageManager;
@@ -81,6 +82,27 @@ public class LogicManagerTest {
             LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaveFailed_failureAddedToNextResult() throws Exception {
+        StorageManager storage = createStorageThrowing(DUMMY_IO_EXCEPTION);
+        AsyncReserveMateSaver saver = new AsyncReserveMateSaver(storage);
+        logic = new LogicManager(model, storage, saver);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + DINERS_DESC_AMY + DATETIME_DESC_AMY + OCC_DESC_ANNIVERSARY;
+        logic.execute(addCommand);
+        saver.flush();
+        CommandResult result = logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE + "\n\n" + String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+            DUMMY_IO_EXCEPTION.getMessage()), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_readOnlyCommandWithFailingStorage_doesNotSave() throws Exception {
+        logic = new LogicManager(model, createStorageThrowing(DUMMY_IO_EXCEPTION));
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+    }
+
     @Test
     public void getFilteredReservationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredReservationList().remove(0));
@@ -162,6 +184,21 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, createStorageThrowing(e));
+
+        // Triggers the saveReserveMate method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + DINERS_DESC_AMY + DATETIME_DESC_AMY + OCC_DESC_ANNIVERSARY;
+        Reservation expectedReservation = new ReservationBuilder(AMY).withOccasions(VALID_OCCASION_ANNIVERSARY).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addReservation(expectedReservation);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a {@code StorageManager} whose ReserveMate storage throws {@code e} when saving.
+     */
+    private StorageManager createStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an ReserveMateStorage that throws the IOException e when saving
@@ -175,16 +212,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
             new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(reserveMateStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveReserveMate method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-            + EMAIL_DESC_AMY + DINERS_DESC_AMY + DATETIME_DESC_AMY + OCC_DESC_ANNIVERSARY;
-        Reservation expectedReservation = new ReservationBuilder(AMY).withOccasions(VALID_OCCASION_ANNIVERSARY).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addReservation(expectedReservation);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(reserveMateStorage, userPrefsStorage);
     }
 }
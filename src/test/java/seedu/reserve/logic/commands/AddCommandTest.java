@@ -8,9 +8,14 @@ import static seedu.reserve.testutil.Assert.assertThrows;
 import static seedu.reserve.testutil.TypicalReservation.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,11 +24,22 @@ import javafx.collections.ObservableList;
 import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.CustomerProfile;
+import seedu.reserve.model.DinerStatistics;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReadOnlyUserPrefs;
+import seedu.reserve.model.ReservationAnalytics;
 import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.SeatingCapacity;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Duration;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.model.table.FloorPlan;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 import seedu.reserve.testutil.ReservationBuilder;
 
 public class AddCommandTest {
@@ -67,6 +83,63 @@ public class AddCommandTest {
         assertEquals(Arrays.asList(validReservation), modelStub.reservationsAdded);
     }
 
+    @Test
+    public void execute_hourAlreadyBooked_notesOtherReservations() throws Exception {
+        ModelStubAcceptingReservationAdded modelStub = new ModelStubAcceptingReservationAdded();
+        Reservation firstReservation = new ReservationBuilder().build();
+        Reservation secondReservation = new ReservationBuilder().withPhone("81234567")
+                .withEmail("other@example.com").build();
+        new AddCommand(firstReservation).execute(modelStub);
+
+        CommandResult commandResult = new AddCommand(secondReservation).execute(modelStub);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(secondReservation))
+                + String.format(AddCommand.MESSAGE_HOUR_BOOKED, 1), commandResult.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_notEnoughSeats_throwsCommandException() throws Exception {
+        ModelStubAcceptingReservationAdded modelStub = new ModelStubAcceptingReservationAdded(
+                new SeatingCapacity(6, 10));
+        new AddCommand(new ReservationBuilder().withDiners("4").build()).execute(modelStub);
+        AddCommand addCommand = new AddCommand(new ReservationBuilder().withPhone("81234567")
+                .withEmail("other@example.com").withDiners("3").build());
+
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_NOT_ENOUGH_SEATS, 3, 2), ()
+                -> addCommand.execute(modelStub));
+    }
+
+    @Test
+    public void execute_maxReservationsInHour_throwsCommandException() throws Exception {
+        ModelStubAcceptingReservationAdded modelStub = new ModelStubAcceptingReservationAdded(
+                new SeatingCapacity(50, 1));
+        new AddCommand(new ReservationBuilder().build()).execute(modelStub);
+        AddCommand addCommand = new AddCommand(new ReservationBuilder().withPhone("81234567")
+                .withEmail("other@example.com").build());
+
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_HOUR_FULLY_BOOKED, 1), ()
+                -> addCommand.execute(modelStub));
+    }
+
+    @Test
+    public void execute_overlapsLongerReservation_throwsCommandException() throws Exception {
+        ModelStubAcceptingReservationAdded modelStub = new ModelStubAcceptingReservationAdded(
+                new SeatingCapacity(6, 10));
+        Reservation longLunch = new ReservationBuilder().withDateTime("2027-05-01 1200").withDiners("4")
+                .withDuration("150").build();
+        modelStub.addReservation(longLunch);
+        Reservation laterLunch = new ReservationBuilder().withPhone("81234567").withEmail("other@example.com")
+                .withDateTime("2027-05-01 1400").withDiners("3").build();
+        Reservation dinner = new ReservationBuilder().withPhone("81234567").withEmail("other@example.com")
+                .withDateTime("2027-05-01 1500").withDiners("3").build();
+
+        // the long lunch is still seated until 1430
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_NOT_ENOUGH_SEATS, 3, 2), ()
+                -> new AddCommand(laterLunch).execute(modelStub));
+        new AddCommand(dinner).execute(modelStub);
+        assertEquals(Arrays.asList(longLunch, dinner), modelStub.reservationsAdded);
+    }
+
     @Test
     public void equals() {
         Reservation alice = new ReservationBuilder().withName("Alice").build();
@@ -147,11 +220,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getReserveMateModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasReservation(Reservation reservation) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasReservationOtherThan(Reservation reservation, Reservation excluded) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Reservation> getReservationById(ReservationId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<ReservationId> getReservationIdsWithNameToken(String token) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findClosestNameTokens(String query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<ReservationId> getReservationIdsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<ReservationId> getReservationIdsWithEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteReservation(Reservation target) {
             throw new AssertionError("This method should not be called.");
@@ -167,20 +275,117 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int getOccupiedHours(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canSeat(Reservation party) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canSeat(Reservation party, Reservation replaced) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getSeatsLeft(Reservation party, Reservation replaced) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isWaitlisted(Reservation party) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addToWaitlist(WaitlistEntry entry) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeFromWaitlist(WaitlistEntry entry) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<WaitlistEntry> getWaitlist() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Reservation> promoteWaitlisted(LocalDateTime from, LocalDateTime until) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Reservation> promoteWaitlisted() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Reservation> getOverlappingReservations(LocalDateTime from, LocalDateTime until) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int[] getCoversByHour(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SeatingCapacity getSeatingCapacity() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FloorPlan getFloorPlan() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getAvailableHours(LocalDate date, int partySize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<LocalDateTime> findAvailableHours(LocalDateTime from, LocalDateTime until, int partySize,
+                                                      Duration duration, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public HashMap<String, Integer> getReservationStatistics() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public DinerStatistics getDinerStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReservationAnalytics getReservationAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CustomerProfile getCustomerProfile(Reservation reservation) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredReservationList(Predicate<Reservation> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateReservationStatistics() {
+        public void updateFilteredReservationList(DateTime start, DateTime end) {
             throw new AssertionError("This method should not be called.");
         }
+
     }
 
     /**
@@ -206,6 +411,16 @@ public class AddCommandTest {
      */
     private class ModelStubAcceptingReservationAdded extends ModelStub {
         final ArrayList<Reservation> reservationsAdded = new ArrayList<>();
+        private final ReserveMate reserveMate = new ReserveMate();
+        private final SeatingCapacity seatingCapacity;
+
+        ModelStubAcceptingReservationAdded() {
+            this(new SeatingCapacity());
+        }
+
+        ModelStubAcceptingReservationAdded(SeatingCapacity seatingCapacity) {
+            this.seatingCapacity = seatingCapacity;
+        }
 
         @Override
         public boolean hasReservation(Reservation reservation) {
@@ -217,6 +432,32 @@ public class AddCommandTest {
         public void addReservation(Reservation reservation) {
             requireNonNull(reservation);
             reservationsAdded.add(reservation);
+            reserveMate.addReservation(reservation);
+        }
+
+        @Override
+        public boolean canSeat(Reservation party, Reservation replaced) {
+            return reserveMate.canSeat(party, replaced, seatingCapacity);
+        }
+
+        @Override
+        public int getSeatsLeft(Reservation party, Reservation replaced) {
+            return reserveMate.getSeatsLeft(party, replaced, seatingCapacity);
+        }
+
+        @Override
+        public List<Reservation> getOverlappingReservations(LocalDateTime from, LocalDateTime until) {
+            requireNonNull(from);
+            requireNonNull(until);
+            return reservationsAdded.stream()
+                    .filter(reservation -> reservation.getDateTime().value.isBefore(until)
+                            && reservation.getEndDateTime().isAfter(from))
+                    .toList();
+        }
+
+        @Override
+        public SeatingCapacity getSeatingCapacity() {
+            return seatingCapacity;
         }
 
         @Override
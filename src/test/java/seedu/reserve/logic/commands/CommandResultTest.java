@@ -8,6 +8,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
+    @Test
+    public void withNotice_addsNoticeAndKeepsOtherFields() {
+        CommandResult statistics = new CommandResult("feedback", StatisticsCommand.Dimension.HOUR);
+        assertEquals(new CommandResult("feedback\n\nnotice", StatisticsCommand.Dimension.HOUR),
+                statistics.withNotice("notice"));
+        assertEquals(new CommandResult("feedback\n\nnotice", false, false, true),
+                new CommandResult("feedback", false, false, true).withNotice("notice"));
+    }
+
     @Test
     public void equals() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -36,6 +45,10 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, false, true)));
+
+        // different statisticsDimension value -> returns false
+        assertFalse(new CommandResult("feedback", StatisticsCommand.Dimension.HOUR).equals(
+                new CommandResult("feedback", StatisticsCommand.Dimension.TREND)));
     }
 
     @Test
@@ -63,7 +76,9 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showUserGuide=" + commandResult.isShowUserGuide()
-                + ", showStatistics=" + commandResult.isShowStatistics() + ", exit=" + commandResult.isExit() + "}";
+                + ", showStatistics=" + commandResult.isShowStatistics()
+                + ", statisticsDimension=" + commandResult.getStatisticsDimension()
+                + ", exit=" + commandResult.isExit() + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
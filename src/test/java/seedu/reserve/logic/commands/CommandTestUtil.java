@@ -3,6 +3,7 @@ package seedu.reserve.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DATE_TIME;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
@@ -47,6 +48,7 @@ public class CommandTestUtil {
     public static final String VALID_DATETIME_BOB = LocalDateTime.now().plusDays(29)
             .truncatedTo(ChronoUnit.HOURS)
             .format(FORMATTER);
+    public static final String VALID_DURATION_BOB = "90";
     public static final String VALID_OCCASION_BIRTHDAY = "Birthday";
     public static final String VALID_OCCASION_ANNIVERSARY = "Anniversary";
 
@@ -60,6 +62,7 @@ public class CommandTestUtil {
     public static final String DINERS_DESC_BOB = " " + PREFIX_NUMBER_OF_DINERS + VALID_DINERS_BOB;
     public static final String DATETIME_DESC_AMY = " " + PREFIX_DATE_TIME + VALID_DATETIME_AMY;
     public static final String DATETIME_DESC_BOB = " " + PREFIX_DATE_TIME + VALID_DATETIME_BOB;
+    public static final String DURATION_DESC_BOB = " " + PREFIX_DURATION + VALID_DURATION_BOB;
     public static final String OCC_DESC_ANNIVERSARY = " " + PREFIX_OCCASION + VALID_OCCASION_ANNIVERSARY;
     public static final String OCC_DESC_BIRTHDAY = " " + PREFIX_OCCASION + VALID_OCCASION_BIRTHDAY;
 
@@ -70,6 +73,7 @@ public class CommandTestUtil {
     public static final String INVALID_DATETIME_DESC = " "
             + PREFIX_DATE_TIME + LocalDateTime.now().plusDays(28)
             .truncatedTo(ChronoUnit.HOURS).format(FORMATTER); // not a valid date time
+    public static final String INVALID_DURATION_DESC = " " + PREFIX_DURATION + "20"; // shorter than 30 minutes
     public static final String INVALID_OCC_DESC = " " + PREFIX_OCCASION + "graduation*"; // '*' not allowed in occasions
 
     public static final String PREAMBLE_WHITESPACE = "\t  \r  \n";
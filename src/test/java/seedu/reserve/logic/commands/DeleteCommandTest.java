@@ -10,15 +10,23 @@ import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
 import static seedu.reserve.testutil.TypicalIndexes.INDEX_SECOND_RESERVATION;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.logic.Messages;
+import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.SeatingCapacity;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.testutil.ReservationBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -43,6 +51,29 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_fullSlotFreed_booksWaitingParty() throws CommandException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSeatingCapacity(new SeatingCapacity(8, 1));
+        Model fullModel = new ModelManager(new ReserveMate(), userPrefs);
+        String tomorrowEvening = LocalDateTime.now().plusDays(1).withHour(18).withMinute(0)
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+        Reservation booked = new ReservationBuilder().withPhone("81111111").withDateTime(tomorrowEvening)
+                .withDuration("60").build();
+        Reservation waiting = new ReservationBuilder().withName("Bob Choo").withPhone("82222222")
+                .withEmail("bob@example.com").withDiners("2").withDateTime(tomorrowEvening).withDuration("60").build();
+        fullModel.addReservation(booked);
+        new WaitlistCommand(waiting).execute(fullModel);
+
+        CommandResult result = new DeleteCommand(INDEX_FIRST_RESERVATION, true).execute(fullModel);
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_RESERVATION_SUCCESS, 1)
+                + String.format(WaitlistCommand.MESSAGE_PROMOTED, "Bob Choo", 2, waiting.getDateTime()),
+                result.getFeedbackToUser());
+        assertTrue(fullModel.hasReservation(waiting));
+        assertEquals(1, fullModel.getReserveMate().getReservationList().size());
+        assertTrue(fullModel.getWaitlist().isEmpty());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredReservationList().size() + 1);
@@ -69,6 +100,32 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_idOutsideFilteredList_success() {
+        Reservation reservationToDelete = model.getFilteredReservationList()
+                .get(INDEX_SECOND_RESERVATION.getZeroBased());
+        showReservationAtIndex(model, INDEX_FIRST_RESERVATION);
+        ReservationTarget target = ReservationTarget.ofId(reservationToDelete.getId());
+        DeleteCommand deleteCommand = new DeleteCommand(target, true);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_RESERVATION_SUCCESS,
+                reservationToDelete.getId());
+
+        Model expectedModel = new ModelManager(model.getReserveMate(), new UserPrefs());
+        expectedModel.deleteReservation(reservationToDelete);
+        showReservationAtIndex(expectedModel, INDEX_FIRST_RESERVATION);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unconfirmedId_asksForConfirmationById() {
+        ReservationId id = model.getFilteredReservationList().get(0).getId();
+        DeleteCommand deleteCommand = new DeleteCommand(ReservationTarget.ofId(id), false);
+
+        assertCommandFailure(deleteCommand, model, String.format(DeleteCommand.MESSAGE_CONFIRM_DELETE, id));
+    }
+
     @Test
     public void execute_invalidIndexFilteredList_throwsCommandException() {
         showReservationAtIndex(model, INDEX_FIRST_RESERVATION);
@@ -108,7 +165,7 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex, true);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{target=" + targetIndex.getOneBased() + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
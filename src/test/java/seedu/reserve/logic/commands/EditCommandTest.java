@@ -26,6 +26,7 @@ import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,7 +36,9 @@ import seedu.reserve.logic.commands.exceptions.CommandException;
 import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.SeatingCapacity;
 import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Reservation;
 import seedu.reserve.testutil.EditReservationDescriptorBuilder;
 import seedu.reserve.testutil.ReservationBuilder;
@@ -218,6 +221,8 @@ public class EditCommandTest {
 
         model.addReservation(futureReservationWithOccasion);
         Index targetIndex = INDEX_FIRST_RESERVATION; // Use first index since we cleared the model
+        // the added reservation has been seated at a table
+        Reservation seatedReservation = model.getFilteredReservationList().get(0);
 
         // Create descriptor to clear occasions
         EditCommand.EditReservationDescriptor descriptor = new EditReservationDescriptorBuilder()
@@ -225,7 +230,7 @@ public class EditCommandTest {
         EditCommand editCommand = new EditCommand(targetIndex, descriptor);
 
         // Create the expected reservation after editing (same as original but without occasions)
-        Reservation editedReservation = new ReservationBuilder(futureReservationWithOccasion)
+        Reservation editedReservation = new ReservationBuilder(seatedReservation)
             .withOccasions().build();
 
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_RESERVATION_SUCCESS,
@@ -233,7 +238,7 @@ public class EditCommandTest {
 
         Model expectedModel = new ModelManager(new ReserveMate(model.getReserveMate()),
             new UserPrefs());
-        expectedModel.setReservation(futureReservationWithOccasion, editedReservation);
+        expectedModel.setReservation(seatedReservation, editedReservation);
 
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
@@ -256,6 +261,45 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_FUTURE_RESERVATION_REQUIRED);
     }
 
+    @Test
+    public void execute_editDiners_defaultDurationFollowsPartySize() throws CommandException {
+        model = new ModelManager(new ReserveMate(), new UserPrefs());
+        model.addReservation(new ReservationBuilder().withDiners("2").build());
+        model.addReservation(new ReservationBuilder().withPhone("81234567").withEmail("other@example.com")
+                .withDiners("2").withDuration("90").build());
+        EditCommand.EditReservationDescriptor descriptor = new EditReservationDescriptorBuilder().withDiners("6")
+                .build();
+
+        new EditCommand(INDEX_FIRST_RESERVATION, descriptor).execute(model);
+        new EditCommand(INDEX_SECOND_RESERVATION, descriptor).execute(model);
+
+        // a duration that was set by hand is kept
+        assertEquals(List.of(new Duration("90"), new Duration("120")), model.getFilteredReservationList().stream()
+                .map(Reservation::getDuration).toList());
+    }
+
+    @Test
+    public void execute_moreDinersThanSeatsLeft_failure() throws CommandException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSeatingCapacity(new SeatingCapacity(10, 10));
+        Reservation firstReservation = new ReservationBuilder().withDiners("2").build();
+        Reservation secondReservation = new ReservationBuilder().withPhone("81234567")
+                .withEmail("other@example.com").withDiners("6").build();
+        ReserveMate reserveMate = new ReserveMate();
+        // reservations at the same date-time are listed latest added first
+        reserveMate.addReservation(secondReservation);
+        reserveMate.addReservation(firstReservation);
+        Model modelWithTenSeats = new ModelManager(reserveMate, userPrefs);
+
+        // the reservation's own diners are not counted against it
+        new EditCommand(INDEX_FIRST_RESERVATION, new EditReservationDescriptorBuilder().withDiners("4").build())
+                .execute(modelWithTenSeats);
+
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_RESERVATION,
+                new EditReservationDescriptorBuilder().withDiners("5").build());
+        assertCommandFailure(editCommand, modelWithTenSeats, String.format(Messages.MESSAGE_NOT_ENOUGH_SEATS, 5, 4));
+    }
+
     @Test
     public void equals() {
         final EditCommand standardCommand = new EditCommand(INDEX_FIRST_RESERVATION, DESC_AMY);
@@ -286,8 +330,8 @@ public class EditCommandTest {
         Index index = Index.fromOneBased(1);
         EditCommand.EditReservationDescriptor editReservationDescriptor = new EditCommand.EditReservationDescriptor();
         EditCommand editCommand = new EditCommand(index, editReservationDescriptor);
-        String expected = EditCommand.class.getCanonicalName() + "{index=" + index + ", editReservationDescriptor="
-                + editReservationDescriptor + "}";
+        String expected = EditCommand.class.getCanonicalName() + "{target=" + index.getOneBased()
+                + ", editReservationDescriptor=" + editReservationDescriptor + "}";
         assertEquals(expected, editCommand.toString());
     }
 
@@ -61,7 +61,8 @@ public class EditReservationDescriptorTest {
                 + editReservationDescriptor.getPhone().orElse(null) + ", email="
                 + editReservationDescriptor.getEmail().orElse(null) + ", diners="
                 + editReservationDescriptor.getDiners().orElse(null) + ", dateTime="
-                + editReservationDescriptor.getDateTime().orElse(null) + ", occasions="
+                + editReservationDescriptor.getDateTime().orElse(null) + ", duration="
+                + editReservationDescriptor.getDuration().orElse(null) + ", occasions="
                 + editReservationDescriptor.getOccasions().orElse(null) + ", preferences="
                 + editReservationDescriptor.getPreference().orElse(null) + '}';
         assertEquals(expected, editReservationDescriptor.toString());
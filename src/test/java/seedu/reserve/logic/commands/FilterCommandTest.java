@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
 import static seedu.reserve.testutil.TypicalReservation.CARL;
 import static seedu.reserve.testutil.TypicalReservation.FIONA;
 import static seedu.reserve.testutil.TypicalReservation.GEORGE;
@@ -21,7 +22,9 @@ import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Reservation;
 import seedu.reserve.model.reservation.ReservationBetweenDatePredicate;
+import seedu.reserve.testutil.ReservationBuilder;
 
 public class FilterCommandTest {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
@@ -87,11 +90,33 @@ public class FilterCommandTest {
 
     }
 
+    @Test
+    public void filterCommand_listedReservationMovedOutOfRange_droppedFromList() throws Exception {
+        DateTime startDate = DateTime.fromFileString("2025-04-12 1000");
+        DateTime endDate = DateTime.fromFileString("2025-04-18 1400");
+        new FilterCommand(startDate, endDate).execute(model);
+
+        model.setReservation(CARL, new ReservationBuilder(CARL).withDateTime("2025-05-01 1200").build());
+        assertEquals(Arrays.asList(FIONA, GEORGE), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void filterCommand_reservationMovedIntoRange_addedToList() throws Exception {
+        DateTime startDate = DateTime.fromFileString("2025-04-12 1000");
+        DateTime endDate = DateTime.fromFileString("2025-04-18 1400");
+        new FilterCommand(startDate, endDate).execute(model);
+
+        // the moved reservation is also seated at a table, so the names are compared
+        model.setReservation(ALICE, new ReservationBuilder(ALICE).withDateTime("2025-04-16 1200").build());
+        assertEquals(Arrays.asList(FIONA.getName(), CARL.getName(), ALICE.getName(), GEORGE.getName()),
+                model.getFilteredReservationList().stream().map(Reservation::getName).toList());
+    }
+
     @Test
     public void toStringTest() {
-        ReservationBetweenDatePredicate predicate = new ReservationBetweenDatePredicate(startDate, endDate);
         FilterCommand filterCommand = new FilterCommand(startDate, endDate);
-        String expected = FilterCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FilterCommand.class.getCanonicalName() + "{startDate=" + startDate + ", endDate="
+                + endDate + "}";
         assertEquals(expected, filterCommand.toString());
     }
 }
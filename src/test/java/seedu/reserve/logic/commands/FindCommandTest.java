@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.Messages.MESSAGE_NO_RESERVATIONS;
 import static seedu.reserve.logic.Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW;
 import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.model.Model.PREDICATE_SHOW_ALL_RESERVATIONS;
 import static seedu.reserve.testutil.TypicalReservation.CARL;
+import static seedu.reserve.testutil.TypicalReservation.DANIEL;
 import static seedu.reserve.testutil.TypicalReservation.ELLE;
 import static seedu.reserve.testutil.TypicalReservation.FIONA;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
@@ -20,6 +22,7 @@ import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.testutil.ReservationBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -53,6 +56,9 @@ public class FindCommandTest {
 
         // different reservation -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -75,11 +81,40 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ELLE, FIONA, CARL), model.getFilteredReservationList());
     }
 
+    @Test
+    public void execute_listedReservationRenamed_listFollowsNameIndex() {
+        model.updateFilteredReservationList(PREDICATE_SHOW_ALL_RESERVATIONS);
+        new FindCommand(preparePredicate("kurz")).execute(model);
+        assertEquals(Arrays.asList(CARL), model.getFilteredReservationList());
+
+        model.setReservation(DANIEL, new ReservationBuilder(DANIEL).withName("Daniel Kurz").build());
+        model.setReservation(CARL, new ReservationBuilder(CARL).withName("Carl Meier").build());
+        assertEquals(Arrays.asList("Daniel Kurz"), model.getFilteredReservationList().stream()
+                .map(reservation -> reservation.getName().fullName).toList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestNamesFound() {
+        String expectedMessage = String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 3)
+                + String.format(FindCommand.MESSAGE_CLOSEST_NAMES, "kurz, kunz, elle");
+        FindCommand command = new FindCommand(preparePredicate("kurz ell"), true);
+        expectedModel.updateFilteredReservationList(preparePredicate("Kurz Kunz Elle"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, CARL), model.getFilteredReservationList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordsTooFarOff_noReservationFound() {
+        FindCommand command = new FindCommand(preparePredicate("zz"), true);
+        expectedModel.updateFilteredReservationList(unused -> false);
+        assertCommandSuccess(command, model, MESSAGE_NO_RESERVATIONS, expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", isFuzzy=false}";
         assertEquals(expected, findCommand.toString());
     }
 
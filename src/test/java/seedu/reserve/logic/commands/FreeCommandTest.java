@@ -1,5 +1,6 @@
 package seedu.reserve.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.SeatingCapacity;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Reservation;
@@ -16,8 +18,21 @@ import seedu.reserve.testutil.ReservationBuilder;
 
 public class FreeCommandTest {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-    private static final DateTime TEST_DATE = new DateTime("2025-05-01 0000");
-    private Model model = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+    // a whole day within the booking window, however late in the day the tests are run
+    private static final DateTime TEST_DATE = DateTime.fromFileString(DateTime.getEarliestBookingDateTime()
+            .toLocalDate().plusDays(1).atStartOfDay().format(FORMATTER));
+    // a single table for two, so that each reservation from ReservationBuilder fills its hour
+    private Model model = new ModelManager(getTypicalReserveMate(), userPrefsWithSeats(2));
+
+    private static String atHour(int hour) {
+        return TEST_DATE.value.plusHours(hour).format(FORMATTER);
+    }
+
+    private static UserPrefs userPrefsWithSeats(int totalSeats) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSeatingCapacity(new SeatingCapacity(totalSeats, 10));
+        return userPrefs;
+    }
 
     @Test
     public void execute_noReservationsOnDate_allDayFree() {
@@ -40,9 +55,9 @@ public class FreeCommandTest {
 
         FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
         String expectedMessage = "Available free time slots:"
-                + "\n- 2025-05-01 0000 to 2025-05-01 1000"
-                + "\n- 2025-05-01 1100 to 2025-05-01 1400"
-                + "\n- 2025-05-01 1500 to 2025-05-02 0000";
+                + "\n- " + atHour(0) + " to " + atHour(10) + " (2 seats left)"
+                + "\n- " + atHour(11) + " to " + atHour(14) + " (2 seats left)"
+                + "\n- " + atHour(15) + " to " + atHour(24) + " (2 seats left)";
 
         assertCommandSuccess(freeCommand, model, expectedMessage, model);
     }
@@ -71,8 +86,8 @@ public class FreeCommandTest {
 
         FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
         String expectedMessage = "Available free time slots:"
-                + "\n- 2025-05-01 0000 to 2025-05-01 1200"
-                + "\n- 2025-05-01 1300 to 2025-05-02 0000";
+                + "\n- " + atHour(0) + " to " + atHour(12) + " (2 seats left)"
+                + "\n- " + atHour(13) + " to " + atHour(24) + " (2 seats left)";
 
         assertCommandSuccess(freeCommand, model, expectedMessage, model);
     }
@@ -86,9 +101,48 @@ public class FreeCommandTest {
 
         FreeCommand freeCommand = new FreeCommand(new DateTime(TEST_DATE.toString()));
         String expectedMessage = "Available free time slots:"
-                + "\n- 2025-05-01 0000 to 2025-05-01 0800"
-                + "\n- 2025-05-01 0900 to 2025-05-02 0000";
+                + "\n- " + atHour(0) + " to " + atHour(8) + " (2 seats left)"
+                + "\n- " + atHour(9) + " to " + atHour(24) + " (2 seats left)";
 
         assertCommandSuccess(freeCommand, model, expectedMessage, model);
     }
+
+    @Test
+    public void execute_reservationsAtDayEdges_leavesFilteredListUnchanged() {
+        DateTime date = TEST_DATE;
+        for (int hour : new int[] {0, 1, 23}) {
+            model.addReservation(new ReservationBuilder().withPhone(String.valueOf(90000000 + hour))
+                    .withDateTime(date.value.plusHours(hour).format(FORMATTER)).build());
+        }
+        model.updateFilteredReservationList(unused -> false);
+
+        String expectedMessage = "Available free time slots:\n- "
+                + date.value.plusHours(2).format(FORMATTER) + " to " + date.value.plusHours(23).format(FORMATTER)
+                + " (2 seats left)";
+        assertCommandSuccess(new FreeCommand(date), model, expectedMessage, model);
+        assertTrue(model.getFilteredReservationList().isEmpty());
+    }
+
+    @Test
+    public void execute_partlyBookedHours_showsSeatsLeft() {
+        Model modelWithTenSeats = new ModelManager(getTypicalReserveMate(), userPrefsWithSeats(10));
+        DateTime date = TEST_DATE;
+        // each party stays for an hour, rather than the longer default for larger parties
+        modelWithTenSeats.addReservation(new ReservationBuilder().withDiners("4").withDuration("60")
+                .withDateTime(date.value.plusHours(12).format(FORMATTER)).build());
+        modelWithTenSeats.addReservation(new ReservationBuilder().withDiners("6").withDuration("60")
+                .withPhone("81234567").withEmail("other@example.com")
+                .withDateTime(date.value.plusHours(12).format(FORMATTER)).build());
+        modelWithTenSeats.addReservation(new ReservationBuilder().withDiners("3").withDuration("60")
+                .withDateTime(date.value.plusHours(13).format(FORMATTER)).build());
+
+        String expectedMessage = "Available free time slots:"
+                + "\n- " + date.value.format(FORMATTER) + " to " + date.value.plusHours(12).format(FORMATTER)
+                + " (10 seats left)"
+                + "\n- " + date.value.plusHours(13).format(FORMATTER) + " to "
+                + date.value.plusHours(14).format(FORMATTER) + " (7 seats left)"
+                + "\n- " + date.value.plusHours(14).format(FORMATTER) + " to "
+                + date.value.plusDays(1).format(FORMATTER) + " (10 seats left)";
+        assertCommandSuccess(new FreeCommand(date), modelWithTenSeats, expectedMessage, modelWithTenSeats);
+    }
 }
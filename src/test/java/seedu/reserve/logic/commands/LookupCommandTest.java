@@ -0,0 +1,93 @@
+package seedu.reserve.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.logic.Messages.MESSAGE_RESERVATIONS_LISTED_OVERVIEW;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LookupCommand}.
+ */
+public class LookupCommandTest {
+    private static final Reservation CARL_AGAIN = new ReservationBuilder(CARL).withDateTime("2025-05-15 1900")
+            .withEmail("Heinz@Example.com").build();
+
+    private Model model = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LookupCommand lookupPhone = new LookupCommand(new Phone(VALID_PHONE_AMY));
+        LookupCommand lookupEmail = new LookupCommand(new Email(VALID_EMAIL_AMY));
+
+        // same values -> returns true
+        assertTrue(lookupPhone.equals(new LookupCommand(new Phone(VALID_PHONE_AMY))));
+        assertTrue(lookupEmail.equals(new LookupCommand(new Email(VALID_EMAIL_AMY))));
+
+        // different types -> returns false
+        assertFalse(lookupPhone.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupPhone.equals(null));
+
+        // different contact -> returns false
+        assertFalse(lookupPhone.equals(lookupEmail));
+        assertFalse(lookupPhone.equals(new LookupCommand(CARL.getPhone())));
+    }
+
+    @Test
+    public void execute_phone_allReservationsOfCustomerListed() {
+        model.addReservation(CARL_AGAIN);
+        expectedModel.addReservation(CARL_AGAIN);
+        expectedModel.updateFilteredReservationList(reservation -> reservation.getPhone().equals(CARL.getPhone()));
+
+        String expectedMessage = String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 2);
+        assertCommandSuccess(new LookupCommand(CARL.getPhone()), model, expectedMessage, expectedModel);
+        assertEquals(List.of(CARL.getDateTime(), CARL_AGAIN.getDateTime()), model.getFilteredReservationList().stream()
+                .map(Reservation::getDateTime).toList());
+    }
+
+    @Test
+    public void execute_emailInOtherCase_allReservationsOfCustomerListed() {
+        model.addReservation(CARL_AGAIN);
+        expectedModel.addReservation(CARL_AGAIN);
+        expectedModel.updateFilteredReservationList(reservation -> reservation.getPhone().equals(CARL.getPhone()));
+
+        String expectedMessage = String.format(MESSAGE_RESERVATIONS_LISTED_OVERVIEW, 2);
+        assertCommandSuccess(new LookupCommand(new Email("HEINZ@example.com")), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_unknownContact_noReservationFound() {
+        Phone phone = new Phone(VALID_PHONE_AMY);
+        expectedModel.updateFilteredReservationList(unused -> false);
+        assertCommandSuccess(new LookupCommand(phone), model,
+                String.format(LookupCommand.MESSAGE_NO_RESERVATIONS, phone), expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        Phone phone = new Phone(VALID_PHONE_AMY);
+        LookupCommand lookupCommand = new LookupCommand(phone);
+        String expected = LookupCommand.class.getCanonicalName() + "{phone=" + phone + ", email=null}";
+        assertEquals(expected, lookupCommand.toString());
+    }
+}
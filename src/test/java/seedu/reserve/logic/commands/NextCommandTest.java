@@ -0,0 +1,91 @@
+package seedu.reserve.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.SeatingCapacity;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class NextCommandTest {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final LocalDateTime TOMORROW_EVENING = LocalDateTime.now().plusDays(1)
+            .withHour(18).withMinute(0).withSecond(0).withNano(0);
+    private static final Diners PARTY_OF_SIX = new Diners("6");
+
+    private Model model = new ModelManager(getTypicalReserveMate(), userPrefsWithSeats(7));
+
+    private static UserPrefs userPrefsWithSeats(int totalSeats) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSeatingCapacity(new SeatingCapacity(totalSeats, 10));
+        return userPrefs;
+    }
+
+    @Test
+    public void execute_hoursWithoutEnoughSeats_skipsHours() {
+        model.addReservation(new ReservationBuilder().withDateTime(TOMORROW_EVENING.format(FORMATTER)).build());
+        model.addReservation(new ReservationBuilder()
+                .withDateTime(TOMORROW_EVENING.plusHours(1).format(FORMATTER)).build());
+
+        String expectedMessage = String.format(NextCommand.MESSAGE_SUCCESS, 6)
+                + "\n- " + TOMORROW_EVENING.plusHours(2).format(FORMATTER)
+                + "\n- " + TOMORROW_EVENING.plusHours(3).format(FORMATTER);
+        assertCommandSuccess(new NextCommand(PARTY_OF_SIX, TOMORROW_EVENING, 2), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_smallerPartyFitsBookedHour_includesHour() {
+        model.addReservation(new ReservationBuilder().withDateTime(TOMORROW_EVENING.format(FORMATTER)).build());
+
+        String expectedMessage = String.format(NextCommand.MESSAGE_SUCCESS, 5)
+                + "\n- " + TOMORROW_EVENING.format(FORMATTER);
+        assertCommandSuccess(new NextCommand(new Diners("5"), TOMORROW_EVENING, 1), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_searchStartInPast_startsFromEarliestBookingTime() {
+        String expectedMessage = String.format(NextCommand.MESSAGE_SUCCESS, 6)
+                + "\n- " + DateTime.getEarliestBookingDateTime().format(FORMATTER);
+        assertCommandSuccess(new NextCommand(PARTY_OF_SIX, LocalDateTime.of(2020, 1, 1, 0, 0), 1),
+                model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_noFreeHoursLeftInWindow_showsNoSlotsMessage() {
+        LocalDateTime latest = DateTime.getLatestBookingDateTime();
+        model.addReservation(new ReservationBuilder().withDateTime(latest.format(FORMATTER)).build());
+
+        assertCommandSuccess(new NextCommand(PARTY_OF_SIX, latest, 3), model,
+                String.format(NextCommand.MESSAGE_NO_FREE_SLOTS, 6), model);
+    }
+
+    @Test
+    public void equals() {
+        NextCommand nextCommand = new NextCommand(PARTY_OF_SIX, TOMORROW_EVENING, 3);
+
+        // same object -> returns true
+        assertTrue(nextCommand.equals(nextCommand));
+
+        // same values -> returns true
+        assertTrue(nextCommand.equals(new NextCommand(new Diners("6"), TOMORROW_EVENING, 3)));
+
+        // null -> returns false
+        assertFalse(nextCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(nextCommand.equals(new NextCommand(new Diners("2"), TOMORROW_EVENING, 3)));
+        assertFalse(nextCommand.equals(new NextCommand(PARTY_OF_SIX, TOMORROW_EVENING.plusHours(1), 3)));
+        assertFalse(nextCommand.equals(new NextCommand(PARTY_OF_SIX, TOMORROW_EVENING, 4)));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.reserve.logic.commands.CommandTestUtil.showReservationAtIndex;
 import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
 import static seedu.reserve.testutil.TypicalIndexes.INDEX_SECOND_RESERVATION;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,8 @@ import seedu.reserve.model.Model;
 import seedu.reserve.model.ModelManager;
 import seedu.reserve.model.UserPrefs;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.testutil.ReservationBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -33,13 +36,59 @@ public class ShowCommandTest {
         ShowCommand showCommand = new ShowCommand(INDEX_FIRST_RESERVATION);
 
         String expectedMessage = String.format(ShowCommand.MESSAGE_SHOW_RESERVATION_SUCCESS,
-                Messages.format(reservationToShow));
+                Messages.format(reservationToShow), reservationToShow.getId(), ShowCommand.MESSAGE_FIRST_RESERVATION);
 
         ModelManager expectedModel = new ModelManager(model.getReserveMate(), new UserPrefs());
 
         assertCommandSuccess(showCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_idOutsideFilteredList_success() {
+        Reservation reservationToShow = model.getFilteredReservationList().get(INDEX_SECOND_RESERVATION.getZeroBased());
+        showReservationAtIndex(model, INDEX_FIRST_RESERVATION);
+        ShowCommand showCommand = new ShowCommand(ReservationTarget.ofId(reservationToShow.getId()));
+
+        String expectedMessage = String.format(ShowCommand.MESSAGE_SHOW_RESERVATION_SUCCESS,
+                Messages.format(reservationToShow), reservationToShow.getId(), ShowCommand.MESSAGE_FIRST_RESERVATION);
+
+        ModelManager expectedModel = new ModelManager(model.getReserveMate(), new UserPrefs());
+        showReservationAtIndex(expectedModel, INDEX_FIRST_RESERVATION);
+
+        assertCommandSuccess(showCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_repeatCustomer_showsHistory() {
+        // a visit by Carl's phone number with another email, and one by his email with another phone number
+        model.addReservation(new ReservationBuilder(CARL).withDateTime("2025-03-01 1900").withDiners("4")
+                .withEmail("carl@example.com").withOccasions("Anniversary").withPreference("Window seat").build());
+        model.addReservation(new ReservationBuilder(CARL).withDateTime("2025-03-20 1200").withPhone("81111111")
+                .withOccasions().withPreference("None").build());
+        model.addReservation(new ReservationBuilder(CARL).withDateTime("2025-05-01 1200")
+                .withOccasions("Graduation").build());
+        Reservation carl = model.getReserveMate().getReservationList().stream()
+                .filter(reservation -> reservation.isSameReservation(CARL)).findFirst().orElseThrow();
+        ShowCommand showCommand = new ShowCommand(ReservationTarget.ofId(carl.getId()));
+
+        String expectedHistory = String.format(ShowCommand.MESSAGE_CUSTOMER_HISTORY, 4, 2)
+                + String.format(ShowCommand.MESSAGE_LAST_OCCASION, "Anniversary", "2025-03-01 1900")
+                + String.format(ShowCommand.MESSAGE_PREFERENCES, "No nuts; Window seat");
+        String expectedMessage = String.format(ShowCommand.MESSAGE_SHOW_RESERVATION_SUCCESS,
+                Messages.format(carl), carl.getId(), expectedHistory);
+
+        assertCommandSuccess(showCommand, model, expectedMessage, new ModelManager(model.getReserveMate(),
+                new UserPrefs()));
+    }
+
+    @Test
+    public void execute_unknownId_throwsCommandException() {
+        ReservationId unknownId = ReservationId.of(model.getReserveMate().getReservationList().size() + 1);
+        ShowCommand showCommand = new ShowCommand(ReservationTarget.ofId(unknownId));
+
+        assertCommandFailure(showCommand, model, String.format(Messages.MESSAGE_RESERVATION_ID_NOT_FOUND, unknownId));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredReservationList().size() + 1);
@@ -87,7 +136,7 @@ public class ShowCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         ShowCommand showCommand = new ShowCommand(targetIndex);
-        String expected = ShowCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = ShowCommand.class.getCanonicalName() + "{target=" + targetIndex.getOneBased() + "}";
         assertEquals(expected, showCommand.toString());
     }
 
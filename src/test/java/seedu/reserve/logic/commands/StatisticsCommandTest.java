@@ -1,5 +1,7 @@
 package seedu.reserve.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.reserve.logic.commands.StatisticsCommand.SHOWING_STATISTICS_MESSAGE;
 import static seedu.reserve.testutil.Assert.assertThrows;
@@ -29,4 +31,26 @@ public class StatisticsCommandTest {
         CommandResult expectedCommandResult = new CommandResult(SHOWING_STATISTICS_MESSAGE, false, true, false);
         assertCommandSuccess(new StatisticsCommand(), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_withDimension_resultCarriesDimension() {
+        Model model = new ModelManager(TypicalReservation.getTypicalReserveMate(), new UserPrefs());
+        Model expectedModel = new ModelManager(TypicalReservation.getTypicalReserveMate(), new UserPrefs());
+
+        CommandResult expectedCommandResult = new CommandResult(SHOWING_STATISTICS_MESSAGE,
+                StatisticsCommand.Dimension.OCCASION);
+        assertCommandSuccess(new StatisticsCommand(StatisticsCommand.Dimension.OCCASION), model,
+                expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        StatisticsCommand hourCommand = new StatisticsCommand(StatisticsCommand.Dimension.HOUR);
+
+        assertTrue(hourCommand.equals(hourCommand));
+        assertTrue(hourCommand.equals(new StatisticsCommand(StatisticsCommand.Dimension.HOUR)));
+        assertTrue(new StatisticsCommand().equals(new StatisticsCommand(StatisticsCommand.Dimension.DINERS)));
+        assertFalse(hourCommand.equals(new StatisticsCommand()));
+        assertFalse(hourCommand.equals(null));
+    }
 }
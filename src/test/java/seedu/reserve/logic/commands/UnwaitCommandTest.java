@@ -0,0 +1,61 @@
+package seedu.reserve.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
+import static seedu.reserve.testutil.TypicalIndexes.INDEX_SECOND_RESERVATION;
+import static seedu.reserve.testutil.TypicalReservation.BOB;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+public class UnwaitCommandTest {
+
+    private Model model = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_removesParty() {
+        model.addToWaitlist(new WaitlistEntry(BOB, LocalDateTime.of(2026, 10, 1, 9, 0)));
+        Model expectedModel = new ModelManager(getTypicalReserveMate(), new UserPrefs());
+
+        String expectedMessage = String.format(UnwaitCommand.MESSAGE_SUCCESS, BOB.getName().fullName,
+                BOB.getDateTime());
+        assertCommandSuccess(new UnwaitCommand(INDEX_FIRST_RESERVATION), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_indexOutOfRange_throwsCommandException() {
+        assertCommandFailure(new UnwaitCommand(INDEX_FIRST_RESERVATION), model,
+                UnwaitCommand.MESSAGE_INVALID_WAITLIST_INDEX);
+
+        model.addToWaitlist(new WaitlistEntry(BOB, LocalDateTime.of(2026, 10, 1, 9, 0)));
+        assertCommandFailure(new UnwaitCommand(INDEX_SECOND_RESERVATION), model,
+                UnwaitCommand.MESSAGE_INVALID_WAITLIST_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        UnwaitCommand unwaitFirstCommand = new UnwaitCommand(INDEX_FIRST_RESERVATION);
+
+        // same object -> returns true
+        assertTrue(unwaitFirstCommand.equals(unwaitFirstCommand));
+
+        // same values -> returns true
+        assertTrue(unwaitFirstCommand.equals(new UnwaitCommand(INDEX_FIRST_RESERVATION)));
+
+        // null -> returns false
+        assertFalse(unwaitFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(unwaitFirstCommand.equals(new UnwaitCommand(INDEX_SECOND_RESERVATION)));
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.reserve.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.reserve.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.logic.Messages;
+import seedu.reserve.logic.commands.exceptions.CommandException;
+import seedu.reserve.model.Model;
+import seedu.reserve.model.ModelManager;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.SeatingCapacity;
+import seedu.reserve.model.UserPrefs;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class WaitlistCommandTest {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final String TOMORROW_EVENING = LocalDateTime.now().plusDays(1)
+            .withHour(18).withMinute(0).format(FORMATTER);
+
+    private static final Reservation BOOKED = partyOf("81111111", "Amy Bee", "4");
+    private static final Reservation WAITING = partyOf("82222222", "Bob Choo", "2");
+
+    private Model model = new ModelManager(new ReserveMate(), userPrefsWithOneReservationPerHour());
+
+    private static Reservation partyOf(String phone, String name, String diners) {
+        return new ReservationBuilder().withName(name).withPhone(phone).withEmail(phone + "@example.com")
+                .withDiners(diners).withDateTime(TOMORROW_EVENING).withDuration("60").build();
+    }
+
+    private static UserPrefs userPrefsWithOneReservationPerHour() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSeatingCapacity(new SeatingCapacity(8, 1));
+        return userPrefs;
+    }
+
+    @Test
+    public void execute_emptyWaitlist_showsEmptyMessage() {
+        assertCommandSuccess(new WaitlistCommand(), model, WaitlistCommand.MESSAGE_EMPTY_WAITLIST, model);
+    }
+
+    @Test
+    public void execute_fullSlot_addsPartyToWaitlist() throws CommandException {
+        model.addReservation(BOOKED);
+
+        CommandResult result = new WaitlistCommand(WAITING).execute(model);
+        assertEquals(String.format(WaitlistCommand.MESSAGE_SUCCESS, Messages.format(WAITING), 1),
+                result.getFeedbackToUser());
+        assertTrue(model.isWaitlisted(WAITING));
+        assertFalse(model.hasReservation(WAITING));
+
+        String expectedList = WaitlistCommand.MESSAGE_LIST
+                + String.format("\n1. Bob Choo (2 diner(s)) for %s", WAITING.getDateTime());
+        assertCommandSuccess(new WaitlistCommand(), model, expectedList, model);
+    }
+
+    @Test
+    public void execute_slotHasRoom_throwsCommandException() {
+        assertCommandFailure(new WaitlistCommand(WAITING), model, WaitlistCommand.MESSAGE_HAS_ROOM);
+    }
+
+    @Test
+    public void execute_partyAlreadyBooked_throwsCommandException() {
+        model.addReservation(BOOKED);
+        assertCommandFailure(new WaitlistCommand(BOOKED), model, Messages.MESSAGE_DUPLICATE_RESERVATION);
+    }
+
+    @Test
+    public void execute_partyAlreadyWaiting_throwsCommandException() throws CommandException {
+        model.addReservation(BOOKED);
+        new WaitlistCommand(WAITING).execute(model);
+        Reservation sameCustomer = new ReservationBuilder(WAITING).withDiners("3").build();
+
+        assertCommandFailure(new WaitlistCommand(sameCustomer), model, WaitlistCommand.MESSAGE_ALREADY_WAITLISTED);
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new WaitlistCommand().isMutating());
+        assertTrue(new WaitlistCommand(WAITING).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        WaitlistCommand waitlistCommand = new WaitlistCommand(WAITING);
+
+        // same object -> returns true
+        assertTrue(waitlistCommand.equals(waitlistCommand));
+
+        // same values -> returns true
+        assertTrue(waitlistCommand.equals(new WaitlistCommand(new ReservationBuilder(WAITING).build())));
+        assertTrue(new WaitlistCommand().equals(new WaitlistCommand()));
+
+        // null -> returns false
+        assertFalse(waitlistCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(waitlistCommand.equals(new WaitlistCommand(BOOKED)));
+        assertFalse(waitlistCommand.equals(new WaitlistCommand()));
+    }
+}
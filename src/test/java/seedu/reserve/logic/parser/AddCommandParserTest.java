@@ -5,8 +5,10 @@ import static seedu.reserve.logic.commands.CommandTestUtil.DATETIME_DESC_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.DATETIME_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.DINERS_DESC_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.DINERS_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.DURATION_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_DURATION_DESC;
 import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
 import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
 import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_OCC_DESC;
@@ -19,6 +21,7 @@ import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
 import static seedu.reserve.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_DURATION_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_OCCASION_ANNIVERSARY;
@@ -39,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.AddCommand;
 import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
@@ -150,8 +154,20 @@ public class AddCommandParserTest {
                 + DINERS_DESC_BOB + DATETIME_DESC_BOB, expectedMessage);
     }
 
+    @Test
+    public void parse_durationPresent_success() {
+        Reservation expectedReservation = new ReservationBuilder(BOB).withOccasions().withDuration(VALID_DURATION_BOB)
+                .build();
+        assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + DINERS_DESC_BOB
+                + DATETIME_DESC_BOB + DURATION_DESC_BOB, new AddCommand(expectedReservation));
+    }
+
     @Test
     public void parse_invalidValue_failure() {
+        // invalid duration
+        assertParseFailure(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                + DINERS_DESC_BOB + DATETIME_DESC_BOB + INVALID_DURATION_DESC, Duration.MESSAGE_CONSTRAINTS);
+
         // invalid name
         assertParseFailure(parser, INVALID_NAME_DESC + PHONE_DESC_BOB + EMAIL_DESC_BOB
                 + DINERS_DESC_BOB + DATETIME_DESC_BOB + OCC_DESC_BIRTHDAY
@@ -8,6 +8,8 @@ import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
 import org.junit.jupiter.api.Test;
 
 import seedu.reserve.logic.commands.DeleteCommand;
+import seedu.reserve.logic.commands.ReservationTarget;
+import seedu.reserve.model.reservation.ReservationId;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -25,6 +27,11 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_RESERVATION, true));
     }
 
+    @Test
+    public void parse_validId_returnsDeleteCommand() {
+        assertParseSuccess(parser, "#3 cfm", new DeleteCommand(ReservationTarget.ofId(ReservationId.of(3)), true));
+    }
+
     @Test
     public void parse_whitespaceArgs_throwsParseException() {
         assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
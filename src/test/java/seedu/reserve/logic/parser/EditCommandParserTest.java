@@ -2,8 +2,10 @@ package seedu.reserve.logic.parser;
 
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.reserve.logic.Messages.MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX;
+import static seedu.reserve.logic.commands.CommandTestUtil.DURATION_DESC_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_DURATION_DESC;
 import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
 import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
 import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_OCC_DESC;
@@ -13,6 +15,7 @@ import static seedu.reserve.logic.commands.CommandTestUtil.OCC_DESC_ANNIVERSARY;
 import static seedu.reserve.logic.commands.CommandTestUtil.OCC_DESC_BIRTHDAY;
 import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_DURATION_BOB;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.reserve.logic.commands.CommandTestUtil.VALID_OCCASION_ANNIVERSARY;
@@ -34,10 +37,13 @@ import seedu.reserve.commons.core.index.Index;
 import seedu.reserve.logic.Messages;
 import seedu.reserve.logic.commands.EditCommand;
 import seedu.reserve.logic.commands.EditCommand.EditReservationDescriptor;
+import seedu.reserve.logic.commands.ReservationTarget;
 import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.ReservationId;
 import seedu.reserve.testutil.EditReservationDescriptorBuilder;
 
 public class EditCommandParserTest {
@@ -85,6 +91,7 @@ public class EditCommandParserTest {
         assertParseFailure(parser, "1" + INVALID_PHONE_DESC, Phone.MESSAGE_CONSTRAINTS); // invalid phone
         assertParseFailure(parser, "1" + INVALID_EMAIL_DESC, Email.MESSAGE_CONSTRAINTS); // invalid email
         assertParseFailure(parser, "1" + INVALID_OCC_DESC, Occasion.MESSAGE_OCCASION_CONSTRAINTS); // invalid occasion
+        assertParseFailure(parser, "1" + INVALID_DURATION_DESC, Duration.MESSAGE_CONSTRAINTS); // invalid duration
 
         // invalid phone followed by valid email
         assertParseFailure(parser, "1" + INVALID_PHONE_DESC + EMAIL_DESC_AMY, Phone.MESSAGE_CONSTRAINTS);
@@ -117,6 +124,16 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_reservationId_success() {
+        EditCommand.EditReservationDescriptor descriptor = new EditReservationDescriptorBuilder()
+                .withPhone(VALID_PHONE_BOB).build();
+        EditCommand expectedCommand = new EditCommand(ReservationTarget.ofId(ReservationId.of(12)), descriptor);
+        assertParseSuccess(parser, "#12" + PHONE_DESC_BOB, expectedCommand);
+
+        assertParseFailure(parser, "#0" + PHONE_DESC_BOB, ReservationId.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_someFieldsSpecified_success() {
         Index targetIndex = INDEX_FIRST_RESERVATION;
@@ -151,6 +168,11 @@ public class EditCommandParserTest {
         expectedCommand = new EditCommand(targetIndex, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
+        // duration
+        userInput = targetIndex.getOneBased() + DURATION_DESC_BOB;
+        descriptor = new EditReservationDescriptorBuilder().withDuration(VALID_DURATION_BOB).build();
+        expectedCommand = new EditCommand(targetIndex, descriptor);
+        assertParseSuccess(parser, userInput, expectedCommand);
 
         // occasions
         userInput = targetIndex.getOneBased() + OCC_DESC_ANNIVERSARY;
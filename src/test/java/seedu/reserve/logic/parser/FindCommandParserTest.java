@@ -35,6 +35,17 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n alice \n \t bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("jonh", "mohd")), true);
+        assertParseSuccess(parser, "~ jonh Mohd", expectedFindCommand);
+        assertParseSuccess(parser, " ~jonh  mohd ", expectedFindCommand);
+
+        assertParseFailure(parser, " ~ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "~ jo~nh", MESSAGE_INVALID_NAME);
+    }
+
     @Test
     public void parse_shortArgs_throwsParseException() {
         // name length < 2
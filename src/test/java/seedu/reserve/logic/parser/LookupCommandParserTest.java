@@ -0,0 +1,58 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
+import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_PHONE_DESC;
+import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.logic.Messages;
+import seedu.reserve.logic.commands.LookupCommand;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
+
+public class LookupCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE);
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_phone_returnsLookupCommand() {
+        assertParseSuccess(parser, PHONE_DESC_AMY, new LookupCommand(new Phone(VALID_PHONE_AMY)));
+    }
+
+    @Test
+    public void parse_email_returnsLookupCommand() {
+        assertParseSuccess(parser, EMAIL_DESC_AMY, new LookupCommand(new Email(VALID_EMAIL_AMY)));
+    }
+
+    @Test
+    public void parse_noneOrBothContacts_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, PHONE_DESC_AMY + EMAIL_DESC_AMY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 98765432", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 1" + PHONE_DESC_AMY, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidContact_failure() {
+        assertParseFailure(parser, INVALID_PHONE_DESC, Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, INVALID_EMAIL_DESC, Email.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedPhone_failure() {
+        assertParseFailure(parser, PHONE_DESC_AMY + PHONE_DESC_BOB,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PHONE));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DINERS;
+import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.logic.Messages;
+import seedu.reserve.logic.commands.NextCommand;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Diners;
+
+public class NextCommandParserTest {
+    private static final LocalDateTime TOMORROW_EVENING = LocalDateTime.now().plusDays(1)
+            .withHour(18).withMinute(0).withSecond(0).withNano(0);
+    private static final String TOMORROW_EVENING_STRING =
+            TOMORROW_EVENING.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"));
+
+    private NextCommandParser parser = new NextCommandParser();
+
+    @Test
+    public void parse_dinersOnly_returnsDefaultNextCommand() {
+        assertParseSuccess(parser, " x/6", new NextCommand(new Diners("6"),
+                DateTime.getEarliestBookingDateTime(), NextCommand.DEFAULT_SLOT_COUNT));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_returnsNextCommand() {
+        assertParseSuccess(parser, " 5 x/6 d/" + TOMORROW_EVENING_STRING,
+                new NextCommand(new Diners("6"), TOMORROW_EVENING, 5));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing number of diners
+        assertParseFailure(parser, " d/" + TOMORROW_EVENING_STRING,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE));
+
+        // invalid number of diners
+        assertParseFailure(parser, " x/11", Diners.MESSAGE_CONSTRAINTS);
+
+        // date-time in the past
+        assertParseFailure(parser, " x/6 d/2020-01-01 1800", DateTime.MESSAGE_CONSTRAINTS);
+
+        // invalid counts
+        assertParseFailure(parser, " 0 x/6", NextCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 21 x/6", NextCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " three x/6", NextCommand.MESSAGE_INVALID_COUNT);
+
+        // duplicate prefixes
+        assertParseFailure(parser, " x/6 x/4", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NUMBER_OF_DINERS));
+    }
+}
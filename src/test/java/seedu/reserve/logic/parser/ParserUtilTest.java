@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.util.Pair;
 import seedu.reserve.commons.core.index.Index;
+import seedu.reserve.logic.commands.ReservationTarget;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.occasion.Occasion;
 import seedu.reserve.model.reservation.DateTime;
@@ -22,6 +23,7 @@ import seedu.reserve.model.reservation.Diners;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.ReservationId;
 
 public class ParserUtilTest {
     private static final String INVALID_NAME = "R@chel";
@@ -258,24 +260,46 @@ public class ParserUtilTest {
     @Test
     public void parseDeleteArgs_validInputWithConfirmation_success() throws ParseException {
         String input = "1 cfm";
-        Pair<Index, Boolean> result = ParserUtil.parseDeleteArgs(input);
-        assertEquals(Index.fromOneBased(1), result.getKey()); // index 1
+        Pair<ReservationTarget, Boolean> result = ParserUtil.parseDeleteArgs(input);
+        assertEquals(ReservationTarget.ofIndex(Index.fromOneBased(1)), result.getKey()); // index 1
         assertTrue(result.getValue()); // confirmed is true
     }
 
     @Test
     public void parseDeleteArgs_validInputWithSpacesWithConfirmation_success() throws ParseException {
         String input = "1             cfm";
-        Pair<Index, Boolean> result = ParserUtil.parseDeleteArgs(input);
-        assertEquals(Index.fromOneBased(1), result.getKey()); // index 1
+        Pair<ReservationTarget, Boolean> result = ParserUtil.parseDeleteArgs(input);
+        assertEquals(ReservationTarget.ofIndex(Index.fromOneBased(1)), result.getKey()); // index 1
         assertTrue(result.getValue()); // confirmed is true
     }
 
     @Test
     public void parseDeleteArgs_validInputWithMoreSpacesWithConfirmation_success() throws ParseException {
         String input = "1             cfm      ";
-        Pair<Index, Boolean> result = ParserUtil.parseDeleteArgs(input);
-        assertEquals(Index.fromOneBased(1), result.getKey()); // index 1
+        Pair<ReservationTarget, Boolean> result = ParserUtil.parseDeleteArgs(input);
+        assertEquals(ReservationTarget.ofIndex(Index.fromOneBased(1)), result.getKey()); // index 1
         assertTrue(result.getValue()); // confirmed is true
     }
+
+    @Test
+    public void parseDeleteArgs_validIdWithConfirmation_success() throws ParseException {
+        Pair<ReservationTarget, Boolean> result = ParserUtil.parseDeleteArgs("#12 cfm");
+        assertEquals(ReservationTarget.ofId(ReservationId.of(12)), result.getKey());
+        assertTrue(result.getValue());
+    }
+
+    @Test
+    public void parseReservationTarget_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseReservationTarget("a"));
+        assertThrows(ParseException.class, ReservationId.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parseReservationTarget("#0"));
+        assertThrows(ParseException.class, ReservationId.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parseReservationTarget("#a1"));
+    }
+
+    @Test
+    public void parseReservationTarget_validInput_success() throws Exception {
+        assertEquals(ReservationTarget.ofIndex(INDEX_FIRST_RESERVATION), ParserUtil.parseReservationTarget("  1 "));
+        assertEquals(ReservationTarget.ofId(ReservationId.of(42)), ParserUtil.parseReservationTarget(" #42 "));
+    }
 }
@@ -8,6 +8,8 @@ import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
 import org.junit.jupiter.api.Test;
 
 import seedu.reserve.logic.commands.PreferenceCommand;
+import seedu.reserve.logic.commands.ReservationTarget;
+import seedu.reserve.model.reservation.ReservationId;
 
 public class PreferenceCommandParserTest {
 
@@ -62,6 +64,10 @@ public class PreferenceCommandParserTest {
 
         // multiple spaces between parts
         assertParseSuccess(parser, "save    1   " + VALID_PREFERENCE, expectedSaveCommand);
+
+        // reservation given by its ID
+        assertParseSuccess(parser, "save #3 " + VALID_PREFERENCE,
+                new PreferenceCommand(ReservationTarget.ofId(ReservationId.of(3)), VALID_PREFERENCE));
     }
 
     @Test
@@ -21,10 +21,15 @@ import seedu.reserve.logic.commands.FilterCommand;
 import seedu.reserve.logic.commands.FindCommand;
 import seedu.reserve.logic.commands.HelpCommand;
 import seedu.reserve.logic.commands.ListCommand;
+import seedu.reserve.logic.commands.LookupCommand;
+import seedu.reserve.logic.commands.NextCommand;
 import seedu.reserve.logic.commands.StatisticsCommand;
+import seedu.reserve.logic.commands.UnwaitCommand;
+import seedu.reserve.logic.commands.WaitlistCommand;
 import seedu.reserve.logic.parser.exceptions.ParseException;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Reservation;
 import seedu.reserve.testutil.EditReservationDescriptorBuilder;
 import seedu.reserve.testutil.ReservationBuilder;
@@ -136,6 +141,32 @@ public class ReserveMateParserTest {
         assertTrue(parser.parseCommand(StatisticsCommand.COMMAND_WORD + " ") instanceof StatisticsCommand);
     }
 
+    @Test
+    public void parseCommand_next() throws Exception {
+        assertTrue(parser.parseCommand(NextCommand.COMMAND_WORD + " x/6") instanceof NextCommand);
+        assertThrows(ParseException.class, () -> parser.parseCommand(NextCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_waitlist() throws Exception {
+        assertEquals(new WaitlistCommand(), parser.parseCommand(WaitlistCommand.COMMAND_WORD));
+        Reservation reservation = new ReservationBuilder().build();
+        assertEquals(new WaitlistCommand(reservation), parser.parseCommand(WaitlistCommand.COMMAND_WORD + " "
+                + ReservationUtil.getReservationDetails(reservation)));
+    }
+
+    @Test
+    public void parseCommand_lookup() throws Exception {
+        assertEquals(new LookupCommand(new Phone("98765432")),
+                parser.parseCommand(LookupCommand.COMMAND_WORD + " p/98765432"));
+    }
+
+    @Test
+    public void parseCommand_unwait() throws Exception {
+        assertEquals(new UnwaitCommand(INDEX_FIRST_RESERVATION),
+                parser.parseCommand(UnwaitCommand.COMMAND_WORD + " " + INDEX_FIRST_RESERVATION.getOneBased()));
+    }
+
     @Test
     public void parseCommand_helpMixedCase() throws Exception {
         assertTrue(parser.parseCommand("HeLp") instanceof HelpCommand);
@@ -7,7 +7,9 @@ import static seedu.reserve.testutil.TypicalIndexes.INDEX_FIRST_RESERVATION;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.reserve.logic.commands.ReservationTarget;
 import seedu.reserve.logic.commands.ShowCommand;
+import seedu.reserve.model.reservation.ReservationId;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -25,8 +27,14 @@ public class ShowCommandParserTest {
         assertParseSuccess(parser, "1", new ShowCommand(INDEX_FIRST_RESERVATION));
     }
 
+    @Test
+    public void parse_validId_returnsShowCommand() {
+        assertParseSuccess(parser, " #3 ", new ShowCommand(ReservationTarget.ofId(ReservationId.of(3))));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", MESSAGE_INVALID_RESERVATION_DISPLAYED_INDEX);
+        assertParseFailure(parser, "#a", ReservationId.MESSAGE_CONSTRAINTS);
     }
 }
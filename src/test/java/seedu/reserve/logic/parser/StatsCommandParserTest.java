@@ -25,6 +25,13 @@ public class StatsCommandParserTest {
         assertParseSuccess(parser, "  ", new StatisticsCommand());
     }
 
+    @Test
+    public void parse_dimension_returnsStatsCommandWithDimension() {
+        assertParseSuccess(parser, "hour", new StatisticsCommand(StatisticsCommand.Dimension.HOUR));
+        assertParseSuccess(parser, " TREND ", new StatisticsCommand(StatisticsCommand.Dimension.TREND));
+        assertParseSuccess(parser, "diners", new StatisticsCommand());
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "invalid_input",
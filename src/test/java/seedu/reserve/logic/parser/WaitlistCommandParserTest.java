@@ -0,0 +1,55 @@
+package seedu.reserve.logic.parser;
+
+import static seedu.reserve.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.reserve.logic.commands.CommandTestUtil.DATETIME_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.DINERS_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.INVALID_DINERS_DESC;
+import static seedu.reserve.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.OCC_DESC_ANNIVERSARY;
+import static seedu.reserve.logic.commands.CommandTestUtil.OCC_DESC_BIRTHDAY;
+import static seedu.reserve.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.reserve.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static seedu.reserve.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.reserve.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.reserve.testutil.TypicalReservation.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.logic.commands.WaitlistCommand;
+import seedu.reserve.model.reservation.Diners;
+
+public class WaitlistCommandParserTest {
+
+    private WaitlistCommandParser parser = new WaitlistCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListingWaitlistCommand() {
+        assertParseSuccess(parser, "", new WaitlistCommand());
+        assertParseSuccess(parser, "  ", new WaitlistCommand());
+    }
+
+    @Test
+    public void parse_allFieldsPresent_returnsWaitlistCommand() {
+        assertParseSuccess(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + DINERS_DESC_BOB
+                + DATETIME_DESC_BOB + OCC_DESC_BIRTHDAY + OCC_DESC_ANNIVERSARY, new WaitlistCommand(BOB));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, WaitlistCommand.MESSAGE_USAGE);
+
+        // missing name prefix
+        assertParseFailure(parser, VALID_NAME_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + DINERS_DESC_BOB
+                + DATETIME_DESC_BOB, expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                + DINERS_DESC_BOB + DATETIME_DESC_BOB, expectedMessage);
+
+        // invalid number of diners
+        assertParseFailure(parser, NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + INVALID_DINERS_DESC
+                + DATETIME_DESC_BOB, Diners.MESSAGE_CONSTRAINTS);
+    }
+}
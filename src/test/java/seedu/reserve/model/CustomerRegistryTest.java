@@ -0,0 +1,89 @@
+package seedu.reserve.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.occasion.Occasion;
+import seedu.reserve.model.reservation.DateTime;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class CustomerRegistryTest {
+
+    // ALICE: 2025-04-10 1800, 5 diners, occasion friends, no preference
+    private static final Reservation ALICE_EARLIER = new ReservationBuilder(ALICE).withDateTime("2025-03-10 1800")
+            .withDiners("2").withOccasions("Birthday").withPreference("Window seat").build();
+    private static final Reservation ALICE_OTHER_EMAIL = new ReservationBuilder(ALICE)
+            .withDateTime("2025-03-20 1800").withEmail("alice@example.org").withDiners("2")
+            .withOccasions("Anniversary", "Birthday").build();
+    private static final Reservation ALICE_OTHER_PHONE = new ReservationBuilder(ALICE)
+            .withDateTime("2025-03-20 1800").withPhone("81111111").withDiners("4").withOccasions()
+            .withPreference("Window seat").build();
+
+    private final CustomerRegistry registry = new CustomerRegistry();
+
+    @Test
+    public void getProfile_nullReservation_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.getProfile(null));
+    }
+
+    @Test
+    public void getProfile_onlyReservation_firstVisit() {
+        registry.addAll(List.of(ALICE, BENSON));
+
+        assertEquals(new CustomerProfile(1, 5, null, List.of(), List.of()), registry.getProfile(ALICE));
+    }
+
+    @Test
+    public void getProfile_samePhoneOrEmail_countedOnce() {
+        registry.addAll(List.of(ALICE, ALICE_EARLIER, ALICE_OTHER_EMAIL, ALICE_OTHER_PHONE, BENSON));
+
+        // both the reservations at 2025-03-20 1800 are Alice's, so the occasions of the one with any are shown
+        CustomerProfile expected = new CustomerProfile(4, 2, DateTime.fromFileString("2025-03-20 1800"),
+                List.of(new Occasion("Anniversary"), new Occasion("Birthday")), List.of("Window seat"));
+        assertEquals(expected, registry.getProfile(ALICE));
+        assertEquals(new CustomerProfile(1, 3, null, List.of(), List.of("Extra spicy")),
+                registry.getProfile(BENSON));
+    }
+
+    @Test
+    public void getProfile_lastOccasion_takenFromEarlierReservations() {
+        registry.addAll(List.of(ALICE, ALICE_EARLIER));
+
+        assertEquals(new CustomerProfile(2, 5, null, List.of(), List.of("Window seat")),
+                registry.getProfile(ALICE_EARLIER));
+        assertEquals(List.of(new Occasion("Birthday")), registry.getProfile(ALICE).getLastOccasions());
+    }
+
+    @Test
+    public void replaceAndRemove_reservations_profileUpdated() {
+        registry.addAll(List.of(ALICE, ALICE_EARLIER, ALICE_OTHER_EMAIL));
+        Reservation otherCustomer = new ReservationBuilder(ALICE_OTHER_EMAIL).withPhone("82222222").build();
+        registry.replace(ALICE_OTHER_EMAIL, otherCustomer);
+
+        assertEquals(2, registry.getProfile(ALICE).getReservationCount());
+        assertEquals(1, registry.getProfile(otherCustomer).getReservationCount());
+
+        registry.remove(ALICE_EARLIER);
+        assertEquals(new CustomerProfile(1, 5, null, List.of(), List.of()), registry.getProfile(ALICE));
+
+        registry.reset(List.of(ALICE, ALICE_EARLIER));
+        assertEquals(2, registry.getProfile(ALICE).getReservationCount());
+    }
+
+    @Test
+    public void reserveMate_resetData_rebuildsProfiles() {
+        ReserveMate reserveMate = new ReserveMate();
+        reserveMate.addReservations(List.of(ALICE, ALICE_EARLIER, BENSON));
+
+        ReserveMate copy = new ReserveMate(reserveMate);
+        assertEquals(reserveMate.getCustomerProfile(ALICE), copy.getCustomerProfile(ALICE));
+        assertEquals(2, copy.getCustomerProfile(ALICE).getReservationCount());
+    }
+}
@@ -13,11 +13,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.reserve.commons.core.GuiSettings;
 import seedu.reserve.model.reservation.NameContainsKeywordsPredicate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.table.FloorPlan;
+import seedu.reserve.model.table.Table;
+import seedu.reserve.model.table.TableAssignment;
+import seedu.reserve.testutil.ReservationBuilder;
 import seedu.reserve.testutil.ReserveMateBuilder;
 
 public class ModelManagerTest {
@@ -90,6 +96,51 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasReservation(ALICE));
     }
 
+    @Test
+    public void addReservation_freeTable_seatsReservation() {
+        modelManager.addReservation(ALICE);
+        assertTrue(modelManager.getFilteredReservationList().get(0).getTableAssignment().isAssigned());
+    }
+
+    @Test
+    public void deleteReservation_tableFreed_seatsWaitingParty() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFloorPlan(new FloorPlan(List.of(new Table("T1", 6)), List.of()));
+        ModelManager model = new ModelManager(new ReserveMate(), userPrefs);
+        Reservation firstParty = new ReservationBuilder(ALICE).withDiners("2").build();
+        Reservation secondParty = new ReservationBuilder(firstParty).withPhone("91234567")
+                .withEmail("second@example.com").build();
+        model.addReservation(firstParty);
+        model.addReservation(secondParty);
+        assertEquals(TableAssignment.NONE, model.getFilteredReservationList().get(0).getTableAssignment());
+
+        model.deleteReservation(model.getFilteredReservationList().get(1));
+        assertEquals(TableAssignment.fromString("T1"),
+                model.getFilteredReservationList().get(0).getTableAssignment());
+    }
+
+    @Test
+    public void deleteReservation_overlappingTableFreed_seatsLaterParty() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFloorPlan(new FloorPlan(List.of(new Table("T1", 6)), List.of()));
+        ModelManager model = new ModelManager(new ReserveMate(), userPrefs);
+        Reservation longParty = new ReservationBuilder(ALICE).withDiners("2").withDuration("150").build();
+        Reservation laterParty = new ReservationBuilder(ALICE).withDiners("2").withPhone("91234567")
+                .withEmail("later@example.com").withDateTime("2025-04-10 2000").build();
+        model.addReservation(longParty);
+        model.addReservation(laterParty);
+
+        // the long party still holds T1 at 2000
+        assertEquals(TableAssignment.NONE, model.getFilteredReservationList().get(1).getTableAssignment());
+        assertEquals(List.of(longParty.getPhone(), laterParty.getPhone()), model.getOverlappingReservations(
+                laterParty.getDateTime().value, laterParty.getEndDateTime()).stream().map(Reservation::getPhone)
+                .toList());
+
+        model.deleteReservation(model.getFilteredReservationList().get(0));
+        assertEquals(TableAssignment.fromString("T1"),
+                model.getFilteredReservationList().get(0).getTableAssignment());
+    }
+
     @Test
     public void getFilteredReservationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredReservationList().remove(0));
@@ -144,9 +195,8 @@ public class ModelManagerTest {
         modelManager.updateFilteredReservationList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
         assertFalse(modelManager.equals(new ModelManager(reserveMate, userPrefs)));
 
-        // different reservationStatistics -> returns false
+        // different reservations -> returns false
         modelManager.addReservation(CARL);
-        modelManagerCopy.clearReservationStatistics();
         assertFalse(modelManager.equals(modelManagerCopy));
 
         // resets modelManager to initial state for upcoming tests
@@ -0,0 +1,109 @@
+package seedu.reserve.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.CARL;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReservations;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class ReservationAnalyticsTest {
+
+    private final ReservationAnalytics analytics = new ReservationAnalytics();
+
+    @Test
+    public void add_reservations_rollupsUpdated() {
+        analytics.addAll(List.of(ALICE, BENSON, CARL));
+
+        // ALICE: Thursday 1800, 5 diners; BENSON: Friday 1200, 3 diners; CARL: Tuesday 1400, 2 diners
+        assertEquals(5, analytics.getCovers(DayOfWeek.THURSDAY, 18));
+        assertEquals(0, analytics.getCovers(DayOfWeek.THURSDAY, 12));
+        assertEquals(3, analytics.getCoversByHour()[12]);
+        assertArrayEquals(new int[] {0, 2, 0, 5, 3, 0, 0}, analytics.getCoversByWeekday());
+        assertEquals(Map.of("Birthday", 1, "friends", 2, "owesMoney", 1), analytics.getReservationsByOccasion());
+        assertEquals(5, analytics.getCoversOn(LocalDate.of(2025, 4, 10)));
+        assertEquals(0, analytics.getCoversOn(LocalDate.of(2025, 4, 11)));
+        assertEquals(3, analytics.getDinerStatistics().getReservationCount());
+    }
+
+    @Test
+    public void remove_reservation_rollupsUpdated() {
+        analytics.addAll(List.of(ALICE, BENSON));
+        analytics.remove(BENSON);
+
+        assertEquals(0, analytics.getCovers(DayOfWeek.FRIDAY, 12));
+        assertEquals(Map.of("friends", 1), analytics.getReservationsByOccasion());
+        assertEquals(0, analytics.getCoversOn(LocalDate.of(2025, 4, 25)));
+    }
+
+    @Test
+    public void replace_reservation_rollupsMoved() {
+        analytics.add(ALICE);
+        Reservation movedAlice = new ReservationBuilder(ALICE).withDateTime("2025-04-11 1900").withDiners("2")
+                .withOccasions("Anniversary").build();
+        analytics.replace(ALICE, movedAlice);
+
+        assertEquals(0, analytics.getCovers(DayOfWeek.THURSDAY, 18));
+        assertEquals(2, analytics.getCovers(DayOfWeek.FRIDAY, 19));
+        assertEquals(Map.of("Anniversary", 1), analytics.getReservationsByOccasion());
+        assertEquals(2, analytics.getCoversOn(LocalDate.of(2025, 4, 11)));
+    }
+
+    @Test
+    public void add_datesFarApart_allDaysKept() {
+        Reservation early = new ReservationBuilder(ALICE).withDateTime("2020-01-01 1200").build();
+        Reservation late = new ReservationBuilder(BENSON).withDateTime("2030-12-31 1200").build();
+        analytics.addAll(List.of(ALICE, late, early));
+
+        assertEquals(5, analytics.getCoversOn(LocalDate.of(2020, 1, 1)));
+        assertEquals(5, analytics.getCoversOn(LocalDate.of(2025, 4, 10)));
+        assertEquals(3, analytics.getCoversOn(LocalDate.of(2030, 12, 31)));
+    }
+
+    @Test
+    public void getCoversPerDayAndRollingAverage() {
+        Reservation nextDay = new ReservationBuilder(BENSON).withDateTime("2025-04-11 1200").build();
+        analytics.addAll(List.of(ALICE, nextDay));
+        LocalDate start = LocalDate.of(2025, 4, 10);
+
+        assertArrayEquals(new int[] {5, 3, 0}, analytics.getCoversPerDay(start, 3));
+        assertArrayEquals(new double[] {2.5, 4.0, 1.5}, analytics.getRollingAverageCovers(start, 3, 2));
+        assertThrows(IllegalArgumentException.class, () -> analytics.getRollingAverageCovers(start, 3, 0));
+    }
+
+    @Test
+    public void reset_sameAsAddingOneByOne() {
+        ReservationAnalytics expected = new ReservationAnalytics();
+        getTypicalReservations().forEach(expected::add);
+
+        analytics.add(ALICE);
+        analytics.reset(getTypicalReservations());
+        assertEquals(expected, analytics);
+
+        ReservationAnalytics copy = new ReservationAnalytics();
+        copy.reset(analytics);
+        assertEquals(expected, copy);
+    }
+
+    @Test
+    public void snapshot_notAffectedByLaterChanges() {
+        analytics.add(ALICE);
+        ReservationAnalytics snapshot = new ReservationAnalytics(analytics);
+        analytics.add(BENSON);
+
+        assertNotEquals(snapshot, analytics);
+        assertEquals(0, snapshot.getCovers(DayOfWeek.FRIDAY, 12));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.reserve.testutil.TypicalReservation.BENSON;
 import static seedu.reserve.testutil.TypicalReservation.ELLE;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,8 +21,10 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.reserve.model.reservation.Diners;
 import seedu.reserve.model.reservation.Reservation;
 import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 import seedu.reserve.testutil.ReservationBuilder;
 import seedu.reserve.testutil.ReserveMateBuilder;
 
@@ -81,6 +84,107 @@ public class ReserveMateTest {
         assertTrue(reserveMate.hasReservation(editedAlice));
     }
 
+    @Test
+    public void addReservations_batch_allReservationsAdded() {
+        reserveMate.addReservations(Arrays.asList(ELLE, ALICE, BENSON));
+        assertTrue(reserveMate.hasReservation(ALICE));
+        assertTrue(reserveMate.hasReservation(BENSON));
+        assertTrue(reserveMate.hasReservation(ELLE));
+        assertEquals(3, reserveMate.getReservationList().size());
+    }
+
+    @Test
+    public void addReservations_batchWithDuplicates_throwsDuplicateReservationException() {
+        assertThrows(DuplicateReservationException.class, ()
+                -> reserveMate.addReservations(Arrays.asList(ALICE, BENSON, ALICE)));
+    }
+
+    @Test
+    public void getModificationCount_afterEachChange_increases() {
+        long initialCount = reserveMate.getModificationCount();
+        reserveMate.addReservation(ALICE);
+        assertEquals(initialCount + 1, reserveMate.getModificationCount());
+        reserveMate.removeReservation(ALICE);
+        assertEquals(initialCount + 2, reserveMate.getModificationCount());
+        reserveMate.hasReservation(ALICE);
+        assertEquals(initialCount + 2, reserveMate.getModificationCount());
+    }
+
+    @Test
+    public void hasReservationOtherThan_onlyExcludedReservationMatches_returnsFalse() {
+        reserveMate.addReservation(ALICE);
+        Reservation editedAlice = new ReservationBuilder(ALICE)
+                .withOccasions(VALID_OCCASION_BIRTHDAY).build();
+        assertFalse(reserveMate.hasReservationOtherThan(editedAlice, ALICE));
+    }
+
+    @Test
+    public void promoteWaitlisted_freedPlace_booksEarliestPartyThatFits() {
+        SeatingCapacity oneTablePerHour = new SeatingCapacity(8, 1);
+        Reservation booked = reservationAt("81111111", "4", "2027-05-03 1900");
+        Reservation waitingFamily = reservationAt("82222222", "10", "2027-05-03 1900");
+        Reservation waitingCouple = reservationAt("83333333", "2", "2027-05-03 1900");
+        Reservation waitingLater = reservationAt("84444444", "2", "2027-05-03 2100");
+        reserveMate.addReservation(booked);
+        reserveMate.addToWaitlist(new WaitlistEntry(waitingFamily, LocalDateTime.of(2027, 5, 1, 9, 0)));
+        reserveMate.addToWaitlist(new WaitlistEntry(waitingCouple, LocalDateTime.of(2027, 5, 1, 10, 0)));
+        reserveMate.addToWaitlist(new WaitlistEntry(waitingLater, LocalDateTime.of(2027, 5, 1, 8, 0)));
+        assertTrue(reserveMate.isWaitlisted(waitingCouple));
+        assertFalse(reserveMate.canSeat(waitingCouple, oneTablePerHour));
+
+        reserveMate.removeReservation(booked);
+        // the family asked first but is too large for the restaurant, so the couple is booked
+        assertEquals(List.of(waitingCouple), reserveMate.promoteWaitlisted(booked.getDateTime().value,
+                booked.getEndDateTime(), oneTablePerHour));
+        assertTrue(reserveMate.hasReservation(waitingCouple));
+        assertFalse(reserveMate.isWaitlisted(waitingCouple));
+        assertEquals(2, reserveMate.getWaitlist().size());
+
+        // the later party's slot was never full
+        assertEquals(List.of(waitingLater), reserveMate.promoteWaitlisted(oneTablePerHour));
+        assertEquals(List.of(waitingFamily), reserveMate.getWaitlist().stream()
+                .map(WaitlistEntry::getParty).toList());
+    }
+
+    @Test
+    public void promoteWaitlisted_partyAlreadyBooked_removedFromWaitlist() {
+        SeatingCapacity capacity = new SeatingCapacity(8, 1);
+        Reservation waitingCouple = reservationAt("83333333", "2", "2027-05-03 1900");
+        reserveMate.addToWaitlist(new WaitlistEntry(waitingCouple, LocalDateTime.of(2027, 5, 1, 10, 0)));
+        // the couple is booked by hand while still waiting
+        reserveMate.addReservation(waitingCouple);
+
+        assertEquals(List.of(), reserveMate.promoteWaitlisted(capacity));
+        assertFalse(reserveMate.isWaitlisted(waitingCouple));
+        assertTrue(reserveMate.getWaitlist().isEmpty());
+        assertEquals(List.of(waitingCouple), reserveMate.getReservationList());
+    }
+
+    @Test
+    public void promoteWaitlisted_timeSlotPassed_removedWithoutBooking() {
+        SeatingCapacity capacity = new SeatingCapacity(8, 1);
+        Reservation waitingInPast = reservationAt("83333333", "2", "2020-05-03 1900");
+        Reservation waitingLater = reservationAt("84444444", "2", "2027-05-03 2100");
+        reserveMate.addToWaitlist(new WaitlistEntry(waitingInPast, LocalDateTime.of(2020, 5, 1, 10, 0)));
+        reserveMate.addToWaitlist(new WaitlistEntry(waitingLater, LocalDateTime.of(2027, 5, 1, 8, 0)));
+
+        assertEquals(List.of(waitingLater), reserveMate.promoteWaitlisted(capacity));
+        assertFalse(reserveMate.hasReservation(waitingInPast));
+        assertTrue(reserveMate.getWaitlist().isEmpty());
+
+        reserveMate.addToWaitlist(new WaitlistEntry(waitingInPast, LocalDateTime.of(2020, 5, 1, 10, 0)));
+        assertEquals(List.of(), reserveMate.promoteWaitlisted(waitingInPast.getDateTime().value,
+                waitingInPast.getEndDateTime(), capacity));
+        assertTrue(reserveMate.getWaitlist().isEmpty());
+    }
+
+    @Test
+    public void setWaitlist_duplicateParties_throwsDuplicateReservationException() {
+        WaitlistEntry entry = new WaitlistEntry(ALICE, LocalDateTime.of(2027, 5, 1, 9, 0));
+        assertThrows(DuplicateReservationException.class, () -> reserveMate.setWaitlist(List.of(entry,
+                new WaitlistEntry(ALICE, LocalDateTime.of(2027, 5, 1, 10, 0)))));
+    }
+
     @Test
     public void getReservationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> reserveMate.getReservationList().remove(0));
@@ -89,7 +193,7 @@ public class ReserveMateTest {
     @Test
     public void toStringMethod() {
         String expected = ReserveMate.class.getCanonicalName() + "{reservations="
-                + reserveMate.getReservationList() + "}";
+                + reserveMate.getReservationList() + ", waitlist=" + reserveMate.getWaitlist() + "}";
         assertEquals(expected, reserveMate.toString());
     }
 
@@ -146,6 +250,45 @@ public class ReserveMateTest {
         assertEquals(expectedStatistics, actualStatistics);
     }
 
+    @Test
+    public void getDinerStatistics_afterEachChange_countsUpdated() {
+        reserveMate.addReservation(ALICE);
+        reserveMate.addReservations(List.of(BENSON, ELLE));
+        assertEquals(1, reserveMate.getDinerStatistics().getReservationCount(5));
+        assertEquals(3, reserveMate.getDinerStatistics().getReservationCount());
+        assertEquals(9, reserveMate.getDinerStatistics().getDinerCount());
+
+        reserveMate.setReservation(ALICE, new ReservationBuilder(ALICE).withDiners("3").build());
+        assertEquals(0, reserveMate.getDinerStatistics().getReservationCount(5));
+        assertEquals(2, reserveMate.getDinerStatistics().getReservationCount(3));
+
+        reserveMate.removeReservation(ELLE);
+        assertEquals(0, reserveMate.getDinerStatistics().getReservationCount(1));
+        assertEquals(6, reserveMate.getDinerStatistics().getDinerCount());
+
+        reserveMate.resetData(getTypicalReserveMate());
+        assertEquals(getTypicalReserveMate().getDinerStatistics(), reserveMate.getDinerStatistics());
+        reserveMate.setReservations(Collections.emptyList());
+        assertEquals(new DinerStatistics(), reserveMate.getDinerStatistics());
+    }
+
+    @Test
+    public void getDinerStatistics_failedChange_countsUnchanged() {
+        reserveMate.addReservation(ALICE);
+        DinerStatistics before = reserveMate.getDinerStatistics();
+
+        assertThrows(DuplicateReservationException.class, () -> reserveMate.addReservation(ALICE));
+        assertEquals(before, reserveMate.getDinerStatistics());
+    }
+
+    @Test
+    public void getDinerStatistics_snapshotNotAffectedByLaterChanges() {
+        DinerStatistics snapshot = reserveMate.getDinerStatistics();
+        reserveMate.addReservation(ALICE);
+        assertEquals(0, snapshot.getReservationCount());
+        assertEquals(0, snapshot.getReservationCount(Diners.MAX_DINERS + 1));
+    }
+
     @Test
     public void getSumOfReservationsPerDiners_reservationsHaveMoreThanOneDinerGroup_success() {
         ReserveMate reserveMate = new ReserveMateBuilder()
@@ -171,6 +314,11 @@ public class ReserveMateTest {
         );
     }
 
+    private static Reservation reservationAt(String phone, String diners, String dateTime) {
+        return new ReservationBuilder().withPhone(phone).withEmail(phone + "@example.com").withDiners(diners)
+                .withDateTime(dateTime).withDuration("60").build();
+    }
+
     /**
      * A stub ReadOnlyReserveMate whose reservations list can violate interface constraints.
      */
@@ -185,6 +333,11 @@ public class ReserveMateTest {
         public ObservableList<Reservation> getReservationList() {
             return reservations;
         }
+
+        @Override
+        public List<WaitlistEntry> getWaitlist() {
+            return List.of();
+        }
     }
 
 }
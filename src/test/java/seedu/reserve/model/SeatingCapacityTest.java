@@ -0,0 +1,53 @@
+package seedu.reserve.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SeatingCapacityTest {
+
+    @Test
+    public void constructor_nonPositiveValues_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SeatingCapacity(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SeatingCapacity(50, 0));
+    }
+
+    @Test
+    public void canSeat() {
+        SeatingCapacity capacity = new SeatingCapacity(10, 2);
+
+        assertTrue(capacity.canSeat(0, 0, 10));
+        assertTrue(capacity.canSeat(1, 6, 4));
+
+        // not enough seats
+        assertFalse(capacity.canSeat(1, 6, 5));
+
+        // too many reservations
+        assertFalse(capacity.canSeat(2, 2, 1));
+    }
+
+    @Test
+    public void getRemainingSeats() {
+        SeatingCapacity capacity = new SeatingCapacity(10, 2);
+        assertEquals(10, capacity.getRemainingSeats(0));
+        assertEquals(3, capacity.getRemainingSeats(7));
+
+        // overbooked before the capacity was lowered
+        assertEquals(0, capacity.getRemainingSeats(12));
+    }
+
+    @Test
+    public void equals() {
+        SeatingCapacity capacity = new SeatingCapacity(10, 2);
+
+        assertEquals(capacity, new SeatingCapacity(10, 2));
+        assertEquals(new SeatingCapacity(), new SeatingCapacity());
+        assertNotEquals(capacity, new SeatingCapacity(11, 2));
+        assertNotEquals(capacity, new SeatingCapacity(10, 3));
+        assertNotEquals(capacity, null);
+    }
+}
@@ -18,4 +18,16 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setReserveMateFilePath(null));
     }
 
+    @Test
+    public void setSeatingCapacity_nullCapacity_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setSeatingCapacity(null));
+    }
+
+    @Test
+    public void setFloorPlan_nullFloorPlan_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setFloorPlan(null));
+    }
+
 }
@@ -0,0 +1,241 @@
+package seedu.reserve.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.SeatingCapacity;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class DailyOccupancyTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 1);
+    private static final DateTime TEN_AM = DateTime.fromFileString("2025-05-01 1000");
+    private static final DateTime TWO_PM = DateTime.fromFileString("2025-05-01 1400");
+    private static final Reservation TEN_AM_PARTY_OF_TWO = reservationAt("2025-05-01 1000", "2");
+    private static final Reservation TWO_PM_PARTY_OF_FOUR = reservationAt("2025-05-01 1400", "4");
+    private static final Reservation TWO_PM_PARTY_OF_SIX = reservationAt("2025-05-01 1400", "6");
+    private static final Duration ONE_HOUR = new Duration("60");
+    private static final Duration TWO_AND_A_HALF_HOURS = new Duration("150");
+
+    private final DailyOccupancy occupancy = new DailyOccupancy();
+
+    private static Reservation reservationAt(String dateTime, String diners) {
+        return new ReservationBuilder().withDateTime(dateTime).withDiners(diners).withDuration("60").build();
+    }
+
+    @Test
+    public void getOccupiedHours_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> occupancy.getOccupiedHours(null));
+    }
+
+    @Test
+    public void getOccupiedHours_noReservations_returnsZero() {
+        assertEquals(0, occupancy.getOccupiedHours(DATE));
+        assertEquals(0, occupancy.getReservationCount(TEN_AM));
+        assertEquals(0, occupancy.getCovers(TEN_AM));
+    }
+
+    @Test
+    public void add_reservations_setsHourBitsAndCounters() {
+        occupancy.add(TEN_AM_PARTY_OF_TWO);
+        occupancy.add(TWO_PM_PARTY_OF_FOUR);
+        occupancy.add(TWO_PM_PARTY_OF_SIX);
+
+        assertEquals((1 << 10) | (1 << 14), occupancy.getOccupiedHours(DATE));
+        assertEquals(1, occupancy.getReservationCount(TEN_AM));
+        assertEquals(2, occupancy.getReservationCount(TWO_PM));
+        assertEquals(10, occupancy.getCovers(TWO_PM));
+        assertEquals(2, occupancy.getCoversByHour(DATE)[10]);
+        assertEquals(0, occupancy.getOccupiedHours(DATE.plusDays(1)));
+    }
+
+    @Test
+    public void remove_lastReservationInHour_clearsHourBit() {
+        occupancy.add(TEN_AM_PARTY_OF_TWO);
+        occupancy.add(TWO_PM_PARTY_OF_FOUR);
+        occupancy.add(TWO_PM_PARTY_OF_SIX);
+
+        occupancy.remove(TWO_PM_PARTY_OF_FOUR);
+        assertEquals((1 << 10) | (1 << 14), occupancy.getOccupiedHours(DATE));
+        assertEquals(6, occupancy.getCovers(TWO_PM));
+
+        occupancy.remove(TWO_PM_PARTY_OF_SIX);
+        occupancy.remove(TEN_AM_PARTY_OF_TWO);
+        assertEquals(0, occupancy.getOccupiedHours(DATE));
+        assertArrayEquals(new int[DailyOccupancy.HOURS_PER_DAY], occupancy.getCoversByHour(DATE));
+        assertEquals(new DailyOccupancy(), occupancy);
+    }
+
+    @Test
+    public void getAvailableHours_respectsSeatsAndReservationsPerHour() {
+        occupancy.add(TEN_AM_PARTY_OF_TWO);
+        occupancy.add(TWO_PM_PARTY_OF_FOUR);
+        occupancy.add(TWO_PM_PARTY_OF_SIX);
+
+        // 2 pm has 10 of 12 seats taken
+        assertEquals(DailyOccupancy.FULL_DAY, occupancy.getAvailableHours(DATE, new SeatingCapacity(12, 5), 2));
+        assertEquals(DailyOccupancy.FULL_DAY & ~(1 << 14),
+                occupancy.getAvailableHours(DATE, new SeatingCapacity(12, 5), 3));
+
+        // 10 am and 2 pm are at their single reservation
+        assertEquals(DailyOccupancy.FULL_DAY & ~(1 << 10) & ~(1 << 14),
+                occupancy.getAvailableHours(DATE, new SeatingCapacity(50, 1), 1));
+
+        // a party larger than the restaurant never fits
+        assertEquals(0, occupancy.getAvailableHours(DATE.plusDays(1), new SeatingCapacity(4, 5), 5));
+    }
+
+    @Test
+    public void findAvailableHours_skipsFullHoursAndDays() {
+        SeatingCapacity oneReservationPerHour = new SeatingCapacity(50, 1);
+        for (int hour = 0; hour < DailyOccupancy.HOURS_PER_DAY; hour++) {
+            occupancy.add(reservationAt(String.format("2025-05-01 %02d00", hour), "2"));
+        }
+        occupancy.add(reservationAt("2025-05-02 0000", "2"));
+
+        assertEquals(List.of(DATE.plusDays(1).atTime(1, 0), DATE.plusDays(1).atTime(2, 0)),
+                occupancy.findAvailableHours(TEN_AM.value, DATE.plusDays(10).atStartOfDay(),
+                        oneReservationPerHour, 2, ONE_HOUR, 2));
+    }
+
+    @Test
+    public void findAvailableHours_boundedByRange() {
+        SeatingCapacity capacity = new SeatingCapacity(10, 10);
+        occupancy.add(TEN_AM_PARTY_OF_TWO);
+
+        // an hour part-way gone is not available; the end of the range is included
+        assertEquals(List.of(DATE.atTime(11, 0), DATE.atTime(12, 0)),
+                occupancy.findAvailableHours(DATE.atTime(9, 30), DATE.atTime(12, 0), capacity, 9, ONE_HOUR, 5));
+        assertEquals(List.of(), occupancy.findAvailableHours(TEN_AM.value, TEN_AM.value, capacity, 9, ONE_HOUR, 5));
+        assertEquals(List.of(), occupancy.findAvailableHours(DATE.atTime(11, 0), DATE.atTime(12, 0),
+                capacity, 1, ONE_HOUR, 0));
+    }
+
+    @Test
+    public void add_longReservation_countsEveryHourHeld() {
+        Reservation lateDinner = new ReservationBuilder().withDateTime("2025-05-01 2300").withDiners("4")
+                .withDuration("90").build();
+        occupancy.add(lateDinner);
+
+        assertEquals(1 << 23, occupancy.getOccupiedHours(DATE));
+        assertEquals(1, occupancy.getOccupiedHours(DATE.plusDays(1)));
+        assertEquals(4, occupancy.getCovers(DateTime.fromFileString("2025-05-02 0000")));
+
+        occupancy.remove(lateDinner);
+        assertEquals(new DailyOccupancy(), occupancy);
+    }
+
+    @Test
+    public void findAvailableHours_longReservation_needsEveryHourFree() {
+        SeatingCapacity capacity = new SeatingCapacity(10, 10);
+        occupancy.add(reservationAt("2025-05-01 1300", "8"));
+        occupancy.add(reservationAt("2025-05-01 2300", "8"));
+
+        // 1100 and 1200 would run into 1300, and 2100 and 2200 into 2300
+        assertEquals(List.of(DATE.atTime(9, 0), DATE.atTime(10, 0), DATE.atTime(14, 0), DATE.atTime(15, 0)),
+                occupancy.findAvailableHours(DATE.atTime(9, 0), DATE.atTime(22, 0), capacity, 4,
+                        TWO_AND_A_HALF_HOURS, 4));
+        assertEquals(List.of(DATE.atTime(20, 0)), occupancy.findAvailableHours(DATE.atTime(20, 0),
+                DATE.atTime(22, 0), capacity, 4, TWO_AND_A_HALF_HOURS, 4));
+    }
+
+    @Test
+    public void canSeat_checksEveryHourHeld() {
+        SeatingCapacity capacity = new SeatingCapacity(12, 5);
+        occupancy.add(TWO_PM_PARTY_OF_FOUR);
+        occupancy.add(TWO_PM_PARTY_OF_SIX);
+        Reservation lunch = new ReservationBuilder().withDateTime("2025-05-01 1300").withDiners("3")
+                .withDuration("90").build();
+
+        // 2 pm has only two seats left, which a lunch from 1 pm still needs
+        assertTrue(occupancy.canSeat(TEN_AM_PARTY_OF_TWO, capacity));
+        assertTrue(occupancy.canSeat(reservationAt("2025-05-01 1400", "2"), capacity));
+        assertFalse(occupancy.canSeat(lunch, capacity));
+        assertTrue(occupancy.canSeat(new ReservationBuilder(lunch).withDuration("60").build(), capacity));
+        assertFalse(occupancy.canSeat(TEN_AM_PARTY_OF_TWO, new SeatingCapacity(1, 5)));
+    }
+
+    @Test
+    public void canSeat_replacedReservation_givesUpItsPlace() {
+        SeatingCapacity capacity = new SeatingCapacity(12, 2);
+        occupancy.add(TWO_PM_PARTY_OF_FOUR);
+        occupancy.add(TWO_PM_PARTY_OF_SIX);
+        Reservation largerParty = new ReservationBuilder(TWO_PM_PARTY_OF_FOUR).withDiners("6").build();
+        Reservation earlierParty = new ReservationBuilder(TWO_PM_PARTY_OF_FOUR).withDateTime("2025-05-01 1300")
+                .withDuration("120").build();
+
+        assertFalse(occupancy.canSeat(largerParty, capacity));
+        assertTrue(occupancy.canSeat(largerParty, TWO_PM_PARTY_OF_FOUR, capacity));
+        // the party of six is still held at 2 pm
+        assertFalse(occupancy.canSeat(new ReservationBuilder(largerParty).withDiners("7").build(),
+                TWO_PM_PARTY_OF_FOUR, capacity));
+        // the party of four gives up 2 pm, but not the 1 pm it was never held in
+        assertTrue(occupancy.canSeat(earlierParty, TWO_PM_PARTY_OF_FOUR, capacity));
+        assertFalse(occupancy.canSeat(earlierParty, TEN_AM_PARTY_OF_TWO, capacity));
+    }
+
+    @Test
+    public void getSeatsLeft_fewestInAnyHourHeld() {
+        SeatingCapacity capacity = new SeatingCapacity(12, 5);
+        occupancy.add(TWO_PM_PARTY_OF_FOUR);
+        occupancy.add(TWO_PM_PARTY_OF_SIX);
+        Reservation lunch = new ReservationBuilder().withDateTime("2025-05-01 1300").withDiners("3")
+                .withDuration("90").build();
+
+        assertEquals(12, occupancy.getSeatsLeft(TEN_AM_PARTY_OF_TWO, null, capacity));
+        assertEquals(2, occupancy.getSeatsLeft(lunch, null, capacity));
+        assertEquals(6, occupancy.getSeatsLeft(lunch, TWO_PM_PARTY_OF_FOUR, capacity));
+    }
+
+    @Test
+    public void isOpen() {
+        int occupiedHours = 1 << 10;
+        assertFalse(DailyOccupancy.isOpen(occupiedHours, 10));
+        assertTrue(DailyOccupancy.isOpen(occupiedHours, 11));
+        assertFalse(DailyOccupancy.isOpen(DailyOccupancy.FULL_DAY, 23));
+    }
+
+    @Test
+    public void copyConstructor_independentOfOriginal() {
+        occupancy.add(TEN_AM_PARTY_OF_TWO);
+        DailyOccupancy copy = new DailyOccupancy(occupancy);
+        assertEquals(occupancy, copy);
+
+        occupancy.add(TWO_PM_PARTY_OF_FOUR);
+        assertEquals(1 << 10, copy.getOccupiedHours(DATE));
+    }
+
+    @Test
+    public void uniqueReservationList_mutations_keepOccupancyInSync() {
+        UniqueReservationList reservations = new UniqueReservationList();
+        reservations.add(ALICE);
+        LocalDate aliceDate = ALICE.getDateTime().value.toLocalDate();
+        int aliceHour = ALICE.getDateTime().value.getHour();
+        // a party of 5 stays for two hours
+        assertEquals(0b11 << aliceHour, reservations.getOccupiedHours(aliceDate));
+
+        Reservation movedAlice = new ReservationBuilder(ALICE).withDateTime("2025-04-10 1900").build();
+        reservations.setReservation(ALICE, movedAlice);
+        assertEquals(0b11 << 19, reservations.getOccupiedHours(aliceDate));
+
+        Reservation biggerAlice = new ReservationBuilder(movedAlice).withDiners("8").build();
+        reservations.setReservation(movedAlice, biggerAlice);
+        assertEquals(8, reservations.getCovers(biggerAlice.getDateTime()));
+
+        reservations.setReservations(List.of(biggerAlice, BENSON));
+        assertEquals(1, reservations.getReservationCount(BENSON.getDateTime()));
+
+        reservations.remove(biggerAlice);
+        assertEquals(0, reservations.getOccupiedHours(aliceDate));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.reserve.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class DurationTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Duration(null));
+    }
+
+    @Test
+    public void constructor_invalidDuration_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Duration("20"));
+    }
+
+    @Test
+    public void isValidDuration() {
+        // invalid durations
+        assertFalse(Duration.isValidDuration(""));
+        assertFalse(Duration.isValidDuration("an hour"));
+        assertFalse(Duration.isValidDuration("1.5"));
+        assertFalse(Duration.isValidDuration("29"));
+        assertFalse(Duration.isValidDuration("301"));
+
+        // valid durations
+        assertTrue(Duration.isValidDuration("30"));
+        assertTrue(Duration.isValidDuration("90"));
+        assertTrue(Duration.isValidDuration("300"));
+    }
+
+    @Test
+    public void getHourSlots_partHour_countsAsWholeHour() {
+        assertEquals(1, new Duration("30").getHourSlots());
+        assertEquals(1, new Duration("60").getHourSlots());
+        assertEquals(2, new Duration("61").getHourSlots());
+        assertEquals(3, new Duration("150").getHourSlots());
+        assertEquals(5, new Duration("300").getHourSlots());
+    }
+
+    @Test
+    public void forParty() {
+        assertEquals(new Duration("60"), Duration.forParty(new Diners("4")));
+        assertEquals(new Duration("120"), Duration.forParty(new Diners("5")));
+        assertEquals(new Duration("120"), Duration.forParty(new Diners("8")));
+        assertEquals(new Duration("150"), Duration.forParty(new Diners("9")));
+    }
+
+    @Test
+    public void equals() {
+        Duration duration = new Duration("90");
+
+        // same values -> returns true
+        assertTrue(duration.equals(new Duration("090")));
+
+        // same object -> returns true
+        assertTrue(duration.equals(duration));
+
+        // null -> returns false
+        assertFalse(duration.equals(null));
+
+        // different type -> returns false
+        assertFalse(duration.equals(90));
+
+        // different values -> returns false
+        assertFalse(duration.equals(new Duration("120")));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.reserve.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class NameTokenIndexTest {
+
+    private static final Reservation ALICE_WITH_ID = ALICE.withId(ReservationId.of(1));
+    private static final Reservation BENSON_WITH_ID = BENSON.withId(ReservationId.of(2));
+    private static final Reservation DANIEL_WITH_ID = DANIEL.withId(ReservationId.of(3));
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void getIdsWithToken_nullToken_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getIdsWithToken(null));
+    }
+
+    @Test
+    public void getIdsWithToken_ignoresCaseAndMatchesWholeWords() {
+        index.add(ALICE_WITH_ID);
+        index.add(BENSON_WITH_ID);
+        index.add(DANIEL_WITH_ID);
+
+        assertEquals(Set.of(BENSON_WITH_ID.getId(), DANIEL_WITH_ID.getId()), index.getIdsWithToken("mEIER"));
+        assertEquals(Set.of(ALICE_WITH_ID.getId()), index.getIdsWithToken("Pauline"));
+        assertEquals(Set.of(), index.getIdsWithToken("Mei"));
+    }
+
+    @Test
+    public void getIdsWithToken_followsLaterChanges() {
+        index.add(BENSON_WITH_ID);
+        Set<ReservationId> meiers = index.getIdsWithToken("meier");
+        index.add(DANIEL_WITH_ID);
+        assertEquals(Set.of(BENSON_WITH_ID.getId(), DANIEL_WITH_ID.getId()), meiers);
+
+        index.remove(BENSON_WITH_ID);
+        assertEquals(Set.of(DANIEL_WITH_ID.getId()), meiers);
+
+        index.clear();
+        assertEquals(Set.of(), meiers);
+        index.add(DANIEL_WITH_ID);
+        assertEquals(Set.of(DANIEL_WITH_ID.getId()), meiers);
+    }
+
+    @Test
+    public void getIdsWithToken_unknownWord_notAddedToIndex() {
+        Set<ReservationId> meiers = index.getIdsWithToken("meier");
+        assertEquals(Set.of(), meiers);
+        assertEquals(List.of(), index.findClosestTokens("meier", 5));
+
+        index.add(BENSON_WITH_ID);
+        assertEquals(Set.of(), meiers);
+        assertEquals(Set.of(BENSON_WITH_ID.getId()), index.getIdsWithToken("meier"));
+    }
+
+    @Test
+    public void findClosestTokens_onlyWordsStillInNames() {
+        index.add(BENSON_WITH_ID);
+        index.add(DANIEL_WITH_ID);
+        assertEquals(List.of("meier"), index.findClosestTokens("MEIR", 5));
+
+        index.remove(BENSON_WITH_ID);
+        assertEquals(List.of("meier"), index.findClosestTokens("meir", 5));
+        index.remove(DANIEL_WITH_ID);
+        assertEquals(List.of(), index.findClosestTokens("meir", 5));
+    }
+
+    @Test
+    public void getIdsWithToken_modifyView_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> index.getIdsWithToken("meier")
+                .add(ReservationId.of(1)));
+    }
+
+    @Test
+    public void uniqueReservationList_mutations_keepIndexInSync() {
+        UniqueReservationList reservations = new UniqueReservationList();
+        reservations.add(ALICE);
+        Reservation storedAlice = reservations.asUnmodifiableObservableList().get(0);
+        Set<ReservationId> paulines = reservations.getIdsWithNameToken("pauline");
+
+        Reservation aliceKurz = new ReservationBuilder(ALICE).withName("Alice Kurz").build();
+        reservations.setReservation(storedAlice, aliceKurz);
+        Set<ReservationId> kurzes = reservations.getIdsWithNameToken("kurz");
+        assertEquals(Set.of(storedAlice.getId()), kurzes);
+        assertEquals(Set.of(), paulines);
+        assertEquals(Set.of(), reservations.getIdsWithNameToken("pauline"));
+
+        reservations.setReservations(List.of(BENSON));
+        assertEquals(Set.of(), kurzes);
+        assertEquals(1, reservations.getIdsWithNameToken("benson").size());
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.reserve.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ReservationIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReservationId(null));
+    }
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReservationId("12"));
+        assertThrows(IllegalArgumentException.class, () -> ReservationId.of(0));
+    }
+
+    @Test
+    public void isValidId() {
+        // invalid IDs
+        assertFalse(ReservationId.isValidId(null));
+        assertFalse(ReservationId.isValidId(""));
+        assertFalse(ReservationId.isValidId("#"));
+        assertFalse(ReservationId.isValidId("12"));
+        assertFalse(ReservationId.isValidId("#0"));
+        assertFalse(ReservationId.isValidId("#012"));
+        assertFalse(ReservationId.isValidId("#-1"));
+        assertFalse(ReservationId.isValidId("# 1"));
+        assertFalse(ReservationId.isValidId("#1234567890123456789"));
+
+        // valid IDs
+        assertTrue(ReservationId.isValidId("#1"));
+        assertTrue(ReservationId.isValidId("#12"));
+        assertTrue(ReservationId.isValidId("#123456789012345678"));
+    }
+
+    @Test
+    public void isAssigned() {
+        assertFalse(ReservationId.UNASSIGNED.isAssigned());
+        assertTrue(ReservationId.of(1).isAssigned());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("#12", new ReservationId("#12").toString());
+    }
+
+    @Test
+    public void equals() {
+        ReservationId id = ReservationId.of(12);
+
+        // same values -> returns true
+        assertTrue(id.equals(new ReservationId("#12")));
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(12));
+
+        // different values -> returns false
+        assertFalse(id.equals(ReservationId.of(13)));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.reserve.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class ReservationIntervalTreeTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 5, 1, 12, 0);
+    private static final Reservation NOON_FOR_AN_HOUR = reservationAt("2025-05-01 1200", "60", "81111111");
+    private static final Reservation ONE_PM_FOR_TWO_AND_A_HALF_HOURS =
+            reservationAt("2025-05-01 1300", "150", "82222222");
+    private static final Reservation TWO_PM_FOR_HALF_AN_HOUR = reservationAt("2025-05-01 1400", "30", "83333333");
+
+    private final ReservationIntervalTree tree = new ReservationIntervalTree();
+
+    private static Reservation reservationAt(String dateTime, String duration, String phone) {
+        return new ReservationBuilder().withDateTime(dateTime).withDuration(duration).withPhone(phone)
+                .withEmail(phone + "@example.com").build();
+    }
+
+    @Test
+    public void findOverlapping_emptyTree_returnsEmptyList() {
+        assertEquals(List.of(), tree.findOverlapping(NOON, NOON.plusDays(1)));
+    }
+
+    @Test
+    public void findOverlapping_halfOpenIntervals() {
+        tree.add(TWO_PM_FOR_HALF_AN_HOUR);
+        tree.add(NOON_FOR_AN_HOUR);
+        tree.add(ONE_PM_FOR_TWO_AND_A_HALF_HOURS);
+
+        // ordered by start time, whatever order they were added in
+        assertEquals(List.of(NOON_FOR_AN_HOUR, ONE_PM_FOR_TWO_AND_A_HALF_HOURS, TWO_PM_FOR_HALF_AN_HOUR),
+                tree.findOverlapping(NOON, NOON.plusHours(3)));
+
+        // a reservation ending as the period starts does not overlap it
+        assertEquals(List.of(ONE_PM_FOR_TWO_AND_A_HALF_HOURS, TWO_PM_FOR_HALF_AN_HOUR),
+                tree.findOverlapping(NOON.plusHours(1), NOON.plusMinutes(135)));
+
+        // neither does one starting as the period ends
+        assertEquals(List.of(NOON_FOR_AN_HOUR), tree.findOverlapping(NOON.minusHours(1), NOON.plusHours(1)));
+
+        // a long reservation overlaps a period well after its start
+        assertEquals(List.of(ONE_PM_FOR_TWO_AND_A_HALF_HOURS),
+                tree.findOverlapping(NOON.plusHours(3), NOON.plusHours(4)));
+        assertEquals(List.of(), tree.findOverlapping(NOON.plusMinutes(210), NOON.plusHours(5)));
+    }
+
+    @Test
+    public void remove_reservation_noLongerFound() {
+        tree.add(NOON_FOR_AN_HOUR);
+        tree.add(ONE_PM_FOR_TWO_AND_A_HALF_HOURS);
+        tree.add(TWO_PM_FOR_HALF_AN_HOUR);
+
+        tree.remove(ONE_PM_FOR_TWO_AND_A_HALF_HOURS);
+        assertEquals(List.of(TWO_PM_FOR_HALF_AN_HOUR), tree.findOverlapping(NOON.plusHours(1), NOON.plusHours(4)));
+
+        tree.clear();
+        assertEquals(List.of(), tree.findOverlapping(NOON, NOON.plusDays(1)));
+    }
+
+    @Test
+    public void findOverlapping_manyReservations_matchesLinearScan() {
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int hour = (i * 7) % 24;
+            int day = 1 + (i * 13) % 5;
+            String duration = String.valueOf(30 + (i * 11) % 9 * 30);
+            Reservation reservation = reservationAt(String.format("2025-05-%02d %02d00", day, hour), duration,
+                    String.valueOf(80000000 + i));
+            reservations.add(reservation);
+            tree.add(reservation);
+        }
+        for (int i = 0; i < 200; i += 3) {
+            tree.remove(reservations.get(i));
+        }
+
+        for (int hour = 0; hour < 24 * 6; hour += 5) {
+            LocalDateTime from = NOON.withHour(0).plusHours(hour);
+            LocalDateTime until = from.plusMinutes(90);
+            List<Reservation> expected = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Reservation reservation = reservations.get(i);
+                if (i % 3 != 0 && reservation.getDateTime().value.isBefore(until)
+                        && reservation.getEndDateTime().isAfter(from)) {
+                    expected.add(reservation);
+                }
+            }
+            List<Reservation> overlapping = tree.findOverlapping(from, until);
+            assertEquals(new HashSet<>(expected), new HashSet<>(overlapping));
+            assertEquals(expected.size(), overlapping.size());
+            for (int i = 1; i < overlapping.size(); i++) {
+                assertFalse(overlapping.get(i).getDateTime().compareTo(overlapping.get(i - 1).getDateTime()) < 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.reserve.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BOB;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class ReservationRangeListTest {
+
+    private final Reservation morning = new ReservationBuilder(ALICE).withDateTime("2025-06-01 0900").build();
+    private final Reservation noon = new ReservationBuilder(BOB).withDateTime("2025-06-01 1200").build();
+    private final Reservation evening = new ReservationBuilder(BOB).withPhone("80000000")
+            .withEmail("other@example.com").withDateTime("2025-06-01 1900").build();
+
+    private final UniqueReservationList reservations = new UniqueReservationList();
+    private final ReservationRangeList rangeList =
+            new ReservationRangeList(reservations.asUnmodifiableObservableList());
+
+    @Test
+    public void setRange_nullBound_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> rangeList.setRange(null, dateTime("2025-06-01 1200")));
+        assertThrows(NullPointerException.class, () -> rangeList.setRange(dateTime("2025-06-01 1200"), null));
+    }
+
+    @Test
+    public void setRange_boundsIncluded() {
+        reservations.setReservations(List.of(evening, morning, noon));
+        assertEquals(List.of(morning, noon, evening), rangeList);
+
+        rangeList.setRange(dateTime("2025-06-01 1200"), dateTime("2025-06-01 1900"));
+        assertEquals(List.of(noon, evening), rangeList);
+        rangeList.setRange(dateTime("2025-05-01 0000"), dateTime("2025-06-01 1100"));
+        assertEquals(List.of(morning), rangeList);
+        rangeList.setRange(dateTime("2025-06-01 1300"), dateTime("2025-06-01 1800"));
+        assertEquals(List.of(), rangeList);
+
+        // an end before the start is an empty range
+        rangeList.setRange(dateTime("2025-06-01 1900"), dateTime("2025-06-01 0900"));
+        assertEquals(List.of(), rangeList);
+
+        rangeList.clearRange();
+        assertEquals(List.of(morning, noon, evening), rangeList);
+    }
+
+    @Test
+    public void listChanged_rangeFollowsChanges() {
+        reservations.setReservations(List.of(morning, evening));
+        rangeList.setRange(dateTime("2025-06-01 1000"), dateTime("2025-06-01 1800"));
+        assertEquals(List.of(), rangeList);
+
+        // added inside the range
+        reservations.add(noon);
+        assertEquals(List.of(noon), rangeList);
+
+        // added before the range
+        Reservation early = new ReservationBuilder(BOB).withPhone("80000001").withEmail("early@example.com")
+                .withDateTime("2025-06-01 0800").build();
+        reservations.add(early);
+        assertEquals(List.of(noon), rangeList);
+
+        // moved out of and back into the range
+        Reservation lateNoon = new ReservationBuilder(noon).withDateTime("2025-06-01 2000").build();
+        reservations.setReservation(noon, lateNoon);
+        assertEquals(List.of(), rangeList);
+        Reservation afternoon = new ReservationBuilder(noon).withDateTime("2025-06-01 1500").build();
+        reservations.setReservation(lateNoon, afternoon);
+        assertEquals(List.of(afternoon), rangeList);
+
+        // edited in place
+        Reservation renamed = new ReservationBuilder(afternoon).withName("Renamed").build();
+        reservations.setReservation(afternoon, renamed);
+        assertEquals(List.of(renamed), rangeList);
+
+        // removed before the range
+        reservations.remove(early);
+        reservations.remove(morning);
+        assertEquals(List.of(renamed), rangeList);
+
+        reservations.setReservations(List.of(morning, evening));
+        assertEquals(List.of(), rangeList);
+    }
+
+    @Test
+    public void listChanged_changesPassedOnInViewIndexes() {
+        reservations.setReservations(List.of(morning, evening));
+        rangeList.setRange(dateTime("2025-06-01 1000"), dateTime("2025-06-01 2300"));
+        List<Reservation> copy = new ArrayList<>(rangeList);
+        rangeList.addListener((ListChangeListener<Reservation>) c -> {
+            while (c.next()) {
+                copy.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                copy.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+
+        reservations.add(noon);
+        reservations.remove(morning);
+        Reservation lateNoon = new ReservationBuilder(noon).withDateTime("2025-06-01 2000").build();
+        reservations.setReservation(noon, lateNoon);
+        rangeList.setRange(dateTime("2025-06-01 1900"), dateTime("2025-06-01 1900"));
+
+        assertEquals(List.of(evening), rangeList);
+        assertEquals(rangeList, copy);
+    }
+
+    private static DateTime dateTime(String value) {
+        return DateTime.fromFileString(value);
+    }
+}
@@ -126,8 +126,10 @@ public class ReservationTest {
     public void toStringMethod() {
         String expected = Reservation.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone="
                 + ALICE.getPhone() + ", email=" + ALICE.getEmail() + ", diners="
-                + ALICE.getDiners() + ", dateTime=" + ALICE.getDateTime() + ", occasion="
-                + ALICE.getOccasions() + ", preference=" + ALICE.getPreference() + "}";
+                + ALICE.getDiners() + ", dateTime=" + ALICE.getDateTime() + ", duration=" + ALICE.getDuration()
+                + ", occasion="
+                + ALICE.getOccasions() + ", preference=" + ALICE.getPreference() + ", tableAssignment="
+                + ALICE.getTableAssignment() + ", id=" + ALICE.getId() + "}";
         assertEquals(expected, ALICE.toString());
     }
 }
@@ -14,6 +14,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -153,6 +154,88 @@ public class UniqueReservationListTest {
         assertEquals(expectedList, reservationList.asUnmodifiableObservableList());
     }
 
+    @Test
+    public void setReservation_editedReservationHasDifferentDateTime_listRemainsSorted() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+        String tomorrow = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS).format(formatter);
+        String nextWeek = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.HOURS).format(formatter);
+        String nextMonth = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.HOURS).format(formatter);
+
+        Reservation first = new ReservationBuilder().withPhone("81111111").withEmail("first@example.com")
+                .withDateTime(tomorrow).build();
+        Reservation second = new ReservationBuilder().withPhone("82222222").withEmail("second@example.com")
+                .withDateTime(nextWeek).build();
+        uniqueReservationList.add(first);
+        uniqueReservationList.add(second);
+
+        Reservation movedFirst = new ReservationBuilder(first).withDateTime(nextMonth).build();
+        uniqueReservationList.setReservation(first, movedFirst);
+
+        assertEquals(Arrays.asList(second, movedFirst), uniqueReservationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_reservationSharingDateTime_removesOnlyThatReservation() {
+        Reservation other = new ReservationBuilder(ALICE).withPhone("81111111")
+                .withEmail("other@example.com").build();
+        uniqueReservationList.add(ALICE);
+        uniqueReservationList.add(other);
+        uniqueReservationList.remove(ALICE);
+
+        assertEquals(Collections.singletonList(other), uniqueReservationList.asUnmodifiableObservableList());
+        assertFalse(uniqueReservationList.contains(ALICE));
+        assertTrue(uniqueReservationList.contains(other));
+    }
+
+    @Test
+    public void contains_reservationWithSameEmailAndDateTime_returnsTrue() {
+        uniqueReservationList.add(ALICE);
+        Reservation samePhoneOnly = new ReservationBuilder(ALICE).withEmail("other@example.com").build();
+        Reservation sameEmailOnly = new ReservationBuilder(ALICE).withPhone("81111111").build();
+        assertTrue(uniqueReservationList.contains(samePhoneOnly));
+        assertTrue(uniqueReservationList.contains(sameEmailOnly));
+    }
+
+    @Test
+    public void contains_afterSetReservationChangesPhone_oldPhoneNoLongerMatches() {
+        uniqueReservationList.add(ALICE);
+        Reservation newPhone = new ReservationBuilder(ALICE).withPhone("81111111").build();
+        uniqueReservationList.setReservation(ALICE, newPhone);
+
+        Reservation oldPhoneOtherEmail = new ReservationBuilder(ALICE).withEmail("other@example.com").build();
+        assertFalse(uniqueReservationList.contains(oldPhoneOtherEmail));
+        assertTrue(uniqueReservationList.contains(newPhone));
+    }
+
+    @Test
+    public void setReservation_editedPhoneClashesWithOtherReservation_throwsDuplicateReservationException() {
+        Reservation other = new ReservationBuilder(ALICE).withPhone("81111111")
+                .withEmail("other@example.com").build();
+        uniqueReservationList.add(ALICE);
+        uniqueReservationList.add(other);
+
+        // same email as the target, but the phone now belongs to another reservation in the same slot
+        Reservation editedAlice = new ReservationBuilder(ALICE).withPhone("81111111").build();
+        assertThrows(DuplicateReservationException.class, () ->
+                uniqueReservationList.setReservation(ALICE, editedAlice));
+    }
+
+    @Test
+    public void containsOtherThan_onlyExcludedReservationMatches_returnsFalse() {
+        uniqueReservationList.add(ALICE);
+        assertFalse(uniqueReservationList.containsOtherThan(ALICE, ALICE));
+        assertTrue(uniqueReservationList.containsOtherThan(ALICE, BOB));
+    }
+
+    @Test
+    public void setReservations_unsortedList_sortsByDateTime() {
+        uniqueReservationList.setReservations(Arrays.asList(BOB, ALICE));
+        List<Reservation> expectedList = ALICE.getDateTime().compareTo(BOB.getDateTime()) < 0
+                ? Arrays.asList(ALICE, BOB)
+                : Arrays.asList(BOB, ALICE);
+        assertEquals(expectedList, uniqueReservationList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setReservations_uniqueReservationList_replacesOwnListWithProvidedUniqueReservationList() {
         uniqueReservationList.add(ALICE);
@@ -184,6 +267,106 @@ public class UniqueReservationListTest {
                 .setReservations(listWithDuplicateReservations));
     }
 
+    @Test
+    public void setReservations_listWithSharedEmailInSameSlot_throwsDuplicateReservationException() {
+        Reservation sameEmail = new ReservationBuilder(ALICE).withPhone("81111111").build();
+        assertThrows(DuplicateReservationException.class, ()
+                -> uniqueReservationList.setReservations(Arrays.asList(ALICE, sameEmail)));
+    }
+
+    @Test
+    public void setReservations_listWithDuplicateReservations_leavesListUnchanged() {
+        uniqueReservationList.add(BOB);
+        assertThrows(DuplicateReservationException.class, ()
+                -> uniqueReservationList.setReservations(Arrays.asList(ALICE, ALICE)));
+        assertEquals(Collections.singletonList(BOB), uniqueReservationList.asUnmodifiableObservableList());
+        assertFalse(uniqueReservationList.contains(ALICE));
+    }
+
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueReservationList.addAll(null));
+    }
+
+    @Test
+    public void addAll_batch_mergesSortedWithExistingReservations() {
+        uniqueReservationList.add(BOB);
+        uniqueReservationList.addAll(Collections.singletonList(ALICE));
+
+        UniqueReservationList expectedUniqueReservationList = new UniqueReservationList();
+        expectedUniqueReservationList.setReservations(Arrays.asList(ALICE, BOB));
+        assertEquals(expectedUniqueReservationList, uniqueReservationList);
+        assertTrue(uniqueReservationList.contains(ALICE));
+    }
+
+    @Test
+    public void addAll_reservationAlreadyInList_throwsDuplicateReservationException() {
+        uniqueReservationList.add(ALICE);
+        assertThrows(DuplicateReservationException.class, ()
+                -> uniqueReservationList.addAll(Collections.singletonList(ALICE)));
+    }
+
+    @Test
+    public void add_reservations_handsOutIncreasingIdsKeptOnEdit() {
+        uniqueReservationList.add(ALICE);
+        uniqueReservationList.add(BOB);
+        ReservationId aliceId = uniqueReservationList.get(ReservationId.of(1)).orElseThrow().getId();
+        assertEquals(ALICE, uniqueReservationList.get(ReservationId.of(1)).orElseThrow());
+        assertEquals(BOB, uniqueReservationList.get(ReservationId.of(2)).orElseThrow());
+
+        Reservation editedAlice = new ReservationBuilder(ALICE).withDiners("2").build();
+        uniqueReservationList.setReservation(ALICE, editedAlice);
+        assertEquals(editedAlice, uniqueReservationList.get(aliceId).orElseThrow());
+        assertEquals(aliceId, uniqueReservationList.get(aliceId).orElseThrow().getId());
+
+        // a removed reservation's ID is not handed out again
+        uniqueReservationList.remove(BOB);
+        assertTrue(uniqueReservationList.get(ReservationId.of(2)).isEmpty());
+        uniqueReservationList.add(BOB);
+        assertEquals(BOB, uniqueReservationList.get(ReservationId.of(3)).orElseThrow());
+    }
+
+    @Test
+    public void setReservations_keepsIdsAndNumbersTheRest() {
+        Reservation aliceWithId = ALICE.withId(ReservationId.of(5));
+        Reservation bobWithSameId = BOB.withId(ReservationId.of(5));
+        uniqueReservationList.setReservations(List.of(aliceWithId, bobWithSameId));
+
+        assertEquals(ReservationId.of(5), uniqueReservationList.get(ReservationId.of(5)).orElseThrow().getId());
+        assertEquals(BOB, uniqueReservationList.get(ReservationId.of(6)).orElseThrow());
+
+        UniqueReservationList copy = new UniqueReservationList();
+        copy.setReservations(uniqueReservationList);
+        copy.add(new ReservationBuilder(BOB).withPhone("80000000").withEmail("other@example.com").build());
+        assertTrue(copy.get(ReservationId.of(7)).isPresent());
+    }
+
+    @Test
+    public void getIdsWithPhoneAndEmail_mutations_keepContactIndexesInSync() {
+        assertEquals(Set.of(), uniqueReservationList.getIdsWithPhone(ALICE.getPhone()));
+        uniqueReservationList.add(ALICE);
+        Set<ReservationId> alicePhoneIds = uniqueReservationList.getIdsWithPhone(ALICE.getPhone());
+        Set<ReservationId> aliceEmailIds =
+                uniqueReservationList.getIdsWithEmail(new Email(ALICE.getEmail().value.toUpperCase()));
+        Reservation aliceLater = new ReservationBuilder(ALICE).withDateTime("2025-06-01 1900").build();
+        uniqueReservationList.add(aliceLater);
+        uniqueReservationList.add(BOB);
+        assertEquals(Set.of(ReservationId.of(1), ReservationId.of(2)), alicePhoneIds);
+        assertEquals(alicePhoneIds, aliceEmailIds);
+
+        Reservation aliceNewPhone = new ReservationBuilder(aliceLater).withPhone("81234567").build();
+        uniqueReservationList.setReservation(aliceLater, aliceNewPhone);
+        assertEquals(Set.of(ReservationId.of(1)), alicePhoneIds);
+        assertEquals(Set.of(ReservationId.of(2)), uniqueReservationList.getIdsWithPhone(aliceNewPhone.getPhone()));
+        assertEquals(Set.of(ReservationId.of(1), ReservationId.of(2)), aliceEmailIds);
+
+        uniqueReservationList.remove(ALICE);
+        assertEquals(Set.of(), alicePhoneIds);
+
+        uniqueReservationList.setReservations(List.of(ALICE));
+        assertEquals(1, aliceEmailIds.size());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
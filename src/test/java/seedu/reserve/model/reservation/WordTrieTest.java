@@ -0,0 +1,67 @@
+package seedu.reserve.model.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WordTrieTest {
+
+    private final WordTrie trie = new WordTrie();
+
+    @BeforeEach
+    public void setUp() {
+        for (String word : List.of("john", "johan", "johnathan", "joan", "mohd", "mohamed", "muhammad", "jo")) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void findClosest_exactWord_rankedFirst() {
+        // then longer words starting with the query, then words a mistake away
+        assertEquals(List.of("john", "johnathan", "joan", "johan"), trie.findClosest("john", 10));
+    }
+
+    @Test
+    public void findClosest_swappedLetters_countAsOneMistake() {
+        assertEquals(List.of("john"), trie.findClosest("jonh", 10));
+    }
+
+    @Test
+    public void findClosest_prefix_matchesLongerWords() {
+        assertEquals(List.of("mohd", "mohamed"), trie.findClosest("moh", 10));
+    }
+
+    @Test
+    public void findClosest_longQuery_allowsTwoMistakes() {
+        assertEquals(List.of("mohamed", "muhammad"), trie.findClosest("mohammed", 10));
+        assertEquals(List.of("johnathan"), trie.findClosest("jonathon", 10));
+        assertEquals(List.of(), trie.findClosest("jonethin", 10));
+    }
+
+    @Test
+    public void findClosest_limit_keepsClosest() {
+        assertEquals(List.of("john", "johnathan"), trie.findClosest("john", 2));
+        assertEquals(List.of("jo", "joan"), trie.findClosest("jo", 2));
+        assertEquals(List.of(), trie.findClosest("john", 0));
+    }
+
+    @Test
+    public void remove_word_noLongerFound() {
+        trie.remove("john");
+        trie.remove("john");
+        trie.remove("jon");
+        assertEquals(List.of("johnathan", "joan", "johan"), trie.findClosest("john", 10));
+
+        trie.clear();
+        assertEquals(List.of(), trie.findClosest("john", 10));
+    }
+
+    @Test
+    public void maxEditsFor() {
+        assertEquals(1, WordTrie.maxEditsFor("jonh"));
+        assertEquals(2, WordTrie.maxEditsFor("jonah"));
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.reserve.model.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class FloorPlanTest {
+
+    private static final String DATE_TIME = "2025-05-01 1900";
+
+    // T1 and T2 seat 2 each and can be joined, T3 seats 4
+    private static final FloorPlan SMALL_FLOOR_PLAN = new FloorPlan(
+            List.of(new Table("T1", 2), new Table("T2", 2), new Table("T3", 4)),
+            List.of(TableAssignment.fromString("T1+T2")));
+
+    private static Reservation party(String phone, String diners) {
+        return new ReservationBuilder().withPhone(phone).withEmail(phone + "@example.com").withDiners(diners)
+                .withDateTime(DATE_TIME).build();
+    }
+
+    private static Reservation party(String phone, String diners, String tables) {
+        return new ReservationBuilder(party(phone, diners)).withTableAssignment(tables).build();
+    }
+
+    private static List<TableAssignment> tables(String... tables) {
+        List<TableAssignment> assignments = new ArrayList<>();
+        for (String table : tables) {
+            assignments.add(TableAssignment.fromString(table));
+        }
+        return assignments;
+    }
+
+    @Test
+    public void constructor_invalidFloorPlan_throwsIllegalArgumentException() {
+        List<Table> tables = List.of(new Table("T1", 2), new Table("T2", 2));
+
+        // duplicate table
+        assertThrows(IllegalArgumentException.class, () -> new FloorPlan(
+                List.of(new Table("T1", 2), new Table("T1", 4)), List.of()));
+
+        // combination of an unknown table
+        assertThrows(IllegalArgumentException.class, () -> new FloorPlan(tables,
+                List.of(TableAssignment.fromString("T1+T9"))));
+
+        // combination of a single table
+        assertThrows(IllegalArgumentException.class, () -> new FloorPlan(tables,
+                List.of(TableAssignment.fromString("T1+T1"))));
+
+        // too many tables
+        List<Table> manyTables = new ArrayList<>();
+        for (int i = 0; i <= FloorPlan.MAX_TABLES; i++) {
+            manyTables.add(new Table("T" + i, 2));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new FloorPlan(manyTables, List.of()));
+    }
+
+    @Test
+    public void constructor_default_seatsFiftyAndLargestParty() {
+        FloorPlan floorPlan = new FloorPlan();
+        assertEquals(50, floorPlan.getTables().stream().mapToInt(Table::getSeats).sum());
+        assertTrue(floorPlan.assign(List.of(party("91234567", "10"))).get(0).isAssigned());
+    }
+
+    @Test
+    public void assign_smallestFreeTableThatFits() {
+        assertEquals(tables("T1", "T3"),
+                SMALL_FLOOR_PLAN.assign(List.of(party("91234567", "2"), party("91234568", "3"))));
+
+        // the party of 4 is seated first and takes T3, so the party of 3 needs the joined tables
+        assertEquals(tables("T1+T2", "T3"),
+                SMALL_FLOOR_PLAN.assign(List.of(party("91234567", "3"), party("91234568", "4"))));
+    }
+
+    @Test
+    public void assign_noTableLeft_leavesPartyUnassigned() {
+        assertEquals(tables("T3", "T1", "T2", ""), SMALL_FLOOR_PLAN.assign(List.of(party("91234561", "4"),
+                party("91234562", "2"), party("91234563", "2"), party("91234564", "1"))));
+
+        // no table is large enough
+        assertEquals(tables(""), SMALL_FLOOR_PLAN.assign(List.of(party("91234561", "5"))));
+    }
+
+    @Test
+    public void assign_currentTablesStillFit_keepsTables() {
+        // T3 would be the smallest fit for the new party, but the party of 2 is not moved off T1+T2
+        assertEquals(tables("T1+T2", "T3"), SMALL_FLOOR_PLAN.assign(List.of(party("91234561", "2", "T1+T2"),
+                party("91234562", "2"))));
+    }
+
+    @Test
+    public void assign_currentTablesTooSmall_reseatsParty() {
+        assertEquals(tables("T3"), SMALL_FLOOR_PLAN.assign(List.of(party("91234561", "3", "T1"))));
+
+        // tables that are not on the floor plan are given up
+        assertEquals(tables("T1"), SMALL_FLOOR_PLAN.assign(List.of(party("91234561", "1", "T9"))));
+    }
+
+    @Test
+    public void assign_keptTablesLeavePartyUnseated_repacksHour() {
+        // keeping the party of 2 at T1 leaves a party of 4 without a table, while repacking seats more diners
+        assertEquals(tables("", "T3", "T1+T2"), SMALL_FLOOR_PLAN.assign(List.of(party("91234561", "2", "T1"),
+                party("91234562", "4"), party("91234563", "4"))));
+    }
+
+    @Test
+    public void assign_tablesHeldByOverlappingReservations_seatsAroundThem() {
+        Reservation earlierAtT3 = new ReservationBuilder(party("91234561", "4", "T3"))
+                .withDateTime("2025-05-01 1800").withDuration("90").build();
+        Reservation laterAtT1 = new ReservationBuilder(party("91234562", "2", "T1"))
+                .withDateTime("2025-05-01 2000").build();
+        List<Reservation> others = List.of(earlierAtT3, laterAtT1);
+
+        // a longer party runs into the later party at T1, while an hour's party leaves T1 just in time
+        Reservation longParty = new ReservationBuilder(party("91234563", "2")).withDuration("90").build();
+        assertEquals(tables("T2"), SMALL_FLOOR_PLAN.assign(List.of(longParty), others));
+        assertEquals(tables("T1"), SMALL_FLOOR_PLAN.assign(List.of(party("91234564", "2")), others));
+
+        // T3 is still held until 1930
+        assertEquals(tables("T1+T2"), SMALL_FLOOR_PLAN.assign(List.of(party("91234565", "4", "T3")), others));
+        assertEquals(tables("", "T1+T2"), SMALL_FLOOR_PLAN.assign(List.of(longParty, party("91234565", "4")),
+                others));
+    }
+
+    @Test
+    public void assign_busyEvening_packsWithinMilliseconds() {
+        // 300 covers over 6 hours, on the default floor plan
+        FloorPlan floorPlan = new FloorPlan();
+        List<List<Reservation>> hours = new ArrayList<>();
+        for (int hour = 0; hour < 6; hour++) {
+            List<Reservation> parties = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                parties.add(new ReservationBuilder().withPhone(String.format("9%07d", hour * 100 + i))
+                        .withEmail("guest" + hour + "x" + i + "@example.com").withDiners(String.valueOf(i % 8 + 1))
+                        .withDateTime(String.format("2025-05-01 %02d00", 17 + hour)).build());
+            }
+            Collections.shuffle(parties);
+            hours.add(parties);
+        }
+
+        long start = System.nanoTime();
+        for (List<Reservation> parties : hours) {
+            List<TableAssignment> assignments = floorPlan.assign(parties);
+            assertEquals(parties.size(), assignments.stream().filter(TableAssignment::isAssigned).count());
+        }
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+
+    @Test
+    public void equals() {
+        FloorPlan floorPlan = new FloorPlan(List.of(new Table("T1", 2), new Table("T2", 2)),
+                List.of(TableAssignment.fromString("T1+T2")));
+
+        assertEquals(floorPlan, new FloorPlan(List.of(new Table("T1", 2), new Table("T2", 2)),
+                List.of(TableAssignment.fromString("T1+T2"))));
+        assertEquals(new FloorPlan(), new FloorPlan());
+        assertNotEquals(floorPlan, new FloorPlan(List.of(new Table("T1", 2), new Table("T2", 2)), null));
+        assertNotEquals(floorPlan, null);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.reserve.model.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TableAssignmentTest {
+
+    @Test
+    public void fromString_invalidTableAssignment_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TableAssignment.fromString("T1 T2"));
+        assertThrows(IllegalArgumentException.class, () -> TableAssignment.fromString("T1+"));
+        assertThrows(IllegalArgumentException.class, () -> TableAssignment.fromString("+T1"));
+    }
+
+    @Test
+    public void isValidTableAssignment() {
+        assertFalse(TableAssignment.isValidTableAssignment(null));
+        assertFalse(TableAssignment.isValidTableAssignment("T1++T2"));
+        assertFalse(TableAssignment.isValidTableAssignment("#1"));
+
+        assertTrue(TableAssignment.isValidTableAssignment(""));
+        assertTrue(TableAssignment.isValidTableAssignment("T1"));
+        assertTrue(TableAssignment.isValidTableAssignment("T1+T2+Patio3"));
+    }
+
+    @Test
+    public void fromString_validTableAssignment_roundTrips() {
+        assertEquals(TableAssignment.NONE, TableAssignment.fromString(""));
+        assertEquals(List.of("T1", "T2"), TableAssignment.fromString("T1+T2").getTableIds());
+        assertEquals("T1+T2", TableAssignment.fromString("T1+T2").toString());
+        assertFalse(TableAssignment.NONE.isAssigned());
+        assertTrue(TableAssignment.fromString("T1").isAssigned());
+    }
+
+    @Test
+    public void equals() {
+        TableAssignment assignment = TableAssignment.fromString("T1+T2");
+
+        assertEquals(assignment, new TableAssignment(List.of("T1", "T2")));
+        assertNotEquals(assignment, TableAssignment.fromString("T2+T1"));
+        assertNotEquals(assignment, TableAssignment.NONE);
+        assertNotEquals(assignment, null);
+    }
+}
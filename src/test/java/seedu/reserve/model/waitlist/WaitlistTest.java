@@ -0,0 +1,105 @@
+package seedu.reserve.model.waitlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.exceptions.DuplicateReservationException;
+import seedu.reserve.model.reservation.exceptions.ReservationNotFoundException;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class WaitlistTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2027, 5, 1, 9, 0);
+    private static final LocalDateTime NOON = LocalDateTime.of(2027, 5, 1, 12, 0);
+
+    private static final WaitlistEntry EARLY_COUPLE = entry("81111111", "2", "2027-05-03 1900", MORNING);
+    private static final WaitlistEntry LATE_COUPLE = entry("82222222", "2", "2027-05-03 1900", NOON);
+    private static final WaitlistEntry LATE_FAMILY = entry("83333333", "6", "2027-05-03 1900", NOON);
+    private static final WaitlistEntry NEXT_DAY = entry("84444444", "2", "2027-05-04 1900", MORNING);
+
+    private final Waitlist waitlist = new Waitlist();
+
+    private static WaitlistEntry entry(String phone, String diners, String dateTime, LocalDateTime requestedAt) {
+        Reservation party = new ReservationBuilder().withPhone(phone).withEmail(phone + "@example.com")
+                .withDiners(diners).withDateTime(dateTime).withDuration("60").build();
+        return new WaitlistEntry(party, requestedAt);
+    }
+
+    @Test
+    public void add_entries_orderedBySlotThenRequestTimeThenPartySize() {
+        waitlist.add(NEXT_DAY);
+        waitlist.add(LATE_COUPLE);
+        waitlist.add(LATE_FAMILY);
+        waitlist.add(EARLY_COUPLE);
+
+        assertEquals(List.of(EARLY_COUPLE, LATE_FAMILY, LATE_COUPLE, NEXT_DAY), waitlist.asList());
+        assertEquals(4, waitlist.size());
+    }
+
+    @Test
+    public void add_sameParty_throwsDuplicateReservationException() {
+        waitlist.add(EARLY_COUPLE);
+        WaitlistEntry samePhoneLater = new WaitlistEntry(new ReservationBuilder(EARLY_COUPLE.getParty())
+                .withEmail("other@example.com").build(), NOON);
+
+        assertTrue(waitlist.contains(samePhoneLater.getParty()));
+        assertThrows(DuplicateReservationException.class, () -> waitlist.add(samePhoneLater));
+    }
+
+    @Test
+    public void remove_entry_leavesOthers() {
+        waitlist.add(EARLY_COUPLE);
+        waitlist.add(LATE_COUPLE);
+
+        waitlist.remove(EARLY_COUPLE);
+        assertEquals(List.of(LATE_COUPLE), waitlist.asList());
+        assertFalse(waitlist.contains(EARLY_COUPLE.getParty()));
+
+        waitlist.remove(LATE_COUPLE);
+        assertTrue(waitlist.isEmpty());
+        assertEquals(new Waitlist(), waitlist);
+    }
+
+    @Test
+    public void remove_entryNotOnWaitlist_throwsReservationNotFoundException() {
+        waitlist.add(EARLY_COUPLE);
+        // same priority fields, but a different party
+        WaitlistEntry renamed = new WaitlistEntry(new ReservationBuilder(EARLY_COUPLE.getParty())
+                .withName("Someone Else").build(), MORNING);
+
+        assertThrows(ReservationNotFoundException.class, () -> waitlist.remove(renamed));
+        assertThrows(ReservationNotFoundException.class, () -> waitlist.remove(NEXT_DAY));
+    }
+
+    @Test
+    public void getOverlapping_returnsSlotsHeldDuringPeriod() {
+        WaitlistEntry longDinner = entry("85555555", "4", "2027-05-03 1700", MORNING);
+        Reservation party = new ReservationBuilder(longDinner.getParty()).withDuration("180").build();
+        WaitlistEntry longerDinner = new WaitlistEntry(party, MORNING);
+        waitlist.setEntries(List.of(NEXT_DAY, LATE_COUPLE, EARLY_COUPLE, longerDinner));
+
+        // the 1700 party is held until 2000, and the next day's party starts after the period
+        assertEquals(List.of(longerDinner, EARLY_COUPLE, LATE_COUPLE),
+                waitlist.getOverlapping(LocalDateTime.of(2027, 5, 3, 19, 0), LocalDateTime.of(2027, 5, 3, 20, 0)));
+        assertEquals(List.of(longerDinner),
+                waitlist.getOverlapping(LocalDateTime.of(2027, 5, 3, 18, 0), LocalDateTime.of(2027, 5, 3, 19, 0)));
+        assertEquals(List.of(),
+                waitlist.getOverlapping(LocalDateTime.of(2027, 5, 3, 20, 0), LocalDateTime.of(2027, 5, 4, 19, 0)));
+    }
+
+    @Test
+    public void setEntries_duplicateParties_throwsDuplicateReservationException() {
+        waitlist.add(NEXT_DAY);
+        assertThrows(DuplicateReservationException.class, () -> waitlist.setEntries(List.of(EARLY_COUPLE,
+                new WaitlistEntry(EARLY_COUPLE.getParty(), NOON))));
+        assertEquals(List.of(NEXT_DAY), waitlist.asList());
+    }
+}
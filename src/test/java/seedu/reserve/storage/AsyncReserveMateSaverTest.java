@@ -0,0 +1,159 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.model.ReadOnlyReserveMate;
+import seedu.reserve.model.ReserveMate;
+
+public class AsyncReserveMateSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncReserveMateSaver(null));
+    }
+
+    @Test
+    public void submit_thenFlush_dataSaved() throws Exception {
+        Path filePath = testFolder.resolve("reserveMate.json");
+        JsonReserveMateStorage storage = new JsonReserveMateStorage(filePath);
+        AsyncReserveMateSaver saver = new AsyncReserveMateSaver(storage);
+        ReserveMate original = getTypicalReserveMate();
+
+        saver.submit(original);
+        saver.shutdown();
+
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+    }
+
+    @Test
+    public void submit_laterChangesToModel_snapshotUnaffected() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("reserveMate.json"));
+        AsyncReserveMateSaver saver = new AsyncReserveMateSaver(storage);
+        ReserveMate reserveMate = new ReserveMate();
+        reserveMate.addReservation(ALICE);
+
+        storage.blockWrites();
+        saver.submit(reserveMate);
+        reserveMate.addReservation(BENSON);
+        storage.unblockWrites();
+        saver.flush();
+
+        assertEquals(List.of(ALICE), storage.saved.get(0).getReservationList());
+    }
+
+    @Test
+    public void submit_burstWhileWriting_onlyLatestSnapshotWritten() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("reserveMate.json"));
+        AsyncReserveMateSaver saver = new AsyncReserveMateSaver(storage);
+        ReserveMate reserveMate = new ReserveMate();
+
+        storage.blockWrites();
+        saver.submit(reserveMate);
+        assertTrue(storage.awaitWriteStarted());
+        reserveMate.addReservation(ALICE);
+        saver.submit(reserveMate);
+        reserveMate.addReservation(BENSON);
+        saver.submit(reserveMate);
+        storage.unblockWrites();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(2, storage.saved.get(1).getReservationList().size());
+    }
+
+    @Test
+    public void shutdown_writeFailed_throwsIoException() {
+        IOException failure = new IOException("dummy IO exception");
+        JsonReserveMateStorage storage = new JsonReserveMateStorage(testFolder.resolve("reserveMate.json")) {
+            @Override
+            public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+                throw failure;
+            }
+        };
+        AsyncReserveMateSaver saver = new AsyncReserveMateSaver(storage);
+
+        saver.submit(new ReserveMate());
+        assertThrows(IOException.class, failure.getMessage(), saver::shutdown);
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void takeFailure_afterFailedWrite_returnsFailureOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonReserveMateStorage storage = new JsonReserveMateStorage(testFolder.resolve("reserveMate.json")) {
+            @Override
+            public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+                throw failure;
+            }
+        };
+        AsyncReserveMateSaver saver = new AsyncReserveMateSaver(storage);
+
+        saver.submit(new ReserveMate());
+        saver.flush();
+        assertEquals(failure, saver.takeFailure().get());
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void submit_afterShutdown_throwsIllegalStateException() throws Exception {
+        AsyncReserveMateSaver saver = new AsyncReserveMateSaver(
+                new JsonReserveMateStorage(testFolder.resolve("reserveMate.json")));
+        saver.shutdown();
+        assertThrows(IllegalStateException.class, () -> saver.submit(new ReserveMate()));
+    }
+
+    /**
+     * A storage that records every snapshot it is asked to save, and can hold writes back until released.
+     */
+    private static class RecordingStorage extends JsonReserveMateStorage {
+        private final List<ReadOnlyReserveMate> saved = new ArrayList<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private volatile CountDownLatch writeGate = new CountDownLatch(0);
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        void blockWrites() {
+            writeGate = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writeGate.countDown();
+        }
+
+        boolean awaitWriteStarted() throws InterruptedException {
+            return writeStarted.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void saveReserveMate(ReadOnlyReserveMate reserveMate) throws IOException {
+            writeStarted.countDown();
+            try {
+                writeGate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(reserveMate);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.reserve.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.util.FileUtil;
+
+public class BackupFallbackReaderTest {
+
+    private static final String UNREADABLE = "unreadable";
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Reads a file's content, failing on files holding {@code UNREADABLE}.
+     */
+    private static Optional<String> readContent(Path filePath) throws DataLoadingException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            String content = FileUtil.readFromFile(filePath);
+            if (content.equals(UNREADABLE)) {
+                throw new DataLoadingException(new IOException(UNREADABLE));
+            }
+            return Optional.of(content);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Test
+    public void read_readableFile_fileContent() throws Exception {
+        Path filePath = testFolder.resolve("data");
+        FileUtil.writeToFile(filePath, "current");
+        FileUtil.writeToFile(FileUtil.getBackupFilePath(filePath, 1), "backup");
+        assertEquals(Optional.of("current"), BackupFallbackReader.read(filePath, 3,
+                BackupFallbackReaderTest::readContent));
+    }
+
+    @Test
+    public void read_unreadableFile_newestReadableBackup() throws Exception {
+        Path filePath = testFolder.resolve("data");
+        FileUtil.writeToFile(filePath, UNREADABLE);
+        // the first backup is missing and the second cannot be read
+        FileUtil.writeToFile(FileUtil.getBackupFilePath(filePath, 2), UNREADABLE);
+        FileUtil.writeToFile(FileUtil.getBackupFilePath(filePath, 3), "oldest");
+        assertEquals(Optional.of("oldest"), BackupFallbackReader.read(filePath, 3,
+                BackupFallbackReaderTest::readContent));
+    }
+
+    @Test
+    public void read_missingFile_backupUsed() throws Exception {
+        Path filePath = testFolder.resolve("data");
+        FileUtil.writeToFile(FileUtil.getBackupFilePath(filePath, 1), "backup");
+        assertEquals(Optional.of("backup"), BackupFallbackReader.read(filePath, 3,
+                BackupFallbackReaderTest::readContent));
+    }
+
+    @Test
+    public void read_backupBeyondCount_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data");
+        FileUtil.writeToFile(FileUtil.getBackupFilePath(filePath, 2), "backup");
+        assertFalse(BackupFallbackReader.read(filePath, 1, BackupFallbackReaderTest::readContent).isPresent());
+    }
+
+    @Test
+    public void read_noReadableFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data");
+        FileUtil.writeToFile(filePath, UNREADABLE);
+        FileUtil.writeToFile(FileUtil.getBackupFilePath(filePath, 1), UNREADABLE);
+        assertThrows(DataLoadingException.class, () -> BackupFallbackReader.read(filePath, 3,
+                BackupFallbackReaderTest::readContent));
+    }
+}
@@ -0,0 +1,225 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class BinaryReserveMateStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readReserveMate_nullFilePath_throwsNullPointerException() {
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(testFolder.resolve("data.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readReserveMate(null));
+    }
+
+    @Test
+    public void readReserveMate_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryReserveMateStorage(testFolder.resolve("data.bin")).readReserveMate().isPresent());
+    }
+
+    @Test
+    public void saveReserveMate_thenRead_sameReserveMate() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        storage.saveReserveMate(original);
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+
+        original.addReservation(HOON);
+        storage.saveReserveMate(original);
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_overFileJustRead_fileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        storage.saveReserveMate(original);
+        storage.saveReserveMate(original);
+
+        // the file just read, and its backup, are replaced while the data read from them is still in use
+        ReserveMate read = new ReserveMate(storage.readReserveMate().get());
+        read.addReservation(HOON);
+        storage.saveReserveMate(read);
+        assertEquals(read, new ReserveMate(storage.readReserveMate().get()));
+    }
+
+    @Test
+    public void read_withoutMapping_sameAsMapped() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+        assertEquals(BinaryReserveMateStorage.read(filePath, true), BinaryReserveMateStorage.read(filePath, false));
+
+        Path notBinaryFile = testFolder.resolve("notBinary.bin");
+        FileUtil.writeToFile(notBinaryFile, "not a binary file, but long enough for a header");
+        assertThrows(IllegalValueException.class, () -> BinaryReserveMateStorage.read(notBinaryFile, false));
+    }
+
+    @Test
+    public void saveReserveMate_seatedReservation_keepsTables() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = new ReserveMate();
+        original.addReservation(new ReservationBuilder(HOON).withTableAssignment("T1+T2").build());
+        storage.saveReserveMate(original);
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_customDuration_keepsDuration() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = new ReserveMate();
+        original.addReservation(new ReservationBuilder(HOON).withDuration("210").build());
+        storage.saveReserveMate(original);
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_waitlist_keepsWaitlist() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        original.addToWaitlist(new WaitlistEntry(new ReservationBuilder(HOON).withDuration("150").build(),
+                LocalDateTime.of(2026, 10, 1, 9, 30, 15)));
+        storage.saveReserveMate(original);
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_removedReservation_keepsIds() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        original.removeReservation(original.getReservationList().get(0));
+        original.addReservation(HOON);
+        storage.saveReserveMate(original);
+
+        assertEquals(original.getReservationList().stream().map(Reservation::getId).toList(),
+                storage.readReserveMate().get().getReservationList().stream().map(Reservation::getId).toList());
+    }
+
+    @Test
+    public void saveReserveMate_emptyReserveMate_headerOnly() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        storage.saveReserveMate(new ReserveMate());
+
+        assertEquals(BinaryReserveMateStorage.HEADER_SIZE, Files.size(filePath));
+        assertEquals(new ReserveMate(), storage.readReserveMate().get());
+    }
+
+    @Test
+    public void encode_repeatedStrings_storedOnce() throws Exception {
+        ReserveMate reserveMate = getTypicalReserveMate();
+        int typicalSize = BinaryReserveMateStorage.encode(reserveMate).limit();
+        int stringTableLength = BinaryReserveMateStorage.encode(reserveMate).getInt(16);
+
+        // the same customer booking again only adds a record, as all its strings are in the table already
+        reserveMate.addReservation(new ReservationBuilder(
+                reserveMate.getReservationList().get(0)).withDateTime("2030-01-01 1200").build());
+        ByteBuffer encoded = BinaryReserveMateStorage.encode(reserveMate);
+        assertEquals(stringTableLength, encoded.getInt(16));
+        assertTrue(encoded.limit() - typicalSize >= BinaryReserveMateStorage.RECORD_SIZE);
+    }
+
+    @Test
+    public void saveReserveMate_tooManyOccasions_throwsIoExceptionAndKeepsFile() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        storage.saveReserveMate(original);
+
+        String[] occasions = new String[BinaryReserveMateStorage.MAX_OCCASIONS + 1];
+        Arrays.setAll(occasions, i -> "Occasion" + i);
+        ReserveMate withManyOccasions = new ReserveMate(original);
+        withManyOccasions.addReservation(new ReservationBuilder(HOON).withOccasions(occasions).build());
+        assertThrows(IOException.class, String.format(BinaryReserveMateStorage.MESSAGE_TOO_MANY_OCCASIONS,
+                HOON.getName(), occasions.length, BinaryReserveMateStorage.MAX_OCCASIONS), ()
+                -> storage.saveReserveMate(withManyOccasions));
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+
+        ReserveMate withMostOccasions = new ReserveMate(original);
+        withMostOccasions.addReservation(new ReservationBuilder(HOON)
+                .withOccasions(Arrays.copyOf(occasions, BinaryReserveMateStorage.MAX_OCCASIONS)).build());
+        storage.saveReserveMate(withMostOccasions);
+        assertEquals(withMostOccasions, new ReserveMate(storage.readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryReserveMateStorage(filePath, 0).saveReserveMate(getTypicalReserveMate());
+        byte[] content = Files.readAllBytes(filePath);
+        content[BinaryReserveMateStorage.HEADER_SIZE + 4] ^= 1;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryReserveMateStorage(filePath, 0).readReserveMate());
+    }
+
+    @Test
+    public void readReserveMate_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryReserveMateStorage(filePath, 0).saveReserveMate(getTypicalReserveMate());
+        byte[] content = Files.readAllBytes(filePath);
+        content[5] = BinaryReserveMateStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryReserveMateStorage(filePath, 0).readReserveMate());
+    }
+
+    @Test
+    public void readReserveMate_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        FileUtil.writeToFile(filePath, "{ \"reservations\" : [ ], \"padding\" : \"more than a header\" }");
+
+        assertThrows(DataLoadingException.class, () -> new BinaryReserveMateStorage(filePath, 0).readReserveMate());
+    }
+
+    @Test
+    public void readReserveMate_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryReserveMateStorage(filePath, 0).saveReserveMate(getTypicalReserveMate());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryReserveMateStorage(filePath, 0).readReserveMate());
+    }
+
+    @Test
+    public void readReserveMate_corruptedFileWithBackup_recoversFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        BinaryReserveMateStorage storage = new BinaryReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        storage.saveReserveMate(original);
+        storage.saveReserveMate(original);
+        Files.write(filePath, new byte[] {1, 2, 3});
+
+        assertEquals(original, new ReserveMate(storage.readReserveMate().get()));
+    }
+}
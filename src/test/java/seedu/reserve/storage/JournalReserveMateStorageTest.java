@@ -0,0 +1,221 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.IDA;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+import seedu.reserve.testutil.ReservationBuilder;
+
+public class JournalReserveMateStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readReserveMate_nullFilePath_throwsNullPointerException() {
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(testFolder.resolve("data.json"));
+        assertThrows(NullPointerException.class, () -> storage.readReserveMate(null));
+    }
+
+    @Test
+    public void readReserveMate_missingFiles_emptyResult() throws Exception {
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(testFolder.resolve("data.json"));
+        assertFalse(storage.readReserveMate().isPresent());
+    }
+
+    @Test
+    public void saveReserveMate_changesAfterRead_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        ReserveMate original = getTypicalReserveMate();
+        new JournalReserveMateStorage(filePath).saveReserveMate(original);
+        String snapshot = Files.readString(filePath);
+
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate model = new ReserveMate(storage.readReserveMate().get());
+        model.addReservation(HOON);
+        storage.saveReserveMate(model);
+        model.removeReservation(ALICE);
+        storage.saveReserveMate(model);
+        Reservation editedIda = new ReservationBuilder(IDA).withPreference("No nuts").build();
+        model.addReservation(IDA);
+        storage.saveReserveMate(model);
+        model.setReservation(IDA, editedIda);
+        storage.saveReserveMate(model);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, readJournalLines(filePath).size());
+        assertEquals(model, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_editsInJournal_readsBackIds() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate model = new ReserveMate(storage.readReserveMate().get());
+        model.removeReservation(ALICE);
+        model.addReservation(HOON);
+        Reservation storedHoon = model.getReservationList().stream().filter(HOON::equals).findFirst().orElseThrow();
+        model.setReservation(storedHoon, new ReservationBuilder(HOON).withDiners("2").build());
+        storage.saveReserveMate(model);
+
+        assertEquals(model.getReservationList().stream().map(Reservation::getId).toList(),
+                new JournalReserveMateStorage(filePath).readReserveMate().get().getReservationList().stream()
+                        .map(Reservation::getId).toList());
+    }
+
+    @Test
+    public void saveReserveMate_waitlistChangedAfterRead_readsBackWaitlist() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate model = new ReserveMate(storage.readReserveMate().get());
+        model.addToWaitlist(new WaitlistEntry(HOON, LocalDateTime.of(2026, 10, 1, 9, 30)));
+        storage.saveReserveMate(model);
+
+        assertEquals(model, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_clearedAfterRead_readsBackEmpty() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        storage.readReserveMate();
+        storage.saveReserveMate(new ReserveMate());
+
+        assertEquals(1, readJournalLines(filePath).size());
+        assertEquals(new ReserveMate(), new ReserveMate(new JournalReserveMateStorage(filePath)
+                .readReserveMate().get()));
+    }
+
+    @Test
+    public void saveReserveMate_journalExceedsThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath, 1);
+        ReserveMate model = getTypicalReserveMate();
+        storage.saveReserveMate(model);
+
+        model.addReservation(HOON);
+        storage.saveReserveMate(model);
+        assertTrue(Files.exists(JournalReserveMateStorage.getJournalFilePath(filePath)));
+
+        model.addReservation(IDA);
+        storage.saveReserveMate(model);
+        assertFalse(Files.exists(JournalReserveMateStorage.getJournalFilePath(filePath)));
+        assertEquals(model, new ReserveMate(new JsonReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_stoppedBeforeCompactedJournalRemoved_oldRecordsSkipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path journalFilePath = JournalReserveMateStorage.getJournalFilePath(filePath);
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath, 1);
+        ReserveMate model = new ReserveMate(storage.readReserveMate().get());
+        model.addReservation(HOON);
+        storage.saveReserveMate(model);
+        List<String> journal = readJournalLines(filePath);
+
+        model.removeReservation(HOON);
+        model.addReservation(IDA);
+        storage.saveReserveMate(model);
+        assertFalse(Files.exists(journalFilePath));
+
+        // the app stopped after the compaction wrote the snapshot but before the journal was removed
+        Files.write(journalFilePath, journal, StandardCharsets.UTF_8);
+
+        JournalReserveMateStorage restartedStorage = new JournalReserveMateStorage(filePath);
+        ReserveMate restarted = new ReserveMate(restartedStorage.readReserveMate().get());
+        assertEquals(model, restarted);
+
+        restarted.removeReservation(IDA);
+        restartedStorage.saveReserveMate(restarted);
+        assertEquals(restarted, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_snapshotRecoveredFromBackup_journalSkipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate model = new ReserveMate(storage.readReserveMate().get());
+        model.addToWaitlist(new WaitlistEntry(HOON, LocalDateTime.of(2026, 10, 1, 9, 30)));
+        storage.saveReserveMate(model);
+        model.addReservation(IDA);
+        storage.saveReserveMate(model);
+        assertEquals(1, readJournalLines(filePath).size());
+
+        Files.writeString(filePath, "not json");
+
+        JournalReserveMateStorage restartedStorage = new JournalReserveMateStorage(filePath);
+        ReserveMate restarted = new ReserveMate(restartedStorage.readReserveMate().get());
+        assertEquals(getTypicalReserveMate(), restarted);
+
+        restarted.addReservation(HOON);
+        restartedStorage.saveReserveMate(restarted);
+        assertFalse(Files.exists(JournalReserveMateStorage.getJournalFilePath(filePath)));
+        assertEquals(restarted, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_incompleteLastRecord_recordSkipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+        JournalReserveMateStorage storage = new JournalReserveMateStorage(filePath);
+        ReserveMate model = new ReserveMate(storage.readReserveMate().get());
+        model.addReservation(HOON);
+        storage.saveReserveMate(model);
+
+        Files.writeString(JournalReserveMateStorage.getJournalFilePath(filePath), "{\"sequence\":3,\"operation\":\"ad",
+                StandardOpenOption.APPEND);
+
+        assertEquals(model, new ReserveMate(new JournalReserveMateStorage(filePath).readReserveMate().get()));
+    }
+
+    @Test
+    public void readReserveMate_malformedRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+        Files.write(JournalReserveMateStorage.getJournalFilePath(filePath),
+                List.of("not a record", "{\"sequence\":2,\"operation\":\"clear\"}"), StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalReserveMateStorage(filePath).readReserveMate());
+    }
+
+    @Test
+    public void readReserveMate_unknownOperation_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournalReserveMateStorage(filePath).saveReserveMate(getTypicalReserveMate());
+        Files.write(JournalReserveMateStorage.getJournalFilePath(filePath),
+                List.of("{\"sequence\":2,\"operation\":\"rename\"}"), StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalReserveMateStorage(filePath).readReserveMate());
+    }
+
+    private static List<String> readJournalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalReserveMateStorage.getJournalFilePath(filePath), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.reserve.storage.JsonAdaptedReservationConverter.MESSAGE_INVALID_RESERVATION;
+import static seedu.reserve.storage.JsonAdaptedReservationConverter.MESSAGE_INVALID_RESERVATIONS;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.ALICE;
+import static seedu.reserve.testutil.TypicalReservation.BENSON;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReservations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.model.reservation.Email;
+import seedu.reserve.model.reservation.Phone;
+import seedu.reserve.model.reservation.Reservation;
+
+public class JsonAdaptedReservationConverterTest {
+
+    private static final int MANY_RECORDS = JsonAdaptedReservationConverter.CHUNK_SIZE * 4 + 1;
+
+    @Test
+    public void toModelType_emptyList_emptyResult() throws Exception {
+        assertEquals(Collections.emptyList(), JsonAdaptedReservationConverter.toModelType(Collections.emptyList()));
+    }
+
+    @Test
+    public void toModelType_manyValidRecords_convertedInOrder() throws Exception {
+        List<Reservation> expected = new ArrayList<>();
+        for (int i = 0; i < MANY_RECORDS; i++) {
+            expected.addAll(getTypicalReservations());
+        }
+        List<JsonAdaptedReservation> adaptedReservations = expected.stream()
+                .map(JsonAdaptedReservation::new)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, JsonAdaptedReservationConverter.toModelType(adaptedReservations));
+    }
+
+    @Test
+    public void toModelType_invalidRecordsInDifferentChunks_allReportedWithPositions() {
+        List<JsonAdaptedReservation> adaptedReservations = new ArrayList<>();
+        for (int i = 0; i < MANY_RECORDS; i++) {
+            adaptedReservations.add(new JsonAdaptedReservation(ALICE));
+        }
+        adaptedReservations.set(1, withPhoneAndEmail("+651234", BENSON.getEmail().value));
+        adaptedReservations.set(MANY_RECORDS - 1, withPhoneAndEmail(BENSON.getPhone().value, "example.com"));
+
+        String expectedMessage = String.format(MESSAGE_INVALID_RESERVATIONS, 2,
+                String.format(MESSAGE_INVALID_RESERVATION, 2, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(MESSAGE_INVALID_RESERVATION, MANY_RECORDS, Email.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAdaptedReservationConverter.toModelType(adaptedReservations));
+    }
+
+    @Test
+    public void streamingConversion_manyValidRecords_convertedInOrder() throws Exception {
+        List<Reservation> expected = new ArrayList<>();
+        for (int i = 0; i < MANY_RECORDS; i++) {
+            expected.add(i % 2 == 0 ? ALICE : BENSON);
+        }
+        JsonAdaptedReservationConverter.StreamingConversion conversion =
+                new JsonAdaptedReservationConverter.StreamingConversion();
+        expected.forEach(reservation -> conversion.add(new JsonAdaptedReservation(reservation)));
+
+        assertEquals(expected, conversion.finish());
+    }
+
+    @Test
+    public void streamingConversion_invalidRecordsInDifferentChunks_allReportedWithPositions() {
+        JsonAdaptedReservationConverter.StreamingConversion conversion =
+                new JsonAdaptedReservationConverter.StreamingConversion();
+        for (int i = 0; i < MANY_RECORDS; i++) {
+            if (i == 1) {
+                conversion.add(withPhoneAndEmail("+651234", BENSON.getEmail().value));
+            } else if (i == MANY_RECORDS - 1) {
+                conversion.add(withPhoneAndEmail(BENSON.getPhone().value, "example.com"));
+            } else {
+                conversion.add(new JsonAdaptedReservation(ALICE));
+            }
+        }
+
+        String expectedMessage = String.format(MESSAGE_INVALID_RESERVATIONS, 2,
+                String.format(MESSAGE_INVALID_RESERVATION, 2, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(MESSAGE_INVALID_RESERVATION, MANY_RECORDS, Email.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, conversion::finish);
+    }
+
+    private static JsonAdaptedReservation withPhoneAndEmail(String phone, String email) {
+        return new JsonAdaptedReservation(BENSON.getName().fullName, phone, email, BENSON.getDiners().value,
+                BENSON.getDateTime().toString(), BENSON.getDuration().toString(), Collections.emptyList(),
+                BENSON.getPreference().toString(), BENSON.getTableAssignment().toString(), null);
+    }
+}
@@ -14,10 +14,15 @@ import org.junit.jupiter.api.Test;
 import seedu.reserve.commons.exceptions.IllegalValueException;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Preference;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.model.table.TableAssignment;
+import seedu.reserve.testutil.ReservationBuilder;
 
 public class JsonAdaptedReservationTest {
     private static final String INVALID_NAME = "R@chel";
@@ -29,16 +34,20 @@ public class JsonAdaptedReservationTest {
     private static final String INVALID_PREFERENCE = "LONGERTHANFIFTYCHARACTERS"
         + "LONGERTHANFIFTYCHARACTERSLONGERTHANFIFTYCHARACTERSLONGERTHANFIFTYCHARACTERS"
         + "LONGERTHANFIFTYCHARACTERSLONGERTHANFIFTYCHARACTERSLONGERTHANFIFTYCHARACTERS";
+    private static final String INVALID_TABLE = "T1 T2";
+    private static final String INVALID_DURATION = "20";
 
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = BENSON.getPhone().toString();
     private static final String VALID_EMAIL = BENSON.getEmail().toString();
     private static final String VALID_DINERS = BENSON.getDiners().toString();
     private static final String VALID_DATETIME = BENSON.getDateTime().toString();
+    private static final String VALID_DURATION = "90";
     private static final List<JsonAdaptedOccasion> VALID_OCCASIONS = BENSON.getOccasions().stream()
             .map(JsonAdaptedOccasion::new)
             .collect(Collectors.toList());
     private static final String VALID_PREFERENCE = BENSON.getPreference().toString();
+    private static final String VALID_TABLE = "T1+T2";
 
     @Test
     public void toModelType_validReservationDetails_returnsReservation() throws Exception {
@@ -50,7 +59,7 @@ public class JsonAdaptedReservationTest {
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedReservation reservation =
                 new JsonAdaptedReservation(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_DINERS,
-                        VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                        VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -58,7 +67,7 @@ public class JsonAdaptedReservationTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedReservation reservation = new JsonAdaptedReservation(null, VALID_PHONE, VALID_EMAIL,
-                VALID_DINERS, VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -67,7 +76,8 @@ public class JsonAdaptedReservationTest {
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedReservation reservation =
                 new JsonAdaptedReservation(VALID_NAME, INVALID_PHONE, VALID_EMAIL,
-                        VALID_DINERS, VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                        VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS,
+                        VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -75,7 +85,7 @@ public class JsonAdaptedReservationTest {
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, null, VALID_EMAIL,
-                VALID_DINERS, VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -84,7 +94,8 @@ public class JsonAdaptedReservationTest {
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedReservation reservation =
                 new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, INVALID_EMAIL,
-                        VALID_DINERS, VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                        VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS,
+                        VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -92,7 +103,7 @@ public class JsonAdaptedReservationTest {
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
         JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, null,
-                VALID_DINERS, VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -101,7 +112,8 @@ public class JsonAdaptedReservationTest {
     public void toModelType_invalidDiners_throwsIllegalValueException() {
         JsonAdaptedReservation reservation =
                 new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                        INVALID_DINERS, VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                        INVALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS,
+                        VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = Diners.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -109,7 +121,7 @@ public class JsonAdaptedReservationTest {
     @Test
     public void toModelType_nullDiners_throwsIllegalValueException() {
         JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                null, VALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                null, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Diners.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -118,7 +130,8 @@ public class JsonAdaptedReservationTest {
     public void toModelType_invalidDateTime_throwsIllegalValueException() {
         JsonAdaptedReservation reservation =
                 new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                        VALID_DINERS, INVALID_DATETIME, VALID_OCCASIONS, VALID_PREFERENCE);
+                        VALID_DINERS, INVALID_DATETIME, VALID_DURATION, VALID_OCCASIONS,
+                        VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = DateTime.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -126,7 +139,7 @@ public class JsonAdaptedReservationTest {
     @Test
     public void toModelType_nullDateTime_throwsIllegalValueException() {
         JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                VALID_DINERS, null, VALID_OCCASIONS, VALID_PREFERENCE);
+                VALID_DINERS, null, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DateTime.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -137,7 +150,8 @@ public class JsonAdaptedReservationTest {
         invalidOccasions.add(new JsonAdaptedOccasion(INVALID_OCCASION));
         JsonAdaptedReservation reservation =
                 new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-                        VALID_DINERS, VALID_DATETIME, invalidOccasions, VALID_PREFERENCE);
+                        VALID_DINERS, VALID_DATETIME, VALID_DURATION, invalidOccasions,
+                        VALID_PREFERENCE, VALID_TABLE, null);
         assertThrows(IllegalValueException.class, reservation::toModelType);
     }
 
@@ -145,7 +159,7 @@ public class JsonAdaptedReservationTest {
     public void toModelType_invalidPreference_throwsIllegalValueException() {
         JsonAdaptedReservation reservation =
             new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_DINERS,
-                VALID_DATETIME, VALID_OCCASIONS, INVALID_PREFERENCE);
+                VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, INVALID_PREFERENCE, VALID_TABLE, null);
         String expectedMessage = Preference.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
@@ -153,8 +167,62 @@ public class JsonAdaptedReservationTest {
     @Test
     public void toModelType_nullPreference_throwsIllegalValueException() {
         JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
-            VALID_DINERS, VALID_DATETIME, VALID_OCCASIONS, null);
+            VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, null, VALID_TABLE, null);
         String expectedMessage = Preference.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
     }
+
+    @Test
+    public void toModelType_validTable_returnsReservationWithTable() throws Exception {
+        Reservation seatedBenson = new ReservationBuilder(BENSON).withTableAssignment(VALID_TABLE).build();
+        JsonAdaptedReservation reservation = new JsonAdaptedReservation(seatedBenson);
+        assertEquals(seatedBenson, reservation.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidTable_throwsIllegalValueException() {
+        JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, INVALID_TABLE, null);
+        String expectedMessage = TableAssignment.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, reservation::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullTable_returnsReservationWithoutTable() throws Exception {
+        JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, null, null);
+        assertEquals(TableAssignment.NONE, reservation.toModelType().getTableAssignment());
+    }
+
+    @Test
+    public void toModelType_id_keepsIdOrRejectsNonPositive() throws Exception {
+        JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, 12L);
+        assertEquals(ReservationId.of(12), reservation.toModelType().getId());
+
+        JsonAdaptedReservation invalidReservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_DINERS, VALID_DATETIME, VALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, 0L);
+        assertThrows(IllegalValueException.class, ReservationId.MESSAGE_CONSTRAINTS, invalidReservation::toModelType);
+    }
+
+    @Test
+    public void toModelType_validDuration_returnsReservationWithDuration() throws Exception {
+        Reservation longerBenson = new ReservationBuilder(BENSON).withDuration(VALID_DURATION).build();
+        JsonAdaptedReservation reservation = new JsonAdaptedReservation(longerBenson);
+        assertEquals(longerBenson, reservation.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidDuration_throwsIllegalValueException() {
+        JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_DINERS, VALID_DATETIME, INVALID_DURATION, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
+        assertThrows(IllegalValueException.class, Duration.MESSAGE_CONSTRAINTS, reservation::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullDuration_returnsReservationWithDefaultDuration() throws Exception {
+        JsonAdaptedReservation reservation = new JsonAdaptedReservation(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_DINERS, VALID_DATETIME, null, VALID_OCCASIONS, VALID_PREFERENCE, VALID_TABLE, null);
+        assertEquals(Duration.forParty(BENSON.getDiners()), reservation.toModelType().getDuration());
+    }
 }
@@ -0,0 +1,147 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.HOON;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.IllegalValueException;
+import seedu.reserve.commons.util.FileUtil;
+import seedu.reserve.commons.util.JsonUtil;
+import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.reservation.ReservationId;
+import seedu.reserve.model.waitlist.WaitlistEntry;
+
+public class JsonReserveMateCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableReserveMateTest");
+    private static final Path TYPICAL_RESERVATIONS_FILE =
+            TEST_DATA_FOLDER.resolve("typicalReservationReserveMate.json");
+    private static final Path INVALID_RESERVATION_FILE = TEST_DATA_FOLDER.resolve("invalidReservationReserveMate.json");
+    private static final Path DUPLICATE_RESERVATION_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateReservationReserveMate.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalReservationsFile_sameAsObjectMapper() throws Exception {
+        ReserveMate expected = JsonUtil.readJsonFile(TYPICAL_RESERVATIONS_FILE,
+                JsonSerializableReserveMate.class).get().toModelType();
+        assertEquals(expected, JsonReserveMateCodec.read(TYPICAL_RESERVATIONS_FILE));
+    }
+
+    @Test
+    public void read_invalidReservationFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonReserveMateCodec.read(INVALID_RESERVATION_FILE));
+    }
+
+    @Test
+    public void read_duplicateReservationFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableReserveMate.MESSAGE_DUPLICATE_RESERVATION, ()
+                -> JsonReserveMateCodec.read(DUPLICATE_RESERVATION_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("notJson.json");
+        FileUtil.writeToFile(filePath, "not json at all");
+        assertThrows(IOException.class, () -> JsonReserveMateCodec.read(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        JsonReserveMateCodec.write(getTypicalReserveMate(), filePath, false);
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.substring(0, content.length() / 2));
+        assertThrows(IOException.class, () -> JsonReserveMateCodec.read(filePath));
+    }
+
+    @Test
+    public void read_objectOrArrayForValue_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("objectForValue.json");
+        FileUtil.writeToFile(filePath, "{ \"reservations\" : [ { \"name\" : { \"first\" : \"Alice\" }, "
+                + "\"phone\" : \"94351253\", \"email\" : \"alice@example.com\", \"diners\" : \"5\", "
+                + "\"dateTime\" : \"2025-04-10 1800\", \"preference\" : \"None\" } ] }");
+        assertThrows(IllegalValueException.class, String.format(JsonReserveMateCodec.MESSAGE_NOT_A_VALUE, "name"), ()
+                -> JsonReserveMateCodec.read(filePath));
+
+        FileUtil.writeToFile(filePath, "{ \"reservations\" : [ { \"name\" : \"Alice Pauline\", "
+                + "\"phone\" : \"94351253\", \"email\" : \"alice@example.com\", \"diners\" : \"5\", "
+                + "\"dateTime\" : \"2025-04-10 1800\", \"occasions\" : [ [ \"Birthday\" ] ] } ] }");
+        assertThrows(IllegalValueException.class, String.format(JsonReserveMateCodec.MESSAGE_NOT_A_VALUE,
+                "occasions"), () -> JsonReserveMateCodec.read(filePath));
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 1 }, \"reservations\" : [ { \"name\" : "
+                + "\"Alice Pauline\", \"phone\" : \"94351253\", \"email\" : \"alice@example.com\", "
+                + "\"diners\" : \"5\", \"dateTime\" : \"2025-04-10 1800\", \"preference\" : \"None\", "
+                + "\"section\" : [ 1, 2 ] } ] }");
+        assertEquals(1, JsonReserveMateCodec.read(filePath).getReservationList().size());
+    }
+
+    @Test
+    public void write_thenRead_sameReserveMate() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        ReserveMate original = getTypicalReserveMate();
+        JsonReserveMateCodec.write(original, filePath, false);
+
+        assertTrue(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, JsonReserveMateCodec.read(filePath));
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableReserveMate.class).get()
+                .toModelType());
+    }
+
+    @Test
+    public void write_waitlist_readsBackWithBothReaders() throws Exception {
+        Path filePath = testFolder.resolve("waitlist.json");
+        ReserveMate original = getTypicalReserveMate();
+        original.addToWaitlist(new WaitlistEntry(HOON, LocalDateTime.of(2026, 10, 1, 9, 30, 15)));
+        JsonReserveMateCodec.write(original, filePath, false);
+
+        assertEquals(original, JsonReserveMateCodec.read(filePath));
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableReserveMate.class).get()
+                .toModelType());
+    }
+
+    @Test
+    public void write_removedReservation_keepsIdsWithBothReaders() throws Exception {
+        Path filePath = testFolder.resolve("ids.json");
+        ReserveMate original = getTypicalReserveMate();
+        original.removeReservation(original.getReservationList().get(0));
+        original.addReservation(HOON);
+        JsonReserveMateCodec.write(original, filePath, false);
+
+        List<ReservationId> ids = original.getReservationList().stream().map(Reservation::getId).toList();
+        assertEquals(ids, JsonReserveMateCodec.read(filePath).getReservationList().stream()
+                .map(Reservation::getId).toList());
+        assertEquals(ids, JsonUtil.readJsonFile(filePath, JsonSerializableReserveMate.class).get().toModelType()
+                .getReservationList().stream().map(Reservation::getId).toList());
+    }
+
+    @Test
+    public void write_compact_singleLineThatReadsBack() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        ReserveMate original = getTypicalReserveMate();
+        JsonReserveMateCodec.write(original, filePath, true);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, JsonReserveMateCodec.read(filePath));
+    }
+}
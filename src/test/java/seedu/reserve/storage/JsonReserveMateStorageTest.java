@@ -9,15 +9,22 @@ import static seedu.reserve.testutil.TypicalReservation.IDA;
 import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
 import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.commons.util.FileUtil;
 import seedu.reserve.model.ReadOnlyReserveMate;
 import seedu.reserve.model.ReserveMate;
+import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.waitlist.WaitlistEntry;
 
 public class JsonReserveMateStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonReserveMateStorageTest");
@@ -86,6 +93,69 @@ public class JsonReserveMateStorageTest {
 
     }
 
+    @Test
+    public void readReserveMate_corruptedDataFile_recoversNewestValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempReserveMate.json");
+        JsonReserveMateStorage jsonReserveMateStorage = new JsonReserveMateStorage(filePath);
+        ReserveMate original = getTypicalReserveMate();
+        jsonReserveMateStorage.saveReserveMate(original);
+        original.addReservation(HOON);
+        jsonReserveMateStorage.saveReserveMate(original);
+
+        // simulates a crash that left the data file truncated
+        FileUtil.writeToFile(filePath, "{ \"reservations\" : [ {");
+
+        ReadOnlyReserveMate readBack = jsonReserveMateStorage.readReserveMate().get();
+        assertEquals(getTypicalReserveMate(), new ReserveMate(readBack));
+    }
+
+    @Test
+    public void readReserveMate_missingDataFileWithBackup_recoversBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempReserveMate.json");
+        JsonReserveMateStorage jsonReserveMateStorage = new JsonReserveMateStorage(filePath);
+        jsonReserveMateStorage.saveReserveMate(getTypicalReserveMate());
+        FileUtil.rotateBackups(filePath, JsonReserveMateStorage.DEFAULT_BACKUP_COUNT);
+        Files.delete(filePath);
+
+        ReadOnlyReserveMate readBack = jsonReserveMateStorage.readReserveMate().get();
+        assertEquals(getTypicalReserveMate(), new ReserveMate(readBack));
+    }
+
+    @Test
+    public void saveReserveMate_writeFails_dataFileAndBackupsUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempReserveMate.json");
+        JsonReserveMateStorage jsonReserveMateStorage = new JsonReserveMateStorage(filePath);
+        jsonReserveMateStorage.saveReserveMate(getTypicalReserveMate());
+        String savedContent = FileUtil.readFromFile(filePath);
+
+        // the reservations are written before the waitlist, so the failure comes part-way through writing
+        ReadOnlyReserveMate failingReserveMate = new ReadOnlyReserveMate() {
+            @Override
+            public ObservableList<Reservation> getReservationList() {
+                return getTypicalReserveMate().getReservationList();
+            }
+
+            @Override
+            public List<WaitlistEntry> getWaitlist() {
+                throw new IllegalStateException("Waitlist could not be read");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> jsonReserveMateStorage.saveReserveMate(failingReserveMate));
+
+        assertEquals(savedContent, FileUtil.readFromFile(filePath));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(filePath, 1)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void readReserveMate_corruptedDataFileWithoutBackups_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempReserveMate.json");
+        FileUtil.writeToFile(filePath, "{ \"reservations\" : [ {");
+        assertThrows(DataLoadingException.class, () -> new JsonReserveMateStorage(filePath).readReserveMate());
+    }
+
     @Test
     public void saveReserveMate_nullReserveMate_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveReserveMate(null, "SomeFile.json"));
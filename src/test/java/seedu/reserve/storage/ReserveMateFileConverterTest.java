@@ -0,0 +1,63 @@
+package seedu.reserve.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.reserve.testutil.Assert.assertThrows;
+import static seedu.reserve.testutil.TypicalReservation.getTypicalReserveMate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.reserve.commons.exceptions.DataLoadingException;
+import seedu.reserve.model.ReserveMate;
+
+public class ReserveMateFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameReserveMate() throws Exception {
+        Path jsonFilePath = testFolder.resolve("data.json");
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        Path convertedBackFilePath = testFolder.resolve("convertedBack.json");
+        ReserveMate original = getTypicalReserveMate();
+        new JsonReserveMateStorage(jsonFilePath).saveReserveMate(original);
+
+        assertEquals(original.getReservationList().size(),
+                ReserveMateFileConverter.convert(jsonFilePath, binaryFilePath));
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+        assertEquals(original, new ReserveMate(new BinaryReserveMateStorage(binaryFilePath).readReserveMate().get()));
+
+        ReserveMateFileConverter.convert(binaryFilePath, convertedBackFilePath);
+        assertEquals(original, new ReserveMate(new JsonReserveMateStorage(convertedBackFilePath)
+                .readReserveMate().get()));
+    }
+
+    @Test
+    public void convert_missingInput_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> ReserveMateFileConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("data.bin")));
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(ReserveMateFileConverter.isBinaryFile(Paths.get("data", "reservemate.bin")));
+        assertFalse(ReserveMateFileConverter.isBinaryFile(Paths.get("data", "reservemate.json")));
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "reservemate.bin"),
+                ReserveMateFileConverter.toBinaryFilePath(Paths.get("data", "reservemate.json")));
+        assertEquals(Paths.get("data", "reservemate.bin"),
+                ReserveMateFileConverter.toBinaryFilePath(Paths.get("data", "reservemate")));
+        assertEquals(Paths.get("data", "reservemate.bin"),
+                ReserveMateFileConverter.toBinaryFilePath(Paths.get("data", "reservemate.bin")));
+    }
+}
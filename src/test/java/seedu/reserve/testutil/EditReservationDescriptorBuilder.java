@@ -9,6 +9,7 @@ import seedu.reserve.logic.commands.EditCommand.EditReservationDescriptor;
 import seedu.reserve.model.occasion.Occasion;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
@@ -82,6 +83,14 @@ public class EditReservationDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Duration} of the {@code EditReservationDescriptor} that we are building.
+     */
+    public EditReservationDescriptorBuilder withDuration(String duration) {
+        descriptor.setDuration(new Duration(duration));
+        return this;
+    }
+
     /**
      * Parses the {@code occasions} into a {@code Set<Occasion>} and set it to the {@code EditReservationDescriptor}
      * that we are building.
@@ -9,11 +9,13 @@ import java.util.Set;
 import seedu.reserve.model.occasion.Occasion;
 import seedu.reserve.model.reservation.DateTime;
 import seedu.reserve.model.reservation.Diners;
+import seedu.reserve.model.reservation.Duration;
 import seedu.reserve.model.reservation.Email;
 import seedu.reserve.model.reservation.Name;
 import seedu.reserve.model.reservation.Phone;
 import seedu.reserve.model.reservation.Preference;
 import seedu.reserve.model.reservation.Reservation;
+import seedu.reserve.model.table.TableAssignment;
 import seedu.reserve.model.util.SampleDataUtil;
 
 /**
@@ -36,8 +38,11 @@ public class ReservationBuilder {
     private Email email;
     private Diners diners;
     private DateTime dateTime;
+    /** Null for the default duration for the number of diners. */
+    private Duration duration;
     private Set<Occasion> occasions;
     private Preference preference;
+    private TableAssignment tableAssignment;
 
     /**
      * Creates a {@code ReservationBuilder} with the default details.
@@ -50,6 +55,7 @@ public class ReservationBuilder {
         dateTime = new DateTime(DEFAULT_DATETIME);
         occasions = new HashSet<>();
         preference = new Preference(DEFAULT_PREFERENCE);
+        tableAssignment = TableAssignment.NONE;
     }
 
     /**
@@ -61,8 +67,12 @@ public class ReservationBuilder {
         email = reservationToCopy.getEmail();
         diners = reservationToCopy.getDiners();
         dateTime = reservationToCopy.getDateTime();
+        duration = reservationToCopy.getDuration().equals(Duration.forParty(diners))
+                ? null
+                : reservationToCopy.getDuration();
         occasions = new HashSet<>(reservationToCopy.getOccasions());
         preference = reservationToCopy.getPreference();
+        tableAssignment = reservationToCopy.getTableAssignment();
     }
 
     /**
@@ -114,6 +124,14 @@ public class ReservationBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Duration} of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withDuration(String duration) {
+        this.duration = new Duration(duration);
+        return this;
+    }
+
     /**
      * Sets the {@code Preference} of the {@code Reservation} that we are building.
      */
@@ -122,7 +140,19 @@ public class ReservationBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code TableAssignment} of the {@code Reservation} that we are building.
+     */
+    public ReservationBuilder withTableAssignment(String tableAssignment) {
+        this.tableAssignment = TableAssignment.fromString(tableAssignment);
+        return this;
+    }
+
+    /**
+     * Builds the {@code Reservation}, with the default duration for its number of diners unless one was set.
+     */
     public Reservation build() {
-        return new Reservation(name, phone, email, diners, dateTime, occasions, preference);
+        return new Reservation(name, phone, email, diners, dateTime,
+                duration == null ? Duration.forParty(diners) : duration, occasions, preference, tableAssignment);
     }
 }
@@ -0,0 +1,91 @@
+package seedu.reserve.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class StatisticsRefreshSchedulerTest {
+
+    private static final long DELAY_MILLIS = 50;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger computationCount = new AtomicInteger();
+    private final List<Integer> applied = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void requestRefresh_burstWhileShowing_computedAndAppliedOnce() throws Exception {
+        CountDownLatch appliedLatch = new CountDownLatch(1);
+        StatisticsRefreshScheduler<Integer> scheduler = new StatisticsRefreshScheduler<>(
+                computationCount::incrementAndGet, value -> {
+                    applied.add(value);
+                    appliedLatch.countDown();
+                }, () -> true, executor, Runnable::run, DELAY_MILLIS);
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.requestRefresh();
+        }
+
+        assertTrue(appliedLatch.await(5, TimeUnit.SECONDS));
+        waitForExecutor();
+        assertEquals(1, computationCount.get());
+        assertEquals(List.of(1), applied);
+    }
+
+    @Test
+    public void requestRefresh_afterEarlierRefresh_computedAgain() throws Exception {
+        StatisticsRefreshScheduler<Integer> scheduler = new StatisticsRefreshScheduler<>(
+                computationCount::incrementAndGet, applied::add, () -> true, executor, Runnable::run, 0);
+
+        scheduler.requestRefresh();
+        waitForExecutor();
+        scheduler.requestRefresh();
+        waitForExecutor();
+
+        assertEquals(List.of(1, 2), applied);
+    }
+
+    @Test
+    public void requestRefresh_notShowing_nothingComputed() throws Exception {
+        StatisticsRefreshScheduler<Integer> scheduler = new StatisticsRefreshScheduler<>(
+                computationCount::incrementAndGet, applied::add, () -> false, executor, Runnable::run, 0);
+
+        scheduler.requestRefresh();
+        waitForExecutor();
+
+        assertEquals(0, computationCount.get());
+        assertTrue(applied.isEmpty());
+    }
+
+    @Test
+    public void requestRefresh_afterShutdown_ignored() {
+        StatisticsRefreshScheduler<Integer> scheduler = new StatisticsRefreshScheduler<>(
+                computationCount::incrementAndGet, applied::add, () -> true, executor, Runnable::run, 0);
+
+        scheduler.shutdown();
+        scheduler.requestRefresh();
+
+        assertEquals(0, computationCount.get());
+    }
+
+    /**
+     * Waits until every task submitted to the executor so far, including delayed ones, has run.
+     */
+    private void waitForExecutor() throws Exception {
+        executor.schedule(() -> { }, DELAY_MILLIS * 2, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+    }
+}